@@ -0,0 +1,125 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.utils.ParseUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default one-line prompts, which parse answers in place,
+ * against the same prompts with parsers that need a string. Run with
+ * "-prof gc" to compare the memory allocated per answer. The int answers
+ * stay within the Integer cache and the boolean ones are shared constants,
+ * so the in-place prompts should allocate nothing per answer, while double
+ * answers are still boxed by both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnswerParserBenchmark {
+    /**
+     * Number of answers per invocation.
+     */
+    private static final int ANSWERS = 10_000;
+
+    /**
+     * Class of the answers.
+     */
+    @Param({"int", "double", "boolean"})
+    private String type;
+
+    /**
+     * Encoded answers.
+     */
+    private byte[] answers;
+    /**
+     * Default prompt for the type.
+     */
+    private Prompt<?> inPlace;
+    /**
+     * Prompt for the type that parses strings.
+     */
+    private Prompt<?> materialized;
+
+    /**
+     * Encodes the answers and prepares the prompts.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ANSWERS; i++) {
+            switch (type) {
+                case "int" -> text.append(i % 100);
+                case "double" -> text.append(i).append('.').append(i % 97);
+                default -> text.append(i % 2 == 0 ? "true" : "False");
+            }
+            text.append('\n');
+        }
+        answers = text.toString().getBytes(StandardCharsets.UTF_8);
+        switch (type) {
+            case "int" -> {
+                inPlace = PromptManager.getPromptFor(Integer.class);
+                materialized = new OneLinePrompt<>(Integer.class,
+                    Integer::parseInt);
+            }
+            case "double" -> {
+                inPlace = PromptManager.getPromptFor(Double.class);
+                materialized = new OneLinePrompt<>(Double.class,
+                    Double::parseDouble);
+            }
+            default -> {
+                inPlace = PromptManager.getPromptFor(Boolean.class);
+                materialized = new OneLinePrompt<>(Boolean.class,
+                    (String answer) -> ParseUtils.parseBoolean(answer));
+            }
+        }
+    }
+
+    private void readAll(final Prompt<?> prompt, final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(answers));
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void inPlace(final Blackhole blackhole) {
+        readAll(inPlace, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void materialized(final Blackhole blackhole) {
+        readAll(materialized, blackhole);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.ArrayPrompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time {@link io.github.artynova.prompts.ArrayPrompt} takes to
+ * collect large arrays of strings, boxed numbers and beans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayPromptBenchmark {
+    /**
+     * Array classes with the answers for one element.
+     */
+    private static final Map<String, Object[]> TYPES = Map.of(
+        "String", new Object[] {String[].class, "element\n"},
+        "Integer", new Object[] {Integer[].class, "123456\n"},
+        "FlatBean", new Object[] {FlatBean[].class, "n\n" + "1\n".repeat(6)});
+
+    /**
+     * Name of the element class.
+     */
+    @Param({"String", "Integer", "FlatBean"})
+    private String type;
+    /**
+     * Number of elements in the array.
+     */
+    @Param({"1000", "100000"})
+    private int elements;
+
+    /**
+     * The answers.
+     */
+    private String answers;
+    /**
+     * Class of the array.
+     */
+    private Class<?> arrayClass;
+
+    /**
+     * Builds the answers.
+     */
+    @Setup
+    public void setUp() {
+        Object[] description = TYPES.get(type);
+        arrayClass = (Class<?>) description[0];
+        answers = "n\n" + ((String) description[1]).repeat(elements) + "\n";
+        PromptManager.getPromptFor(arrayClass).resolve();
+    }
+
+    /**
+     * @return The array.
+     */
+    @Benchmark
+    public Object array() {
+        return PromptManager.getPromptFor(arrayClass).prompt(
+            PromptInput.of(answers), PromptOutput.nullOutput(), null);
+    }
+
+    /**
+     * @param blackhole Consumer of the elements.
+     * @return The number of elements.
+     */
+    @Benchmark
+    public long stream(final Blackhole blackhole) {
+        return ((ArrayPrompt<?>) PromptManager.getPromptFor(arrayClass))
+            .promptEach(PromptInput.of(answers), PromptOutput.nullOutput(),
+                null, blackhole::consume);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.WideBean10;
+import io.github.artynova.prompts.BatchReader;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many records per second the headless {@link BatchReader}
+ * produces, compared with prompting for the same records with the output
+ * discarded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchReaderBenchmark {
+    /**
+     * Number of records in the input.
+     */
+    private static final int RECORDS = 10_000;
+
+    /**
+     * Prompt for the records.
+     */
+    private Prompt<WideBean10> prompt;
+    /**
+     * Encoded answers for the batch reader.
+     */
+    private byte[] batch;
+    /**
+     * Encoded answers for the interactive prompt.
+     */
+    private byte[] interactive;
+    /**
+     * Output that discards everything.
+     */
+    private PromptOutput out;
+
+    /**
+     * Encodes the answers.
+     */
+    @Setup
+    public void setUp() {
+        prompt = PromptManager.getPromptFor(WideBean10.class);
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            record.append(i * 1000).append('\n');
+        }
+        batch = record.toString().repeat(RECORDS)
+            .getBytes(StandardCharsets.UTF_8);
+        interactive = ("n\n" + record).repeat(RECORDS)
+            .getBytes(StandardCharsets.UTF_8);
+        out = PromptOutput.of(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * @param blackhole Consumer of the records.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void batchReader(final Blackhole blackhole) {
+        BatchReader<WideBean10> reader = new BatchReader<>(prompt,
+            PromptInput.of(new ByteArrayInputStream(batch)));
+        while (reader.hasNext()) {
+            blackhole.consume(reader.next());
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the records.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void interactivePrompt(final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(
+            new ByteArrayInputStream(interactive)).withOutput(out);
+        for (int i = 0; i < RECORDS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.ChoiceIndex;
+import io.github.artynova.prompts.ChoicePrompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a {@link ChoicePrompt} over generated SKUs. The "exact" and
+ * "prefix" answers select an option, the first by its whole name in another
+ * case and the second by a unique prefix; each "ambiguous"
+ * answer is rejected with suggestions, and followed by an exact one. The
+ * build benchmark measures building the index, as a background rebuild
+ * would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChoicePromptBenchmark {
+    /**
+     * Number of answers per invocation.
+     */
+    private static final int ANSWERS = 10_000;
+    /**
+     * Number of product lines of the SKUs.
+     */
+    private static final int LINES = 300;
+
+    /**
+     * Number of options.
+     */
+    @Param({"100000"})
+    private int options;
+    /**
+     * Kind of the answers.
+     */
+    @Param({"exact", "prefix", "ambiguous"})
+    private String answer;
+
+    /**
+     * The options.
+     */
+    private List<String> skus;
+    /**
+     * Encoded answers.
+     */
+    private byte[] answers;
+    /**
+     * The prompt.
+     */
+    private ChoicePrompt prompt;
+
+    /**
+     * Generates the options and answers.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        skus = new ArrayList<>(options);
+        for (int i = 0; i < options; i++) {
+            skus.add(String.format("SKU-%03d-%06d", i % LINES, i));
+        }
+        prompt = new ChoicePrompt(ChoiceIndex.of(skus));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ANSWERS; i++) {
+            String sku = skus.get(random.nextInt(options));
+            switch (answer) {
+                case "exact" -> text.append(sku.toLowerCase());
+                case "prefix" -> text.append(sku, 0, sku.length() - 1);
+                default -> text.append(sku, 0, "SKU-000".length())
+                    .append('\n').append(sku);
+            }
+            text.append('\n');
+        }
+        answers = text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void prompt(final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(answers));
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @return The index of the options.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ChoiceIndex build() {
+        return ChoiceIndex.of(skus);
+    }
+}
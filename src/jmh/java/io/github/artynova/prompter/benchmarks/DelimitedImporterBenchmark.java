@@ -0,0 +1,102 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.DelimitedImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many records per second {@link DelimitedImporter} imports
+ * from a CSV file as the number of workers grows. The speedup is bounded by
+ * the number of available cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DelimitedImporterBenchmark {
+    /**
+     * Number of records in the file.
+     */
+    private static final int RECORDS = 200_000;
+
+    /**
+     * Parallelism of the pool.
+     */
+    @Param({"1", "2", "4"})
+    private int workers;
+
+    /**
+     * The file.
+     */
+    private Path file;
+    /**
+     * Pool of the workers.
+     */
+    private ForkJoinPool pool;
+    /**
+     * The importer.
+     */
+    private DelimitedImporter<FlatBean> importer;
+
+    /**
+     * Writes the file and starts the pool.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("import", ".csv");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("name,count,total,ratio,enabled,grade\n");
+            for (int i = 0; i < RECORDS; i++) {
+                writer.write("\"Name " + i + "\"," + i + "," + i * 1000L
+                    + "," + i / 7.0 + "," + (i % 2 == 0) + ",A\n");
+            }
+        }
+        pool = new ForkJoinPool(workers);
+        importer = DelimitedImporter.csv(FlatBean.class);
+    }
+
+    /**
+     * Stops the pool and deletes the file.
+     *
+     * @throws IOException If deleting fails.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.delete(file);
+    }
+
+    /**
+     * @return The beans.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public List<FlatBean> importFile() throws IOException {
+        return importer.importFile(file, pool);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the built-in enum prompt, which looks answers up in a table,
+ * against a prompt that scans the constants for a name equal to the answer
+ * ignoring case, for a small enum and one with about 160 constants. Run
+ * with "-prof gc" to see that the built-in prompt allocates nothing per
+ * answer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumPromptBenchmark {
+    /**
+     * Number of answers per invocation.
+     */
+    private static final int ANSWERS = 10_000;
+
+    /**
+     * The enum.
+     */
+    @Param({"small", "large"})
+    private String size;
+
+    /**
+     * Encoded answers, names of constants in mixed case.
+     */
+    private byte[] answers;
+    /**
+     * Built-in prompt for the enum.
+     */
+    private Prompt<?> table;
+    /**
+     * Prompt for the enum that scans its constants.
+     */
+    private Prompt<?> scan;
+
+    /**
+     * Encodes the answers and prepares the prompts.
+     */
+    @Setup
+    public void setUp() {
+        Class<? extends Enum<?>> enumClass = size.equals("small")
+            ? TimeUnit.class : Character.UnicodeScript.class;
+        Enum<?>[] constants = enumClass.getEnumConstants();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ANSWERS; i++) {
+            String name = constants[i % constants.length].name();
+            text.append(i % 2 == 0 ? name : name.toLowerCase()).append('\n');
+        }
+        answers = text.toString().getBytes(StandardCharsets.UTF_8);
+        table = PromptManager.getPromptFor(enumClass);
+        scan = new OneLinePrompt<>(Object.class, (String answer) -> {
+            for (Enum<?> constant : constants) {
+                if (constant.name().equalsIgnoreCase(answer)) {
+                    return constant;
+                }
+            }
+            throw new IllegalArgumentException("Unknown constant");
+        });
+    }
+
+    private void readAll(final Prompt<?> prompt, final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(answers));
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void table(final Blackhole blackhole) {
+        readAll(table, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void scan(final Blackhole blackhole) {
+        readAll(scan, blackhole);
+    }
+}
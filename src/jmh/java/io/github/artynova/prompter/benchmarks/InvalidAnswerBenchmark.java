@@ -0,0 +1,90 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares retrying invalid answers with the default Integer prompt, which
+ * rejects them without throwing, against a prompt whose parser throws
+ * {@link NumberFormatException}. Every answer is preceded by an invalid one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvalidAnswerBenchmark {
+    /**
+     * Number of answers per invocation.
+     */
+    private static final int ANSWERS = 10_000;
+
+    /**
+     * Encoded answers.
+     */
+    private byte[] answers;
+    /**
+     * Prompt whose parser throws on invalid answers.
+     */
+    private Prompt<Integer> throwing;
+
+    /**
+     * Encodes the answers and prepares the prompts.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ANSWERS; i++) {
+            text.append("n/a\n").append(i).append('\n');
+        }
+        answers = text.toString().getBytes(StandardCharsets.UTF_8);
+        throwing = new OneLinePrompt<>(Integer.class, Integer::parseInt);
+    }
+
+    private void readAll(final Prompt<Integer> prompt,
+        final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(answers));
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void rejecting(final Blackhole blackhole) {
+        readAll(PromptManager.getPromptFor(Integer.class), blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void throwing(final Blackhole blackhole) {
+        readAll(throwing, blackhole);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.io.PromptInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading lines of a byte stream with a {@link Scanner}, as prompts
+ * used to, with a {@link PromptInput}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineInputBenchmark {
+    /**
+     * Contents of the lines: plain ASCII, or mixed with multibyte
+     * characters.
+     */
+    @Param({"ascii", "utf8"})
+    private String text;
+
+    /**
+     * Encoded input of 10000 lines.
+     */
+    private byte[] bytes;
+
+    /**
+     * Encodes the input.
+     */
+    @Setup
+    public void setUp() {
+        String line = "ascii".equals(text) ? "12345, some answer"
+            : "12345, \u0432\u0456\u0434\u043f\u043e\u0432\u0456\u0434\u044c";
+        bytes = (line + "\n").repeat(10_000).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Total length of the lines.
+     */
+    @Benchmark
+    public long scanner() {
+        Scanner scanner = new Scanner(new ByteArrayInputStream(bytes),
+            StandardCharsets.UTF_8);
+        long length = 0;
+        while (scanner.hasNextLine()) {
+            length += scanner.nextLine().length();
+        }
+        return length;
+    }
+
+    /**
+     * @return Total length of the lines.
+     */
+    @Benchmark
+    public long promptInput() {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(bytes));
+        long length = 0;
+        CharSequence line;
+        while ((line = input.readLine()) != null) {
+            length += line.length();
+        }
+        return length;
+    }
+}
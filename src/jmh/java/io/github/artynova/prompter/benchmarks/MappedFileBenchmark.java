@@ -0,0 +1,126 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares replaying int answers from a file through a {@link Scanner} over
+ * a {@link FileInputStream}, a {@link PromptInput} over the same stream, and
+ * a {@link PromptInput} that maps the file. The file stays in the page
+ * cache, so the differences are the copies and decoding of each input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedFileBenchmark {
+    /**
+     * Number of answers in the file.
+     */
+    private static final int ANSWERS = 1_000_000;
+
+    /**
+     * The file.
+     */
+    private Path file;
+    /**
+     * Prompt for the answers.
+     */
+    private Prompt<Integer> prompt;
+
+    /**
+     * Writes the file.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("answers", ".txt");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < ANSWERS; i++) {
+                writer.write(Integer.toString(i * 31));
+                writer.write('\n');
+            }
+        }
+        prompt = PromptManager.getPromptFor(Integer.class);
+    }
+
+    /**
+     * Deletes the file.
+     *
+     * @throws IOException If deleting fails.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    private void replay(final PromptInput input, final Blackhole blackhole) {
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void scanner(final Blackhole blackhole) throws IOException {
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            replay(PromptInput.of(new Scanner(in, StandardCharsets.UTF_8)),
+                blackhole);
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void stream(final Blackhole blackhole) throws IOException {
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            replay(PromptInput.of(in), blackhole);
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     * @throws IOException If mapping fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void mapped(final Blackhole blackhole) throws IOException {
+        replay(PromptInput.of(file), blackhole);
+    }
+}
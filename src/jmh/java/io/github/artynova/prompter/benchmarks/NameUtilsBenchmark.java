@@ -0,0 +1,42 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.utils.NameUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NameUtils#humanReadableName(String)}, which builds the
+ * default messages of bean properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NameUtilsBenchmark {
+    /**
+     * Property name to convert.
+     */
+    @Param({"id", "firstName", "maximumAllowedRetryCountPerSession",
+        "httpURLConnection"})
+    private String name;
+
+    /**
+     * @return The human-readable name.
+     */
+    @Benchmark
+    public String humanReadableName() {
+        return NameUtils.humanReadableName(name);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time per answer of each default one-line prompt, and of the
+ * boxed prompts that delegate to them for primitive classes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OneLinePromptBenchmark {
+    /**
+     * Number of answers per invocation.
+     */
+    private static final int ANSWERS = 10_000;
+    /**
+     * Classes of the prompts with a typical answer for each.
+     */
+    private static final Map<String, Object[]> TYPES = Map.of(
+        "String", new Object[] {String.class, null, "Ada Lovelace"},
+        "Byte", new Object[] {Byte.class, byte.class, "-42"},
+        "Boolean", new Object[] {Boolean.class, boolean.class, "true"},
+        "Character", new Object[] {Character.class, char.class, "x"},
+        "Short", new Object[] {Short.class, short.class, "31000"},
+        "Integer", new Object[] {Integer.class, int.class, "2000000000"},
+        "Long", new Object[] {Long.class, long.class, "-9000000000000"},
+        "Float", new Object[] {Float.class, float.class, "3.14159"},
+        "Double", new Object[] {Double.class, double.class, "2.718281828"});
+
+    /**
+     * Name of the wrapper class of the answers.
+     */
+    @Param({"String", "Byte", "Boolean", "Character", "Short", "Integer",
+        "Long", "Float", "Double"})
+    private String type;
+
+    /**
+     * The answers.
+     */
+    private String answers;
+    /**
+     * Default prompt for the wrapper class.
+     */
+    private Prompt<?> wrapperPrompt;
+    /**
+     * Default prompt for the primitive class, or null for strings.
+     */
+    private Prompt<?> primitivePrompt;
+
+    /**
+     * Builds the answers and looks the prompts up.
+     */
+    @Setup
+    public void setUp() {
+        Object[] description = TYPES.get(type);
+        answers = (description[2] + "\n").repeat(ANSWERS);
+        wrapperPrompt = PromptManager.getPromptFor((Class<?>) description[0]);
+        primitivePrompt = description[1] == null ? wrapperPrompt
+            : PromptManager.getPromptFor((Class<?>) description[1]);
+    }
+
+    private void readAll(final Prompt<?> prompt, final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(answers);
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < ANSWERS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void wrapper(final Blackhole blackhole) {
+        readAll(wrapperPrompt, blackhole);
+    }
+
+    /**
+     * Goes through {@link io.github.artynova.prompts.BoxedPrompt}, which
+     * delegates to the wrapper's prompt.
+     *
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ANSWERS)
+    public void primitive(final Blackhole blackhole) {
+        readAll(primitivePrompt, blackhole);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares collecting a numeric vector with the primitive int[] prompt
+ * against the boxed Integer[] prompt. Run with "-prof gc" to compare the
+ * memory allocated per vector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveArrayBenchmark {
+    /**
+     * Number of elements in the vector.
+     */
+    @Param({"1000", "100000"})
+    private int elements;
+
+    /**
+     * Encoded answers.
+     */
+    private byte[] answers;
+
+    /**
+     * Encodes the answers.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder("n\n");
+        for (int i = 0; i < elements; i++) {
+            text.append(i * 1000).append('\n'); // outside of the Integer cache
+        }
+        answers = text.append('\n').toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The vector.
+     */
+    @Benchmark
+    public int[] primitive() {
+        return PromptManager.getPromptFor(int[].class).prompt(
+            PromptInput.of(new ByteArrayInputStream(answers)),
+            PromptOutput.nullOutput(), null);
+    }
+
+    /**
+     * @return The vector.
+     */
+    @Benchmark
+    public Integer[] boxed() {
+        return PromptManager.getPromptFor(Integer[].class).prompt(
+            PromptInput.of(new ByteArrayInputStream(answers)),
+            PromptOutput.nullOutput(), null);
+    }
+}
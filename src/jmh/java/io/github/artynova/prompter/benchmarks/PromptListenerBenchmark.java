@@ -0,0 +1,168 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.PromptMetrics;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.transcripts.TranscriptRecorder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of reporting the lifecycle of prompts to
+ * {@link PromptMetrics} or recording them with {@link TranscriptRecorder},
+ * against prompting with no listener installed, on one-line prompts and on
+ * a bean that fills six properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromptListenerBenchmark {
+    /**
+     * Number of answers or beans per invocation.
+     */
+    private static final int VALUES = 1000;
+    /**
+     * Answers for a {@link FlatBean}.
+     */
+    private static final String FLAT = "n\n" + "1\n".repeat(6);
+
+    /**
+     * The installed listener.
+     */
+    @Param({"none", "metrics", "transcript", "compressed"})
+    private String listener;
+
+    /**
+     * Answers for the one-line prompts.
+     */
+    private String intAnswers;
+    /**
+     * Answers for the beans.
+     */
+    private String flatAnswers;
+    /**
+     * Prompt for {@link Integer}.
+     */
+    private Prompt<Integer> intPrompt;
+    /**
+     * Prompt for {@link FlatBean}.
+     */
+    private Prompt<FlatBean> flatPrompt;
+    /**
+     * The installed recorder, or null.
+     */
+    private TranscriptRecorder recorder;
+
+    /**
+     * Builds the answers, looks the prompts up and installs the listener.
+     */
+    @Setup
+    public void setUp() {
+        intAnswers = "42\n".repeat(VALUES);
+        flatAnswers = FLAT.repeat(VALUES);
+        intPrompt = PromptManager.getPromptFor(Integer.class);
+        flatPrompt = PromptManager.getPromptFor(FlatBean.class);
+        if (!"none".equals(listener) && !"metrics".equals(listener)) {
+            recorder = new TranscriptRecorder(OutputStream.nullOutputStream(),
+                "compressed".equals(listener));
+        }
+        PromptManager.setListener(
+            "metrics".equals(listener) ? new PromptMetrics() : recorder);
+    }
+
+    /**
+     * Uninstalls the listener.
+     *
+     * @throws IOException If the recorder has failed.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        PromptManager.setListener(null);
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Reports the lines that the recorder has dropped with the results of
+     * each iteration, since dropped lines make recording look cheaper.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DroppedLines {
+        /**
+         * The installed recorder, or null.
+         */
+        private TranscriptRecorder recorder;
+
+        /**
+         * @param benchmark The benchmark, which installs the recorder.
+         */
+        @Setup(Level.Iteration)
+        public void setUp(final PromptListenerBenchmark benchmark) {
+            recorder = benchmark.recorder;
+        }
+
+        /**
+         * @return Number of lines dropped since the recorder was installed.
+         */
+        public long droppedLines() {
+            return recorder == null ? 0 : recorder.getDropped();
+        }
+    }
+
+    private static void readAll(final Prompt<?> prompt, final String answers,
+        final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(answers);
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     * @param dropped Counter of the dropped lines.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void oneLine(final Blackhole blackhole,
+        final DroppedLines dropped) {
+        readAll(intPrompt, intAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     * @param dropped Counter of the dropped lines.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void flatBean(final Blackhole blackhole,
+        final DroppedLines dropped) {
+        readAll(flatPrompt, flatAnswers, blackhole);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PromptManager#getPromptFor(Class)} lookup throughput as the
+ * number of concurrently looking up threads grows, and the time of a lookup
+ * that misses and builds a prompt.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptManagerBenchmark {
+    /**
+     * Classes looked up by the benchmarks, mixing one-liners and generically
+     * instantiated prompts.
+     */
+    private static final Class<?>[] CLASSES = {String.class, int.class,
+        Integer[].class, Double.class, long[].class, Boolean.class};
+
+    /**
+     * Number of misses per iteration.
+     */
+    private static final int MISSES = 500;
+
+    /**
+     * Per-thread cursor over {@link #CLASSES}.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        /**
+         * Index of the next class to look up.
+         */
+        private int index;
+
+        /**
+         * Warms the registry up, so that all lookups are hits.
+         */
+        @Setup
+        public void setUp() {
+            for (Class<?> valueClass : CLASSES) {
+                PromptManager.getPromptFor(valueClass);
+            }
+        }
+
+        /**
+         * @return The next class to look up.
+         */
+        Class<?> next() {
+            index = (index + 1) % CLASSES.length;
+            return CLASSES[index];
+        }
+    }
+
+    /**
+     * Per-thread cursor with a session scope open.
+     */
+    @State(Scope.Thread)
+    public static class ScopedCursor extends Cursor {
+        /**
+         * The open scope.
+         */
+        private PromptScope scope;
+
+        /**
+         * Opens a scope overriding one of the looked up classes.
+         */
+        @Setup(Level.Iteration)
+        public void openScope() {
+            scope = PromptManager.openScope();
+            scope.registerPrompt(String.class,
+                PromptManager.getPromptFor(String.class));
+        }
+
+        /**
+         * Closes the scope.
+         */
+        @TearDown(Level.Iteration)
+        public void closeScope() {
+            scope.close();
+        }
+    }
+
+    /**
+     * Per-invocation copy of {@link FlatBean}, defined by its own class
+     * loader, so that every lookup of it misses.
+     */
+    @State(Scope.Thread)
+    public static class FreshClass {
+        /**
+         * Bytecode of {@link FlatBean}.
+         */
+        private byte[] bytecode;
+        /**
+         * The copy.
+         */
+        private Class<?> copy;
+
+        /**
+         * Reads the bytecode.
+         *
+         * @throws IOException If the class file cannot be read.
+         */
+        @Setup
+        public void readBytecode() throws IOException {
+            try (InputStream in = FlatBean.class.getResourceAsStream(
+                FlatBean.class.getSimpleName() + ".class")) {
+                bytecode = in.readAllBytes();
+            }
+        }
+
+        /**
+         * Defines a new copy.
+         */
+        @Setup(Level.Invocation)
+        public void defineCopy() {
+            copy = new ClassLoader(FlatBean.class.getClassLoader()) {
+                private Class<?> define() {
+                    return defineClass(FlatBean.class.getName(), bytecode, 0,
+                        bytecode.length);
+                }
+            }.define();
+        }
+    }
+
+    /**
+     * Looks up a class for the first time, which introspects the bean and
+     * binds its setters. Runs in batches, since every miss leaves a class
+     * and a prompt behind, so the reported time is that of a batch.
+     *
+     * @param fresh Class that is not registered yet.
+     * @return The built prompt.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, batchSize = MISSES)
+    @Measurement(iterations = 5, batchSize = MISSES)
+    public Prompt<?> miss(final FreshClass fresh) {
+        return PromptManager.getPromptFor(fresh.copy);
+    }
+
+    /**
+     * @param cursor Thread's cursor.
+     * @return The found prompt.
+     */
+    @Benchmark
+    @Threads(1)
+    public Prompt<?> lookup1Thread(final Cursor cursor) {
+        return PromptManager.getPromptFor(cursor.next());
+    }
+
+    /**
+     * @param cursor Thread's cursor.
+     * @return The found prompt.
+     */
+    @Benchmark
+    @Threads(4)
+    public Prompt<?> lookup4Threads(final Cursor cursor) {
+        return PromptManager.getPromptFor(cursor.next());
+    }
+
+    /**
+     * @param cursor Thread's cursor.
+     * @return The found prompt.
+     */
+    @Benchmark
+    @Threads(16)
+    public Prompt<?> lookup16Threads(final Cursor cursor) {
+        return PromptManager.getPromptFor(cursor.next());
+    }
+
+    /**
+     * @param cursor Thread's cursor.
+     * @return The found prompt.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Prompt<?> lookupMaxThreads(final Cursor cursor) {
+        return PromptManager.getPromptFor(cursor.next());
+    }
+
+    /**
+     * @param cursor Thread's cursor with an open scope.
+     * @return The found prompt.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Prompt<?> scopedLookupMaxThreads(final ScopedCursor cursor) {
+        return PromptManager.getPromptFor(cursor.next());
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares prompting for an array of 100 numbers through the
+ * {@link Scanner} and {@link PrintStream} adapters, which write to the file
+ * before every line read, with a {@link PromptInput} and a
+ * {@link PromptOutput}, which write only when the input runs out of
+ * buffered answers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromptOutputBenchmark {
+    /**
+     * Prompt for the array.
+     */
+    private Prompt<Integer[]> prompt;
+    /**
+     * Encoded answers.
+     */
+    private byte[] answers;
+    /**
+     * File that receives the output.
+     */
+    private Path file;
+    /**
+     * Unbuffered stream to the file.
+     */
+    private OutputStream fileOut;
+
+    /**
+     * Encodes the answers and opens the file.
+     *
+     * @throws IOException If the file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        prompt = PromptManager.getPromptFor(Integer[].class);
+        StringBuilder text = new StringBuilder("n\n");
+        for (int i = 0; i < 100; i++) {
+            text.append(i).append('\n');
+        }
+        answers = text.append('\n').toString()
+            .getBytes(StandardCharsets.UTF_8);
+        file = Files.createTempFile("prompt-output", ".txt");
+        fileOut = Files.newOutputStream(file);
+    }
+
+    /**
+     * Closes and deletes the file.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        fileOut.close();
+        Files.delete(file);
+    }
+
+    /**
+     * @return The array.
+     */
+    @Benchmark
+    public Integer[] printStream() {
+        return prompt.prompt(new Scanner(new ByteArrayInputStream(answers),
+                StandardCharsets.UTF_8),
+            new PrintStream(fileOut, false, StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * @return The array.
+     */
+    @Benchmark
+    public Integer[] promptOutput() {
+        PromptOutput out = PromptOutput.of(fileOut);
+        Integer[] answer = prompt.prompt(PromptInput.of(
+            new ByteArrayInputStream(answers)).withOutput(out), out, null);
+        out.flush();
+        return answer;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.prompts.PromptPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of publishing beans through
+ * {@link PromptPublisher}, with the subscriber requesting one bean at a
+ * time or all of them at once, on an executor that runs on the calling
+ * thread. Compare with {@link PromptablePromptBenchmark#flat}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromptPublisherBenchmark {
+    /**
+     * Number of beans per invocation.
+     */
+    private static final int BEANS = 1000;
+
+    /**
+     * Number of beans requested at a time.
+     */
+    @Param({"1", "9223372036854775807"})
+    private long batch;
+
+    /**
+     * Answers for the beans, followed by a skipped one.
+     */
+    private String answers;
+    /**
+     * Prompt for {@link FlatBean}.
+     */
+    private Prompt<FlatBean> prompt;
+
+    /**
+     * Builds the answers and looks the prompt up.
+     */
+    @Setup
+    public void setUp() {
+        answers = ("n\n" + "1\n".repeat(6)).repeat(BEANS) + "y\n";
+        prompt = PromptManager.getPromptFor(FlatBean.class);
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void publish(final Blackhole blackhole) {
+        new PromptPublisher<>(prompt, PromptInput.of(answers),
+            PromptOutput.nullOutput(), null, Runnable::run).subscribe(
+            new Flow.Subscriber<FlatBean>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription s) {
+                    subscription = s;
+                    s.request(batch);
+                }
+
+                @Override
+                public void onNext(final FlatBean item) {
+                    blackhole.consume(item);
+                    if (batch == 1) {
+                        subscription.request(1);
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    throw new IllegalStateException(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+    }
+}
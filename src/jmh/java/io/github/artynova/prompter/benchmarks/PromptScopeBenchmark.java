@@ -0,0 +1,134 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of prompting within a {@link PromptScope} that
+ * checks for cancellation, and within scopes limited by a deadline and a
+ * retry limit or by an answer timeout, against prompting outside of any
+ * scope, on one-line prompts and on a bean that fills six properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromptScopeBenchmark {
+    /**
+     * Number of answers or beans per invocation.
+     */
+    private static final int VALUES = 1000;
+    /**
+     * Answers for a {@link FlatBean}.
+     */
+    private static final String FLAT = "n\n" + "1\n".repeat(6);
+
+    /**
+     * The scope to prompt within.
+     */
+    @Param({"none", "open", "deadline", "answerTimeout"})
+    private String scope;
+
+    /**
+     * Answers for the one-line prompts.
+     */
+    private String intAnswers;
+    /**
+     * Answers for the beans.
+     */
+    private String flatAnswers;
+    /**
+     * Prompt for {@link Integer}.
+     */
+    private Prompt<Integer> intPrompt;
+    /**
+     * Prompt for {@link FlatBean}.
+     */
+    private Prompt<FlatBean> flatPrompt;
+    /**
+     * The open scope, or null.
+     */
+    private PromptScope openScope;
+
+    /**
+     * Builds the answers, looks the prompts up and opens the scope on the
+     * benchmark thread.
+     */
+    @Setup
+    public void setUp() {
+        intAnswers = "42\n".repeat(VALUES);
+        flatAnswers = FLAT.repeat(VALUES);
+        intPrompt = PromptManager.getPromptFor(Integer.class);
+        flatPrompt = PromptManager.getPromptFor(FlatBean.class);
+        if ("none".equals(scope)) {
+            return;
+        }
+        openScope = PromptManager.openScope();
+        if ("deadline".equals(scope)) {
+            openScope.setDeadline(Duration.ofDays(1));
+            openScope.setMaxRetries(3);
+        } else if ("answerTimeout".equals(scope)) {
+            openScope.setAnswerTimeout(Duration.ofMinutes(1));
+        }
+    }
+
+    /**
+     * Closes the scope.
+     */
+    @TearDown
+    public void tearDown() {
+        if (openScope != null) {
+            openScope.close();
+        }
+    }
+
+    private static void readAll(final Prompt<?> prompt, final String answers,
+        final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(answers);
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void oneLine(final Blackhole blackhole) {
+        readAll(intPrompt, intAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void flatBean(final Blackhole blackhole) {
+        readAll(flatPrompt, flatAnswers, blackhole);
+    }
+}
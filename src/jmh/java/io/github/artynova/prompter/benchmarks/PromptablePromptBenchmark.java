@@ -0,0 +1,155 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompter.benchmarks.beans.FlatRecord;
+import io.github.artynova.prompter.benchmarks.beans.NestedBean;
+import io.github.artynova.prompter.benchmarks.beans.WideBean10;
+import io.github.artynova.prompter.benchmarks.beans.WideRecord10;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time the reflective
+ * {@link io.github.artynova.prompts.PromptablePrompt} takes to fill a flat
+ * bean and a bean of nested beans, and to create a record with the
+ * properties of the flat bean. Generated prompts for a bean and a record
+ * with 10 properties are measured for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromptablePromptBenchmark {
+    /**
+     * Number of beans per invocation.
+     */
+    private static final int BEANS = 1000;
+    /**
+     * Answers for a {@link FlatBean}.
+     */
+    private static final String FLAT = "n\n" + "1\n".repeat(6);
+    /**
+     * Answers for a bean with 10 properties.
+     */
+    private static final String WIDE = "n\n" + "1\n".repeat(10);
+
+    /**
+     * Answers for the flat beans.
+     */
+    private String flatAnswers;
+    /**
+     * Answers for the nested beans.
+     */
+    private String nestedAnswers;
+    /**
+     * Answers for the records and the beans with 10 properties.
+     */
+    private String wideAnswers;
+    /**
+     * Prompt for {@link FlatBean}.
+     */
+    private Prompt<FlatBean> flatPrompt;
+    /**
+     * Prompt for {@link FlatRecord}.
+     */
+    private Prompt<FlatRecord> recordPrompt;
+    /**
+     * Generated prompt for {@link WideBean10}.
+     */
+    private Prompt<WideBean10> widePrompt;
+    /**
+     * Generated prompt for {@link WideRecord10}.
+     */
+    private Prompt<WideRecord10> wideRecordPrompt;
+    /**
+     * Prompt for {@link NestedBean}.
+     */
+    private Prompt<NestedBean> nestedPrompt;
+
+    /**
+     * Builds the answers and looks the prompts up.
+     */
+    @Setup
+    public void setUp() {
+        flatAnswers = FLAT.repeat(BEANS);
+        nestedAnswers = ("n\n" + FLAT.repeat(3)).repeat(BEANS);
+        wideAnswers = WIDE.repeat(BEANS);
+        flatPrompt = PromptManager.getPromptFor(FlatBean.class);
+        recordPrompt = PromptManager.getPromptFor(FlatRecord.class);
+        widePrompt = PromptManager.getPromptFor(WideBean10.class);
+        wideRecordPrompt = PromptManager.getPromptFor(WideRecord10.class);
+        nestedPrompt = PromptManager.getPromptFor(NestedBean.class);
+    }
+
+    private static void readAll(final Prompt<?> prompt, final String answers,
+        final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(answers);
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < BEANS; i++) {
+            blackhole.consume(prompt.prompt(input, out, null));
+        }
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void flat(final Blackhole blackhole) {
+        readAll(flatPrompt, flatAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the records.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void flatRecord(final Blackhole blackhole) {
+        readAll(recordPrompt, flatAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void generatedBean(final Blackhole blackhole) {
+        readAll(widePrompt, wideAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the records.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void generatedRecord(final Blackhole blackhole) {
+        readAll(wideRecordPrompt, wideAnswers, blackhole);
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BEANS)
+    public void nested(final Blackhole blackhole) {
+        readAll(nestedPrompt, nestedAnswers, blackhole);
+    }
+}
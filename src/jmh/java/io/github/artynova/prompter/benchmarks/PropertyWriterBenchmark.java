@@ -0,0 +1,124 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.prompter.benchmarks.beans.WideBean10;
+import io.github.artynova.prompter.benchmarks.beans.WideBean200;
+import io.github.artynova.prompter.benchmarks.beans.WideBean50;
+import io.github.artynova.prompts.BeanAccessor;
+import io.github.artynova.prompts.PropertyWriter;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filling all properties of a bean through reflective
+ * {@link Method#invoke(Object, Object...)} calls, as
+ * {@link io.github.artynova.prompts.PromptablePrompt PromptablePrompt} used
+ * to, with the {@link PropertyWriter PropertyWriters} of a
+ * {@link BeanAccessor}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyWriterBenchmark {
+    /**
+     * Number of properties of the bean.
+     */
+    @Param({"10", "50", "200"})
+    private int properties;
+
+    /**
+     * Class object of the bean.
+     */
+    private Class<?> beanClass;
+    /**
+     * Setters of the bean.
+     */
+    private Method[] setters;
+    /**
+     * Writers bound to the setters.
+     */
+    private PropertyWriter<Object, Object>[] writers;
+    /**
+     * Boxed values to write, as prompts produce them.
+     */
+    private Integer[] values;
+
+    /**
+     * Binds the setters of the bean with the chosen number of properties.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        beanClass = switch (properties) {
+            case 10 -> WideBean10.class;
+            case 50 -> WideBean50.class;
+            default -> WideBean200.class;
+        };
+        BeanAccessor<Object> accessor =
+            BeanAccessor.forClass((Class<Object>) beanClass);
+        List<Method> methods = new ArrayList<>();
+        for (PropertyDescriptor descriptor
+            : PropertyUtils.getPropertyDescriptors(beanClass)) {
+            if (descriptor.getWriteMethod() != null) {
+                methods.add(descriptor.getWriteMethod());
+            }
+        }
+        setters = methods.toArray(new Method[0]);
+        writers = (PropertyWriter<Object, Object>[])
+            new PropertyWriter<?, ?>[setters.length];
+        values = new Integer[setters.length];
+        for (int i = 0; i < setters.length; i++) {
+            writers[i] = accessor.writerFor(setters[i],
+                (Class<Object>) setters[i].getParameterTypes()[0]);
+            values[i] = (i + 1) * 1000; // outside of the Integer cache
+        }
+    }
+
+    /**
+     * @return The filled bean.
+     * @throws ReflectiveOperationException Never under proper operation.
+     */
+    @Benchmark
+    public Object reflectiveInvoke() throws ReflectiveOperationException {
+        Object bean = beanClass.getConstructor().newInstance();
+        for (int i = 0; i < setters.length; i++) {
+            try {
+                setters[i].invoke(bean, values[i]);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * @return The filled bean.
+     */
+    @Benchmark
+    public Object accessorWrite() {
+        Object bean = BeanAccessor.forClass(beanClass).newInstance();
+        for (int i = 0; i < writers.length; i++) {
+            writers[i].write(bean, values[i]);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompter.benchmarks.beans.NestedBean;
+import io.github.artynova.prompts.Prompt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a long recorded session through the interactive prompts, the way
+ * scripted runs feed them. Each round of the session fills a nested bean,
+ * an array of beans ended by a skipped element, a vector, and a number that
+ * is answered wrong before it is answered right.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScriptReplayBenchmark {
+    /**
+     * Answers for a {@link FlatBean}.
+     */
+    private static final String FLAT = "n\n" + "1\n".repeat(6);
+
+    /**
+     * Number of rounds in the session.
+     */
+    @Param({"100", "10000"})
+    private int rounds;
+
+    /**
+     * The encoded script.
+     */
+    private byte[] script;
+    /**
+     * Prompt for the nested beans.
+     */
+    private Prompt<NestedBean> nestedPrompt;
+    /**
+     * Prompt for the arrays of beans.
+     */
+    private Prompt<FlatBean[]> arrayPrompt;
+    /**
+     * Prompt for the vectors.
+     */
+    private Prompt<int[]> vectorPrompt;
+    /**
+     * Prompt for the numbers.
+     */
+    private Prompt<Double> numberPrompt;
+
+    /**
+     * Records the script and looks the prompts up.
+     */
+    @Setup
+    public void setUp() {
+        String round = "n\n" + FLAT.repeat(3) // nested bean
+            + "n\n" + FLAT.repeat(2) + "y\n" // array ended by a skip
+            + "n\n1\n2\n3\n4\n\n" // vector
+            + "one\n1.5\n"; // number
+        script = round.repeat(rounds).getBytes(StandardCharsets.UTF_8);
+        nestedPrompt = PromptManager.getPromptFor(NestedBean.class);
+        arrayPrompt = PromptManager.getPromptFor(FlatBean[].class);
+        vectorPrompt = PromptManager.getPromptFor(int[].class);
+        numberPrompt = PromptManager.getPromptFor(Double.class);
+    }
+
+    /**
+     * @param blackhole Consumer of the answers.
+     */
+    @Benchmark
+    public void replay(final Blackhole blackhole) {
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(script));
+        PromptOutput out = PromptOutput.nullOutput();
+        for (int i = 0; i < rounds; i++) {
+            blackhole.consume(nestedPrompt.prompt(input, out, null));
+            blackhole.consume(arrayPrompt.prompt(input, out, null));
+            blackhole.consume(vectorPrompt.prompt(input, out, null));
+            blackhole.consume(numberPrompt.prompt(input, out, null));
+        }
+    }
+}
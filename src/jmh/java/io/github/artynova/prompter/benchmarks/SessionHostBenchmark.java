@@ -0,0 +1,158 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.prompter.benchmarks.beans.WideBean10;
+import io.github.artynova.sessions.PromptSessionHost;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local load test of {@link PromptSessionHost}: opens the given number of
+ * connections, waits until every one of them has a live session blocked on
+ * input, and then has all of them fill a bean with ten properties.
+ * The clients are driven by a single non-blocking selector thread, so that
+ * only the host's sessions consume threads.
+ * Each connection uses two file descriptors, so 10k sessions require a file
+ * descriptor limit above 20k.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+@State(Scope.Benchmark)
+public class SessionHostBenchmark {
+    /**
+     * Answers for one session: do not skip, then ten properties.
+     */
+    private static final byte[] SCRIPT =
+        "n\n1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n".getBytes(StandardCharsets.UTF_8);
+    /**
+     * Backlog of the server socket, large enough for connection bursts.
+     */
+    private static final int BACKLOG = 4096;
+    /**
+     * Size of the clients' shared read buffer.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Number of concurrent sessions.
+     */
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    /**
+     * The host under test.
+     */
+    private PromptSessionHost host;
+
+    /**
+     * Starts the host.
+     *
+     * @throws IOException If the server socket cannot be opened.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        host = new PromptSessionHost(
+            new ServerSocket(0, BACKLOG, InetAddress.getLoopbackAddress()),
+            sessions, (input, out) -> PromptManager.getPromptFor(
+                WideBean10.class).prompt(input, out, "Bean: "),
+            PromptSessionHost.defaultThreadFactory());
+        host.start();
+    }
+
+    /**
+     * Stops the host.
+     *
+     * @throws Exception If the host does not stop cleanly.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        host.close();
+        if (!host.awaitTermination(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Sessions did not terminate");
+        }
+    }
+
+    /**
+     * @return Number of bytes of output received by the clients.
+     * @throws IOException If a client connection fails.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @Benchmark
+    public long concurrentSessions() throws IOException, InterruptedException {
+        InetSocketAddress address = new InetSocketAddress(
+            InetAddress.getLoopbackAddress(), host.getPort());
+        try (Selector selector = Selector.open()) {
+            List<SocketChannel> channels = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                channel.configureBlocking(false);
+                channels.add(channel);
+            }
+            while (host.getActiveSessions() < sessions) {
+                Thread.sleep(1); // all sessions hold a thread now
+            }
+            for (SocketChannel channel : channels) {
+                channel.register(selector, SelectionKey.OP_WRITE,
+                    ByteBuffer.wrap(SCRIPT));
+            }
+            return driveClients(selector);
+        }
+    }
+
+    private long driveClients(final Selector selector) throws IOException {
+        ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        long received = 0;
+        int open = sessions;
+        while (open > 0) {
+            selector.select();
+            for (SelectionKey key : selector.selectedKeys()) {
+                SocketChannel channel = (SocketChannel) key.channel();
+                if (key.isWritable()) {
+                    ByteBuffer script = (ByteBuffer) key.attachment();
+                    channel.write(script);
+                    if (!script.hasRemaining()) {
+                        key.interestOps(SelectionKey.OP_READ);
+                    }
+                } else if (key.isReadable()) {
+                    readBuffer.clear();
+                    int read = channel.read(readBuffer);
+                    if (read < 0) {
+                        channel.close();
+                        open--;
+                    } else {
+                        received += read;
+                    }
+                }
+            }
+            selector.selectedKeys().clear();
+        }
+        return received;
+    }
+}
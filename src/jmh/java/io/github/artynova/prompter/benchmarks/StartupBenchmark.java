@@ -0,0 +1,79 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompter.benchmarks.beans.WideBean10;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first prompt for a {@link io.github.artynova.Promptable} in a
+ * fresh JVM, including the class loading and initialization that it
+ * triggers: a generated prompt found in the generated index, the same prompt
+ * instantiated reflectively from its annotation with the index disabled, and
+ * the reflective prompt of a hand-written bean, which introspects it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Thread)
+public class StartupBenchmark {
+    /**
+     * Answers for a bean, enough for all of its properties.
+     */
+    private PromptInput input;
+
+    /**
+     * Prepares the answers, outside the measured first prompt.
+     */
+    @Setup
+    public void setUp() {
+        input = PromptInput.of(new ByteArrayInputStream(
+            ("n\n" + "1\n".repeat(10)).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @return The bean.
+     */
+    @Benchmark
+    public WideBean10 indexed() {
+        return PromptManager.getPromptFor(WideBean10.class)
+            .prompt(input, PromptOutput.nullOutput(), null);
+    }
+
+    /**
+     * @return The bean.
+     */
+    @Benchmark
+    @Fork(value = 20,
+        jvmArgsAppend = "-D" + PromptManager.INDEX_PROPERTY + "=false")
+    public WideBean10 annotated() {
+        return PromptManager.getPromptFor(WideBean10.class)
+            .prompt(input, PromptOutput.nullOutput(), null);
+    }
+
+    /**
+     * @return The bean.
+     */
+    @Benchmark
+    public FlatBean introspected() {
+        return PromptManager.getPromptFor(FlatBean.class)
+            .prompt(input, PromptOutput.nullOutput(), null);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.artynova.prompter.benchmarks;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompter.benchmarks.beans.FlatBean;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.transcripts.TranscriptLine;
+import io.github.artynova.transcripts.TranscriptReader;
+import io.github.artynova.transcripts.TranscriptRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a transcript of {@link FlatBean} sessions, and reading
+ * it and replaying every session through the prompt, per session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TranscriptReplayBenchmark {
+    /**
+     * Number of recorded sessions.
+     */
+    private static final int SESSIONS = 1000;
+    /**
+     * Answers for a {@link FlatBean}.
+     */
+    private static final String FLAT = "n\n" + "1\n".repeat(6);
+
+    /**
+     * Whether the transcript is compressed.
+     */
+    @Param({"false", "true"})
+    private boolean compressed;
+
+    /**
+     * The transcript.
+     */
+    private byte[] transcript;
+    /**
+     * Prompt for {@link FlatBean}.
+     */
+    private Prompt<FlatBean> flatPrompt;
+
+    /**
+     * Records the sessions, each on its own thread.
+     *
+     * @throws Exception If recording fails.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        flatPrompt = PromptManager.getPromptFor(FlatBean.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TranscriptRecorder recorder = new TranscriptRecorder(out, compressed);
+        PromptManager.addListener(recorder);
+        try {
+            for (int i = 0; i < SESSIONS; i++) {
+                Thread session = new Thread(() -> flatPrompt.prompt(
+                    PromptInput.of(FLAT), PromptOutput.nullOutput(), null));
+                session.start();
+                session.join();
+            }
+        } finally {
+            PromptManager.removeListener(recorder);
+            recorder.close();
+        }
+        transcript = out.toByteArray();
+    }
+
+    private Map<Long, List<TranscriptLine>> read() throws IOException {
+        try (TranscriptReader reader = new TranscriptReader(
+            new ByteArrayInputStream(transcript))) {
+            return reader.readSessions();
+        }
+    }
+
+    /**
+     * @return The sessions.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS)
+    public Map<Long, List<TranscriptLine>> readOnly() throws IOException {
+        return read();
+    }
+
+    /**
+     * @param blackhole Consumer of the beans.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SESSIONS)
+    public void replay(final Blackhole blackhole) throws IOException {
+        PromptOutput out = PromptOutput.nullOutput();
+        for (List<TranscriptLine> lines : read().values()) {
+            blackhole.consume(flatPrompt.prompt(
+                TranscriptReader.replay(lines), out, null));
+        }
+    }
+}
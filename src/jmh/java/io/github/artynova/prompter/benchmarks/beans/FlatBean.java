@@ -0,0 +1,119 @@
+package io.github.artynova.prompter.benchmarks.beans;
+
+import io.github.artynova.Promptable;
+
+/**
+ * Hand-written {@link Promptable} with a property of each common one-liner
+ * type, filled by the reflective prompt. Every property accepts the answer
+ * "1", so that the answers do not depend on the order of the properties.
+ */
+public class FlatBean implements Promptable {
+    /**
+     * String property.
+     */
+    private String name;
+    /**
+     * Int property.
+     */
+    private int count;
+    /**
+     * Long property.
+     */
+    private long total;
+    /**
+     * Double property.
+     */
+    private double ratio;
+    /**
+     * Boolean property.
+     */
+    private boolean enabled;
+    /**
+     * Char property.
+     */
+    private char grade;
+
+    /**
+     * @return The string property.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name The string property.
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The int property.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param count The int property.
+     */
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * @return The long property.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @param total The long property.
+     */
+    public void setTotal(final long total) {
+        this.total = total;
+    }
+
+    /**
+     * @return The double property.
+     */
+    public double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * @param ratio The double property.
+     */
+    public void setRatio(final double ratio) {
+        this.ratio = ratio;
+    }
+
+    /**
+     * @return The boolean property.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled The boolean property.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The char property.
+     */
+    public char getGrade() {
+        return grade;
+    }
+
+    /**
+     * @param grade The char property.
+     */
+    public void setGrade(final char grade) {
+        this.grade = grade;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.artynova.prompter.benchmarks.beans;
+
+import io.github.artynova.Promptable;
+
+/**
+ * Hand-written record with the properties of {@link FlatBean}, created by
+ * the reflective prompt through its canonical constructor.
+ *
+ * @param name String property.
+ * @param count Int property.
+ * @param total Long property.
+ * @param ratio Double property.
+ * @param enabled Boolean property.
+ * @param grade Char property.
+ */
+public record FlatRecord(String name, int count, long total, double ratio,
+    boolean enabled, char grade) implements Promptable {
+}
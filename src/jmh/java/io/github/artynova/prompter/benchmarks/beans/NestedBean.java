@@ -0,0 +1,65 @@
+package io.github.artynova.prompter.benchmarks.beans;
+
+import io.github.artynova.Promptable;
+
+/**
+ * Hand-written {@link Promptable} made of {@link FlatBean FlatBeans},
+ * filled by the reflective prompt. Since all properties are beans, the
+ * answers do not depend on the order of the properties.
+ */
+public class NestedBean implements Promptable {
+    /**
+     * First nested bean.
+     */
+    private FlatBean first;
+    /**
+     * Second nested bean.
+     */
+    private FlatBean second;
+    /**
+     * Third nested bean.
+     */
+    private FlatBean third;
+
+    /**
+     * @return The first nested bean.
+     */
+    public FlatBean getFirst() {
+        return first;
+    }
+
+    /**
+     * @param first The first nested bean.
+     */
+    public void setFirst(final FlatBean first) {
+        this.first = first;
+    }
+
+    /**
+     * @return The second nested bean.
+     */
+    public FlatBean getSecond() {
+        return second;
+    }
+
+    /**
+     * @param second The second nested bean.
+     */
+    public void setSecond(final FlatBean second) {
+        this.second = second;
+    }
+
+    /**
+     * @return The third nested bean.
+     */
+    public FlatBean getThird() {
+        return third;
+    }
+
+    /**
+     * @param third The third nested bean.
+     */
+    public void setThird(final FlatBean third) {
+        this.third = third;
+    }
+}
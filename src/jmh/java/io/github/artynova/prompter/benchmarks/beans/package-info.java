@@ -0,0 +1,554 @@
+/**
+ * {@link io.github.artynova.Promptable Promptables} used by the benchmarks:
+ * generated ones with 10, 50 and 200 properties, a generated record with 10
+ * components, and hand-written flat, record and nested ones for the
+ * reflective prompt.
+ */
+@MakePromptable(name = "WideBean10", properties = {
+    @PromptProperty(fieldClass = int.class, name = "p0",
+        message = "P0: "),
+    @PromptProperty(fieldClass = int.class, name = "p1",
+        message = "P1: "),
+    @PromptProperty(fieldClass = int.class, name = "p2",
+        message = "P2: "),
+    @PromptProperty(fieldClass = int.class, name = "p3",
+        message = "P3: "),
+    @PromptProperty(fieldClass = int.class, name = "p4",
+        message = "P4: "),
+    @PromptProperty(fieldClass = int.class, name = "p5",
+        message = "P5: "),
+    @PromptProperty(fieldClass = int.class, name = "p6",
+        message = "P6: "),
+    @PromptProperty(fieldClass = int.class, name = "p7",
+        message = "P7: "),
+    @PromptProperty(fieldClass = int.class, name = "p8",
+        message = "P8: "),
+    @PromptProperty(fieldClass = int.class, name = "p9",
+        message = "P9: ")})
+@MakePromptable(name = "WideRecord10", record = true, properties = {
+    @PromptProperty(fieldClass = int.class, name = "p0",
+        message = "P0: "),
+    @PromptProperty(fieldClass = int.class, name = "p1",
+        message = "P1: "),
+    @PromptProperty(fieldClass = int.class, name = "p2",
+        message = "P2: "),
+    @PromptProperty(fieldClass = int.class, name = "p3",
+        message = "P3: "),
+    @PromptProperty(fieldClass = int.class, name = "p4",
+        message = "P4: "),
+    @PromptProperty(fieldClass = int.class, name = "p5",
+        message = "P5: "),
+    @PromptProperty(fieldClass = int.class, name = "p6",
+        message = "P6: "),
+    @PromptProperty(fieldClass = int.class, name = "p7",
+        message = "P7: "),
+    @PromptProperty(fieldClass = int.class, name = "p8",
+        message = "P8: "),
+    @PromptProperty(fieldClass = int.class, name = "p9",
+        message = "P9: ")})
+@MakePromptable(name = "WideBean50", properties = {
+    @PromptProperty(fieldClass = int.class, name = "p0",
+        message = "P0: "),
+    @PromptProperty(fieldClass = int.class, name = "p1",
+        message = "P1: "),
+    @PromptProperty(fieldClass = int.class, name = "p2",
+        message = "P2: "),
+    @PromptProperty(fieldClass = int.class, name = "p3",
+        message = "P3: "),
+    @PromptProperty(fieldClass = int.class, name = "p4",
+        message = "P4: "),
+    @PromptProperty(fieldClass = int.class, name = "p5",
+        message = "P5: "),
+    @PromptProperty(fieldClass = int.class, name = "p6",
+        message = "P6: "),
+    @PromptProperty(fieldClass = int.class, name = "p7",
+        message = "P7: "),
+    @PromptProperty(fieldClass = int.class, name = "p8",
+        message = "P8: "),
+    @PromptProperty(fieldClass = int.class, name = "p9",
+        message = "P9: "),
+    @PromptProperty(fieldClass = int.class, name = "p10",
+        message = "P10: "),
+    @PromptProperty(fieldClass = int.class, name = "p11",
+        message = "P11: "),
+    @PromptProperty(fieldClass = int.class, name = "p12",
+        message = "P12: "),
+    @PromptProperty(fieldClass = int.class, name = "p13",
+        message = "P13: "),
+    @PromptProperty(fieldClass = int.class, name = "p14",
+        message = "P14: "),
+    @PromptProperty(fieldClass = int.class, name = "p15",
+        message = "P15: "),
+    @PromptProperty(fieldClass = int.class, name = "p16",
+        message = "P16: "),
+    @PromptProperty(fieldClass = int.class, name = "p17",
+        message = "P17: "),
+    @PromptProperty(fieldClass = int.class, name = "p18",
+        message = "P18: "),
+    @PromptProperty(fieldClass = int.class, name = "p19",
+        message = "P19: "),
+    @PromptProperty(fieldClass = int.class, name = "p20",
+        message = "P20: "),
+    @PromptProperty(fieldClass = int.class, name = "p21",
+        message = "P21: "),
+    @PromptProperty(fieldClass = int.class, name = "p22",
+        message = "P22: "),
+    @PromptProperty(fieldClass = int.class, name = "p23",
+        message = "P23: "),
+    @PromptProperty(fieldClass = int.class, name = "p24",
+        message = "P24: "),
+    @PromptProperty(fieldClass = int.class, name = "p25",
+        message = "P25: "),
+    @PromptProperty(fieldClass = int.class, name = "p26",
+        message = "P26: "),
+    @PromptProperty(fieldClass = int.class, name = "p27",
+        message = "P27: "),
+    @PromptProperty(fieldClass = int.class, name = "p28",
+        message = "P28: "),
+    @PromptProperty(fieldClass = int.class, name = "p29",
+        message = "P29: "),
+    @PromptProperty(fieldClass = int.class, name = "p30",
+        message = "P30: "),
+    @PromptProperty(fieldClass = int.class, name = "p31",
+        message = "P31: "),
+    @PromptProperty(fieldClass = int.class, name = "p32",
+        message = "P32: "),
+    @PromptProperty(fieldClass = int.class, name = "p33",
+        message = "P33: "),
+    @PromptProperty(fieldClass = int.class, name = "p34",
+        message = "P34: "),
+    @PromptProperty(fieldClass = int.class, name = "p35",
+        message = "P35: "),
+    @PromptProperty(fieldClass = int.class, name = "p36",
+        message = "P36: "),
+    @PromptProperty(fieldClass = int.class, name = "p37",
+        message = "P37: "),
+    @PromptProperty(fieldClass = int.class, name = "p38",
+        message = "P38: "),
+    @PromptProperty(fieldClass = int.class, name = "p39",
+        message = "P39: "),
+    @PromptProperty(fieldClass = int.class, name = "p40",
+        message = "P40: "),
+    @PromptProperty(fieldClass = int.class, name = "p41",
+        message = "P41: "),
+    @PromptProperty(fieldClass = int.class, name = "p42",
+        message = "P42: "),
+    @PromptProperty(fieldClass = int.class, name = "p43",
+        message = "P43: "),
+    @PromptProperty(fieldClass = int.class, name = "p44",
+        message = "P44: "),
+    @PromptProperty(fieldClass = int.class, name = "p45",
+        message = "P45: "),
+    @PromptProperty(fieldClass = int.class, name = "p46",
+        message = "P46: "),
+    @PromptProperty(fieldClass = int.class, name = "p47",
+        message = "P47: "),
+    @PromptProperty(fieldClass = int.class, name = "p48",
+        message = "P48: "),
+    @PromptProperty(fieldClass = int.class, name = "p49",
+        message = "P49: ")})
+@MakePromptable(name = "WideBean200", properties = {
+    @PromptProperty(fieldClass = int.class, name = "p0",
+        message = "P0: "),
+    @PromptProperty(fieldClass = int.class, name = "p1",
+        message = "P1: "),
+    @PromptProperty(fieldClass = int.class, name = "p2",
+        message = "P2: "),
+    @PromptProperty(fieldClass = int.class, name = "p3",
+        message = "P3: "),
+    @PromptProperty(fieldClass = int.class, name = "p4",
+        message = "P4: "),
+    @PromptProperty(fieldClass = int.class, name = "p5",
+        message = "P5: "),
+    @PromptProperty(fieldClass = int.class, name = "p6",
+        message = "P6: "),
+    @PromptProperty(fieldClass = int.class, name = "p7",
+        message = "P7: "),
+    @PromptProperty(fieldClass = int.class, name = "p8",
+        message = "P8: "),
+    @PromptProperty(fieldClass = int.class, name = "p9",
+        message = "P9: "),
+    @PromptProperty(fieldClass = int.class, name = "p10",
+        message = "P10: "),
+    @PromptProperty(fieldClass = int.class, name = "p11",
+        message = "P11: "),
+    @PromptProperty(fieldClass = int.class, name = "p12",
+        message = "P12: "),
+    @PromptProperty(fieldClass = int.class, name = "p13",
+        message = "P13: "),
+    @PromptProperty(fieldClass = int.class, name = "p14",
+        message = "P14: "),
+    @PromptProperty(fieldClass = int.class, name = "p15",
+        message = "P15: "),
+    @PromptProperty(fieldClass = int.class, name = "p16",
+        message = "P16: "),
+    @PromptProperty(fieldClass = int.class, name = "p17",
+        message = "P17: "),
+    @PromptProperty(fieldClass = int.class, name = "p18",
+        message = "P18: "),
+    @PromptProperty(fieldClass = int.class, name = "p19",
+        message = "P19: "),
+    @PromptProperty(fieldClass = int.class, name = "p20",
+        message = "P20: "),
+    @PromptProperty(fieldClass = int.class, name = "p21",
+        message = "P21: "),
+    @PromptProperty(fieldClass = int.class, name = "p22",
+        message = "P22: "),
+    @PromptProperty(fieldClass = int.class, name = "p23",
+        message = "P23: "),
+    @PromptProperty(fieldClass = int.class, name = "p24",
+        message = "P24: "),
+    @PromptProperty(fieldClass = int.class, name = "p25",
+        message = "P25: "),
+    @PromptProperty(fieldClass = int.class, name = "p26",
+        message = "P26: "),
+    @PromptProperty(fieldClass = int.class, name = "p27",
+        message = "P27: "),
+    @PromptProperty(fieldClass = int.class, name = "p28",
+        message = "P28: "),
+    @PromptProperty(fieldClass = int.class, name = "p29",
+        message = "P29: "),
+    @PromptProperty(fieldClass = int.class, name = "p30",
+        message = "P30: "),
+    @PromptProperty(fieldClass = int.class, name = "p31",
+        message = "P31: "),
+    @PromptProperty(fieldClass = int.class, name = "p32",
+        message = "P32: "),
+    @PromptProperty(fieldClass = int.class, name = "p33",
+        message = "P33: "),
+    @PromptProperty(fieldClass = int.class, name = "p34",
+        message = "P34: "),
+    @PromptProperty(fieldClass = int.class, name = "p35",
+        message = "P35: "),
+    @PromptProperty(fieldClass = int.class, name = "p36",
+        message = "P36: "),
+    @PromptProperty(fieldClass = int.class, name = "p37",
+        message = "P37: "),
+    @PromptProperty(fieldClass = int.class, name = "p38",
+        message = "P38: "),
+    @PromptProperty(fieldClass = int.class, name = "p39",
+        message = "P39: "),
+    @PromptProperty(fieldClass = int.class, name = "p40",
+        message = "P40: "),
+    @PromptProperty(fieldClass = int.class, name = "p41",
+        message = "P41: "),
+    @PromptProperty(fieldClass = int.class, name = "p42",
+        message = "P42: "),
+    @PromptProperty(fieldClass = int.class, name = "p43",
+        message = "P43: "),
+    @PromptProperty(fieldClass = int.class, name = "p44",
+        message = "P44: "),
+    @PromptProperty(fieldClass = int.class, name = "p45",
+        message = "P45: "),
+    @PromptProperty(fieldClass = int.class, name = "p46",
+        message = "P46: "),
+    @PromptProperty(fieldClass = int.class, name = "p47",
+        message = "P47: "),
+    @PromptProperty(fieldClass = int.class, name = "p48",
+        message = "P48: "),
+    @PromptProperty(fieldClass = int.class, name = "p49",
+        message = "P49: "),
+    @PromptProperty(fieldClass = int.class, name = "p50",
+        message = "P50: "),
+    @PromptProperty(fieldClass = int.class, name = "p51",
+        message = "P51: "),
+    @PromptProperty(fieldClass = int.class, name = "p52",
+        message = "P52: "),
+    @PromptProperty(fieldClass = int.class, name = "p53",
+        message = "P53: "),
+    @PromptProperty(fieldClass = int.class, name = "p54",
+        message = "P54: "),
+    @PromptProperty(fieldClass = int.class, name = "p55",
+        message = "P55: "),
+    @PromptProperty(fieldClass = int.class, name = "p56",
+        message = "P56: "),
+    @PromptProperty(fieldClass = int.class, name = "p57",
+        message = "P57: "),
+    @PromptProperty(fieldClass = int.class, name = "p58",
+        message = "P58: "),
+    @PromptProperty(fieldClass = int.class, name = "p59",
+        message = "P59: "),
+    @PromptProperty(fieldClass = int.class, name = "p60",
+        message = "P60: "),
+    @PromptProperty(fieldClass = int.class, name = "p61",
+        message = "P61: "),
+    @PromptProperty(fieldClass = int.class, name = "p62",
+        message = "P62: "),
+    @PromptProperty(fieldClass = int.class, name = "p63",
+        message = "P63: "),
+    @PromptProperty(fieldClass = int.class, name = "p64",
+        message = "P64: "),
+    @PromptProperty(fieldClass = int.class, name = "p65",
+        message = "P65: "),
+    @PromptProperty(fieldClass = int.class, name = "p66",
+        message = "P66: "),
+    @PromptProperty(fieldClass = int.class, name = "p67",
+        message = "P67: "),
+    @PromptProperty(fieldClass = int.class, name = "p68",
+        message = "P68: "),
+    @PromptProperty(fieldClass = int.class, name = "p69",
+        message = "P69: "),
+    @PromptProperty(fieldClass = int.class, name = "p70",
+        message = "P70: "),
+    @PromptProperty(fieldClass = int.class, name = "p71",
+        message = "P71: "),
+    @PromptProperty(fieldClass = int.class, name = "p72",
+        message = "P72: "),
+    @PromptProperty(fieldClass = int.class, name = "p73",
+        message = "P73: "),
+    @PromptProperty(fieldClass = int.class, name = "p74",
+        message = "P74: "),
+    @PromptProperty(fieldClass = int.class, name = "p75",
+        message = "P75: "),
+    @PromptProperty(fieldClass = int.class, name = "p76",
+        message = "P76: "),
+    @PromptProperty(fieldClass = int.class, name = "p77",
+        message = "P77: "),
+    @PromptProperty(fieldClass = int.class, name = "p78",
+        message = "P78: "),
+    @PromptProperty(fieldClass = int.class, name = "p79",
+        message = "P79: "),
+    @PromptProperty(fieldClass = int.class, name = "p80",
+        message = "P80: "),
+    @PromptProperty(fieldClass = int.class, name = "p81",
+        message = "P81: "),
+    @PromptProperty(fieldClass = int.class, name = "p82",
+        message = "P82: "),
+    @PromptProperty(fieldClass = int.class, name = "p83",
+        message = "P83: "),
+    @PromptProperty(fieldClass = int.class, name = "p84",
+        message = "P84: "),
+    @PromptProperty(fieldClass = int.class, name = "p85",
+        message = "P85: "),
+    @PromptProperty(fieldClass = int.class, name = "p86",
+        message = "P86: "),
+    @PromptProperty(fieldClass = int.class, name = "p87",
+        message = "P87: "),
+    @PromptProperty(fieldClass = int.class, name = "p88",
+        message = "P88: "),
+    @PromptProperty(fieldClass = int.class, name = "p89",
+        message = "P89: "),
+    @PromptProperty(fieldClass = int.class, name = "p90",
+        message = "P90: "),
+    @PromptProperty(fieldClass = int.class, name = "p91",
+        message = "P91: "),
+    @PromptProperty(fieldClass = int.class, name = "p92",
+        message = "P92: "),
+    @PromptProperty(fieldClass = int.class, name = "p93",
+        message = "P93: "),
+    @PromptProperty(fieldClass = int.class, name = "p94",
+        message = "P94: "),
+    @PromptProperty(fieldClass = int.class, name = "p95",
+        message = "P95: "),
+    @PromptProperty(fieldClass = int.class, name = "p96",
+        message = "P96: "),
+    @PromptProperty(fieldClass = int.class, name = "p97",
+        message = "P97: "),
+    @PromptProperty(fieldClass = int.class, name = "p98",
+        message = "P98: "),
+    @PromptProperty(fieldClass = int.class, name = "p99",
+        message = "P99: "),
+    @PromptProperty(fieldClass = int.class, name = "p100",
+        message = "P100: "),
+    @PromptProperty(fieldClass = int.class, name = "p101",
+        message = "P101: "),
+    @PromptProperty(fieldClass = int.class, name = "p102",
+        message = "P102: "),
+    @PromptProperty(fieldClass = int.class, name = "p103",
+        message = "P103: "),
+    @PromptProperty(fieldClass = int.class, name = "p104",
+        message = "P104: "),
+    @PromptProperty(fieldClass = int.class, name = "p105",
+        message = "P105: "),
+    @PromptProperty(fieldClass = int.class, name = "p106",
+        message = "P106: "),
+    @PromptProperty(fieldClass = int.class, name = "p107",
+        message = "P107: "),
+    @PromptProperty(fieldClass = int.class, name = "p108",
+        message = "P108: "),
+    @PromptProperty(fieldClass = int.class, name = "p109",
+        message = "P109: "),
+    @PromptProperty(fieldClass = int.class, name = "p110",
+        message = "P110: "),
+    @PromptProperty(fieldClass = int.class, name = "p111",
+        message = "P111: "),
+    @PromptProperty(fieldClass = int.class, name = "p112",
+        message = "P112: "),
+    @PromptProperty(fieldClass = int.class, name = "p113",
+        message = "P113: "),
+    @PromptProperty(fieldClass = int.class, name = "p114",
+        message = "P114: "),
+    @PromptProperty(fieldClass = int.class, name = "p115",
+        message = "P115: "),
+    @PromptProperty(fieldClass = int.class, name = "p116",
+        message = "P116: "),
+    @PromptProperty(fieldClass = int.class, name = "p117",
+        message = "P117: "),
+    @PromptProperty(fieldClass = int.class, name = "p118",
+        message = "P118: "),
+    @PromptProperty(fieldClass = int.class, name = "p119",
+        message = "P119: "),
+    @PromptProperty(fieldClass = int.class, name = "p120",
+        message = "P120: "),
+    @PromptProperty(fieldClass = int.class, name = "p121",
+        message = "P121: "),
+    @PromptProperty(fieldClass = int.class, name = "p122",
+        message = "P122: "),
+    @PromptProperty(fieldClass = int.class, name = "p123",
+        message = "P123: "),
+    @PromptProperty(fieldClass = int.class, name = "p124",
+        message = "P124: "),
+    @PromptProperty(fieldClass = int.class, name = "p125",
+        message = "P125: "),
+    @PromptProperty(fieldClass = int.class, name = "p126",
+        message = "P126: "),
+    @PromptProperty(fieldClass = int.class, name = "p127",
+        message = "P127: "),
+    @PromptProperty(fieldClass = int.class, name = "p128",
+        message = "P128: "),
+    @PromptProperty(fieldClass = int.class, name = "p129",
+        message = "P129: "),
+    @PromptProperty(fieldClass = int.class, name = "p130",
+        message = "P130: "),
+    @PromptProperty(fieldClass = int.class, name = "p131",
+        message = "P131: "),
+    @PromptProperty(fieldClass = int.class, name = "p132",
+        message = "P132: "),
+    @PromptProperty(fieldClass = int.class, name = "p133",
+        message = "P133: "),
+    @PromptProperty(fieldClass = int.class, name = "p134",
+        message = "P134: "),
+    @PromptProperty(fieldClass = int.class, name = "p135",
+        message = "P135: "),
+    @PromptProperty(fieldClass = int.class, name = "p136",
+        message = "P136: "),
+    @PromptProperty(fieldClass = int.class, name = "p137",
+        message = "P137: "),
+    @PromptProperty(fieldClass = int.class, name = "p138",
+        message = "P138: "),
+    @PromptProperty(fieldClass = int.class, name = "p139",
+        message = "P139: "),
+    @PromptProperty(fieldClass = int.class, name = "p140",
+        message = "P140: "),
+    @PromptProperty(fieldClass = int.class, name = "p141",
+        message = "P141: "),
+    @PromptProperty(fieldClass = int.class, name = "p142",
+        message = "P142: "),
+    @PromptProperty(fieldClass = int.class, name = "p143",
+        message = "P143: "),
+    @PromptProperty(fieldClass = int.class, name = "p144",
+        message = "P144: "),
+    @PromptProperty(fieldClass = int.class, name = "p145",
+        message = "P145: "),
+    @PromptProperty(fieldClass = int.class, name = "p146",
+        message = "P146: "),
+    @PromptProperty(fieldClass = int.class, name = "p147",
+        message = "P147: "),
+    @PromptProperty(fieldClass = int.class, name = "p148",
+        message = "P148: "),
+    @PromptProperty(fieldClass = int.class, name = "p149",
+        message = "P149: "),
+    @PromptProperty(fieldClass = int.class, name = "p150",
+        message = "P150: "),
+    @PromptProperty(fieldClass = int.class, name = "p151",
+        message = "P151: "),
+    @PromptProperty(fieldClass = int.class, name = "p152",
+        message = "P152: "),
+    @PromptProperty(fieldClass = int.class, name = "p153",
+        message = "P153: "),
+    @PromptProperty(fieldClass = int.class, name = "p154",
+        message = "P154: "),
+    @PromptProperty(fieldClass = int.class, name = "p155",
+        message = "P155: "),
+    @PromptProperty(fieldClass = int.class, name = "p156",
+        message = "P156: "),
+    @PromptProperty(fieldClass = int.class, name = "p157",
+        message = "P157: "),
+    @PromptProperty(fieldClass = int.class, name = "p158",
+        message = "P158: "),
+    @PromptProperty(fieldClass = int.class, name = "p159",
+        message = "P159: "),
+    @PromptProperty(fieldClass = int.class, name = "p160",
+        message = "P160: "),
+    @PromptProperty(fieldClass = int.class, name = "p161",
+        message = "P161: "),
+    @PromptProperty(fieldClass = int.class, name = "p162",
+        message = "P162: "),
+    @PromptProperty(fieldClass = int.class, name = "p163",
+        message = "P163: "),
+    @PromptProperty(fieldClass = int.class, name = "p164",
+        message = "P164: "),
+    @PromptProperty(fieldClass = int.class, name = "p165",
+        message = "P165: "),
+    @PromptProperty(fieldClass = int.class, name = "p166",
+        message = "P166: "),
+    @PromptProperty(fieldClass = int.class, name = "p167",
+        message = "P167: "),
+    @PromptProperty(fieldClass = int.class, name = "p168",
+        message = "P168: "),
+    @PromptProperty(fieldClass = int.class, name = "p169",
+        message = "P169: "),
+    @PromptProperty(fieldClass = int.class, name = "p170",
+        message = "P170: "),
+    @PromptProperty(fieldClass = int.class, name = "p171",
+        message = "P171: "),
+    @PromptProperty(fieldClass = int.class, name = "p172",
+        message = "P172: "),
+    @PromptProperty(fieldClass = int.class, name = "p173",
+        message = "P173: "),
+    @PromptProperty(fieldClass = int.class, name = "p174",
+        message = "P174: "),
+    @PromptProperty(fieldClass = int.class, name = "p175",
+        message = "P175: "),
+    @PromptProperty(fieldClass = int.class, name = "p176",
+        message = "P176: "),
+    @PromptProperty(fieldClass = int.class, name = "p177",
+        message = "P177: "),
+    @PromptProperty(fieldClass = int.class, name = "p178",
+        message = "P178: "),
+    @PromptProperty(fieldClass = int.class, name = "p179",
+        message = "P179: "),
+    @PromptProperty(fieldClass = int.class, name = "p180",
+        message = "P180: "),
+    @PromptProperty(fieldClass = int.class, name = "p181",
+        message = "P181: "),
+    @PromptProperty(fieldClass = int.class, name = "p182",
+        message = "P182: "),
+    @PromptProperty(fieldClass = int.class, name = "p183",
+        message = "P183: "),
+    @PromptProperty(fieldClass = int.class, name = "p184",
+        message = "P184: "),
+    @PromptProperty(fieldClass = int.class, name = "p185",
+        message = "P185: "),
+    @PromptProperty(fieldClass = int.class, name = "p186",
+        message = "P186: "),
+    @PromptProperty(fieldClass = int.class, name = "p187",
+        message = "P187: "),
+    @PromptProperty(fieldClass = int.class, name = "p188",
+        message = "P188: "),
+    @PromptProperty(fieldClass = int.class, name = "p189",
+        message = "P189: "),
+    @PromptProperty(fieldClass = int.class, name = "p190",
+        message = "P190: "),
+    @PromptProperty(fieldClass = int.class, name = "p191",
+        message = "P191: "),
+    @PromptProperty(fieldClass = int.class, name = "p192",
+        message = "P192: "),
+    @PromptProperty(fieldClass = int.class, name = "p193",
+        message = "P193: "),
+    @PromptProperty(fieldClass = int.class, name = "p194",
+        message = "P194: "),
+    @PromptProperty(fieldClass = int.class, name = "p195",
+        message = "P195: "),
+    @PromptProperty(fieldClass = int.class, name = "p196",
+        message = "P196: "),
+    @PromptProperty(fieldClass = int.class, name = "p197",
+        message = "P197: "),
+    @PromptProperty(fieldClass = int.class, name = "p198",
+        message = "P198: "),
+    @PromptProperty(fieldClass = int.class, name = "p199",
+        message = "P199: ")})
+package io.github.artynova.prompter.benchmarks.beans;
+
+import io.github.artynova.annotations.source.MakePromptable;
+import io.github.artynova.annotations.source.PromptProperty;
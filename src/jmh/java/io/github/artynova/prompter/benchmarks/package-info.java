@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for Prompter, measuring the performance of its hot paths.
+ */
+package io.github.artynova.prompter.benchmarks;
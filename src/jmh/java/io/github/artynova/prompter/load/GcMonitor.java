@@ -0,0 +1,87 @@
+package io.github.artynova.prompter.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.github.artynova.metrics.LatencyHistogram;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the duration of every garbage collection reported by the
+ * collectors of the JVM while it is open. Collectors report pauses, except
+ * the concurrent ones, which report the duration of their cycles, so the
+ * recorded durations of a concurrent collector overstate its pauses.
+ */
+final class GcMonitor implements NotificationListener, AutoCloseable {
+    /**
+     * Durations of the collections, in nanoseconds.
+     */
+    private final LatencyHistogram pauses = new LatencyHistogram();
+    /**
+     * Total duration of the collections, in nanoseconds.
+     */
+    private final LongAdder total = new LongAdder();
+    /**
+     * Collectors that the monitor listens to.
+     */
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+    GcMonitor() {
+        for (GarbageCollectorMXBean bean
+            : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    /**
+     * @return Durations of the collections, in nanoseconds.
+     */
+    LatencyHistogram getPauses() {
+        return pauses;
+    }
+
+    /**
+     * @return Total duration of the collections, in nanoseconds.
+     */
+    long getTotalNanos() {
+        return total.sum();
+    }
+
+    @Override
+    public void handleNotification(final Notification notification,
+        final Object handback) {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+            .equals(notification.getType())) {
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from(
+                    (CompositeData) notification.getUserData());
+            long nanos = TimeUnit.MILLISECONDS.toNanos(
+                info.getGcInfo().getDuration());
+            pauses.record(nanos);
+            total.add(nanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                continue; // already removed
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.artynova.prompter.load;
+
+import io.github.artynova.metrics.PromptListener;
+import io.github.artynova.metrics.PromptMetrics;
+
+/**
+ * {@link PromptListener} installed for the duration of a run, which records
+ * the events in {@link PromptMetrics} and tells the synthetic user of the
+ * prompting thread, if any, which prompts it answers.
+ */
+final class HarnessListener implements PromptListener {
+    /**
+     * The metrics.
+     */
+    private final PromptMetrics metrics;
+    /**
+     * Synthetic user of each thread, or null.
+     */
+    private final ThreadLocal<SyntheticUser> users = new ThreadLocal<>();
+
+    HarnessListener(final PromptMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the synthetic user of the current thread.
+     *
+     * @param user The user, or null.
+     */
+    void setUser(final SyntheticUser user) {
+        users.set(user);
+    }
+
+    @Override
+    public void promptStarted(final Class<?> valueClass,
+        final String property) {
+        metrics.promptStarted(valueClass, property);
+        SyntheticUser user = users.get();
+        if (user != null) {
+            user.promptStarted(valueClass, property);
+        }
+    }
+
+    @Override
+    public void answerReceived(final Class<?> valueClass,
+        final String property, final long parseNanos) {
+        metrics.answerReceived(valueClass, property, parseNanos);
+    }
+
+    @Override
+    public void answerRejected(final Class<?> valueClass,
+        final String property, final Class<? extends Throwable> cause) {
+        metrics.answerRejected(valueClass, property, cause);
+    }
+
+    @Override
+    public void promptCompleted(final Class<?> valueClass,
+        final String property, final int retries, final long nanos) {
+        metrics.promptCompleted(valueClass, property, retries, nanos);
+        SyntheticUser user = users.get();
+        if (user != null) {
+            user.promptCompleted();
+        }
+    }
+}
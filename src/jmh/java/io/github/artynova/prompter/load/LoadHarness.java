@@ -0,0 +1,324 @@
+package io.github.artynova.prompter.load;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.PromptMetrics;
+import io.github.artynova.prompts.Prompt;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+/**
+ * <p>
+ * Harness that simulates concurrent users, each of which fills values of a
+ * class, such as a {@link io.github.artynova.Promptable Promptable} or an
+ * array, over and over with the prompt that
+ * {@link PromptManager#getPromptFor(Class)} returns, answering from memory
+ * with {@link SyntheticAnswers} and thinking before every line. After a
+ * warmup, it measures the throughput, the time spent in each flow and in
+ * each attempt of each prompt without the think time, the allocation rate
+ * of the users and the garbage collections, and returns them as a
+ * {@link LoadReport}.
+ * </p>
+ * <p>
+ * Each user has its own platform thread, and the harness installs its own
+ * {@link io.github.artynova.metrics.PromptListener} for the duration of a
+ * run, so runs cannot overlap.
+ * It can be run with
+ * {@code gradle loadTest -PloadArgs="<class> [users] [seconds] [think ms]
+ * [invalid rate]"}.
+ * </p>
+ */
+public final class LoadHarness {
+    /**
+     * Default number of users.
+     */
+    public static final int DEFAULT_USERS = 16;
+    /**
+     * Default time to measure.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofSeconds(10);
+    /**
+     * Default time to run before measuring.
+     */
+    public static final Duration DEFAULT_WARMUP = Duration.ofSeconds(3);
+    /**
+     * Default number of elements given to arrays.
+     */
+    public static final int DEFAULT_ELEMENTS = 3;
+    /**
+     * Default number of aggregates nested in each other beyond which
+     * aggregates are skipped.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    /**
+     * The value class.
+     */
+    private final Class<?> valueClass;
+    /**
+     * The answers.
+     */
+    private SyntheticAnswers answers = SyntheticAnswers.defaults();
+    /**
+     * Number of users.
+     */
+    private int users = DEFAULT_USERS;
+    /**
+     * Time to measure.
+     */
+    private Duration duration = DEFAULT_DURATION;
+    /**
+     * Time to run before measuring.
+     */
+    private Duration warmup = DEFAULT_WARMUP;
+    /**
+     * Mean time to think before each line.
+     */
+    private Duration thinkTime = Duration.ZERO;
+    /**
+     * Probability that the first answer to a one-line prompt is invalid.
+     */
+    private double invalidRate;
+    /**
+     * Number of elements given to arrays.
+     */
+    private int elements = DEFAULT_ELEMENTS;
+    /**
+     * Number of aggregates nested in each other beyond which aggregates are
+     * skipped.
+     */
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    /**
+     * Seed of the randomness of the users.
+     */
+    private long seed;
+    /**
+     * Whether the run is over.
+     */
+    private volatile boolean stopped;
+    /**
+     * Whether the warmup is over.
+     */
+    private volatile boolean measuring;
+
+    /**
+     * Constructs a new {@link LoadHarness} with the default settings.
+     *
+     * @param valueClass Class of the values that the users fill.
+     */
+    public LoadHarness(final Class<?> valueClass) {
+        this.valueClass = valueClass;
+    }
+
+    /**
+     * @param syntheticAnswers Answers of the users.
+     * @return This harness.
+     */
+    public LoadHarness setAnswers(final SyntheticAnswers syntheticAnswers) {
+        this.answers = syntheticAnswers;
+        return this;
+    }
+
+    /**
+     * @param count Number of concurrent users.
+     * @return This harness.
+     */
+    public LoadHarness setUsers(final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Users must be positive");
+        }
+        this.users = count;
+        return this;
+    }
+
+    /**
+     * @param measured Time to measure.
+     * @return This harness.
+     */
+    public LoadHarness setDuration(final Duration measured) {
+        this.duration = measured;
+        return this;
+    }
+
+    /**
+     * @param unmeasured Time to run before measuring.
+     * @return This harness.
+     */
+    public LoadHarness setWarmup(final Duration unmeasured) {
+        this.warmup = unmeasured;
+        return this;
+    }
+
+    /**
+     * @param mean Mean time that users think before each line, drawn
+     * uniformly between half and one and a half of it.
+     * @return This harness.
+     */
+    public LoadHarness setThinkTime(final Duration mean) {
+        this.thinkTime = mean;
+        return this;
+    }
+
+    /**
+     * @param rate Probability that the first answer of a user to a one-line
+     * prompt is invalid, if it has invalid answers.
+     * @return This harness.
+     */
+    public LoadHarness setInvalidRate(final double rate) {
+        this.invalidRate = rate;
+        return this;
+    }
+
+    /**
+     * @param count Number of elements that users give to arrays.
+     * @return This harness.
+     */
+    public LoadHarness setElements(final int count) {
+        this.elements = count;
+        return this;
+    }
+
+    /**
+     * @param depth Number of aggregates nested in each other beyond which
+     * users skip aggregates, which ends recursive ones.
+     * @return This harness.
+     */
+    public LoadHarness setMaxDepth(final int depth) {
+        this.maxDepth = depth;
+        return this;
+    }
+
+    /**
+     * @param randomSeed Seed of the randomness of the users.
+     * @return This harness.
+     */
+    public LoadHarness setSeed(final long randomSeed) {
+        this.seed = randomSeed;
+        return this;
+    }
+
+    /**
+     * Runs the users for the warmup and then for the measured time.
+     *
+     * @return The measurements.
+     * @throws InterruptedException If interrupted while waiting for the
+     * users.
+     */
+    public LoadReport run() throws InterruptedException {
+        Prompt<?> prompt = PromptManager.getPromptFor(valueClass);
+        prompt.resolve();
+        PromptMetrics metrics = new PromptMetrics();
+        HarnessListener listener = new HarnessListener(metrics);
+        Measurements measurements = new Measurements();
+        stopped = false;
+        measuring = false;
+        PromptManager.addListener(listener);
+        List<Thread> threads = new ArrayList<>();
+        try {
+            for (int i = 0; i < users; i++) {
+                SyntheticUser user = new SyntheticUser(answers, seed + i,
+                    invalidRate, elements, maxDepth, thinkTime.toNanos());
+                Thread thread = new Thread(() -> runUser(prompt, listener,
+                    user, measurements), "synthetic-user-" + i);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+            Thread.sleep(warmup.toMillis());
+            metrics.clear();
+            try (GcMonitor gc = new GcMonitor()) {
+                long start = System.nanoTime();
+                measuring = true;
+                Thread.sleep(duration.toMillis());
+                stopped = true;
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                return new LoadReport(users, System.nanoTime() - start,
+                    measurements, metrics, gc);
+            }
+        } finally {
+            stopped = true;
+            PromptManager.removeListener(listener);
+        }
+    }
+
+    private void runUser(final Prompt<?> prompt,
+        final HarnessListener listener, final SyntheticUser user,
+        final Measurements measurements) {
+        listener.setUser(user);
+        PromptOutput out = PromptOutput.nullOutput();
+        long allocatedBefore = -1;
+        while (!stopped) {
+            boolean measured = measuring;
+            if (measured && allocatedBefore < 0) {
+                allocatedBefore = allocatedBytes();
+            }
+            user.reset();
+            long before = System.nanoTime();
+            try {
+                prompt.prompt(user, out, null);
+                if (measured) {
+                    measurements.flowCompleted(user.getLines(),
+                        System.nanoTime() - before - user.getThoughtNanos());
+                }
+            } catch (RuntimeException e) {
+                if (measured) {
+                    measurements.flowFailed();
+                }
+            }
+        }
+        if (allocatedBefore >= 0) {
+            measurements.allocated(allocatedBytes() - allocatedBefore);
+        }
+        listener.setUser(null);
+    }
+
+    /**
+     * @return Bytes allocated by the current thread so far, or a negative
+     * value if the JVM does not measure them.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean measured
+            && measured.isThreadAllocatedMemoryEnabled()) {
+            return measured.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Runs the harness and prints the report.
+     *
+     * @param args Binary name of the value class, and optionally the number
+     * of users, the measured seconds, the mean think time in milliseconds and
+     * the probability of invalid answers.
+     * @throws Exception If the class is not found or the run is interrupted.
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: LoadHarness <class> [users] [seconds]"
+                + " [think ms] [invalid rate]");
+            return;
+        }
+        LoadHarness harness = new LoadHarness(Class.forName(args[0]));
+        int arg = 1;
+        if (args.length > arg) {
+            harness.setUsers(Integer.parseInt(args[arg++]));
+        }
+        if (args.length > arg) {
+            harness.setDuration(
+                Duration.ofSeconds(Long.parseLong(args[arg++])));
+        }
+        if (args.length > arg) {
+            harness.setThinkTime(
+                Duration.ofMillis(Long.parseLong(args[arg++])));
+        }
+        if (args.length > arg) {
+            harness.setInvalidRate(Double.parseDouble(args[arg]));
+        }
+        System.out.print(harness.run());
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.artynova.prompter.load;
+
+import io.github.artynova.metrics.LatencyHistogram;
+import io.github.artynova.metrics.PromptMetrics;
+import io.github.artynova.metrics.PromptStats;
+
+import java.util.Comparator;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Results of a {@link LoadHarness} run, measured after the warmup.
+ */
+public final class LoadReport {
+    /**
+     * Nanoseconds in a second.
+     */
+    private static final double NANOS_PER_SECOND = 1e9;
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1e3;
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1e6;
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final double BYTES_PER_MEGABYTE = 1 << 20;
+    /**
+     * Percentiles that the report prints.
+     */
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    /**
+     * Number of concurrent users.
+     */
+    private final int users;
+    /**
+     * Measured time, in nanoseconds.
+     */
+    private final long elapsedNanos;
+    /**
+     * Number of completed flows.
+     */
+    private final long flows;
+    /**
+     * Number of flows that ended with an exception.
+     */
+    private final long failures;
+    /**
+     * Number of lines given.
+     */
+    private final long lines;
+    /**
+     * Time spent in flows other than thinking, per flow.
+     */
+    private final LatencyHistogram flowLatency;
+    /**
+     * Statistics per prompt.
+     */
+    private final PromptMetrics metrics;
+    /**
+     * Bytes allocated by the users, or -1 if not measured.
+     */
+    private final long allocatedBytes;
+    /**
+     * Durations of garbage collections.
+     */
+    private final LatencyHistogram gcPauses;
+    /**
+     * Total duration of garbage collections, in nanoseconds.
+     */
+    private final long gcNanos;
+
+    LoadReport(final int users, final long elapsedNanos,
+        final Measurements measurements, final PromptMetrics metrics,
+        final GcMonitor gc) {
+        this.users = users;
+        this.elapsedNanos = elapsedNanos;
+        this.flows = measurements.getFlows();
+        this.failures = measurements.getFailures();
+        this.lines = measurements.getLines();
+        this.flowLatency = measurements.getLatency();
+        this.metrics = metrics;
+        this.allocatedBytes = measurements.getAllocated();
+        this.gcPauses = gc.getPauses();
+        this.gcNanos = gc.getTotalNanos();
+    }
+
+    /**
+     * @return Number of concurrent users.
+     */
+    public int getUsers() {
+        return users;
+    }
+
+    /**
+     * @return Measured time, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Number of completed flows.
+     */
+    public long getFlows() {
+        return flows;
+    }
+
+    /**
+     * @return Number of flows that ended with an exception.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return Completed flows per second.
+     */
+    public double getThroughput() {
+        return flows * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * @return Lines answered per second.
+     */
+    public double getLineThroughput() {
+        return lines * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * @return Time spent in each completed flow, not counting think time,
+     * in nanoseconds.
+     */
+    public LatencyHistogram getFlowLatency() {
+        return flowLatency;
+    }
+
+    /**
+     * @return Statistics per prompt, whose parse latencies are the time
+     * spent by each attempt without waiting for input.
+     */
+    public PromptMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return Bytes allocated per second by the users, or -1 if the JVM does
+     * not measure allocations.
+     */
+    public double getAllocationRate() {
+        return allocatedBytes < 0 ? -1
+            : allocatedBytes * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * @return Durations of garbage collections, in nanoseconds.
+     */
+    public LatencyHistogram getGcPauses() {
+        return gcPauses;
+    }
+
+    /**
+     * @return Total duration of garbage collections, in nanoseconds.
+     */
+    public long getGcNanos() {
+        return gcNanos;
+    }
+
+    @Override
+    public String toString() {
+        Formatter out = new Formatter(new StringBuilder(), Locale.ROOT);
+        out.format("Users: %d, measured for %.1f s%n", users,
+            elapsedNanos / NANOS_PER_SECOND);
+        out.format("Flows: %d completed, %d failed, %.1f flows/s, "
+            + "%.1f lines/s%n", flows, failures, getThroughput(),
+            getLineThroughput());
+        out.format("Allocation: %.1f MB/s%n",
+            getAllocationRate() / BYTES_PER_MEGABYTE);
+        out.format("GC: %d collections, %.1f ms total, %s%n",
+            gcPauses.getCount(), gcNanos / NANOS_PER_MILLI,
+            percentiles(gcPauses));
+        out.format("Flow without think time: %s%n", percentiles(flowLatency));
+        out.format("Attempts per prompt, without waiting for input:%n");
+        metrics.getValueClasses().stream()
+            .sorted(Comparator.comparing(Class::getName))
+            .forEach(valueClass -> {
+                for (Map.Entry<String, PromptStats> entry
+                    : metrics.getProperties(valueClass).entrySet()) {
+                    LatencyHistogram parse =
+                        entry.getValue().getParseLatency();
+                    out.format("  %s%s: %d, %d rejected, %s%n",
+                        valueClass.getSimpleName(), entry.getKey().isEmpty()
+                            ? "" : " " + entry.getKey(),
+                        parse.getCount(), entry.getValue().getRejections(),
+                        percentiles(parse));
+                }
+            });
+        return out.toString();
+    }
+
+    private static String percentiles(final LatencyHistogram histogram) {
+        StringBuilder out = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, "p%s %.1f us, ",
+                percentile == Math.rint(percentile)
+                    ? Long.toString((long) percentile)
+                    : Double.toString(percentile),
+                histogram.getValueAtPercentile(percentile)
+                    / NANOS_PER_MICRO));
+        }
+        return out.append(String.format(Locale.ROOT, "max %.1f us",
+            histogram.getMax() / NANOS_PER_MICRO)).toString();
+    }
+}
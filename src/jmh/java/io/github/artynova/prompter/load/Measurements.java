@@ -0,0 +1,65 @@
+package io.github.artynova.prompter.load;
+
+import io.github.artynova.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measurements shared by the users of a {@link LoadHarness} run.
+ */
+final class Measurements {
+    /**
+     * Number of completed flows.
+     */
+    private final LongAdder flows = new LongAdder();
+    /**
+     * Number of failed flows.
+     */
+    private final LongAdder failures = new LongAdder();
+    /**
+     * Number of lines given.
+     */
+    private final LongAdder lines = new LongAdder();
+    /**
+     * Bytes allocated by the users, or a negative sum if not measured.
+     */
+    private final LongAdder allocated = new LongAdder();
+    /**
+     * Time spent in each flow, not counting think time.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void flowCompleted(final long flowLines, final long nanos) {
+        flows.increment();
+        lines.add(flowLines);
+        latency.record(nanos);
+    }
+
+    void flowFailed() {
+        failures.increment();
+    }
+
+    void allocated(final long bytes) {
+        allocated.add(bytes);
+    }
+
+    long getFlows() {
+        return flows.sum();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    long getLines() {
+        return lines.sum();
+    }
+
+    long getAllocated() {
+        return allocated.sum();
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+}
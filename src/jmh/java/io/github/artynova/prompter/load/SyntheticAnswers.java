@@ -0,0 +1,183 @@
+package io.github.artynova.prompter.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pools of answers that synthetic users give to one-line prompts, by value
+ * class and optionally by property. Answers are generated once, when the
+ * pools are registered, so that giving one does not allocate and the
+ * allocation rate of a run is the library's own. Pools can be registered
+ * before a run only.
+ */
+public final class SyntheticAnswers {
+    /**
+     * Number of answers in the default pools of numbers and strings.
+     */
+    private static final int POOL_SIZE = 64;
+    /**
+     * Key of the pools that apply to any property.
+     */
+    private static final String ANY_PROPERTY = "";
+    /**
+     * Pools by value class and by property name.
+     */
+    private final Map<Class<?>, Map<String, Pool>> pools =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Creates answers with no pools.
+     */
+    public SyntheticAnswers() {
+    }
+
+    /**
+     * Creates answers with pools for strings, characters, booleans, numbers
+     * and their primitives.
+     *
+     * @return The answers.
+     */
+    public static SyntheticAnswers defaults() {
+        List<String> strings = new ArrayList<>();
+        List<String> integers = new ArrayList<>();
+        List<String> decimals = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            strings.add("user" + i);
+            integers.add(Integer.toString(i));
+            decimals.add(i + ".5");
+        }
+        List<String> notNumbers = List.of("x", "1x", "--1");
+        SyntheticAnswers answers = new SyntheticAnswers();
+        answers.register(String.class, strings, List.of());
+        answers.register(Character.class, List.of("a", "b", "c"),
+            List.of("ab"));
+        answers.register(Boolean.class, List.of("true", "false"),
+            List.of("maybe"));
+        for (Class<?> integer : List.of(Byte.class, Short.class,
+            Integer.class, Long.class)) {
+            answers.register(integer, integers, notNumbers);
+        }
+        answers.register(Float.class, decimals, notNumbers);
+        answers.register(Double.class, decimals, notNumbers);
+        return answers;
+    }
+
+    /**
+     * Registers answers for prompts of a class. Answers for primitives are
+     * taken from their wrappers.
+     *
+     * @param valueClass Value class of the prompts.
+     * @param valid Answers that are accepted.
+     * @param invalid Answers that are rejected, possibly none.
+     * @return These answers.
+     */
+    public SyntheticAnswers register(final Class<?> valueClass,
+        final List<String> valid, final List<String> invalid) {
+        return register(valueClass, null, valid, invalid);
+    }
+
+    /**
+     * Registers answers for prompts of a class that fill a property, which
+     * take precedence over the answers for the class.
+     *
+     * @param valueClass Value class of the prompts.
+     * @param property Name of the property, or null for any property.
+     * @param valid Answers that are accepted.
+     * @param invalid Answers that are rejected, possibly none.
+     * @return These answers.
+     */
+    public SyntheticAnswers register(final Class<?> valueClass,
+        final String property, final List<String> valid,
+        final List<String> invalid) {
+        if (valid.isEmpty()) {
+            throw new IllegalArgumentException(
+                "At least one valid answer is required");
+        }
+        Pool pool = new Pool(valid.toArray(String[]::new),
+            invalid.toArray(String[]::new));
+        pools.computeIfAbsent(valueClass, key -> new ConcurrentHashMap<>())
+            .put(property == null ? ANY_PROPERTY : property, pool);
+        return this;
+    }
+
+    /**
+     * Picks an answer for a prompt.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param wantInvalid Whether to pick a rejected answer, if there are any.
+     * @param random Source of randomness.
+     * @return The answer, or an empty line, which skips a one-line prompt,
+     * if there are no answers for the class.
+     */
+    String pick(final Class<?> valueClass, final String property,
+        final boolean wantInvalid, final SplittableRandom random) {
+        Pool pool = find(valueClass, property);
+        if (pool == null) {
+            pool = find(boxed(valueClass), property);
+        }
+        if (pool == null && valueClass.isEnum()) {
+            pool = enumPool(valueClass);
+        }
+        if (pool == null) {
+            return "";
+        }
+        String[] answers = wantInvalid && pool.invalid().length > 0
+            ? pool.invalid() : pool.valid();
+        return answers[random.nextInt(answers.length)];
+    }
+
+    private Pool find(final Class<?> valueClass, final String property) {
+        Map<String, Pool> byProperty = pools.get(valueClass);
+        if (byProperty == null) {
+            return null;
+        }
+        Pool pool = property == null ? null : byProperty.get(property);
+        return pool != null ? pool : byProperty.get(ANY_PROPERTY);
+    }
+
+    private Pool enumPool(final Class<?> enumClass) {
+        return pools.computeIfAbsent(enumClass, key -> {
+            Object[] constants = enumClass.getEnumConstants();
+            String[] names = new String[constants.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = ((Enum<?>) constants[i]).name();
+            }
+            Map<String, Pool> byProperty = new ConcurrentHashMap<>();
+            byProperty.put(ANY_PROPERTY,
+                new Pool(names, new String[] {"?"}));
+            return byProperty;
+        }).get(ANY_PROPERTY);
+    }
+
+    private static Class<?> boxed(final Class<?> valueClass) {
+        if (!valueClass.isPrimitive()) {
+            return valueClass;
+        }
+        if (valueClass == int.class) {
+            return Integer.class;
+        }
+        if (valueClass == char.class) {
+            return Character.class;
+        }
+        String name = valueClass.getName();
+        try {
+            return Class.forName("java.lang."
+                + Character.toUpperCase(name.charAt(0)) + name.substring(1));
+        } catch (ClassNotFoundException e) {
+            return valueClass; // void
+        }
+    }
+
+    /**
+     * Answers for a class and property.
+     *
+     * @param valid Answers that are accepted.
+     * @param invalid Answers that are rejected.
+     */
+    private record Pool(String[] valid, String[] invalid) {
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.artynova.prompter.load;
+
+import io.github.artynova.Promptable;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.prompts.ArrayPrompt;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Input of a synthetic user, which answers whichever prompt is reading it.
+ * {@link HarnessListener} tells the user which prompts start and complete
+ * on its thread, so the user keeps the stack of open prompts and answers
+ * the innermost one: skip questions of aggregates are declined, except
+ * deeper than the maximum depth, arrays get a fixed number of elements, and
+ * one-line prompts get an answer from {@link SyntheticAnswers}, the first
+ * of which is invalid with the configured probability.
+ */
+final class SyntheticUser implements PromptInput {
+    /**
+     * Number of answers that a prompt may reject before the user gives up
+     * and ends its input.
+     */
+    private static final int MAX_ATTEMPTS = 16;
+    /**
+     * The answers.
+     */
+    private final SyntheticAnswers answers;
+    /**
+     * Source of randomness.
+     */
+    private final SplittableRandom random;
+    /**
+     * Probability that the first answer to a one-line prompt is invalid.
+     */
+    private final double invalidRate;
+    /**
+     * Number of elements to give to arrays.
+     */
+    private final int elements;
+    /**
+     * Number of aggregates nested in each other beyond which aggregates are
+     * skipped.
+     */
+    private final int maxDepth;
+    /**
+     * Mean time to think before each line, in nanoseconds.
+     */
+    private final long thinkNanos;
+    /**
+     * Innermost open prompt, or null.
+     */
+    private Frame top;
+    /**
+     * Time spent thinking since the last reset, in nanoseconds.
+     */
+    private long thoughtNanos;
+    /**
+     * Number of lines given since the last reset.
+     */
+    private long lines;
+
+    SyntheticUser(final SyntheticAnswers answers, final long seed,
+        final double invalidRate, final int elements, final int maxDepth,
+        final long thinkNanos) {
+        this.answers = answers;
+        this.random = new SplittableRandom(seed);
+        this.invalidRate = invalidRate;
+        this.elements = elements;
+        this.maxDepth = maxDepth;
+        this.thinkNanos = thinkNanos;
+    }
+
+    /**
+     * Forgets open prompts and resets the counters, before a flow.
+     */
+    void reset() {
+        top = null;
+        thoughtNanos = 0;
+        lines = 0;
+    }
+
+    /**
+     * @return Time spent thinking since the last reset, in nanoseconds.
+     */
+    long getThoughtNanos() {
+        return thoughtNanos;
+    }
+
+    /**
+     * @return Number of lines given since the last reset.
+     */
+    long getLines() {
+        return lines;
+    }
+
+    void promptStarted(final Class<?> valueClass, final String property) {
+        if (top != null && ArrayPrompt.ELEMENT_PROPERTY.equals(property)) {
+            top.children++;
+        }
+        top = new Frame(valueClass, property, top);
+    }
+
+    void promptCompleted() {
+        if (top != null) {
+            top = top.parent;
+        }
+    }
+
+    @Override
+    public CharSequence readLine() {
+        Frame frame = top;
+        if (frame == null || ++frame.lines > elements + MAX_ATTEMPTS) {
+            return null; // ends the flow, since the answers are not accepted
+        }
+        think();
+        lines++;
+        if (isSkipQuestion(frame)) {
+            return skips(frame.parent) ? "y" : "n";
+        }
+        if (isSurplusElement(frame)) {
+            return "";
+        }
+        Class<?> valueClass = frame.valueClass;
+        if (valueClass.isArray()) { // primitive, reads its elements itself
+            return frame.lines > elements ? "" : answers.pick(
+                valueClass.getComponentType(), null, false, random);
+        }
+        boolean invalid = frame.lines == 1 && invalidRate > 0
+            && random.nextDouble() < invalidRate;
+        return answers.pick(valueClass, frame.property, invalid, random);
+    }
+
+    private void think() {
+        if (thinkNanos <= 0) {
+            return;
+        }
+        long before = System.nanoTime();
+        LockSupport.parkNanos(thinkNanos / 2 + random.nextLong(thinkNanos));
+        thoughtNanos += System.nanoTime() - before;
+    }
+
+    private static boolean isAggregate(final Class<?> valueClass) {
+        return valueClass.isArray()
+            || Promptable.class.isAssignableFrom(valueClass);
+    }
+
+    private static boolean isSkipQuestion(final Frame frame) {
+        return frame.valueClass == Boolean.class && frame.property == null
+            && frame.parent != null && isAggregate(frame.parent.valueClass);
+    }
+
+    private boolean isSurplusElement(final Frame frame) {
+        return ArrayPrompt.ELEMENT_PROPERTY.equals(frame.property)
+            && frame.parent != null && frame.parent.children > elements;
+    }
+
+    private boolean skips(final Frame aggregate) {
+        if (isSurplusElement(aggregate)) {
+            return true;
+        }
+        int depth = 0;
+        for (Frame frame = aggregate; frame != null; frame = frame.parent) {
+            if (isAggregate(frame.valueClass)) {
+                depth++;
+            }
+        }
+        return depth > maxDepth;
+    }
+
+    /**
+     * Open prompt.
+     */
+    private static final class Frame {
+        /**
+         * Value class of the prompt.
+         */
+        private final Class<?> valueClass;
+        /**
+         * Name of the property, or null.
+         */
+        private final String property;
+        /**
+         * The prompt that this prompt is nested in, or null.
+         */
+        private final Frame parent;
+        /**
+         * Number of lines that the prompt has read itself.
+         */
+        private int lines;
+        /**
+         * Number of elements that the prompt has started.
+         */
+        private int children;
+
+        private Frame(final Class<?> valueClass, final String property,
+            final Frame parent) {
+            this.valueClass = valueClass;
+            this.property = property;
+            this.parent = parent;
+        }
+    }
+}
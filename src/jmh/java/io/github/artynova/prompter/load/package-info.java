@@ -0,0 +1,8 @@
+/**
+ * Load-testing harness that runs prompt flows for many synthetic users at
+ * once, entirely in memory, to find how many concurrent form-fillers a node
+ * sustains before the library becomes the bottleneck.
+ *
+ * @see io.github.artynova.prompter.load.LoadHarness
+ */
+package io.github.artynova.prompter.load;
@@ -0,0 +1,29 @@
+package io.github.artynova;
+
+import io.github.artynova.prompts.Prompt;
+
+/**
+ * <p>
+ * Index of prompts that {@link PromptManager} consults, before inspecting a
+ * {@link Promptable} class, to instantiate its prompt without reflection.
+ * </p>
+ * <p>
+ * The {@link io.github.artynova.annotations.source.MakePromptable
+ * MakePromptable} processor generates one index per compilation for all of
+ * the prompts it generated, and registers it as a
+ * {@link java.util.ServiceLoader} provider of this interface, together with
+ * the reflection metadata that native images need for the fallback. Indexes
+ * are loaded once, from the context class loader of the thread that first
+ * needs a prompt for a {@link Promptable}. They are ignored if the system
+ * property {@value PromptManager#INDEX_PROPERTY} is false.
+ * </p>
+ */
+public interface PromptIndex {
+    /**
+     * @param valueClass Class object to instantiate a prompt for.
+     * @return New prompt for the class, or null if the index does not cover
+     * it, in which case the next index or the {@link Promptable} class itself
+     * is consulted.
+     */
+    Prompt<?> newPrompt(Class<?> valueClass);
+}
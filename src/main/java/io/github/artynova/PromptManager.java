@@ -1,18 +1,32 @@
 package io.github.artynova;
 
-import io.github.artynova.exceptions.PromptAnswerException;
+import io.github.artynova.annotations.runtime.PromptedBy;
+import io.github.artynova.exceptions.IllegalPromptableException;
 import io.github.artynova.exceptions.PromptNotImplementedException;
+import io.github.artynova.metrics.PromptListener;
 import io.github.artynova.prompts.ArrayPrompt;
 import io.github.artynova.prompts.BoxedPrompt;
+import io.github.artynova.prompts.EnumParser;
 import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.PrimitiveArrayPrompt;
 import io.github.artynova.prompts.Prompt;
 import io.github.artynova.prompts.PromptablePrompt;
+import io.github.artynova.utils.ParseUtils;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Handles mappings between classes and prompts for their instances.
+ * The registry is safe to use from multiple threads: lookups of registered
+ * prompts do not lock, and a dynamically instantiated prompt is built only
+ * once per class even under concurrent requests.
  */
 public final class PromptManager {
 
@@ -20,19 +34,43 @@ public final class PromptManager {
      * Basic yes/no prompt for a boolean value.
      */
     public static final Prompt<Boolean> YES_NO_PROMPT =
-        new OneLinePrompt<>(Boolean.class, answer -> {
-            answer = answer.toLowerCase();
-            if (!answer.equals("y") && !answer.equals("n")) {
-                throw new PromptAnswerException(
-                    "Answer to a y/n prompt is not \"y\" or \"n\"");
-            }
-            return answer.charAt(0) == 'y';
-        });
+        OneLinePrompt.of(Boolean.class, ParseUtils::parseYesNo);
+    /**
+     * System property that disables the {@link PromptIndex PromptIndexes}
+     * when set to false, so that prompts are instantiated as if no index was
+     * generated.
+     */
+    public static final String INDEX_PROPERTY =
+        "io.github.artynova.prompter.index";
     /**
      * Map of {@link Class} objects to their registered prompts.
      */
-    private static final Map<Class<?>, Prompt<?>> CLASS_PROMPTS =
-        new HashMap<>();
+    private static final ConcurrentMap<Class<?>, Prompt<?>> CLASS_PROMPTS =
+        new ConcurrentHashMap<>();
+    /**
+     * Locks of classes whose prompts are currently being instantiated.
+     */
+    private static final ConcurrentMap<Class<?>, Lock> BUILD_LOCKS =
+        new ConcurrentHashMap<>();
+    /**
+     * The innermost open {@link PromptScope} of each thread.
+     */
+    private static final ThreadLocal<PromptScope> CURRENT_SCOPE =
+        new ThreadLocal<>();
+    /**
+     * Incremented on every explicit registration, so that holders of
+     * resolved prompts can detect replacements.
+     */
+    private static final AtomicLong REGISTRY_VERSION = new AtomicLong();
+    /**
+     * The installed listeners of prompt lifecycle events, in the order they
+     * were added. Guarded by itself.
+     */
+    private static final List<PromptListener> LISTENERS = new ArrayList<>();
+    /**
+     * The installed listeners combined into one, or null if there are none.
+     */
+    private static volatile PromptListener listener;
 
     static {
         registerOneLiners();
@@ -56,12 +94,90 @@ public final class PromptManager {
     public static <V> void registerPrompt(final Class<V> valueClass,
         final Prompt<V> prompt) {
         CLASS_PROMPTS.put(valueClass, prompt);
+        REGISTRY_VERSION.incrementAndGet();
+    }
+
+    static long registryVersion() {
+        return REGISTRY_VERSION.get();
+    }
+
+    /**
+     * Installs a listener of the lifecycle events of all prompts, replacing
+     * all installed ones. Prompts started before the call keep reporting to
+     * the listeners that were installed when they started.
+     *
+     * @param promptListener The listener, or null to stop reporting events,
+     * which makes prompting as cheap as if no listener was ever installed.
+     * @see io.github.artynova.metrics.PromptMetrics
+     */
+    public static void setListener(final PromptListener promptListener) {
+        synchronized (LISTENERS) {
+            LISTENERS.clear();
+            if (promptListener != null) {
+                LISTENERS.add(promptListener);
+            }
+            combineListeners();
+        }
+    }
+
+    /**
+     * Installs a listener of the lifecycle events of all prompts, next to
+     * the installed ones, which receive each event before it. Prompts
+     * started before the call do not report to it.
+     *
+     * @param promptListener The listener.
+     * @see io.github.artynova.metrics.PromptMetrics
+     * @see io.github.artynova.transcripts.TranscriptRecorder
+     */
+    public static void addListener(final PromptListener promptListener) {
+        if (promptListener == null) {
+            throw new NullPointerException("Listener cannot be null");
+        }
+        synchronized (LISTENERS) {
+            LISTENERS.add(promptListener);
+            combineListeners();
+        }
+    }
+
+    /**
+     * Uninstalls a listener added with {@link #addListener(PromptListener)}
+     * or {@link #setListener(PromptListener)}. Prompts started before the
+     * call keep reporting to it.
+     *
+     * @param promptListener The listener.
+     * @return Whether the listener was installed.
+     */
+    public static boolean removeListener(final PromptListener promptListener) {
+        synchronized (LISTENERS) {
+            boolean removed = LISTENERS.remove(promptListener);
+            combineListeners();
+            return removed;
+        }
+    }
+
+    private static void combineListeners() {
+        listener = switch (LISTENERS.size()) {
+            case 0 -> null;
+            case 1 -> LISTENERS.get(0);
+            default -> PromptListener.allOf(
+                LISTENERS.toArray(new PromptListener[0]));
+        };
+    }
+
+    /**
+     * @return The installed listeners of prompt lifecycle events combined
+     * into one, or null if there are none.
+     */
+    public static PromptListener getListener() {
+        return listener;
     }
 
     /**
      * Acquires a registered {@link Prompt} for the class if available.
      * If the prompt is not available but can be instantiated dynamically,
      * the method instantiates it and registers for future reuse.
+     * Overrides from the current {@link PromptScope}, if any, take
+     * precedence over the global registry.
      *
      * @param valueClass Class object for which to get prompt.
      * @param <V> The class that the class object describes.
@@ -71,26 +187,94 @@ public final class PromptManager {
     @SuppressWarnings("unchecked")
     public static <V> Prompt<V> getPromptFor(
         final Class<V> valueClass) {
+        PromptScope scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            Prompt<V> scoped = scope.findPrompt(valueClass);
+            if (scoped != null) {
+                return scoped;
+            }
+        }
         Prompt<V> prompt = (Prompt<V>) CLASS_PROMPTS.get(
             valueClass); // access control ensures this has a correct result
         if (prompt == null) {
+            prompt = buildPrompt(valueClass); // lazy-register prompts
+        }
+        return prompt;
+    }
+
+    /**
+     * Opens a new {@link PromptScope} nested in the current scope of the
+     * calling thread (if any) and makes it current.
+     * The returned scope should be closed by the same thread, preferably with
+     * a try-with-resources statement.
+     *
+     * @return The opened scope.
+     */
+    public static PromptScope openScope() {
+        PromptScope scope = new PromptScope(CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return The current {@link PromptScope} of the calling thread, or null
+     * if no scope is open.
+     */
+    public static PromptScope currentScope() {
+        return CURRENT_SCOPE.get();
+    }
+
+    static void closeScope(final PromptScope scope) {
+        if (CURRENT_SCOPE.get() != scope) {
+            throw new IllegalStateException(
+                "Prompt scope is not the current scope of this thread");
+        }
+        if (scope.getParent() == null) {
+            CURRENT_SCOPE.remove();
+        } else {
+            CURRENT_SCOPE.set(scope.getParent());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Prompt<V> buildPrompt(final Class<V> valueClass) {
+        Lock lock =
+            BUILD_LOCKS.computeIfAbsent(valueClass, key -> new ReentrantLock());
+        lock.lock();
+        // globally registered prompts must not capture session overrides
+        PromptScope scope = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.remove();
+        try {
+            Prompt<V> prompt = (Prompt<V>) CLASS_PROMPTS.get(valueClass);
+            if (prompt != null) {
+                return prompt; // built by another thread while waiting
+            }
             prompt = tryGenericPrompts(valueClass);
             if (prompt == null) {
                 throw new PromptNotImplementedException(valueClass);
-            } else {
-                registerPrompt(valueClass,
-                    prompt); // lazy-register prompts
             }
+            Prompt<V> registered = (Prompt<V>) CLASS_PROMPTS.putIfAbsent(
+                valueClass, prompt); // explicit registrations take precedence
+            return registered == null ? prompt : registered;
+        } finally {
+            if (scope != null) {
+                CURRENT_SCOPE.set(scope);
+            }
+            lock.unlock();
+            BUILD_LOCKS.remove(valueClass, lock);
         }
-        return prompt;
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <V> Prompt<V> tryGenericPrompts(
         final Class<V> valueClass) {
         if (valueClass.isPrimitive()) {
             return new BoxedPrompt<>(valueClass);
         }
+        if (valueClass.isArray()
+            && valueClass.getComponentType().isPrimitive()) {
+            return new PrimitiveArrayPrompt<>(valueClass);
+        }
         if (valueClass.isArray()) {
             return (Prompt<V>) getArrayPrompt(
                 valueClass.getComponentType());
@@ -99,54 +283,93 @@ public final class PromptManager {
             return (Prompt<V>) getBeanPrompt(
                 (Class<? extends Promptable>) valueClass);
         }
+        if (valueClass.isEnum()) {
+            // raw, since V cannot be declared as an enum of itself here
+            return (Prompt<V>) getEnumPrompt((Class) valueClass);
+        }
         return null;
     }
 
+    private static <E extends Enum<E>> Prompt<E> getEnumPrompt(
+        final Class<E> enumClass) {
+        return OneLinePrompt.of(enumClass, new EnumParser<>(enumClass));
+    }
+
     private static <E> Prompt<E[]> getArrayPrompt(
         final Class<E> elemClass) {
         return new ArrayPrompt<>(elemClass);
     }
 
+    @SuppressWarnings("unchecked")
     private static <P extends Promptable> Prompt<P> getBeanPrompt(
         final Class<P> beanClass) {
-        return new PromptablePrompt<>(beanClass);
+        for (PromptIndex index : Indexes.LOADED) {
+            Prompt<?> indexed = index.newPrompt(beanClass);
+            if (indexed != null) {
+                // the index's contract ensures the prompt is for beanClass
+                return (Prompt<P>) indexed;
+            }
+        }
+        PromptedBy promptedBy = beanClass.getAnnotation(PromptedBy.class);
+        if (promptedBy == null) {
+            return new PromptablePrompt<>(beanClass);
+        }
+        try {
+            // the annotation's contract ensures the prompt is for beanClass
+            return (Prompt<P>) promptedBy.value().getConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalPromptableException(
+                "Cannot instantiate prompt " + promptedBy.value().getName()
+                    + " for " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * Holder of the {@link PromptIndex PromptIndexes}, so that they are only
+     * looked up once a prompt for a {@link Promptable} is first needed.
+     */
+    private static final class Indexes {
+        /**
+         * The loaded indexes, empty if disabled by {@link #INDEX_PROPERTY}.
+         */
+        private static final List<PromptIndex> LOADED = load();
+
+        private Indexes() {
+        }
+
+        private static List<PromptIndex> load() {
+            List<PromptIndex> indexes = new ArrayList<>();
+            if (!"false".equalsIgnoreCase(
+                System.getProperty(INDEX_PROPERTY))) {
+                for (PromptIndex index : ServiceLoader.load(
+                    PromptIndex.class)) {
+                    indexes.add(index);
+                }
+            }
+            return indexes;
+        }
     }
 
     private static void registerOneLiners() {
         registerPrompt(String.class, new OneLinePrompt<>(String.class,
             answer -> answer)); // string parses to itself
         registerPrompt(Byte.class,
-            new OneLinePrompt<>(Byte.class, Byte::parseByte));
+            OneLinePrompt.of(Byte.class, ParseUtils::parseByte));
         registerPrompt(Boolean.class,
-            new OneLinePrompt<>(Boolean.class, bool -> {
-                if (!"false".equalsIgnoreCase(bool)
-                    && !"true".equalsIgnoreCase(bool)
-                    && !"0".equals(bool) && !"1".equals(bool)) {
-                    throw new PromptAnswerException("Illegal boolean: " + bool);
-                }
-                if (Character.isDigit(bool.charAt(0))) {
-                    return bool.charAt(0) == '1';
-                }
-                return Boolean.parseBoolean(bool);
-            }));
+            OneLinePrompt.of(Boolean.class, ParseUtils::parseBoolean));
         registerPrompt(Character.class,
-            new OneLinePrompt<>(Character.class, string -> {
-                if (string.length() > 1) {
-                    throw new IllegalArgumentException(
-                        "Multiple characters provided where one is expected");
-                }
-                return string.charAt(
-                    0); // char 0 is guaranteed to exist, see OneLinePrompt
-            }));
+            OneLinePrompt.of(Character.class,
+                ParseUtils::parseCharacter)); // never parses empty answers
         registerPrompt(Short.class,
-            new OneLinePrompt<>(Short.class, Short::parseShort));
+            OneLinePrompt.of(Short.class, ParseUtils::parseShort));
         registerPrompt(Integer.class,
-            new OneLinePrompt<>(Integer.class, Integer::parseInt));
+            OneLinePrompt.of(Integer.class, ParseUtils::parseInt));
         registerPrompt(Long.class,
-            new OneLinePrompt<>(Long.class, Long::parseLong));
+            OneLinePrompt.of(Long.class, ParseUtils::parseLong));
         registerPrompt(Float.class,
-            new OneLinePrompt<>(Float.class, Float::parseFloat));
+            OneLinePrompt.of(Float.class, ParseUtils::parseFloat));
         registerPrompt(Double.class,
-            new OneLinePrompt<>(Double.class, Double::parseDouble));
+            OneLinePrompt.of(Double.class, ParseUtils::parseDouble));
     }
 }
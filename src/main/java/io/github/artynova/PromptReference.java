@@ -0,0 +1,90 @@
+package io.github.artynova;
+
+import io.github.artynova.prompts.Prompt;
+
+/**
+ * <p>
+ * Holds the {@link Prompt} that {@link PromptManager} provides for a class,
+ * resolving it on first use rather than on construction, so that prompts of
+ * recursive {@link Promptable Promptables} can refer to each other.
+ * </p>
+ * <p>
+ * Once resolved, the prompt is reused without further registry lookups until
+ * a new prompt is registered in {@link PromptManager}. While a
+ * {@link PromptScope} that registers prompts (itself or through the scopes
+ * it is nested in) is open, the reference defers to
+ * {@link PromptManager#getPromptFor(Class) getPromptFor} so that scoped
+ * overrides are respected. Scopes that only set limits keep the resolved
+ * prompt.
+ * </p>
+ *
+ * @param <V> Class that the referenced prompt is for.
+ */
+public final class PromptReference<V> {
+    /**
+     * Class object for {@link V}.
+     */
+    private final Class<V> valueClass;
+    /**
+     * The last resolved prompt together with the registry version it was
+     * resolved at, or null if not resolved yet.
+     */
+    private volatile Resolution<V> resolution;
+
+    /**
+     * Constructs a new {@link PromptReference}.
+     *
+     * @param valueClass Class object for which to reference the prompt.
+     */
+    public PromptReference(final Class<V> valueClass) {
+        this.valueClass = valueClass;
+    }
+
+    /**
+     * @return Class object for which the prompt is referenced.
+     */
+    public Class<V> getValueClass() {
+        return valueClass;
+    }
+
+    /**
+     * @return The referenced prompt.
+     * @throws io.github.artynova.exceptions.PromptNotImplementedException
+     * If there is no prompt for the class.
+     */
+    public Prompt<V> get() {
+        PromptScope scope = PromptManager.currentScope();
+        if (scope != null && scope.hasOverrides()) {
+            return PromptManager.getPromptFor(valueClass);
+        }
+        long version = PromptManager.registryVersion();
+        Resolution<V> current = resolution;
+        if (current == null || current.version != version) {
+            current = new Resolution<>(PromptManager.getPromptFor(valueClass),
+                version);
+            resolution = current;
+        }
+        return current.prompt;
+    }
+
+    /**
+     * Immutable pair of a resolved prompt and the registry version.
+     *
+     * @param <V> Class that the prompt is for.
+     */
+    private static final class Resolution<V> {
+        /**
+         * The resolved prompt.
+         */
+        private final Prompt<V> prompt;
+        /**
+         * Registry version at which the prompt was resolved.
+         */
+        private final long version;
+
+        private Resolution(final Prompt<V> prompt, final long version) {
+            this.prompt = prompt;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package io.github.artynova;
+
+import io.github.artynova.exceptions.PromptAbortedException;
+import io.github.artynova.prompts.Prompt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * A set of prompt overrides layered on top of the global registry of
+ * {@link PromptManager}, typically covering one prompting session.
+ * </p>
+ * <p>
+ * Scopes are opened with {@link PromptManager#openScope()} and bound to the
+ * opening thread until closed. While a scope is open,
+ * {@link PromptManager#getPromptFor(Class) getPromptFor} consults it (and the
+ * scopes it is nested in) before the global registry, so its overrides also
+ * apply to properties of {@link Promptable Promptables} and elements of
+ * arrays prompted within the scope. Scopes must be closed on the same thread,
+ * in reverse order of opening.
+ * </p>
+ * <p>
+ * A scope also limits the prompts within it, including nested ones: it can
+ * have a deadline, a timeout for each line of an answer and a maximum number
+ * of rejected answers per prompt, and it can be cancelled from any thread.
+ * A prompt that is cancelled, times out or exhausts its retries throws a
+ * {@link PromptAbortedException}, which propagates through the prompts it
+ * is nested in, dropping partially filled values. A prompt blocked on input
+ * only notices a cancellation once its read returns, so hooks registered
+ * with {@link #onCancel(Runnable)} should release the input, for example by
+ * closing its socket. Limits are inherited by nested scopes, and should be
+ * set before prompting.
+ * </p>
+ */
+public final class PromptScope implements AutoCloseable {
+    /**
+     * Value of limits that are not set.
+     */
+    public static final int UNLIMITED = -1;
+    /**
+     * The scope that was current when this one was opened, or null.
+     */
+    private final PromptScope parent;
+    /**
+     * Map of {@link Class} objects to prompts that override them in this scope.
+     */
+    private final Map<Class<?>, Prompt<?>> overrides =
+        new ConcurrentHashMap<>();
+    /**
+     * Whether a prompt was ever registered in this scope.
+     */
+    private volatile boolean overriding;
+    /**
+     * Guards the cancellation and the hooks.
+     */
+    private final Lock cancelLock = new ReentrantLock();
+    /**
+     * Hooks to run on cancellation.
+     */
+    private final List<Runnable> cancelHooks = new ArrayList<>();
+    /**
+     * Why the scope was cancelled, or null.
+     */
+    private volatile PromptAbortedException.Reason cancellation;
+    /**
+     * Maximum number of rejected answers per prompt, or {@link #UNLIMITED}
+     * to inherit it.
+     */
+    private int maxRetries = UNLIMITED;
+    /**
+     * Longest wait for a line, or null to inherit it.
+     */
+    private Duration answerTimeout;
+    /**
+     * Task that cancels the scope at its deadline, or null.
+     */
+    private Future<?> deadlineTask;
+
+    /**
+     * Constructs a new {@link PromptScope}.
+     *
+     * @param parent The enclosing scope, or null for a top-level scope.
+     */
+    PromptScope(final PromptScope parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Registers a {@link Prompt} for the parameter class within this scope.
+     * The registration does not affect the global registry or other scopes.
+     *
+     * @param valueClass Class object for which to register the prompt.
+     * @param prompt Prompt to register.
+     * @param <V> Class that the class object describes.
+     */
+    public <V> void registerPrompt(final Class<V> valueClass,
+        final Prompt<V> prompt) {
+        overrides.put(valueClass, prompt);
+        overriding = true;
+    }
+
+    /**
+     * Limits the number of answers that each prompt within the scope may
+     * reject. Arrays of primitives count their elements as one answer.
+     *
+     * @param retries Number of rejected answers after which the next
+     * rejection aborts the prompt, or {@link #UNLIMITED} to inherit the limit
+     * of the enclosing scope.
+     */
+    public void setMaxRetries(final int retries) {
+        if (retries < UNLIMITED) {
+            throw new IllegalArgumentException(
+                "Retries must not be negative");
+        }
+        this.maxRetries = retries;
+    }
+
+    /**
+     * @return Number of rejected answers allowed per prompt, set in this
+     * scope or inherited, or {@link #UNLIMITED}.
+     */
+    public int getMaxRetries() {
+        for (PromptScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.maxRetries != UNLIMITED) {
+                return scope.maxRetries;
+            }
+        }
+        return UNLIMITED;
+    }
+
+    /**
+     * Limits the time that prompts within the scope wait for each line.
+     * Since each line is read by the innermost prompt, this is a deadline
+     * for answering each one-line prompt. A line that is not read in time
+     * cancels the scope with {@link PromptAbortedException.Reason#TIMED_OUT},
+     * since a blocked read can only be stopped by releasing the input.
+     *
+     * @param timeout Longest wait, or null to inherit the timeout of the
+     * enclosing scope.
+     */
+    public void setAnswerTimeout(final Duration timeout) {
+        this.answerTimeout = timeout;
+    }
+
+    /**
+     * @return Longest wait for a line, set in this scope or inherited, or
+     * null.
+     */
+    public Duration getAnswerTimeout() {
+        for (PromptScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.answerTimeout != null) {
+                return scope.answerTimeout;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets a deadline for all prompts within the scope, at which the scope
+     * is cancelled with {@link PromptAbortedException.Reason#TIMED_OUT} by
+     * a timer, so that prompts do not read the clock for every line.
+     *
+     * @param timeout Time from now to the deadline.
+     */
+    public void setDeadline(final Duration timeout) {
+        if (deadlineTask != null) {
+            deadlineTask.cancel(false);
+            deadlineTask = null;
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            cancel(PromptAbortedException.Reason.TIMED_OUT);
+        } else {
+            deadlineTask = cancelAfter(timeout);
+        }
+    }
+
+    /**
+     * Cancels the scope with {@link PromptAbortedException.Reason#TIMED_OUT}
+     * after a timeout, unless the returned task is cancelled first.
+     *
+     * @param timeout The timeout.
+     * @return The task, which should be cancelled once it is not needed, so
+     * that it does not keep the scope reachable.
+     */
+    public Future<?> cancelAfter(final Duration timeout) {
+        return Timer.EXECUTOR.schedule(
+            () -> cancel(PromptAbortedException.Reason.TIMED_OUT),
+            timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers a hook that releases the input of the scope when it is
+     * cancelled, so that a prompt blocked on it stops waiting. Hooks run
+     * on the cancelling thread, immediately if the scope is already
+     * cancelled.
+     *
+     * @param hook The hook.
+     */
+    public void onCancel(final Runnable hook) {
+        cancelLock.lock();
+        try {
+            if (cancellation == null) {
+                cancelHooks.add(hook);
+                return;
+            }
+        } finally {
+            cancelLock.unlock();
+        }
+        hook.run();
+    }
+
+    /**
+     * Cancels the scope, so that prompts within it, and within nested
+     * scopes, abort with {@link PromptAbortedException.Reason#CANCELLED}
+     * before their next line. Can be called from any thread.
+     *
+     * @return Whether this call cancelled the scope, rather than an earlier
+     * cancellation or timeout.
+     */
+    public boolean cancel() {
+        return cancel(PromptAbortedException.Reason.CANCELLED);
+    }
+
+    private boolean cancel(final PromptAbortedException.Reason reason) {
+        List<Runnable> hooks;
+        cancelLock.lock();
+        try {
+            if (cancellation != null) {
+                return false;
+            }
+            cancellation = reason;
+            hooks = new ArrayList<>(cancelHooks);
+            cancelHooks.clear();
+        } finally {
+            cancelLock.unlock();
+        }
+        RuntimeException failure = null;
+        for (Runnable hook : hooks) {
+            try {
+                hook.run();
+            } catch (RuntimeException e) { // the other hooks still run
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return true;
+    }
+
+    /**
+     * Returns why prompts within the scope should abort, if they should,
+     * because this scope or an enclosing one was cancelled or timed out.
+     *
+     * @return The reason, or null if prompts may continue.
+     */
+    public PromptAbortedException.Reason getCancellation() {
+        for (PromptScope scope = this; scope != null; scope = scope.parent) {
+            PromptAbortedException.Reason reason = scope.cancellation;
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether prompts within the scope should abort.
+     */
+    public boolean isCancelled() {
+        return getCancellation() != null;
+    }
+
+    /**
+     * @throws PromptAbortedException If prompts within the scope should
+     * abort.
+     */
+    public void checkActive() {
+        PromptAbortedException.Reason reason = getCancellation();
+        if (reason != null) {
+            throw new PromptAbortedException(reason);
+        }
+    }
+
+    /**
+     * @return The enclosing scope, or null if this scope is top-level.
+     */
+    PromptScope getParent() {
+        return parent;
+    }
+
+    /**
+     * @return Whether this scope or an enclosing one registers any prompt,
+     * so that prompts resolved from the global registry may be overridden.
+     */
+    boolean hasOverrides() {
+        for (PromptScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.overriding) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up an override for the class in this scope and then in the
+     * enclosing ones.
+     *
+     * @param valueClass Class object for which to find the prompt.
+     * @param <V> Class that the class object describes.
+     * @return The overriding prompt, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    <V> Prompt<V> findPrompt(final Class<V> valueClass) {
+        for (PromptScope scope = this; scope != null; scope = scope.parent) {
+            Prompt<?> prompt = scope.overrides.get(valueClass);
+            if (prompt != null) {
+                return (Prompt<V>) prompt; // registration ensures correct type
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Closes the scope, making the enclosing scope (if any) current again,
+     * and stops waiting for its deadline. Hooks that have not run are
+     * discarded.
+     *
+     * @throws IllegalStateException If the scope is not the current scope of
+     * the calling thread.
+     */
+    @Override
+    public void close() {
+        PromptManager.closeScope(this);
+        if (deadlineTask != null) {
+            deadlineTask.cancel(false);
+        }
+        cancelLock.lock();
+        try {
+            cancelHooks.clear();
+        } finally {
+            cancelLock.unlock();
+        }
+    }
+
+    /**
+     * Holder of the timer of deadlines and timeouts, so that its thread is
+     * only started once a scope needs it.
+     */
+    private static final class Timer {
+        /**
+         * The timer, whose cancelled tasks are removed at once, since most
+         * timeouts are cancelled.
+         */
+        private static final ScheduledThreadPoolExecutor EXECUTOR =
+            newExecutor();
+
+        private Timer() {
+        }
+
+        private static ScheduledThreadPoolExecutor newExecutor() {
+            ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(1, runnable -> {
+                    Thread thread =
+                        new Thread(runnable, "prompter-scope-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -30,6 +30,23 @@ package io.github.artynova;
  *         PromptIgnore} annotation.
  *     </li>
  *     <li>
+ *         A setter rejects an answer by throwing an exception. To reject
+ *         answers without throwing, declare a public method
+ *         {@code String validateField(FieldType value)} alongside the
+ *         setter {@code setField}, which returns null for valid values or
+ *         the reason to reject the answer otherwise. It is called before
+ *         the setter, which is then only called with valid values.
+ *     </li>
+ *     <li>
+ *         Records, and classes with a constructor annotated with
+ *         {@link io.github.artynova.annotations.runtime.PromptConstructor
+ *         PromptConstructor}, need neither a default constructor nor
+ *         setters: their properties are the parameters of the canonical or
+ *         annotated constructor, which is called once all answers are
+ *         collected. Such a constructor rejects the answers by throwing an
+ *         exception, and then all properties are prompted again.
+ *     </li>
+ *     <li>
  *         {@link Promptable Promptables} inherit openly settable fields and
  *         meta-information about those fields' messages and ignore markers.
  *         To customize this behaviour, override inherited setter methods:
@@ -0,0 +1,21 @@
+package io.github.artynova.annotations.runtime;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Only effective on constants of enums that are prompted by the built-in
+ * enum prompt.
+ * This annotation is used to specify extra answers, matched ignoring case
+ * like the name of the constant, that select the constant.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface PromptAlias {
+    /**
+     * @return The aliases.
+     */
+    String[] value();
+}
@@ -0,0 +1,27 @@
+package io.github.artynova.annotations.runtime;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Only effective on {@link io.github.artynova.Promptable Promptable}-marked
+ * classes that are not records.
+ * Marks the constructor that the generic
+ * {@link io.github.artynova.prompts.PromptablePrompt PromptablePrompt}
+ * creates the object with, once all answers are collected, instead of
+ * calling the default constructor and the setters. Each parameter of the
+ * constructor is a property, prompted in the order of the parameters, and
+ * its message can be specified with {@link PromptMessage} on the parameter.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface PromptConstructor {
+    /**
+     * @return Names of the properties in the order of the parameters, or
+     * an empty array to use the names of the parameters, which are only
+     * available if the class is compiled with the "-parameters" option.
+     */
+    String[] value() default {};
+}
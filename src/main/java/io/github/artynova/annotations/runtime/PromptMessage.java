@@ -8,12 +8,13 @@ import java.lang.annotation.Target;
 /**
  * Only effective on {@link io.github.artynova.Promptable Promptable}-marked
  * objects.
- * Only effective on "setXxx" methods for corresponding properties.
+ * Only effective on "setXxx" methods for corresponding properties, on
+ * parameters of a {@link PromptConstructor} and on record components.
  * This annotation is used to specify a custom message for prompting the
  * property.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.METHOD)
+@Target({ElementType.METHOD, ElementType.PARAMETER})
 public @interface PromptMessage {
     /**
      * @return The message.
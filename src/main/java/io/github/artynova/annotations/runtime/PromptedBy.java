@@ -0,0 +1,27 @@
+package io.github.artynova.annotations.runtime;
+
+import io.github.artynova.prompts.Prompt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Only effective on {@link io.github.artynova.Promptable Promptable}-marked
+ * classes.
+ * Specifies the {@link Prompt} implementation that
+ * {@link io.github.artynova.PromptManager PromptManager} instantiates for the
+ * class instead of the generic
+ * {@link io.github.artynova.prompts.PromptablePrompt PromptablePrompt}.
+ * The implementation must be a prompt for the annotated class and have a
+ * public no-argument constructor.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PromptedBy {
+    /**
+     * @return Class of the prompt implementation.
+     */
+    Class<? extends Prompt<?>> value();
+}
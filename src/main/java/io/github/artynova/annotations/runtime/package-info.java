@@ -1,6 +1,9 @@
 /**
  * Runtime annotations used by Prompter.
+ * @see io.github.artynova.annotations.runtime.PromptConstructor
+ * PromptConstructor
  * @see io.github.artynova.annotations.runtime.PromptIgnore PromptIgnore
  * @see io.github.artynova.annotations.runtime.PromptMessage PromptMessage
+ * @see io.github.artynova.annotations.runtime.PromptedBy PromptedBy
  */
 package io.github.artynova.annotations.runtime;
@@ -47,4 +47,11 @@ public @interface MakePromptable {
      * {@link io.github.artynova.Promptable Promptable}.
      */
     PromptProperty[] properties();
+
+    /**
+     * @return Whether to generate an immutable record, with the properties
+     * as its components, instead of a JavaBean with setters. A record cannot
+     * have a {@link #baseClass()}.
+     */
+    boolean record() default false;
 }
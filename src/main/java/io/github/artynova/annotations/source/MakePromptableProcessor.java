@@ -1,14 +1,28 @@
 package io.github.artynova.annotations.source;
 
+import io.github.artynova.PromptIndex;
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptReference;
 import io.github.artynova.Promptable;
 import io.github.artynova.annotations.runtime.PromptMessage;
+import io.github.artynova.annotations.runtime.PromptedBy;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.AnswerValidator;
+import io.github.artynova.prompts.BatchInput;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.prompts.PromptStep;
 import io.github.artynova.utils.NameUtils;
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -20,24 +34,43 @@ import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Processor of the {@link MakePromptable} and {@link MakePromptables}
  * source-retained annotations.
+ * Alongside each {@link Promptable}, it generates a specialized
+ * {@link Prompt} that calls the setters directly, or the canonical
+ * constructor of a record, and binds it to the {@link Promptable} with
+ * {@link PromptedBy}.
+ * Once all promptables of a compilation are generated, it also generates a
+ * {@link PromptIndex} of their prompts, registered as a service in
+ * META-INF/services, and the reflection metadata for native images in
+ * META-INF/native-image, both named after the first package of the
+ * compilation in alphabetical order.
  */
 @SupportedAnnotationTypes({
-    "com.nova.prompter.annotations.source.MakePromptable",
-    "com.nova.prompter.annotations.source.MakePromptables"})
+    "io.github.artynova.annotations.source.MakePromptable",
+    "io.github.artynova.annotations.source.MakePromptables"})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public final class MakePromptableProcessor extends AbstractProcessor {
     /**
@@ -52,6 +85,22 @@ public final class MakePromptableProcessor extends AbstractProcessor {
      * Stored reference to the {@link Filer} of the environment.
      */
     private Filer filer;
+    /**
+     * Generated promptables not covered by an index yet, mapped to their
+     * generated prompts, or to null if the prompt is not generated.
+     */
+    private final Map<ClassName, ClassName> pendingPrompts =
+        new LinkedHashMap<>();
+    /**
+     * All generated promptables of the compilation, mapped like
+     * {@link #pendingPrompts}.
+     */
+    private final Map<ClassName, ClassName> generatedPrompts =
+        new LinkedHashMap<>();
+    /**
+     * Generated indexes of the compilation.
+     */
+    private final List<ClassName> indexNames = new ArrayList<>();
 
     @Override
     public synchronized void init(final ProcessingEnvironment processingEnv) {
@@ -64,19 +113,116 @@ public final class MakePromptableProcessor extends AbstractProcessor {
     @Override
     public boolean process(final Set<? extends TypeElement> annotations,
         final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            // resources cover every round, and each can only be created once
+            generatedPrompts.putAll(pendingPrompts);
+            try {
+                generateMetadata();
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+            }
+            return true;
+        }
         Set<? extends Element> annotatedElements =
             roundEnv.getElementsAnnotatedWith(MakePromptable.class);
         for (Element annotatedElement : annotatedElements) {
             processElement(annotatedElement, false);
         }
-        annotatedElements =
+        Set<? extends Element> repeatedElements =
             roundEnv.getElementsAnnotatedWith(MakePromptables.class);
-        for (Element annotatedElement : annotatedElements) {
+        for (Element annotatedElement : repeatedElements) {
             processElement(annotatedElement, true);
         }
+        // indexed in the round after generation, so that the index is
+        // compiled without warnings about the last round; promptables
+        // generated in later rounds get another index
+        if (annotatedElements.isEmpty() && repeatedElements.isEmpty()
+            && !pendingPrompts.isEmpty()) {
+            if (pendingPrompts.values().stream().anyMatch(Objects::nonNull)) {
+                try {
+                    generateIndex();
+                } catch (IOException e) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                        e.getMessage());
+                }
+            }
+            generatedPrompts.putAll(pendingPrompts);
+            pendingPrompts.clear();
+        }
         return true;
     }
 
+    private void generateIndex() throws IOException {
+        String packageName = pendingPrompts.keySet().stream()
+            .map(ClassName::packageName).sorted().findFirst().orElseThrow();
+        MethodSpec.Builder newPrompt = MethodSpec.methodBuilder("newPrompt")
+            .addAnnotation(Override.class).addModifiers(Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Prompt.class),
+                WildcardTypeName.subtypeOf(Object.class)))
+            .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+                WildcardTypeName.subtypeOf(Object.class)), "valueClass",
+                Modifier.FINAL)
+            // switching on names loads no classes but the requested one
+            .beginControlFlow("switch (valueClass.getName())");
+        for (Map.Entry<ClassName, ClassName> entry
+            : pendingPrompts.entrySet()) {
+            if (entry.getValue() != null) {
+                newPrompt.addCode("case $S:\n$>", entry.getKey()
+                        .reflectionName())
+                    .addStatement(
+                        "return valueClass == $T.class ? new $T() : null",
+                        entry.getKey(), entry.getValue())
+                    .addCode("$<");
+            }
+        }
+        newPrompt.addCode("default:\n$>").addStatement("return null")
+            .addCode("$<").endControlFlow();
+        ClassName indexName = ClassName.get(packageName, "GeneratedPromptIndex"
+            + (indexNames.isEmpty() ? "" : indexNames.size() + 1));
+        JavaFile.builder(packageName, TypeSpec.classBuilder(indexName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addSuperinterface(PromptIndex.class)
+            .addMethod(newPrompt.build()).build()).indent("    ").build()
+            .writeTo(filer);
+        indexNames.add(indexName);
+    }
+
+    private void generateMetadata() throws IOException {
+        if (generatedPrompts.isEmpty()) {
+            return;
+        }
+        String packageName = generatedPrompts.keySet().stream()
+            .map(ClassName::packageName).sorted().findFirst().orElseThrow();
+        StringBuilder reflectConfig = new StringBuilder("[");
+        for (Map.Entry<ClassName, ClassName> entry
+            : generatedPrompts.entrySet()) {
+            reflectConfig.append(reflectConfig.length() == 1 ? "\n" : ",\n")
+                .append("  {\"name\": \"")
+                .append(entry.getKey().reflectionName())
+                .append("\", \"allPublicConstructors\": true,")
+                .append(" \"allPublicMethods\": true}");
+            if (entry.getValue() != null) {
+                reflectConfig.append(",\n  {\"name\": \"")
+                    .append(entry.getValue().reflectionName())
+                    .append("\", \"allPublicConstructors\": true}");
+            }
+        }
+        if (!indexNames.isEmpty()) {
+            try (Writer writer = filer.createResource(
+                StandardLocation.CLASS_OUTPUT, "", "META-INF/services/"
+                    + PromptIndex.class.getName()).openWriter()) {
+                for (ClassName indexName : indexNames) {
+                    writer.write(indexName.reflectionName() + "\n");
+                }
+            }
+        }
+        try (Writer writer = filer.createResource(
+            StandardLocation.CLASS_OUTPUT, "", "META-INF/native-image/"
+                + packageName + "/reflect-config.json").openWriter()) {
+            writer.write(reflectConfig.append("\n]\n").toString());
+        }
+    }
+
     private void processElement(final Element element, final boolean array) {
         if (element.getKind() != ElementKind.PACKAGE) {
             messager.printMessage(Diagnostic.Kind.ERROR,
@@ -109,19 +255,357 @@ public final class MakePromptableProcessor extends AbstractProcessor {
 
     private void generatePromptable(final String packageName,
         final MakePromptable annotation) throws IOException {
-        TypeSpec classSpec = TypeSpec.classBuilder(annotation.name())
-            .addModifiers(Modifier.PUBLIC).addSuperinterface(
-                Promptable.class) // in case superclass is not Promptable
-            .superclass(extractBaseTypeName(annotation))
-            .addFields(generateFields(annotation.properties()))
-            .addMethods(generateMethods(annotation.properties())).build();
+        if (annotation.record()) {
+            generateRecord(packageName, annotation);
+            return;
+        }
+        TypeSpec.Builder classSpecBuilder =
+            TypeSpec.classBuilder(annotation.name())
+                .addModifiers(Modifier.PUBLIC).addSuperinterface(
+                    Promptable.class) // in case superclass is not Promptable
+                .superclass(extractBaseTypeName(annotation))
+                .addFields(generateFields(annotation.properties()))
+                .addMethods(generateMethods(annotation.properties()));
+
+        // inherited setters are unknown to the generated prompt, so such
+        // promptables are left to the generic PromptablePrompt
+        ClassName beanName = ClassName.get(packageName, annotation.name());
+        if (hasInheritedSetters(annotation)) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                "Base class of " + annotation.name()
+                    + " has setters, skipping prompt generation");
+            pendingPrompts.put(beanName, null);
+        } else {
+            ClassName promptName =
+                ClassName.get(packageName, annotation.name() + "Prompt");
+            classSpecBuilder.addAnnotation(
+                AnnotationSpec.builder(PromptedBy.class)
+                    .addMember("value", "$T.class", promptName).build());
+            TypeSpec promptSpec = generatePrompt(beanName, promptName,
+                annotation.properties(), false);
+            pendingPrompts.put(beanName, promptName);
+            JavaFile.builder(packageName, promptSpec).indent("    ").build()
+                .writeTo(filer);
+        }
 
         JavaFile javaFile =
-            JavaFile.builder(packageName, classSpec).indent("    ").build();
+            JavaFile.builder(packageName, classSpecBuilder.build())
+                .indent("    ").build();
 
         javaFile.writeTo(filer);
     }
 
+    private void generateRecord(final String packageName,
+        final MakePromptable annotation) throws IOException {
+        if (!TypeName.OBJECT.equals(extractBaseTypeName(annotation))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Record " + annotation.name() + " cannot have a base class");
+            return;
+        }
+        ClassName recordName = ClassName.get(packageName, annotation.name());
+        ClassName promptName =
+            ClassName.get(packageName, annotation.name() + "Prompt");
+        JavaFile.builder(packageName, generatePrompt(recordName, promptName,
+            annotation.properties(), true)).indent("    ").build()
+            .writeTo(filer);
+        // JavaPoet cannot declare records, so the record is written as text
+        try (Writer writer = filer.createSourceFile(
+            recordName.canonicalName()).openWriter()) {
+            writer.write(recordSource(recordName, promptName,
+                annotation.properties()));
+        }
+        pendingPrompts.put(recordName, promptName);
+    }
+
+    private String recordSource(final ClassName recordName,
+        final ClassName promptName, final PromptProperty[] properties) {
+        CodeBlock.Builder source = CodeBlock.builder()
+            .add("package $L;\n\n", recordName.packageName())
+            .add("@$T($T.class)\n", PromptedBy.class, promptName)
+            .add("public record $L(", recordName.simpleName());
+        CodeBlock.Builder checks = CodeBlock.builder();
+        for (int i = 0; i < properties.length; i++) {
+            PromptProperty property = properties[i];
+            source.add(i == 0 ? "\n" : ",\n").add("        @$T($S) $T $N",
+                PromptMessage.class, property.message(),
+                extractPropertyTypeName(property), property.name());
+            if (property.required()) {
+                checks.add("        if ($N == null) {\n", property.name())
+                    .add("            throw new $T($S);\n",
+                        IllegalArgumentException.class, missingReason(property))
+                    .add("        }\n");
+            }
+        }
+        source.add(")\n        implements $T {\n", Promptable.class);
+        if (!checks.isEmpty()) {
+            source.add("    public $L {\n", recordName.simpleName())
+                .add(checks.build()).add("    }\n");
+        }
+        return source.add("}\n").build().toString();
+    }
+
+    private TypeSpec generatePrompt(final ClassName beanName,
+        final ClassName promptName, final PromptProperty[] properties,
+        final boolean record) {
+        TypeSpec.Builder promptSpecBuilder =
+            TypeSpec.classBuilder(promptName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(
+                    ClassName.get(Prompt.class), beanName))
+                .addMethod(MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PUBLIC)
+                    .addStatement("super($T.class)", beanName).build());
+        CodeBlock.Builder fill = CodeBlock.builder()
+            .addStatement("out.println(message)")
+            .beginControlFlow("if ($T.YES_NO_PROMPT.promptDefinite(input, "
+                + "out, $S))", PromptManager.class,
+                "Try to skip aggregate? y/n: ")
+            .addStatement("return null")
+            .endControlFlow();
+        CodeBlock.Builder read = CodeBlock.builder()
+            .beginControlFlow("if (input.readSkipMarker())")
+            .addStatement("return null")
+            .endControlFlow();
+        if (!record) {
+            // asked in the order of the reflective prompt, so that answers
+            // given to it keep filling the same properties
+            promptSpecBuilder.addField(FieldSpec.builder(int[].class, "ORDER",
+                    Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("propertyOrder($T.class, $L)", beanName,
+                    CodeBlock.join(Arrays.stream(properties)
+                        .map(property -> CodeBlock.of("$S", property.name()))
+                        .toList(), ", ")).build());
+            fill.addStatement("$T bean = new $T()", beanName, beanName)
+                .beginControlFlow("for (int property : ORDER)")
+                .beginControlFlow("switch (property)");
+            read.addStatement("$T bean = new $T()", beanName, beanName)
+                .beginControlFlow("for (int property : ORDER)")
+                .beginControlFlow("switch (property)");
+        }
+        // arguments of the canonical constructor of a record
+        List<CodeBlock> answers = new ArrayList<>();
+        List<CodeBlock> readAnswers = new ArrayList<>();
+        CodeBlock.Builder resolve = CodeBlock.builder()
+            .beginControlFlow("if (visited.add(this))");
+        List<CodeBlock> validators = new ArrayList<>();
+        for (int i = 0; i < properties.length; i++) {
+            PromptProperty property = properties[i];
+            TypeName propertyType = extractPropertyTypeName(property);
+            String referenceName = property.name() + "Prompt";
+            promptSpecBuilder.addField(FieldSpec.builder(
+                    ParameterizedTypeName.get(
+                        ClassName.get(PromptReference.class),
+                        propertyType.box()), referenceName, Modifier.PRIVATE,
+                    Modifier.FINAL)
+                .initializer("new $T<>($T.class)", PromptReference.class,
+                    propertyType).build());
+            CodeBlock validator = validator(property, propertyType, record);
+            validators.add(validator);
+            if (record) {
+                String answerName = property.name() + "Answer";
+                fill.add("$T $N = ", propertyType, answerName);
+                answers.add(CodeBlock.of("$N", answerName));
+                readAnswers.add(
+                    CodeBlock.of("readDependency($N.get(), input)",
+                        referenceName));
+            } else {
+                fill.add("case $L:\n$>", i);
+                read.add("case $L:\n$>", i)
+                    .addStatement("bean.$N(readDependency($N.get(), input))",
+                        accessorName("set", property), referenceName)
+                    .addStatement("break").add("$<");
+            }
+            fill.add("promptDependency($N.get(), input, out, $S, $L, $S);\n",
+                referenceName, property.message(), validator,
+                property.name());
+            if (!record) {
+                fill.addStatement("break").add("$<");
+            }
+            resolve.addStatement("resolveDependency($N.get(), visited)",
+                referenceName);
+        }
+        if (record) {
+            fill.addStatement("return new $T($L)", beanName,
+                CodeBlock.join(answers, ", "));
+            read.addStatement("return new $T($L)", beanName,
+                CodeBlock.join(readAnswers, ", "));
+        } else {
+            fill.endControlFlow().endControlFlow()
+                .addStatement("return bean");
+            read.endControlFlow().endControlFlow()
+                .addStatement("return bean");
+        }
+        resolve.endControlFlow();
+        ClassName stepName = promptName.nestedClass("Step");
+        return promptSpecBuilder.addMethod(
+            MethodSpec.methodBuilder("resolveDependencies")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(ParameterizedTypeName.get(
+                    ClassName.get(Set.class), ParameterizedTypeName.get(
+                        ClassName.get(Prompt.class),
+                        WildcardTypeName.subtypeOf(Object.class))),
+                    "visited", Modifier.FINAL)
+                .addCode(resolve.build()).build()).addMethod(
+            MethodSpec.methodBuilder("tryGetAnswer")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED).returns(beanName)
+                .addParameter(PromptInput.class, "input", Modifier.FINAL)
+                .addParameter(PromptOutput.class, "out", Modifier.FINAL)
+                .addParameter(String.class, "message", Modifier.FINAL)
+                .addCode(fill.build()).build()).addMethod(
+            MethodSpec.methodBuilder("readBatchAnswer")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED).returns(beanName)
+                .addParameter(BatchInput.class, "input", Modifier.FINAL)
+                .addCode(read.build()).build()).addMethod(
+            MethodSpec.methodBuilder("answerStep")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(ParameterizedTypeName.get(
+                    ClassName.get(PromptStep.class), beanName))
+                .addParameter(String.class, "message", Modifier.FINAL)
+                .addStatement("return new $T(message)", stepName).build())
+            .addType(generateStep(beanName, stepName, properties, validators,
+                record)).build();
+    }
+
+    /**
+     * Generates the validator of the answers to a property.
+     *
+     * @param property The property.
+     * @param propertyType Type of the property.
+     * @param record Whether the property is a record component.
+     * @return Expression of the validator, which refers to the bean being
+     * filled as "bean" if the property is not a record component.
+     */
+    private static CodeBlock validator(final PromptProperty property,
+        final TypeName propertyType, final boolean record) {
+        if (record) {
+            // required components are checked by the canonical constructor,
+            // which makes the whole record be asked again, as it does in
+            // the reflective prompt; qualified, since steps have an accept
+            // method of their own
+            return CodeBlock.of("$T.accept()", Prompt.class);
+        }
+        CodeBlock.Builder validator = CodeBlock.builder()
+            .add("($T<$T>) answer -> {\n$>", AnswerValidator.class,
+                propertyType.box());
+        if (property.required()) { // rejected before the setter runs
+            validator.beginControlFlow("if (answer == null)")
+                .addStatement("return $S", missingReason(property))
+                .endControlFlow();
+        }
+        return validator.addStatement("bean.$N(answer)",
+                accessorName("set", property))
+            .addStatement("return null").add("$<}").build();
+    }
+
+    /**
+     * Generates the answer step of a prompt, which asks the same questions
+     * as its tryGetAnswer, in the same order, one child step per property.
+     *
+     * @param beanName Name of the promptable.
+     * @param stepName Name of the step.
+     * @param properties Properties of the promptable.
+     * @param validators Validators of the properties.
+     * @param record Whether the promptable is a record.
+     * @return The step.
+     */
+    private TypeSpec generateStep(final ClassName beanName,
+        final ClassName stepName, final PromptProperty[] properties,
+        final List<CodeBlock> validators, final boolean record) {
+        TypeSpec.Builder stepSpecBuilder = TypeSpec.classBuilder(stepName)
+            .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+            .superclass(ParameterizedTypeName.get(
+                ClassName.get(PromptStep.class), beanName))
+            .addField(String.class, "message", Modifier.PRIVATE,
+                Modifier.FINAL)
+            .addField(int.class, "index", Modifier.PRIVATE)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(String.class, "message", Modifier.FINAL)
+                .addStatement("this.message = message").build());
+        CodeBlock.Builder start = CodeBlock.builder()
+            .addStatement("println(out, message)")
+            .add("await($T.YES_NO_PROMPT.stepDefinite($S), out, "
+                + "(skip, output) -> {\n$>", PromptManager.class,
+                "Try to skip aggregate? y/n: ")
+            .beginControlFlow("if ($T.TRUE.equals(skip))", Boolean.class)
+            .addStatement("finish(null)")
+            .addStatement("return")
+            .endControlFlow();
+        if (!record) {
+            stepSpecBuilder.addField(beanName, "bean", Modifier.PRIVATE);
+            start.addStatement("bean = new $T()", beanName);
+        }
+        start.addStatement("next(output)").add("$<});\n");
+        CodeBlock.Builder next = CodeBlock.builder()
+            .beginControlFlow("if (index == $L)", properties.length);
+        if (record) {
+            next.addStatement("finish(new $T($L))", beanName,
+                CodeBlock.join(Arrays.stream(properties)
+                    .map(property -> CodeBlock.of("$NAnswer", property.name()))
+                    .toList(), ", "));
+        } else {
+            next.addStatement("finish(bean)");
+        }
+        next.addStatement("return").endControlFlow()
+            .beginControlFlow(record ? "switch (index++)"
+                : "switch (ORDER[index++])");
+        for (int i = 0; i < properties.length; i++) {
+            PromptProperty property = properties[i];
+            next.add("case $L:\n$>", i)
+                .add("await($NPrompt.get().step($S, $L), out, "
+                    + "(answer, output) -> {\n$>", property.name(),
+                    property.message(), validators.get(i));
+            if (record) {
+                String answerName = property.name() + "Answer";
+                stepSpecBuilder.addField(
+                    extractPropertyTypeName(property).box(), answerName,
+                    Modifier.PRIVATE);
+                next.addStatement("$N = answer", answerName);
+            }
+            next.addStatement("next(output)").add("$<});\n")
+                .addStatement("break").add("$<");
+        }
+        next.endControlFlow();
+        return stepSpecBuilder.addMethod(MethodSpec.methodBuilder("onStart")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(StringBuilder.class, "out", Modifier.FINAL)
+                .addCode(start.build()).build())
+            .addMethod(MethodSpec.methodBuilder("next")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(StringBuilder.class, "out", Modifier.FINAL)
+                .addCode(next.build()).build()).build();
+    }
+
+    private boolean hasInheritedSetters(final MakePromptable annotation) {
+        TypeMirror baseType = extractBaseTypeMirror(annotation);
+        if (baseType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement baseElement =
+            (TypeElement) ((DeclaredType) baseType).asElement();
+        for (Element member : elementUtils.getAllMembers(baseElement)) {
+            if (member.getKind() == ElementKind.METHOD
+                && member.getModifiers().contains(Modifier.PUBLIC)
+                && !member.getModifiers().contains(Modifier.STATIC)
+                && member.getSimpleName().toString().startsWith("set")
+                && ((ExecutableElement) member).getParameters().size() == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String accessorName(final String prefix,
+        final PromptProperty property) {
+        return prefix + property.name().substring(0, 1).toUpperCase()
+            + property.name().substring(1);
+    }
+
     private List<FieldSpec> generateFields(final PromptProperty[] properties) {
         List<FieldSpec> fieldSpecs = new ArrayList<>();
 
@@ -148,9 +632,7 @@ public final class MakePromptableProcessor extends AbstractProcessor {
     }
 
     private MethodSpec getterMethod(final PromptProperty property) {
-        String methodName =
-            "get" + property.name().substring(0, 1).toUpperCase()
-                + property.name().substring(1);
+        String methodName = accessorName("get", property);
         return MethodSpec.methodBuilder(methodName)
             .addModifiers(Modifier.PUBLIC)
             .returns(extractPropertyTypeName(property))
@@ -158,9 +640,7 @@ public final class MakePromptableProcessor extends AbstractProcessor {
     }
 
     private MethodSpec setterMethod(final PromptProperty property) {
-        String methodName =
-            "set" + property.name().substring(0, 1).toUpperCase()
-                + property.name().substring(1);
+        String methodName = accessorName("set", property);
         MethodSpec.Builder setterSpecBuilder =
             MethodSpec.methodBuilder(methodName).addModifiers(Modifier.PUBLIC)
                 .addAnnotation(generateMessageAnnotation(property))
@@ -169,29 +649,37 @@ public final class MakePromptableProcessor extends AbstractProcessor {
                     property.name());
         if (property.required()) {
             setterSpecBuilder.addStatement(
-                "if ($N == null) throw new IllegalArgumentException(\"$N"
-                    + " cannot be missing\")",
-                property.name(), NameUtils.capitalizeFirstLetter(
-                    NameUtils.humanReadableName(property.name())));
+                "if ($N == null) throw new IllegalArgumentException($S)",
+                property.name(), missingReason(property));
         }
         return setterSpecBuilder.addStatement("this.$N = $N", property.name(),
             property.name()).build();
     }
 
+    private static String missingReason(final PromptProperty property) {
+        return NameUtils.capitalizeFirstLetter(NameUtils.humanReadableName(
+            property.name())) + " cannot be missing";
+    }
+
     private AnnotationSpec generateMessageAnnotation(
         final PromptProperty property) {
         return AnnotationSpec.builder(PromptMessage.class)
             .addMember("value", "$S", property.message()).build();
     }
 
-    // MirroredTypeException provides the TypeMirror for the inaccessible Class
     private TypeName extractBaseTypeName(final MakePromptable promptable) {
+        return TypeName.get(extractBaseTypeMirror(promptable));
+    }
+
+    // MirroredTypeException provides the TypeMirror for the inaccessible Class
+    private TypeMirror extractBaseTypeMirror(
+        final MakePromptable promptable) {
         try {
-            return TypeName.get(elementUtils.getTypeElement(
+            return elementUtils.getTypeElement(
                     promptable.baseClass().getCanonicalName())
-                .asType()); // throws because of promptable.baseClass() access
+                .asType(); // throws because of promptable.baseClass() access
         } catch (MirroredTypeException e) {
-            return TypeName.get(e.getTypeMirror());
+            return e.getTypeMirror();
         }
     }
 
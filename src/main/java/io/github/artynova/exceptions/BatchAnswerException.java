@@ -0,0 +1,33 @@
+package io.github.artynova.exceptions;
+
+/**
+ * Exception that signifies an invalid answer in a batch of pre-recorded
+ * answers, which cannot be retried, and reports the line that caused it.
+ */
+public class BatchAnswerException extends PromptAnswerException {
+    /**
+     * Number of the line that caused the exception, starting from 1.
+     */
+    private final long lineNumber;
+
+    /**
+     * Constructs a {@link BatchAnswerException} with a line number,
+     * a message and a cause.
+     *
+     * @param lineNumber Number of the line that caused the exception.
+     * @param message The message.
+     * @param cause The cause.
+     */
+    public BatchAnswerException(final long lineNumber, final String message,
+        final Throwable cause) {
+        super("Line " + lineNumber + ": " + message, cause);
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * @return Number of the line that caused the exception, starting from 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.artynova.exceptions;
+
+/**
+ * Exception that is thrown when the input ends before a prompt is answered.
+ * The situation is not recoverable from user input, so prompts do not ask
+ * again and let the exception propagate instead.
+ */
+public class EndOfInputException extends RuntimeException {
+    /**
+     * Constructs an empty {@link EndOfInputException}.
+     */
+    public EndOfInputException() {
+    }
+
+    /**
+     * Constructs a {@link EndOfInputException} with a message.
+     *
+     * @param message The message.
+     */
+    public EndOfInputException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a {@link EndOfInputException} with a message
+     * and a cause, such as an I/O failure that ended the input.
+     *
+     * @param message The message.
+     * @param cause The cause.
+     */
+    public EndOfInputException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.artynova.exceptions;
+
+/**
+ * Exception that is thrown when a prompt is abandoned before it is answered,
+ * because its {@link io.github.artynova.PromptScope PromptScope} was
+ * cancelled or timed out, or because it rejected too many answers. Like
+ * {@link EndOfInputException}, it is not recoverable from user input, so
+ * prompts, including the ones that a prompt is nested in, do not ask again
+ * and let it propagate.
+ */
+public class PromptAbortedException extends RuntimeException {
+    /**
+     * Why the prompt was abandoned.
+     */
+    private final Reason reason;
+
+    /**
+     * Constructs a {@link PromptAbortedException} with a reason.
+     *
+     * @param reason Why the prompt was abandoned.
+     */
+    public PromptAbortedException(final Reason reason) {
+        this(reason, null);
+    }
+
+    /**
+     * Constructs a {@link PromptAbortedException} with a reason and a
+     * cause, such as the failure of a read that the cancellation stopped.
+     *
+     * @param reason Why the prompt was abandoned.
+     * @param cause The cause.
+     */
+    public PromptAbortedException(final Reason reason,
+        final Throwable cause) {
+        super(reason.getMessage(), cause);
+        this.reason = reason;
+    }
+
+    /**
+     * @return Why the prompt was abandoned.
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Reasons to abandon a prompt.
+     */
+    public enum Reason {
+        /**
+         * The scope was cancelled.
+         */
+        CANCELLED("Prompt was cancelled"),
+        /**
+         * The scope or an answer timed out.
+         */
+        TIMED_OUT("Prompt has timed out"),
+        /**
+         * The prompt rejected more answers than the scope allows.
+         */
+        RETRIES_EXHAUSTED("Prompt has rejected too many answers");
+
+        /**
+         * Message of the exceptions with the reason.
+         */
+        private final String message;
+
+        Reason(final String message) {
+            this.message = message;
+        }
+
+        /**
+         * @return Message of the exceptions with the reason.
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -39,4 +39,18 @@ public class PromptAnswerException extends RuntimeException {
     public PromptAnswerException(final Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Constructs a {@link PromptAnswerException} with a message and a cause,
+     * optionally without a stack trace, which is expensive to fill in for
+     * exceptions that only carry a reason to reject an answer.
+     *
+     * @param message The message.
+     * @param cause The cause.
+     * @param writableStackTrace Whether the stack trace should be filled in.
+     */
+    protected PromptAnswerException(final String message,
+        final Throwable cause, final boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
 }
@@ -20,4 +20,13 @@ public class PromptNotImplementedException extends RuntimeException {
     public PromptNotImplementedException(final Class<?> valueClass) {
         super("Cannot find prompt for " + valueClass);
     }
+
+    /**
+     * Constructs a {@link PromptNotImplementedException} with a message.
+     *
+     * @param message The message.
+     */
+    public PromptNotImplementedException(final String message) {
+        super(message);
+    }
 }
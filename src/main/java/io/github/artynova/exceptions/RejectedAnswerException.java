@@ -0,0 +1,20 @@
+package io.github.artynova.exceptions;
+
+/**
+ * Stackless {@link PromptAnswerException} that carries the reason an answer
+ * was rejected by a validating parser or validator, for the cases where
+ * the rejection still has to be thrown. It is cheap to create, since the
+ * place it is thrown from tells nothing about the answer.
+ *
+ * @see io.github.artynova.prompts.Rejection
+ */
+public final class RejectedAnswerException extends PromptAnswerException {
+    /**
+     * Constructs a {@link RejectedAnswerException} with the reason.
+     *
+     * @param reason The reason the answer was rejected.
+     */
+    public RejectedAnswerException(final String reason) {
+        super(reason, null, false);
+    }
+}
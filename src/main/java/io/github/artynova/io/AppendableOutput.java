@@ -0,0 +1,47 @@
+package io.github.artynova.io;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * {@link PromptOutput} to an {@link Appendable}, such as a {@link Writer}
+ * or a {@link java.io.PrintStream}.
+ */
+final class AppendableOutput extends BufferedOutput {
+    /**
+     * The destination.
+     */
+    private final Appendable destination;
+    /**
+     * Flushes the destination, or null if it needs no flushing.
+     */
+    private final Flushable flushable;
+
+    AppendableOutput(final Appendable destination,
+        final Flushable flushable, final int bufferSize) {
+        super(bufferSize);
+        this.destination = destination;
+        this.flushable = flushable;
+    }
+
+    @Override
+    protected void write(final char[] chars, final int length)
+        throws IOException {
+        if (destination instanceof Writer) {
+            ((Writer) destination).write(chars, 0, length);
+        } else if (destination instanceof StringBuilder) {
+            ((StringBuilder) destination).append(chars, 0, length);
+        } else {
+            destination.append(CharBuffer.wrap(chars, 0, length));
+        }
+    }
+
+    @Override
+    protected void flushDestination() throws IOException {
+        if (flushable != null) {
+            flushable.flush();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.artynova.io;
+
+import io.github.artynova.exceptions.EndOfInputException;
+
+import java.io.IOException;
+
+/**
+ * Base of the buffering {@link PromptOutput PromptOutputs}, which collects
+ * characters in an array and hands them to the destination on flush, or
+ * when the array fills up.
+ */
+abstract class BufferedOutput implements PromptOutput {
+    /**
+     * Maximum number of characters in a decimal long, with its sign.
+     */
+    private static final int MAX_LONG_LENGTH = 20;
+    /**
+     * Base of decimal numbers.
+     */
+    private static final int RADIX = 10;
+    /**
+     * Line separator of the platform, as
+     * {@link java.io.PrintStream#println()} writes it.
+     */
+    private static final char[] LINE_SEPARATOR =
+        System.lineSeparator().toCharArray();
+    /**
+     * Buffered characters.
+     */
+    private final char[] buffer;
+    /**
+     * Number of buffered characters.
+     */
+    private int count;
+    /**
+     * Whether anything was written to the destination since the last flush.
+     */
+    private boolean written;
+
+    /**
+     * Creates a new output.
+     *
+     * @param bufferSize Size of the buffer, at least enough for a number.
+     */
+    protected BufferedOutput(final int bufferSize) {
+        this.buffer = new char[Math.max(bufferSize, MAX_LONG_LENGTH)];
+    }
+
+    @Override
+    public PromptOutput print(final CharSequence text) {
+        CharSequence chars = text == null ? "null" : text;
+        int length = chars.length();
+        int from = 0;
+        while (from < length) {
+            if (count == buffer.length) {
+                drain(false);
+            }
+            int chunk = Math.min(length - from, buffer.length - count);
+            if (chars instanceof String) {
+                ((String) chars).getChars(from, from + chunk, buffer, count);
+                count += chunk;
+            } else {
+                for (int i = from; i < from + chunk; i++) {
+                    buffer[count++] = chars.charAt(i);
+                }
+            }
+            from += chunk;
+        }
+        return this;
+    }
+
+    @Override
+    public PromptOutput print(final long number) {
+        if (buffer.length - count < MAX_LONG_LENGTH) {
+            drain(false);
+        }
+        long rest = number;
+        if (rest < 0) {
+            buffer[count++] = '-';
+        } else {
+            rest = -rest; // negative values cover Long.MIN_VALUE
+        }
+        int end = count + digits(rest);
+        for (int i = end - 1; i >= count; i--) {
+            buffer[i] = (char) ('0' - rest % RADIX);
+            rest /= RADIX;
+        }
+        count = end;
+        return this;
+    }
+
+    private static int digits(final long negative) {
+        int digits = 1;
+        for (long rest = negative / RADIX; rest != 0; rest /= RADIX) {
+            digits++;
+        }
+        return digits;
+    }
+
+    @Override
+    public PromptOutput println() {
+        if (buffer.length - count < LINE_SEPARATOR.length) {
+            drain(false);
+        }
+        for (char c : LINE_SEPARATOR) {
+            buffer[count++] = c;
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        if (count == 0 && !written) {
+            return;
+        }
+        drain(true);
+        try {
+            flushDestination();
+        } catch (IOException e) {
+            throw new EndOfInputException("Output has failed", e);
+        }
+        written = false;
+    }
+
+    /**
+     * Writes the buffered characters to the destination.
+     *
+     * @param all Whether to write a trailing high surrogate too, rather than
+     * keep it until its low surrogate arrives.
+     */
+    private void drain(final boolean all) {
+        int length = count;
+        if (!all && length > 0
+            && Character.isHighSurrogate(buffer[length - 1])) {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        try {
+            write(buffer, length);
+        } catch (IOException e) {
+            throw new EndOfInputException("Output has failed", e);
+        }
+        System.arraycopy(buffer, length, buffer, 0, count - length);
+        count -= length;
+        written = true;
+    }
+
+    /**
+     * Writes characters to the destination.
+     *
+     * @param chars Array with the characters.
+     * @param length Number of characters, starting from the beginning.
+     * @throws IOException If writing fails.
+     */
+    protected abstract void write(char[] chars, int length)
+        throws IOException;
+
+    /**
+     * Flushes the destination.
+     *
+     * @throws IOException If flushing fails.
+     */
+    protected abstract void flushDestination() throws IOException;
+}
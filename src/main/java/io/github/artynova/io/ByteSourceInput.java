@@ -0,0 +1,367 @@
+package io.github.artynova.io;
+
+import io.github.artynova.exceptions.EndOfInputException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * {@link PromptInput} over a source of bytes, which finds line terminators
+ * in the raw bytes and decodes each line straight into a reusable character
+ * array.
+ * </p>
+ * <p>
+ * Runs of ASCII bytes are copied with a single loop, everything else is
+ * decoded as UTF-8 (or ISO-8859-1) by hand, with malformed sequences
+ * replaced by U+FFFD. Terminator bytes never occur inside UTF-8 multibyte
+ * sequences, so a line never splits a character.
+ * </p>
+ */
+final class ByteSourceInput implements PromptInput {
+    /**
+     * Line feed byte.
+     */
+    private static final byte LF = '\n';
+    /**
+     * Carriage return byte.
+     */
+    private static final byte CR = '\r';
+    /**
+     * Mask of the payload bits in a continuation byte.
+     */
+    private static final int CONTINUATION_BITS = 0x3F;
+    /**
+     * Number of payload bits in a continuation byte.
+     */
+    private static final int CONTINUATION_SHIFT = 6;
+    /**
+     * Mask that keeps the marker bits of a continuation byte.
+     */
+    private static final int CONTINUATION_MASK = 0xC0;
+    /**
+     * Marker bits of a continuation byte.
+     */
+    private static final int CONTINUATION = 0x80;
+    /**
+     * Smallest lead byte of a two-byte sequence that is not overlong.
+     */
+    private static final int TWO_BYTE_MIN = 0xC2;
+    /**
+     * Smallest lead byte of a three-byte sequence.
+     */
+    private static final int THREE_BYTE_MIN = 0xE0;
+    /**
+     * Smallest lead byte of a four-byte sequence.
+     */
+    private static final int FOUR_BYTE_MIN = 0xF0;
+    /**
+     * Byte that follows the largest valid lead byte.
+     */
+    private static final int LEAD_LIMIT = 0xF5;
+    /**
+     * Smallest code point that needs three bytes.
+     */
+    private static final int THREE_BYTE_CODE_POINT = 0x800;
+    /**
+     * Smallest code point that needs four bytes.
+     */
+    private static final int FOUR_BYTE_CODE_POINT = 0x10000;
+    /**
+     * Number of bytes in the longest sequence.
+     */
+    private static final int MAX_SEQUENCE = 4;
+    /**
+     * Mask of any byte value.
+     */
+    private static final int BYTE_MASK = 0xFF;
+    /**
+     * Replacement for malformed sequences.
+     */
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * Reads bytes from a blocking source.
+     */
+    @FunctionalInterface
+    interface ByteSource {
+        /**
+         * Reads bytes into an array, blocking until at least one is
+         * available.
+         *
+         * @param bytes The array.
+         * @param offset Offset to read to.
+         * @param length Maximum number of bytes to read.
+         * @return Number of bytes read, or -1 at the end of the source.
+         * @throws IOException If reading fails.
+         */
+        int read(byte[] bytes, int offset, int length) throws IOException;
+    }
+
+    /**
+     * The source.
+     */
+    private final ByteSource source;
+    /**
+     * Whether bytes are ISO-8859-1 characters rather than UTF-8.
+     */
+    private final boolean latin1;
+    /**
+     * Reusable view of the current line.
+     */
+    private final LineView line = new LineView();
+    /**
+     * Buffered bytes, which grow to fit the longest line.
+     */
+    private byte[] buffer;
+    /**
+     * Characters of the current line.
+     */
+    private char[] chars;
+    /**
+     * Position of the first unread buffered byte.
+     */
+    private int start;
+    /**
+     * Position after the last buffered byte.
+     */
+    private int end;
+    /**
+     * Output flushed before blocking for input, or null.
+     */
+    private PromptOutput output;
+    /**
+     * Whether the last line ended with "\r", so that a following "\n" is
+     * part of its terminator.
+     */
+    private boolean afterCarriageReturn;
+
+    ByteSourceInput(final ByteSource source, final boolean latin1,
+        final int bufferSize) {
+        this.source = source;
+        this.latin1 = latin1;
+        this.buffer = new byte[bufferSize];
+        this.chars = new char[bufferSize];
+    }
+
+    /**
+     * Adapts a channel to a {@link ByteSource}.
+     *
+     * @param channel The channel.
+     * @return The source.
+     */
+    static ByteSource channelSource(final ReadableByteChannel channel) {
+        return new ByteSource() {
+            /**
+             * Buffer wrapping the last array read to.
+             */
+            private ByteBuffer wrapper = ByteBuffer.allocate(0);
+
+            @Override
+            public int read(final byte[] bytes, final int offset,
+                            final int length) throws IOException {
+                if (wrapper.array() != bytes) {
+                    wrapper = ByteBuffer.wrap(bytes);
+                }
+                wrapper.limit(offset + length).position(offset);
+                return channel.read(wrapper);
+            }
+        };
+    }
+
+    @Override
+    public PromptInput withOutput(final PromptOutput flushed) {
+        output = flushed;
+        return this;
+    }
+
+    @Override
+    public CharSequence readLine() {
+        int scanned = start;
+        while (true) {
+            for (; scanned < end; scanned++) {
+                byte b = buffer[scanned];
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (b == LF) {
+                        start++;
+                        continue;
+                    }
+                }
+                if (b == LF || b == CR) {
+                    afterCarriageReturn = b == CR;
+                    int lineStart = start;
+                    start = scanned + 1;
+                    return decode(lineStart, scanned);
+                }
+            }
+            int pending = end - start;
+            if (!fill()) {
+                if (start == end) {
+                    return null;
+                }
+                int lineStart = start;
+                start = end;
+                return decode(lineStart, end);
+            }
+            scanned = start + pending;
+        }
+    }
+
+    /**
+     * Reads more bytes into the buffer, compacting or growing it.
+     *
+     * @return Whether any bytes were read.
+     */
+    private boolean fill() {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        if (output != null) {
+            output.flush();
+        }
+        try {
+            int read;
+            do {
+                read = source.read(buffer, end, buffer.length - end);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            end += read;
+            return true;
+        } catch (IOException e) {
+            throw new EndOfInputException("Input has failed", e);
+        }
+    }
+
+    /**
+     * Decodes a line. Every byte yields at most one character, except for
+     * four-byte sequences, which yield two, so the byte count bounds the
+     * character count.
+     *
+     * @param from Position of the first byte of the line.
+     * @param to Position after the last byte of the line.
+     * @return View of the decoded line.
+     */
+    private CharSequence decode(final int from, final int to) {
+        if (chars.length < to - from) {
+            chars = new char[Math.max(to - from, chars.length * 2)];
+        }
+        return line.set(chars, 0, decode(buffer, from, to, latin1, chars));
+    }
+
+    /**
+     * Decodes bytes of a line into an array that has room for at least as
+     * many characters as there are bytes.
+     *
+     * @param bytes The bytes.
+     * @param from Position of the first byte of the line.
+     * @param to Position after the last byte of the line.
+     * @param latin1 Whether bytes are ISO-8859-1 characters rather than
+     * UTF-8.
+     * @param chars The array.
+     * @return Number of decoded characters.
+     */
+    static int decode(final byte[] bytes, final int from, final int to,
+        final boolean latin1, final char[] chars) {
+        int i = from;
+        int count = 0;
+        while (i < to && bytes[i] >= 0) {
+            chars[count++] = (char) bytes[i++];
+        }
+        if (latin1) {
+            while (i < to) {
+                chars[count++] = (char) (bytes[i++] & BYTE_MASK);
+            }
+            return count;
+        }
+        while (i < to) {
+            int lead = bytes[i] & BYTE_MASK;
+            if (lead < CONTINUATION) {
+                chars[count++] = (char) lead;
+                i++;
+                continue;
+            }
+            int length = sequenceLength(bytes, i, to);
+            if (length == 0) {
+                chars[count++] = REPLACEMENT;
+                i++;
+                continue;
+            }
+            int codePoint = lead & (CONTINUATION_BITS >> (length - 1));
+            for (int k = 1; k < length; k++) {
+                codePoint = codePoint << CONTINUATION_SHIFT
+                    | bytes[i + k] & CONTINUATION_BITS;
+            }
+            if (!isValid(codePoint, length)) {
+                chars[count++] = REPLACEMENT;
+                i++;
+                continue;
+            }
+            count += Character.toChars(codePoint, chars, count);
+            i += length;
+        }
+        return count;
+    }
+
+    /**
+     * Determines the length of the UTF-8 sequence starting with a non-ASCII
+     * byte, checking that its continuation bytes are present.
+     *
+     * @param bytes The bytes.
+     * @param i Position of the lead byte.
+     * @param to Position after the last byte of the line.
+     * @return Length of the sequence, or 0 if it is malformed.
+     */
+    private static int sequenceLength(final byte[] bytes, final int i,
+        final int to) {
+        int lead = bytes[i] & BYTE_MASK;
+        int length;
+        if (lead < TWO_BYTE_MIN || lead >= LEAD_LIMIT) {
+            return 0;
+        } else if (lead < THREE_BYTE_MIN) {
+            length = 2;
+        } else if (lead < FOUR_BYTE_MIN) {
+            length = MAX_SEQUENCE - 1;
+        } else {
+            length = MAX_SEQUENCE;
+        }
+        if (i + length > to) {
+            return 0;
+        }
+        for (int k = 1; k < length; k++) {
+            if ((bytes[i + k] & CONTINUATION_MASK) != CONTINUATION) {
+                return 0;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Checks that a decoded sequence is neither overlong nor a surrogate,
+     * nor beyond the Unicode range.
+     *
+     * @param codePoint The decoded code point.
+     * @param length Length of its sequence.
+     * @return Whether the sequence is valid.
+     */
+    private static boolean isValid(final int codePoint, final int length) {
+        if (length == MAX_SEQUENCE) {
+            return codePoint >= FOUR_BYTE_CODE_POINT
+                && codePoint <= Character.MAX_CODE_POINT;
+        }
+        if (length == MAX_SEQUENCE - 1) {
+            return codePoint >= THREE_BYTE_CODE_POINT
+                && !Character.isSurrogate((char) codePoint);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.artynova.io;
+
+/**
+ * {@link PromptInput} over in-memory text, returning views of the text.
+ */
+final class CharSequenceInput implements PromptInput {
+    /**
+     * The text.
+     */
+    private final CharSequence text;
+    /**
+     * Reusable view of the current line.
+     */
+    private final LineView line = new LineView();
+    /**
+     * Position of the next line.
+     */
+    private int position;
+
+    CharSequenceInput(final CharSequence text) {
+        this.text = text;
+    }
+
+    @Override
+    public CharSequence readLine() {
+        int length = text.length();
+        if (position >= length) {
+            return null;
+        }
+        int start = position;
+        int end = start;
+        while (end < length) {
+            char c = text.charAt(end);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            end++;
+        }
+        position = end + 1;
+        if (end < length && text.charAt(end) == '\r'
+            && end + 1 < length && text.charAt(end + 1) == '\n') {
+            position++;
+        }
+        return line.set(text, start, end - start);
+    }
+}
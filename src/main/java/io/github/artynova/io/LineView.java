@@ -0,0 +1,88 @@
+package io.github.artynova.io;
+
+/**
+ * Reusable view of a line stored in a character array or another character
+ * sequence, which lets inputs return lines without allocating.
+ */
+final class LineView implements CharSequence {
+    /**
+     * Array that stores the line, or null if {@link #sequence} does.
+     */
+    private char[] array;
+    /**
+     * Sequence that stores the line, or null if {@link #array} does.
+     */
+    private CharSequence sequence;
+    /**
+     * Offset of the line in the storage.
+     */
+    private int offset;
+    /**
+     * Length of the line.
+     */
+    private int length;
+
+    /**
+     * Points the view at a line stored in an array.
+     *
+     * @param chars The array.
+     * @param from Offset of the line.
+     * @param count Length of the line.
+     * @return This view.
+     */
+    LineView set(final char[] chars, final int from, final int count) {
+        array = chars;
+        sequence = null;
+        offset = from;
+        length = count;
+        return this;
+    }
+
+    /**
+     * Points the view at a line stored in a sequence.
+     *
+     * @param chars The sequence.
+     * @param from Offset of the line.
+     * @param count Length of the line.
+     * @return This view.
+     */
+    LineView set(final CharSequence chars, final int from, final int count) {
+        array = null;
+        sequence = chars;
+        offset = from;
+        length = count;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return array == null ? sequence.charAt(offset + index)
+            : array[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(
+                "start " + start + ", end " + end + ", length " + length);
+        }
+        return array == null
+            ? sequence.subSequence(offset + start, offset + end)
+            : new String(array, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return array == null
+            ? sequence.subSequence(offset, offset + length).toString()
+            : new String(array, offset, length);
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.artynova.io;
+
+import io.github.artynova.exceptions.EndOfInputException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * {@link PromptInput} over a file of UTF-8 (or ASCII) text, which maps the
+ * file into memory and finds line terminators in the mapped bytes.
+ * </p>
+ * <p>
+ * A line of ASCII characters is returned as a view of the mapped bytes, so
+ * parsers read it without any copy. Other lines are copied out and decoded
+ * like in {@link ByteSourceInput}, with malformed sequences replaced by
+ * U+FFFD. Since a
+ * mapping cannot exceed 2 GB, the file is mapped in windows, each starting
+ * at the first unread line, so no line is split between windows, and a line
+ * cannot be longer than a window. The file is only open while a window is
+ * being mapped.
+ * </p>
+ */
+final class MappedFileInput implements PromptInput {
+    /**
+     * Line feed byte.
+     */
+    private static final byte LF = '\n';
+    /**
+     * Carriage return byte.
+     */
+    private static final byte CR = '\r';
+    /**
+     * Default largest size of a window, in bytes.
+     */
+    static final int DEFAULT_WINDOW_SIZE = 1_073_741_824;
+
+    /**
+     * The file.
+     */
+    private final Path file;
+    /**
+     * Largest size of a window, in bytes.
+     */
+    private final int windowSize;
+    /**
+     * Reusable view of ASCII lines.
+     */
+    private final AsciiLine asciiLine = new AsciiLine();
+    /**
+     * Reusable view of other lines.
+     */
+    private final LineView decodedLine = new LineView();
+    /**
+     * The current window.
+     */
+    private MappedByteBuffer window;
+    /**
+     * Bytes of the last line that is not ASCII.
+     */
+    private byte[] bytes = new byte[DEFAULT_BUFFER_SIZE];
+    /**
+     * Characters of the last line that is not ASCII.
+     */
+    private char[] chars = new char[DEFAULT_BUFFER_SIZE];
+    /**
+     * Position of the window in the file.
+     */
+    private long windowStart;
+    /**
+     * Position of the first unread byte in the window.
+     */
+    private int start;
+    /**
+     * Whether the window reaches the end of the file.
+     */
+    private boolean lastWindow;
+    /**
+     * Whether the last line ended with "\r", so that a following "\n" is
+     * part of its terminator.
+     */
+    private boolean afterCarriageReturn;
+
+    MappedFileInput(final Path file, final int windowSize)
+        throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException(
+                "Window size must be positive");
+        }
+        this.file = file;
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    /**
+     * Maps the window that starts at a position.
+     *
+     * @param position The position in the file.
+     * @throws IOException If mapping fails.
+     */
+    private void map(final long position) throws IOException {
+        try (FileChannel channel =
+                 FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = Math.max(channel.size(), position);
+            long length = Math.min(size - position, windowSize);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                length);
+            lastWindow = position + length == size;
+        }
+        windowStart = position;
+        start = 0;
+    }
+
+    @Override
+    public CharSequence readLine() {
+        int scanned = start;
+        boolean ascii = true;
+        while (true) {
+            int end = window.limit();
+            for (; scanned < end; scanned++) {
+                byte b = window.get(scanned);
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (b == LF) {
+                        start++;
+                        continue;
+                    }
+                }
+                if (b == LF || b == CR) {
+                    afterCarriageReturn = b == CR;
+                    int lineStart = start;
+                    start = scanned + 1;
+                    return line(lineStart, scanned, ascii);
+                }
+                ascii &= b >= 0;
+            }
+            if (lastWindow) {
+                if (start == end) {
+                    return null;
+                }
+                int lineStart = start;
+                start = end;
+                return line(lineStart, end, ascii);
+            }
+            if (start == 0) {
+                throw new EndOfInputException("Line at " + windowStart
+                    + " is longer than the mapping window");
+            }
+            int pending = scanned - start;
+            try {
+                map(windowStart + start);
+            } catch (IOException e) {
+                throw new EndOfInputException("Input has failed", e);
+            }
+            scanned = pending;
+        }
+    }
+
+    /**
+     * @param from Position of the first byte of the line in the window.
+     * @param to Position after the last byte of the line.
+     * @param ascii Whether all bytes of the line are ASCII.
+     * @return View of the line.
+     */
+    private CharSequence line(final int from, final int to,
+        final boolean ascii) {
+        if (ascii) {
+            return asciiLine.set(from, to - from);
+        }
+        int length = to - from;
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+            chars = new char[bytes.length];
+        }
+        window.get(from, bytes, 0, length);
+        return decodedLine.set(chars, 0,
+            ByteSourceInput.decode(bytes, 0, length, false, chars));
+    }
+
+    /**
+     * Reusable view of an ASCII line in the window, whose bytes are its
+     * characters.
+     */
+    private final class AsciiLine implements CharSequence {
+        /**
+         * Position of the line in the window.
+         */
+        private int offset;
+        /**
+         * Length of the line.
+         */
+        private int length;
+
+        private AsciiLine set(final int from, final int count) {
+            offset = from;
+            length = count;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) window.get(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            byte[] copy = new byte[length];
+            window.get(offset, copy);
+            return new String(copy, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.artynova.io;
+
+/**
+ * {@link PromptOutput} that discards everything written to it.
+ */
+final class NullOutput implements PromptOutput {
+    /**
+     * The only instance, since the output has no state.
+     */
+    static final NullOutput INSTANCE = new NullOutput();
+
+    private NullOutput() {
+    }
+
+    @Override
+    public PromptOutput print(final CharSequence text) {
+        return this;
+    }
+
+    @Override
+    public PromptOutput print(final long number) {
+        return this;
+    }
+
+    @Override
+    public PromptOutput println() {
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+}
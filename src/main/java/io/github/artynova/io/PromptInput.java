@@ -0,0 +1,174 @@
+package io.github.artynova.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+/**
+ * <p>
+ * Line-oriented source of answers for prompts.
+ * </p>
+ * <p>
+ * Lines are terminated by "\n", "\r\n" or "\r". To avoid allocations, a line
+ * is returned as a view that is only valid until the next call to
+ * {@link #readLine()}; call {@link CharSequence#toString()} to keep it.
+ * The implementations returned by the factory methods buffer their sources,
+ * so a source should not be read by anything else while an input over it is
+ * in use. Implementations are not thread-safe.
+ * </p>
+ */
+@FunctionalInterface
+public interface PromptInput {
+    /**
+     * Initial size of the buffers of inputs, in bytes or characters.
+     */
+    int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Reads the next line.
+     *
+     * @return The line without its terminator, valid until the next call,
+     * or null if the input has ended.
+     * @throws io.github.artynova.exceptions.EndOfInputException If reading
+     * fails with an I/O error.
+     */
+    CharSequence readLine();
+
+    /**
+     * Creates an input that flushes an output before blocking for input, so
+     * that the user sees everything a prompt has printed before answering.
+     * Buffered inputs flush only when they run out of buffered input, others
+     * before every line. The returned input shares the position of this
+     * one, which should not be used afterwards.
+     *
+     * @param output The output.
+     * @return The input.
+     */
+    default PromptInput withOutput(final PromptOutput output) {
+        return () -> {
+            output.flush();
+            return readLine();
+        };
+    }
+
+    /**
+     * Creates an input over a stream of UTF-8 (or ASCII) text, decoded
+     * without an intermediate {@link Reader}.
+     *
+     * @param in The stream.
+     * @return The input.
+     */
+    static PromptInput of(final InputStream in) {
+        return of(in, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates an input over a stream of text. UTF-8, ASCII and ISO-8859-1
+     * streams are decoded directly, other charsets through an
+     * {@link InputStreamReader}.
+     *
+     * @param in The stream.
+     * @param charset Charset of the text.
+     * @return The input.
+     */
+    static PromptInput of(final InputStream in, final Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8)
+            || charset.equals(StandardCharsets.US_ASCII)) {
+            return new ByteSourceInput(in::read, false, DEFAULT_BUFFER_SIZE);
+        }
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return new ByteSourceInput(in::read, true, DEFAULT_BUFFER_SIZE);
+        }
+        return of(new InputStreamReader(in, charset));
+    }
+
+    /**
+     * Creates an input over a stream of UTF-8 (or ASCII) text with a buffer
+     * of the given initial size, for example to keep many idle sessions
+     * small. The buffer still grows to fit the longest line.
+     *
+     * @param in The stream.
+     * @param bufferSize Initial size of the buffer, in bytes.
+     * @return The input.
+     */
+    static PromptInput of(final InputStream in, final int bufferSize) {
+        return new ByteSourceInput(in::read, false, bufferSize);
+    }
+
+    /**
+     * Creates an input over a channel of UTF-8 (or ASCII) text.
+     *
+     * @param channel The channel, in blocking mode.
+     * @return The input.
+     */
+    static PromptInput of(final ReadableByteChannel channel) {
+        return new ByteSourceInput(ByteSourceInput.channelSource(channel),
+            false, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an input over a file of UTF-8 (or ASCII) text, which is mapped
+     * into memory rather than read, so that ASCII lines reach the parsers
+     * without being copied. Files larger than 2 GB are mapped in windows of
+     * 1 GB, which bounds the length of a line.
+     *
+     * @param file The file.
+     * @return The input.
+     * @throws IOException If the file cannot be mapped.
+     */
+    static PromptInput of(final Path file) throws IOException {
+        return new MappedFileInput(file, MappedFileInput.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates an input over a file of UTF-8 (or ASCII) text, mapped into
+     * memory in windows of the given size, for example to limit the address
+     * space that a replay takes. A line cannot be longer than a window.
+     *
+     * @param file The file.
+     * @param windowSize Largest size of a window, in bytes.
+     * @return The input.
+     * @throws IOException If the file cannot be mapped.
+     */
+    static PromptInput of(final Path file, final int windowSize)
+        throws IOException {
+        return new MappedFileInput(file, windowSize);
+    }
+
+    /**
+     * Creates an input over a character stream.
+     *
+     * @param reader The reader.
+     * @return The input.
+     */
+    static PromptInput of(final Reader reader) {
+        return new ReaderInput(reader);
+    }
+
+    /**
+     * Creates an input over in-memory text, without copying it.
+     *
+     * @param text The text.
+     * @return The input.
+     */
+    static PromptInput of(final CharSequence text) {
+        return new CharSequenceInput(text);
+    }
+
+    /**
+     * Adapts a {@link Scanner}, reading lines with
+     * {@link Scanner#nextLine()}.
+     *
+     * @param scanner The scanner.
+     * @return The input.
+     */
+    static PromptInput of(final Scanner scanner) {
+        return () -> scanner.hasNextLine() ? scanner.nextLine() : null;
+    }
+}
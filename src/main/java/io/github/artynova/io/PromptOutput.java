@@ -0,0 +1,127 @@
+package io.github.artynova.io;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+
+/**
+ * <p>
+ * Destination of prompt messages, which buffers everything written to it
+ * until it is flushed.
+ * </p>
+ * <p>
+ * Prompts never flush their output themselves. Instead, an input returned
+ * by {@link PromptInput#withOutput(PromptOutput)} flushes it just before
+ * blocking for more input, so that the user sees all messages of a prompt
+ * step at once, and the rest is left to the owner of the output.
+ * Failures of the underlying destination are reported as
+ * {@link io.github.artynova.exceptions.EndOfInputException
+ * EndOfInputExceptions}, since the session cannot go on without its output.
+ * Implementations are not thread-safe.
+ * </p>
+ */
+public interface PromptOutput {
+    /**
+     * Writes text.
+     *
+     * @param text The text, or null to write "null".
+     * @return This output.
+     */
+    PromptOutput print(CharSequence text);
+
+    /**
+     * Writes a number in decimal, without allocating its string.
+     *
+     * @param number The number.
+     * @return This output.
+     */
+    PromptOutput print(long number);
+
+    /**
+     * Writes a line separator.
+     *
+     * @return This output.
+     */
+    PromptOutput println();
+
+    /**
+     * Writes text followed by a line separator.
+     *
+     * @param text The text, or null to write "null".
+     * @return This output.
+     */
+    default PromptOutput println(CharSequence text) {
+        return print(text).println();
+    }
+
+    /**
+     * Writes the buffered output to the destination and flushes it.
+     * Does nothing if nothing was written since the last flush.
+     */
+    void flush();
+
+    /**
+     * Creates an output to a stream of UTF-8 text, encoded without an
+     * intermediate {@link Writer}.
+     *
+     * @param out The stream.
+     * @return The output.
+     */
+    static PromptOutput of(final OutputStream out) {
+        return of(out, PromptInput.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an output to a stream of UTF-8 text with a buffer of the given
+     * size, for example to keep many idle sessions small.
+     *
+     * @param out The stream.
+     * @param bufferSize Size of the buffer, in characters.
+     * @return The output.
+     */
+    static PromptOutput of(final OutputStream out, final int bufferSize) {
+        return new StreamOutput(out, bufferSize);
+    }
+
+    /**
+     * Creates an output to a {@link PrintStream}, which encodes the text
+     * with its own charset.
+     *
+     * @param out The stream.
+     * @return The output.
+     */
+    static PromptOutput of(final PrintStream out) {
+        return new AppendableOutput(out, out::flush,
+            PromptInput.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an output to a character stream.
+     *
+     * @param writer The writer.
+     * @return The output.
+     */
+    static PromptOutput of(final Writer writer) {
+        return new AppendableOutput(writer, writer::flush,
+            PromptInput.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an output that appends to a character sequence, such as a
+     * {@link StringBuilder}.
+     *
+     * @param text The sequence.
+     * @return The output.
+     */
+    static PromptOutput of(final Appendable text) {
+        return new AppendableOutput(text, null,
+            PromptInput.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @return Output that discards everything written to it.
+     */
+    static PromptOutput nullOutput() {
+        return NullOutput.INSTANCE;
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.artynova.io;
+
+import io.github.artynova.exceptions.EndOfInputException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * {@link PromptInput} over a {@link Reader}, with its own buffer.
+ */
+final class ReaderInput implements PromptInput {
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+    /**
+     * Reusable view of the current line.
+     */
+    private final LineView line = new LineView();
+    /**
+     * Buffered characters, which grow to fit the longest line.
+     */
+    private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+    /**
+     * Position of the first unread buffered character.
+     */
+    private int start;
+    /**
+     * Position after the last buffered character.
+     */
+    private int end;
+    /**
+     * Output flushed before blocking for input, or null.
+     */
+    private PromptOutput output;
+    /**
+     * Whether the last line ended with "\r", so that a following "\n" is
+     * part of its terminator.
+     */
+    private boolean afterCarriageReturn;
+
+    ReaderInput(final Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public PromptInput withOutput(final PromptOutput flushed) {
+        output = flushed;
+        return this;
+    }
+
+    @Override
+    public CharSequence readLine() {
+        int scanned = start;
+        while (true) {
+            for (; scanned < end; scanned++) {
+                char c = buffer[scanned];
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (c == '\n') {
+                        start++;
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    afterCarriageReturn = c == '\r';
+                    int lineStart = start;
+                    start = scanned + 1;
+                    return line.set(buffer, lineStart, scanned - lineStart);
+                }
+            }
+            int pending = end - start;
+            if (!fill()) {
+                if (start == end) {
+                    return null;
+                }
+                int lineStart = start;
+                start = end;
+                return line.set(buffer, lineStart, end - lineStart);
+            }
+            scanned = start + pending;
+        }
+    }
+
+    /**
+     * Reads more characters into the buffer, compacting or growing it.
+     *
+     * @return Whether any characters were read.
+     */
+    private boolean fill() {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        if (output != null) {
+            output.flush();
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, end, buffer.length - end);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            end += read;
+            return true;
+        } catch (IOException e) {
+            throw new EndOfInputException("Input has failed", e);
+        }
+    }
+}
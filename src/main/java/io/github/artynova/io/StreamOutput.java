@@ -0,0 +1,111 @@
+package io.github.artynova.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link PromptOutput} to a stream of UTF-8 text. Runs of ASCII characters
+ * are copied with a single loop, everything else is encoded by hand, with
+ * unpaired surrogates replaced by "?".
+ */
+final class StreamOutput extends BufferedOutput {
+    /**
+     * Number of bytes in the longest sequence of a character. Surrogate
+     * pairs take four bytes for two characters.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    /**
+     * First character that does not fit into one byte.
+     */
+    private static final char TWO_BYTE_MIN = 0x80;
+    /**
+     * First character that does not fit into two bytes.
+     */
+    private static final char THREE_BYTE_MIN = 0x800;
+    /**
+     * Marker bits of a two-byte lead byte.
+     */
+    private static final int TWO_BYTE_LEAD = 0xC0;
+    /**
+     * Marker bits of a three-byte lead byte.
+     */
+    private static final int THREE_BYTE_LEAD = 0xE0;
+    /**
+     * Marker bits of a four-byte lead byte.
+     */
+    private static final int FOUR_BYTE_LEAD = 0xF0;
+    /**
+     * Marker bits of a continuation byte.
+     */
+    private static final int CONTINUATION = 0x80;
+    /**
+     * Mask of the payload bits in a continuation byte.
+     */
+    private static final int CONTINUATION_BITS = 0x3F;
+    /**
+     * Number of payload bits in a continuation byte.
+     */
+    private static final int CONTINUATION_SHIFT = 6;
+    /**
+     * The destination.
+     */
+    private final OutputStream out;
+    /**
+     * Encoded bytes, large enough for a full buffer of characters.
+     */
+    private byte[] bytes = new byte[0];
+
+    StreamOutput(final OutputStream out, final int bufferSize) {
+        super(bufferSize);
+        this.out = out;
+    }
+
+    @Override
+    protected void write(final char[] chars, final int length)
+        throws IOException {
+        if (bytes.length < length * MAX_BYTES_PER_CHAR) {
+            bytes = new byte[length * MAX_BYTES_PER_CHAR];
+        }
+        int count = 0;
+        int i = 0;
+        while (i < length && chars[i] < TWO_BYTE_MIN) {
+            bytes[count++] = (byte) chars[i++];
+        }
+        for (; i < length; i++) {
+            char c = chars[i];
+            if (c < TWO_BYTE_MIN) {
+                bytes[count++] = (byte) c;
+            } else if (c < THREE_BYTE_MIN) {
+                bytes[count++] = (byte) (TWO_BYTE_LEAD
+                    | c >> CONTINUATION_SHIFT);
+                bytes[count++] = continuation(c, 0);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[count++] = (byte) (THREE_BYTE_LEAD
+                    | c >> 2 * CONTINUATION_SHIFT);
+                bytes[count++] = continuation(c, 1);
+                bytes[count++] = continuation(c, 0);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                bytes[count++] = (byte) (FOUR_BYTE_LEAD
+                    | codePoint >> MAX_BYTES_PER_CHAR * CONTINUATION_SHIFT);
+                bytes[count++] = continuation(codePoint, 2);
+                bytes[count++] = continuation(codePoint, 1);
+                bytes[count++] = continuation(codePoint, 0);
+            } else {
+                bytes[count++] = '?';
+            }
+        }
+        out.write(bytes, 0, count);
+    }
+
+    private static byte continuation(final int codePoint, final int index) {
+        return (byte) (CONTINUATION
+            | codePoint >> index * CONTINUATION_SHIFT & CONTINUATION_BITS);
+    }
+
+    @Override
+    protected void flushDestination() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Package with the input and output abstractions that prompts work with.
+ *
+ * @see io.github.artynova.io.PromptInput
+ */
+package io.github.artynova.io;
@@ -0,0 +1,58 @@
+package io.github.artynova.metrics;
+
+/**
+ * {@link PromptListener} that reports every event to several listeners, in
+ * the order they are given.
+ *
+ * @see PromptListener#allOf(PromptListener...)
+ */
+final class CompositeListener implements PromptListener {
+    /**
+     * The listeners.
+     */
+    private final PromptListener[] listeners;
+
+    CompositeListener(final PromptListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void promptStarted(final Class<?> valueClass,
+        final String property) {
+        for (PromptListener listener : listeners) {
+            listener.promptStarted(valueClass, property);
+        }
+    }
+
+    @Override
+    public void lineRead(final Class<?> valueClass, final String property,
+        final CharSequence line, final long waitNanos) {
+        for (PromptListener listener : listeners) {
+            listener.lineRead(valueClass, property, line, waitNanos);
+        }
+    }
+
+    @Override
+    public void answerReceived(final Class<?> valueClass,
+        final String property, final long parseNanos) {
+        for (PromptListener listener : listeners) {
+            listener.answerReceived(valueClass, property, parseNanos);
+        }
+    }
+
+    @Override
+    public void answerRejected(final Class<?> valueClass,
+        final String property, final Class<? extends Throwable> cause) {
+        for (PromptListener listener : listeners) {
+            listener.answerRejected(valueClass, property, cause);
+        }
+    }
+
+    @Override
+    public void promptCompleted(final Class<?> valueClass,
+        final String property, final int retries, final long nanos) {
+        for (PromptListener listener : listeners) {
+            listener.promptCompleted(valueClass, property, retries, nanos);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.artynova.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with log-linear buckets
+ * in the manner of HdrHistogram: values below 64 are counted exactly, and
+ * every larger power-of-two range is split into 32 buckets, so recorded
+ * values are accurate to about 3%. Values above 2^40 nanoseconds (about
+ * 18 minutes) are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of bits of precision within a power-of-two range.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    /**
+     * Number of buckets per power-of-two range.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * Exponent of the largest range that is told apart.
+     */
+    private static final int MAX_EXPONENT = 40;
+    /**
+     * Largest value that is told apart.
+     */
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    /**
+     * Number of bits in a long.
+     */
+    private static final int LONG_BITS = 64;
+    /**
+     * Percentage that corresponds to all values.
+     */
+    private static final double ALL = 100;
+
+    /**
+     * Counts of values in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(
+        bucketIndex(MAX_VALUE) + 1);
+    /**
+     * Largest recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    private static int bucketIndex(final long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = LONG_BITS - 1 - Long.numberOfLeadingZeros(value)
+            - SUB_BUCKET_BITS;
+        return (int) (shift * SUB_BUCKETS + (value >>> shift));
+    }
+
+    private static long highestValueIn(final int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index - shift * SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param nanos The value, negative values are counted as zero.
+     */
+    public void record(final long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(value));
+        long current = max.get();
+        while (nanos > current && !max.compareAndSet(current, nanos)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return Number of recorded values.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return Largest recorded value, exactly, or 0 if there are none.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns a value that the given percentage of recorded values does not
+     * exceed, within the precision of the histogram. Values recorded
+     * concurrently may or may not be accounted for.
+     *
+     * @param percentile The percentage, from 0 to 100.
+     * @return The highest value equivalent to the value at the percentile,
+     * or 0 if there are no values.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long total = getCount();
+        long rank = (long) Math.ceil(Math.min(percentile, ALL) / ALL * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen > 0 && seen >= rank) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return 0;
+    }
+}
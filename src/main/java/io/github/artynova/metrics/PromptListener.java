@@ -0,0 +1,92 @@
+package io.github.artynova.metrics;
+
+/**
+ * Listener of the lifecycle of prompts, installed with
+ * {@link io.github.artynova.PromptManager#addListener(PromptListener)}.
+ * Events are keyed by the value class of the prompt and by the name of the
+ * property that it fills, which is null for prompts that do not fill a
+ * property of a {@link io.github.artynova.Promptable Promptable}.
+ * Methods are called on the prompting thread, so implementations shared
+ * between threads should be thread-safe, and all of them should return
+ * quickly. All methods do nothing by default.
+ *
+ * @see PromptMetrics
+ */
+public interface PromptListener {
+    /**
+     * Combines listeners into one that reports every event to each of them,
+     * in the order they are given.
+     *
+     * @param listeners The listeners.
+     * @return The combined listener.
+     */
+    static PromptListener allOf(final PromptListener... listeners) {
+        for (PromptListener listener : listeners) {
+            if (listener == null) {
+                throw new NullPointerException("Listener cannot be null");
+            }
+        }
+        return new CompositeListener(listeners.clone());
+    }
+
+    /**
+     * Called when a prompt starts acquiring a value.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     */
+    default void promptStarted(final Class<?> valueClass,
+        final String property) {
+    }
+
+    /**
+     * Called when a prompt has read a line of its answer, by the innermost
+     * prompt that reads it.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param line The line, valid only until the method returns.
+     * @param waitNanos Time spent waiting for the line, in nanoseconds.
+     */
+    default void lineRead(final Class<?> valueClass, final String property,
+        final CharSequence line, final long waitNanos) {
+    }
+
+    /**
+     * Called when an attempt has read its answer, before it is known whether
+     * the answer is accepted.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param parseNanos Time spent by the attempt, in nanoseconds, not
+     * counting the time spent waiting for lines of input.
+     */
+    default void answerReceived(final Class<?> valueClass,
+        final String property, final long parseNanos) {
+    }
+
+    /**
+     * Called when an answer is rejected and the prompt is about to retry.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param cause Class of the exception that rejected the answer, which
+     * is {@link io.github.artynova.exceptions.RejectedAnswerException} for
+     * answers rejected without throwing.
+     */
+    default void answerRejected(final Class<?> valueClass,
+        final String property, final Class<? extends Throwable> cause) {
+    }
+
+    /**
+     * Called when a prompt has acquired a value.
+     *
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param retries Number of rejected answers before the accepted one.
+     * @param nanos Time from the start of the prompt, in nanoseconds.
+     */
+    default void promptCompleted(final Class<?> valueClass,
+        final String property, final int retries, final long nanos) {
+    }
+}
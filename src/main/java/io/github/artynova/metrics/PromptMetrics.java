@@ -0,0 +1,102 @@
+package io.github.artynova.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory {@link PromptListener} that counts events and records latencies
+ * per value class and property, without locks. Looking up the statistics
+ * of an event does not allocate once they exist, so the metrics can stay
+ * installed in production.
+ */
+public final class PromptMetrics implements PromptListener {
+    /**
+     * Key of the statistics of prompts that do not fill a property.
+     */
+    private static final String NO_PROPERTY = "";
+
+    /**
+     * Statistics by value class and by property name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, PromptStats>>
+        stats = new ConcurrentHashMap<>();
+
+    private PromptStats statsFor(final Class<?> valueClass,
+        final String property) {
+        ConcurrentMap<String, PromptStats> byProperty = stats.get(valueClass);
+        if (byProperty == null) {
+            byProperty = stats.computeIfAbsent(valueClass,
+                key -> new ConcurrentHashMap<>());
+        }
+        String key = property == null ? NO_PROPERTY : property;
+        PromptStats found = byProperty.get(key);
+        return found != null ? found
+            : byProperty.computeIfAbsent(key, name -> new PromptStats());
+    }
+
+    @Override
+    public void promptStarted(final Class<?> valueClass,
+        final String property) {
+        statsFor(valueClass, property).start();
+    }
+
+    @Override
+    public void answerReceived(final Class<?> valueClass,
+        final String property, final long parseNanos) {
+        statsFor(valueClass, property).answer(parseNanos);
+    }
+
+    @Override
+    public void answerRejected(final Class<?> valueClass,
+        final String property, final Class<? extends Throwable> cause) {
+        statsFor(valueClass, property).reject(cause);
+    }
+
+    @Override
+    public void promptCompleted(final Class<?> valueClass,
+        final String property, final int retries, final long nanos) {
+        statsFor(valueClass, property).complete(retries, nanos);
+    }
+
+    /**
+     * Returns the statistics of prompts for a class and property.
+     *
+     * @param valueClass Value class of the prompts.
+     * @param property Name of the property, or null for prompts that do not
+     * fill a property.
+     * @return The live statistics, empty if there were no such prompts.
+     */
+    public PromptStats get(final Class<?> valueClass, final String property) {
+        return statsFor(valueClass, property);
+    }
+
+    /**
+     * @param valueClass Value class of the prompts.
+     * @return Live statistics of the prompts for the class by the names of
+     * the properties that they filled, with an empty name for prompts that
+     * did not fill a property.
+     */
+    public Map<String, PromptStats> getProperties(final Class<?> valueClass) {
+        Map<String, PromptStats> byProperty = stats.get(valueClass);
+        return byProperty == null ? Collections.emptyMap()
+            : Collections.unmodifiableMap(byProperty);
+    }
+
+    /**
+     * @return Live view of the value classes of the prompts that have
+     * statistics.
+     */
+    public Set<Class<?>> getValueClasses() {
+        return Collections.unmodifiableSet(stats.keySet());
+    }
+
+    /**
+     * Discards all statistics.
+     */
+    public void clear() {
+        stats.clear();
+    }
+}
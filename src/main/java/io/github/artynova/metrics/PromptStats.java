@@ -0,0 +1,128 @@
+package io.github.artynova.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters and latencies of the prompts of one value class and
+ * property, updated by {@link PromptMetrics}.
+ */
+public final class PromptStats {
+    /**
+     * Number of started prompts.
+     */
+    private final LongAdder started = new LongAdder();
+    /**
+     * Number of completed prompts.
+     */
+    private final LongAdder completed = new LongAdder();
+    /**
+     * Number of retries of completed prompts.
+     */
+    private final LongAdder retries = new LongAdder();
+    /**
+     * Number of rejected answers by the class of the exception.
+     */
+    private final ConcurrentMap<Class<? extends Throwable>, LongAdder>
+        rejections = new ConcurrentHashMap<>();
+    /**
+     * Time spent by attempts, without waiting for input.
+     */
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    /**
+     * Time from the start to the completion of prompts.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    PromptStats() {
+    }
+
+    void start() {
+        started.increment();
+    }
+
+    void answer(final long parseNanos) {
+        parseLatency.record(parseNanos);
+    }
+
+    void reject(final Class<? extends Throwable> cause) {
+        rejections.computeIfAbsent(cause, key -> new LongAdder()).increment();
+    }
+
+    void complete(final int retryCount, final long nanos) {
+        retries.add(retryCount);
+        latency.record(nanos);
+        completed.increment();
+    }
+
+    /**
+     * @return Number of started prompts.
+     */
+    public long getStarted() {
+        return started.sum();
+    }
+
+    /**
+     * @return Number of completed prompts.
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return Total number of rejected answers before the accepted ones.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return Number of rejected answers, including those of prompts that
+     * have not completed.
+     */
+    public long getRejections() {
+        long sum = 0;
+        for (LongAdder adder : rejections.values()) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    /**
+     * @param cause Class of the exception that rejected the answers.
+     * @return Number of answers rejected by exactly that class.
+     */
+    public long getRejections(final Class<? extends Throwable> cause) {
+        LongAdder adder = rejections.get(cause);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * @return Classes of the exceptions that rejected answers, with the
+     * numbers of answers that they rejected.
+     */
+    public Map<Class<? extends Throwable>, Long> getRejectionCauses() {
+        Map<Class<? extends Throwable>, Long> causes =
+            new ConcurrentHashMap<>();
+        rejections.forEach((cause, adder) -> causes.put(cause, adder.sum()));
+        return causes;
+    }
+
+    /**
+     * @return Histogram of the time spent by attempts, not counting the time
+     * spent waiting for input.
+     */
+    public LatencyHistogram getParseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     * @return Histogram of the time from the start to the completion of
+     * prompts.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Package with the listener of prompt lifecycle events and its in-memory
+ * metrics implementation.
+ *
+ * @see io.github.artynova.metrics.PromptListener
+ */
+package io.github.artynova.metrics;
@@ -0,0 +1,25 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.PromptAnswerException;
+
+/**
+ * Interface with a method that parses a character sequence into some value.
+ * Prompts pass the line as it is held by the input, so the sequence is only
+ * valid for the duration of the call, and a parser that does not convert it
+ * to a {@link String} reads an answer without allocating.
+ *
+ * @param <V> The output value.
+ * @see OneLinePrompt#of(Class, AnswerParser)
+ * @see io.github.artynova.utils.ParseUtils
+ */
+@FunctionalInterface
+public interface AnswerParser<V> {
+    /**
+     * Parser method.
+     *
+     * @param answer Non-empty answer to be parsed, must not be retained.
+     * @return Parsed answer.
+     * @throws PromptAnswerException When an answer is not acceptable.
+     */
+    V parse(CharSequence answer) throws PromptAnswerException;
+}
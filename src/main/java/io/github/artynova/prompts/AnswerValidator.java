@@ -0,0 +1,38 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.RejectedAnswerException;
+
+/**
+ * {@link AnswerProcessor} that validates answers without throwing:
+ * it returns the reason an answer is rejected, and prompts print it and
+ * retry the same way they do for exceptions, without filling in a stack
+ * trace. It may have side effects on valid answers, but cannot alter them.
+ *
+ * @param <V> Class of the answer.
+ */
+@FunctionalInterface
+public interface AnswerValidator<V> extends AnswerProcessor<V> {
+    /**
+     * Validates the answer.
+     *
+     * @param answer Input answer.
+     * @return Null if the answer is valid, or the reason it is rejected.
+     */
+    String validate(V answer);
+
+    /**
+     * Validates the answer, for callers that do not know validators.
+     *
+     * @param answer Input answer.
+     * @return The same answer.
+     * @throws RejectedAnswerException If the answer is rejected.
+     */
+    @Override
+    default V processAnswer(final V answer) {
+        String reason = validate(answer);
+        if (reason != null) {
+            throw new RejectedAnswerException(reason);
+        }
+        return answer;
+    }
+}
@@ -1,12 +1,15 @@
 package io.github.artynova.prompts;
 
 import io.github.artynova.PromptManager;
+import io.github.artynova.PromptReference;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
 
-import java.io.PrintStream;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Generic {@link Prompt} implementation for an arbitrary array.
@@ -15,10 +18,40 @@ import java.util.Scanner;
  * This implementation offers to skip the prompt at the start.
  */
 public final class ArrayPrompt<E> extends Prompt<E[]> {
+    /**
+     * Property name under which the prompts for elements are reported to
+     * the installed {@link io.github.artynova.metrics.PromptListener}.
+     */
+    public static final String ELEMENT_PROPERTY = "[]";
+    /**
+     * Number of element messages that are cached, larger numbers are rare
+     * enough in interactive input to build messages for them every time.
+     */
+    private static final int CACHED_MESSAGES = 64;
+    /**
+     * Messages of the first elements by their numbers minus one, which are
+     * passed to the element prompts.
+     */
+    private static final String[] ELEMENT_MESSAGES =
+        new String[CACHED_MESSAGES];
     /**
      * Class object of the class of array's elements.
      */
     private final Class<E> elemClass;
+    /**
+     * Reference to the prompt for {@link E}.
+     */
+    private final PromptReference<E> elemPrompt;
+    /**
+     * Whether the prompt for {@link E} has been resolved.
+     */
+    private volatile boolean resolved;
+
+    static {
+        for (int i = 0; i < CACHED_MESSAGES; i++) {
+            ELEMENT_MESSAGES[i] = "Element " + (i + 1) + ": ";
+        }
+    }
 
     /**
      * Constructs a new {@link ArrayPrompt}.
@@ -32,22 +65,58 @@ public final class ArrayPrompt<E> extends Prompt<E[]> {
     public ArrayPrompt(final Class<E> elemClass) {
         super((Class<E[]>) elemClass.arrayType());
         this.elemClass = elemClass;
+        this.elemPrompt = new PromptReference<>(elemClass);
+    }
+
+    @Override
+    protected void resolveDependencies(final Set<Prompt<?>> visited) {
+        if (visited.add(this)) {
+            resolveDependency(elemPrompt.get(), visited);
+            resolved = true;
+        }
     }
 
-    @SuppressWarnings("unchecked") // array is ensured to have element type Elem
     @Override
-    protected E[] tryGetAnswer(final Scanner scanner, final PrintStream out,
-        final String message) {
-        Prompt<E> elemPrompt = PromptManager.getPromptFor(
-            elemClass); // may throw PromptNotImplementedException for Elem
+    protected PromptStep<E[]> answerStep(final String message) {
+        return new ArrayStep(message);
+    }
+
+    @Override
+    protected E[] readBatchAnswer(final BatchInput input) {
+        if (input.readSkipMarker()) {
+            return null;
+        }
+        Prompt<E> prompt = elemPrompt.get();
+        List<E> list = new ArrayList<>();
+        while (!input.readEmptyLine()) {
+            E elem = readDependency(prompt, input);
+            if (elem == null) {
+                break; // a skipped aggregate element ends input
+            }
+            list.add(elem);
+        }
+        return toArray(list);
+    }
+
+    @Override
+    protected E[] tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        if (!resolved) {
+            resolve(); // may throw PromptNotImplementedException for Elem
+        }
         out.println(message);
         if (Boolean.TRUE.equals(
-            PromptManager.YES_NO_PROMPT.promptDefinite(scanner, out,
+            PromptManager.YES_NO_PROMPT.promptDefinite(input, out,
                 "Try to skip aggregate? y/n: "))) {
             return null;
         }
         out.println("To stop input, press Enter with an empty element field.");
-        List<E> list = tryGetList(elemPrompt, scanner, out);
+        List<E> list = tryGetList(elemPrompt.get(), input, out);
+        return toArray(list);
+    }
+
+    @SuppressWarnings("unchecked") // array is ensured to have element type Elem
+    private E[] toArray(final List<E> list) {
         // required to avoid problems with type mismatches
         E[] arr = (E[]) Array.newInstance(elemClass, list.size());
         for (int i = 0; i < list.size(); i++) {
@@ -57,15 +126,148 @@ public final class ArrayPrompt<E> extends Prompt<E[]> {
     }
 
     private List<E> tryGetList(final Prompt<E> elemPrompt,
-        final Scanner scanner, final PrintStream out) {
+        final PromptInput input, final PromptOutput out) {
         List<E> list = new ArrayList<>();
-        E lastElem = elemPrompt.prompt(scanner, out, "Element 1: ");
-        int index = 1;
-        while (lastElem != null) {
-            list.add(lastElem);
-            lastElem =
-                elemPrompt.prompt(scanner, out, "Element " + (++index) + ": ");
-        }
+        forEachElement(elemPrompt, input, out, Long.MAX_VALUE, list::add);
         return list;
     }
+
+    private static <E> long forEachElement(final Prompt<E> elemPrompt,
+        final PromptInput input, final PromptOutput out,
+        final long maxElements, final Consumer<? super E> consumer) {
+        long count = 0;
+        while (count < maxElements) {
+            E elem = elemPrompt.prompt(input, out, elementMessage(count + 1),
+                accept(), ELEMENT_PROPERTY);
+            if (elem == null) {
+                break;
+            }
+            consumer.accept(elem);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Acquires elements one at a time and hands each of them to a consumer
+     * as soon as it is accepted, instead of collecting them into an array.
+     * Otherwise works like
+     * {@link #prompt(PromptInput, PromptOutput, String)}: the user is asked
+     * whether to skip the list, and an empty element ends it. The prompt
+     * retains no elements, so arbitrarily long lists can be processed or
+     * persisted in constant memory.
+     *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param maxElements Largest number of elements to acquire, after which
+     * the method returns without waiting for the empty element.
+     * @param consumer Consumer of the elements, called on the calling thread
+     * before the next element is prompted for.
+     * @return Number of consumed elements, or -1 if the list was skipped.
+     */
+    public long promptEach(final PromptInput input, final PromptOutput out,
+        final String message, final long maxElements,
+        final Consumer<? super E> consumer) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException(
+                "Element limit cannot be negative");
+        }
+        if (!resolved) {
+            resolve(); // may throw PromptNotImplementedException for Elem
+        }
+        out.println(message == null ? getDefaultMessage() : message);
+        if (Boolean.TRUE.equals(
+            PromptManager.YES_NO_PROMPT.promptDefinite(input, out,
+                "Try to skip aggregate? y/n: "))) {
+            return -1;
+        }
+        out.println("To stop input, press Enter with an empty element field.");
+        return forEachElement(elemPrompt.get(), input, out, maxElements,
+            consumer);
+    }
+
+    /**
+     * Works like
+     * {@link #promptEach(PromptInput, PromptOutput, String, long, Consumer)}
+     * without a limit on the number of elements.
+     *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param consumer Consumer of the elements, called on the calling thread
+     * before the next element is prompted for.
+     * @return Number of consumed elements, or -1 if the list was skipped.
+     */
+    public long promptEach(final PromptInput input, final PromptOutput out,
+        final String message, final Consumer<? super E> consumer) {
+        return promptEach(input, out, message, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Returns the message for an element, which is cached for the first
+     * elements.
+     *
+     * @param number Number of the element, starting from 1.
+     * @return The message, "Element <i>number</i>: ".
+     */
+    private static String elementMessage(final long number) {
+        if (number > CACHED_MESSAGES) {
+            return "Element " + number + ": ";
+        }
+        return ELEMENT_MESSAGES[(int) number - 1];
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}.
+     */
+    private final class ArrayStep extends PromptStep<E[]> {
+        /**
+         * The prompt string.
+         */
+        private final String message;
+        /**
+         * Elements acquired so far.
+         */
+        private final List<E> list = new ArrayList<>();
+
+        private ArrayStep(final String message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void onStart(final StringBuilder out) {
+            if (!resolved) {
+                resolve(); // may throw PromptNotImplementedException for Elem
+            }
+            println(out, message);
+            await(PromptManager.YES_NO_PROMPT.stepDefinite(
+                "Try to skip aggregate? y/n: "), out, this::onSkipAnswer);
+        }
+
+        private void onSkipAnswer(final Boolean skip, final StringBuilder out) {
+            if (Boolean.TRUE.equals(skip)) {
+                finish(null);
+                return;
+            }
+            println(out,
+                "To stop input, press Enter with an empty element field.");
+            awaitElement(out);
+        }
+
+        private void awaitElement(final StringBuilder out) {
+            await(elemPrompt.get().step(elementMessage(list.size() + 1)),
+                out, this::onElement);
+        }
+
+        private void onElement(final E elem, final StringBuilder out) {
+            if (elem == null) {
+                finish(toArray(list));
+            } else {
+                list.add(elem);
+                awaitElement(out);
+            }
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+
+/**
+ * <p>
+ * Input of pre-recorded answers for {@link BatchReader}, which counts lines
+ * and recognizes the skip marker.
+ * </p>
+ * <p>
+ * In a batch, an aggregate value (a bean or an array) is skipped by a line
+ * that consists of the skip marker alone, in place of the "Try to skip
+ * aggregate? y/n" answer and everything after it. Otherwise, the lines of
+ * the aggregate follow directly. Elements of an array end with an empty
+ * line, like in the interactive mode, or with a skipped element.
+ * </p>
+ */
+public final class BatchInput implements PromptInput {
+    /**
+     * Default skip marker, borrowed from the null marker of bulk loading
+     * formats.
+     */
+    public static final String DEFAULT_SKIP_MARKER = "\\N";
+    /**
+     * The underlying input.
+     */
+    private final PromptInput input;
+    /**
+     * Line that marks a skipped aggregate.
+     */
+    private final String skipMarker;
+    /**
+     * Holder for rejections of the answers, reused across them.
+     */
+    private final Rejection rejection = new Rejection();
+    /**
+     * Line that was read ahead and will be returned by the next read,
+     * or null.
+     */
+    private CharSequence pending;
+    /**
+     * Number of the last line read, starting from 1.
+     */
+    private long lineNumber;
+
+    BatchInput(final PromptInput input, final String skipMarker) {
+        this.input = input;
+        this.skipMarker = skipMarker;
+    }
+
+    /**
+     * @return Holder for rejections of the answers, which are thrown as
+     * soon as they are reported, since batches are not retried.
+     */
+    Rejection rejection() {
+        return rejection;
+    }
+
+    /**
+     * Reads the next line of an answer.
+     *
+     * @return The line, valid until the next read.
+     * @throws EndOfInputException If the input has ended.
+     */
+    @Override
+    public CharSequence readLine() {
+        CharSequence line = pending;
+        if (line != null) {
+            pending = null;
+            return line;
+        }
+        line = input.readLine();
+        if (line == null) {
+            throw new EndOfInputException("Input has ended");
+        }
+        lineNumber++;
+        return line;
+    }
+
+    /**
+     * Consumes the next line if it is the skip marker. Meant to be called by
+     * aggregate prompts at the start of their answers.
+     *
+     * @return Whether the aggregate is skipped.
+     * @throws EndOfInputException If the input has ended.
+     */
+    public boolean readSkipMarker() {
+        CharSequence line = readLine();
+        if (skipMarker.contentEquals(line)) {
+            return true;
+        }
+        pending = line; // the view stays valid, since nothing else was read
+        return false;
+    }
+
+    /**
+     * Consumes the next line if it is empty. Meant to be called by prompts
+     * for collections before each element.
+     *
+     * @return Whether the line was empty.
+     * @throws EndOfInputException If the input has ended.
+     */
+    public boolean readEmptyLine() {
+        CharSequence line = readLine();
+        if (line.length() == 0) {
+            return true;
+        }
+        pending = line;
+        return false;
+    }
+
+    /**
+     * @return Number of the last line read, starting from 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Checks whether there are lines left, without consuming them.
+     *
+     * @return Whether there are lines left.
+     */
+    boolean hasMoreLines() {
+        if (pending == null) {
+            pending = input.readLine();
+            if (pending == null) {
+                return false;
+            }
+            lineNumber++;
+        }
+        return true;
+    }
+}
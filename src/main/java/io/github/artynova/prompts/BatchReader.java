@@ -0,0 +1,103 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.BatchAnswerException;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.exceptions.PromptNotImplementedException;
+import io.github.artynova.io.PromptInput;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Headless reader that produces values of a prompt from a stream of
+ * pre-recorded answers, one record after another.
+ * </p>
+ * <p>
+ * Records consist of the same lines a user would enter in the interactive
+ * mode, except that aggregates are skipped by the skip marker of
+ * {@link BatchInput} instead of a "y/n" answer. No messages are built or
+ * printed, and an invalid answer is not retried, but fails with a
+ * {@link BatchAnswerException} that reports its line number.
+ * </p>
+ *
+ * @param <V> Class of the values read.
+ */
+public final class BatchReader<V> implements Iterator<V> {
+    /**
+     * The prompt that defines the format of records.
+     */
+    private final Prompt<V> prompt;
+    /**
+     * The input.
+     */
+    private final BatchInput input;
+
+    /**
+     * Constructs a new {@link BatchReader} with the default skip marker.
+     *
+     * @param prompt The prompt that defines the format of records.
+     * @param input The pre-recorded answers.
+     */
+    public BatchReader(final Prompt<V> prompt, final PromptInput input) {
+        this(prompt, input, BatchInput.DEFAULT_SKIP_MARKER);
+    }
+
+    /**
+     * Constructs a new {@link BatchReader}.
+     *
+     * @param prompt The prompt that defines the format of records.
+     * @param input The pre-recorded answers.
+     * @param skipMarker Line that marks a skipped aggregate.
+     */
+    public BatchReader(final Prompt<V> prompt, final PromptInput input,
+        final String skipMarker) {
+        this.prompt = prompt;
+        this.input = new BatchInput(input, skipMarker);
+        prompt.resolve();
+    }
+
+    /**
+     * @return Whether there are lines left to read another record from.
+     */
+    @Override
+    public boolean hasNext() {
+        return input.hasMoreLines();
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The value, or null if the record is skipped.
+     * @throws NoSuchElementException If there are no lines left.
+     * @throws BatchAnswerException If the record is invalid or incomplete.
+     * The reader should not be used afterwards, since it cannot tell where
+     * the next record starts.
+     */
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No records left");
+        }
+        try {
+            return prompt.readBatchAnswer(input);
+        } catch (IllegalPromptableException
+            | PromptNotImplementedException e) {
+            throw e; // not caused by the answers
+        } catch (EndOfInputException e) {
+            throw new BatchAnswerException(input.getLineNumber(),
+                "Input has ended in the middle of a record", e);
+        } catch (RuntimeException e) {
+            throw new BatchAnswerException(input.getLineNumber(),
+                "Answer is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return Number of the last line read, starting from 1.
+     */
+    public long getLineNumber() {
+        return input.getLineNumber();
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.exceptions.PromptAnswerException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Fast, reflection-free access to the constructors and the setters of
+ * a JavaBean class, built once per class.
+ * </p>
+ * <p>
+ * Where possible, constructors and setters are bound with
+ * {@link LambdaMetafactory}, which spins a class that calls them directly.
+ * If the bean's package is not open to this library, the accessor falls back
+ * to {@link MethodHandle MethodHandles} obtained through a public lookup.
+ * </p>
+ *
+ * @param <P> Class of the bean.
+ */
+public final class BeanAccessor<P> {
+    /**
+     * Cache of accessors for each bean class.
+     */
+    private static final ClassValue<BeanAccessor<?>> ACCESSORS =
+        new ClassValue<>() {
+            @Override
+            protected BeanAccessor<?> computeValue(final Class<?> type) {
+                return new BeanAccessor<>(type);
+            }
+        };
+    /**
+     * Erased type of {@link PropertyWriter#write(Object, Object)}.
+     */
+    private static final MethodType WRITE_TYPE =
+        MethodType.methodType(void.class, Object.class, Object.class);
+    /**
+     * Erased type of {@link PropertyValidator#validate(Object, Object)}.
+     */
+    private static final MethodType VALIDATE_TYPE =
+        MethodType.methodType(String.class, Object.class, Object.class);
+    /**
+     * Type of a constructor with its parameters spread from an array.
+     */
+    private static final MethodType SPREAD_TYPE =
+        MethodType.methodType(Object.class, Object[].class);
+    /**
+     * Erased type of {@link Supplier#get()}.
+     */
+    private static final MethodType GET_TYPE =
+        MethodType.methodType(Object.class);
+    /**
+     * Class object for {@link P}.
+     */
+    private final Class<P> beanClass;
+    /**
+     * Lookup with access to {@link P}, or null if only public access is
+     * available.
+     */
+    private final MethodHandles.Lookup lookup;
+    /**
+     * Bound default constructor.
+     */
+    private final Supplier<P> instantiator;
+
+    private BeanAccessor(final Class<P> beanClass) {
+        this.beanClass = beanClass;
+        this.lookup = privateLookup(beanClass);
+        this.instantiator = bindConstructor();
+    }
+
+    /**
+     * Acquires the accessor for the class, building it on first request.
+     *
+     * @param beanClass Class object of the bean.
+     * @param <P> Class of the bean.
+     * @return The accessor.
+     */
+    @SuppressWarnings("unchecked")
+    public static <P> BeanAccessor<P> forClass(final Class<P> beanClass) {
+        return (BeanAccessor<P>) ACCESSORS.get(
+            beanClass); // computeValue ensures the type parameter
+    }
+
+    /**
+     * Creates a new bean using the default constructor.
+     *
+     * @return The new bean.
+     * @throws IllegalPromptableException If the bean has no accessible
+     * default constructor, or the constructor throws an exception.
+     */
+    public P newInstance() {
+        try {
+            return instantiator.get();
+        } catch (IllegalPromptableException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalPromptableException(
+                "Default constructor threw an exception", e);
+        }
+    }
+
+    /**
+     * Binds a setter of the bean class to a {@link PropertyWriter}.
+     *
+     * @param setter Public setter of the bean class, taking one parameter.
+     * @param valueClass Class object of the setter's parameter.
+     * @param <V> Class of the setter's parameter, boxed for primitives.
+     * @return The writer.
+     * @throws IllegalPromptableException If the setter cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> PropertyWriter<P, V> writerFor(final Method setter,
+        final Class<V> valueClass) {
+        try {
+            if (lookup != null) {
+                MethodHandle handle = lookup.unreflect(setter);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "write",
+                    MethodType.methodType(PropertyWriter.class), WRITE_TYPE,
+                    handle, MethodType.methodType(void.class, beanClass,
+                        BoxedPrompt.box(valueClass)));
+                return (PropertyWriter<P, V>) site.getTarget().invoke();
+            }
+            return handleWriter(
+                MethodHandles.publicLookup().unreflect(setter));
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            throw new IllegalPromptableException(
+                "Cannot access property setter", e);
+        } catch (Throwable e) { // MethodHandle.invoke declares Throwable
+            throw new IllegalPromptableException(
+                "Cannot bind property setter", e);
+        }
+    }
+
+    /**
+     * Binds a validation method of the bean class to a
+     * {@link PropertyValidator}.
+     *
+     * @param method Public method of the bean class, taking one parameter
+     * and returning a {@link String}.
+     * @param valueClass Class object of the method's parameter.
+     * @param <V> Class of the method's parameter, boxed for primitives.
+     * @return The validator.
+     * @throws IllegalPromptableException If the method cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> PropertyValidator<P, V> validatorFor(final Method method,
+        final Class<V> valueClass) {
+        try {
+            if (lookup != null) {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup,
+                    "validate", MethodType.methodType(PropertyValidator.class),
+                    VALIDATE_TYPE, handle, MethodType.methodType(String.class,
+                        beanClass, BoxedPrompt.box(valueClass)));
+                return (PropertyValidator<P, V>) site.getTarget().invoke();
+            }
+            return handleValidator(
+                MethodHandles.publicLookup().unreflect(method));
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            throw new IllegalPromptableException(
+                "Cannot access property validator", e);
+        } catch (Throwable e) { // MethodHandle.invoke declares Throwable
+            throw new IllegalPromptableException(
+                "Cannot bind property validator", e);
+        }
+    }
+
+    /**
+     * Binds a constructor of the bean class to a function that takes all of
+     * its arguments in one array, for beans that are created from all of
+     * their properties at once, such as records.
+     *
+     * @param constructor Constructor of the bean class.
+     * @return The function, which throws the exceptions that the
+     * constructor throws to reject the arguments.
+     * @throws IllegalPromptableException If the constructor cannot be
+     * accessed.
+     */
+    public Function<Object[], P> constructorFor(
+        final Constructor<P> constructor) {
+        try {
+            MethodHandle handle = (lookup == null
+                ? MethodHandles.publicLookup() : lookup)
+                .unreflectConstructor(constructor);
+            return handleConstructor(handle.asSpreader(Object[].class,
+                constructor.getParameterCount()).asType(SPREAD_TYPE));
+        } catch (IllegalAccessException e) {
+            throw new IllegalPromptableException(
+                "Cannot access bean constructor", e);
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookup(final Class<?> type) {
+        try {
+            MethodHandles.Lookup result =
+                MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            // the metafactory requires full privilege access
+            return result.hasFullPrivilegeAccess() ? result : null;
+        } catch (IllegalAccessException e) {
+            return null; // package is not open to the library
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<P> bindConstructor() {
+        if (Modifier.isAbstract(beanClass.getModifiers())) {
+            return failingInstantiator("Abstract class provided as bean",
+                new InstantiationException(beanClass.getName()));
+        }
+        try {
+            MethodHandle constructor = (lookup == null
+                ? MethodHandles.publicLookup() : lookup).findConstructor(
+                beanClass, MethodType.methodType(void.class));
+            if (lookup == null) {
+                return handleInstantiator(constructor);
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                MethodType.methodType(Supplier.class), GET_TYPE, constructor,
+                MethodType.methodType(beanClass));
+            return (Supplier<P>) site.getTarget().invoke();
+        } catch (NoSuchMethodException e) {
+            return failingInstantiator("No default constructor provided", e);
+        } catch (IllegalAccessException e) {
+            return failingInstantiator("Cannot access default constructor", e);
+        } catch (Throwable e) { // MethodHandle.invoke declares Throwable
+            return failingInstantiator("Cannot bind default constructor", e);
+        }
+    }
+
+    private Supplier<P> failingInstantiator(final String message,
+        final Throwable cause) {
+        return () -> {
+            throw new IllegalPromptableException(message, cause);
+        };
+    }
+
+    private Supplier<P> handleInstantiator(final MethodHandle constructor) {
+        MethodHandle generic = constructor.asType(GET_TYPE);
+        return () -> {
+            try {
+                return beanClass.cast(generic.invokeExact());
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalPromptableException(
+                    "Default constructor threw an exception", e);
+            }
+        };
+    }
+
+    private Function<Object[], P> handleConstructor(
+        final MethodHandle spread) {
+        return arguments -> {
+            try {
+                return beanClass.cast((Object) spread.invokeExact(arguments));
+            } catch (RuntimeException | Error e) {
+                throw e; // the constructor rejects the arguments
+            } catch (Throwable e) { // checked exception declared by it
+                throw new PromptAnswerException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private <V> PropertyWriter<P, V> handleWriter(final MethodHandle setter) {
+        MethodHandle generic = setter.asType(WRITE_TYPE);
+        return (bean, value) -> {
+            try {
+                generic.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) { // checked exception declared by setter
+                throw new PromptAnswerException(e.getMessage(), e);
+            }
+        };
+    }
+
+    private <V> PropertyValidator<P, V> handleValidator(
+        final MethodHandle method) {
+        MethodHandle generic = method.asType(VALIDATE_TYPE);
+        return (bean, value) -> {
+            try {
+                return (String) generic.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) { // checked exception declared by method
+                throw new PromptAnswerException(e.getMessage(), e);
+            }
+        };
+    }
+}
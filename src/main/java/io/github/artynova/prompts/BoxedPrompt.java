@@ -1,10 +1,12 @@
 package io.github.artynova.prompts;
 
-import io.github.artynova.PromptManager;
+import io.github.artynova.PromptReference;
+import io.github.artynova.exceptions.RejectedAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
 
-import java.io.PrintStream;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.Set;
 
 /**
  * <p>
@@ -28,9 +30,10 @@ public final class BoxedPrompt<V> extends Prompt<V> {
             double.class, Double.class, char.class, Character.class,
             boolean.class, Boolean.class);
     /**
-     * The non-primitive prompt to which this object outsources the work.
+     * Reference to the non-primitive prompt to which this object outsources
+     * the work.
      */
-    private final Prompt<?> nonPrimitivePrompt;
+    private final PromptReference<?> nonPrimitivePrompt;
 
     /**
      * Constructs a new {@link BoxedPrompt}.
@@ -41,7 +44,7 @@ public final class BoxedPrompt<V> extends Prompt<V> {
      */
     public BoxedPrompt(final Class<V> valueClass) {
         super(valueClass);
-        nonPrimitivePrompt = PromptManager.getPromptFor(box(valueClass));
+        nonPrimitivePrompt = new PromptReference<>(box(valueClass));
     }
 
     /**
@@ -56,11 +59,54 @@ public final class BoxedPrompt<V> extends Prompt<V> {
         return result == null ? classToBox : result;
     }
 
+    @Override
+    protected void resolveDependencies(final Set<Prompt<?>> visited) {
+        if (visited.add(this)) {
+            resolveDependency(nonPrimitivePrompt.get(), visited);
+        }
+    }
+
+    /**
+     * Prompts with the non-primitive prompt directly, so that the answers
+     * it rejects are reported for the property of this prompt.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    V prompt(final PromptInput input, final PromptOutput out,
+        final String message, final AnswerProcessor<V> answerProcessor,
+        final String property) {
+        return ((Prompt<V>) nonPrimitivePrompt.get()).prompt(input, out,
+            message == null ? getDefaultMessage() : message,
+            definite(answerProcessor), property);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected PromptStep<V> answerStep(final String message) {
+        return new PromptStep<>() {
+            @Override
+            protected void onStart(final StringBuilder out) {
+                await((PromptStep<V>) nonPrimitivePrompt.get().stepDefinite(
+                    message), out, (value, output) -> finish(value));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected V readBatchAnswer(final BatchInput input) {
+        Object answer = readDependency(nonPrimitivePrompt.get(), input);
+        if (answer == null) {
+            throw new RejectedAnswerException(INDEFINITE_ANSWER);
+        }
+        return (V) answer;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
-    protected V tryGetAnswer(final Scanner scanner, final PrintStream out,
-        final String message) {
-        return (V) nonPrimitivePrompt.promptDefinite(scanner, out,
+    protected V tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        return (V) nonPrimitivePrompt.get().promptDefinite(input, out,
             message == null ? getDefaultMessage()
                 : message); // a primitive cannot be null
     }
@@ -0,0 +1,434 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.utils.ParseUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>
+ * Immutable index of the options of a {@link ChoicePrompt}, which matches
+ * answers to options ignoring case, exactly or by a prefix of a single
+ * option, and suggests the options that an answer may have meant. Being
+ * immutable, an index is safe to share between any number of threads and
+ * prompts.
+ * </p>
+ * <p>
+ * The options are sorted by their case-folded keys, so that the options
+ * that start with any prefix form a range. The index is a compressed trie
+ * over the sorted keys, whose nodes only exist where keys branch, at most
+ * two per option, and are stored in flat arrays: a node holds the range of
+ * its keys, the length of their common prefix and the first character of
+ * its edge, and the labels of its edges are read from the keys themselves.
+ * Matching an answer takes one binary search over the children of each
+ * branch that the answer passes, and compares the answer in place.
+ * </p>
+ * <p>
+ * Options are preferred in the order they are given in, which the
+ * suggestions follow: a minimum tree over the preferences finds the most
+ * preferred options of a range without visiting the others.
+ * </p>
+ */
+public final class ChoiceIndex {
+    /**
+     * Initial capacity of the node arrays, per option.
+     */
+    private static final int NODES_PER_OPTION = 2;
+
+    /**
+     * The options, by the order of their keys.
+     */
+    private final String[] options;
+    /**
+     * Case-folded options, sorted.
+     */
+    private final String[] keys;
+    /**
+     * Preferences of the options, lower first, by the order of their keys.
+     */
+    private final int[] preferences;
+    /**
+     * Minimum tree over the preferences, whose leaves start at
+     * {@code options.length} and whose nodes hold the position of the most
+     * preferred option under them.
+     */
+    private final int[] preferred;
+    /**
+     * First characters of the edges leading to the nodes.
+     */
+    private final char[] labels;
+    /**
+     * Lengths of the common prefixes of the keys of the nodes.
+     */
+    private final int[] depths;
+    /**
+     * First keys of the nodes.
+     */
+    private final int[] firsts;
+    /**
+     * Positions after the last keys of the nodes.
+     */
+    private final int[] ends;
+    /**
+     * First children of the nodes, which are stored together, in the
+     * order of their labels.
+     */
+    private final int[] children;
+    /**
+     * Numbers of children of the nodes.
+     */
+    private final int[] childCounts;
+
+    private ChoiceIndex(final List<String> sortedOptions,
+        final List<String> sortedKeys, final int[] sortedPreferences) {
+        options = sortedOptions.toArray(new String[0]);
+        keys = sortedKeys.toArray(new String[0]);
+        preferences = sortedPreferences;
+        preferred = buildPreferred();
+        TrieBuilder trie = new TrieBuilder(keys);
+        labels = Arrays.copyOf(trie.labels, trie.count);
+        depths = Arrays.copyOf(trie.depths, trie.count);
+        firsts = Arrays.copyOf(trie.firsts, trie.count);
+        ends = Arrays.copyOf(trie.ends, trie.count);
+        children = Arrays.copyOf(trie.children, trie.count);
+        childCounts = Arrays.copyOf(trie.childCounts, trie.count);
+    }
+
+    /**
+     * Builds an index of options.
+     *
+     * @param options The options, most preferred first. Repeated options
+     * are only indexed once.
+     * @return The index.
+     * @throws IllegalArgumentException If an option is empty, or two
+     * options differ only in case.
+     */
+    public static ChoiceIndex of(final Collection<String> options) {
+        String[] given = options.toArray(new String[0]);
+        String[] folded = new String[given.length];
+        Integer[] order = new Integer[given.length];
+        for (int i = 0; i < given.length; i++) {
+            if (given[i].isEmpty()) {
+                throw new IllegalArgumentException("Empty option");
+            }
+            folded[i] = fold(given[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(
+            i -> folded[i]).thenComparing(i -> i));
+        List<String> sortedOptions = new ArrayList<>(given.length);
+        List<String> sortedKeys = new ArrayList<>(given.length);
+        int[] sortedPreferences = new int[given.length];
+        for (int i : order) {
+            int last = sortedKeys.size() - 1;
+            if (last >= 0 && sortedKeys.get(last).equals(folded[i])) {
+                if (!sortedOptions.get(last).equals(given[i])) {
+                    throw new IllegalArgumentException("Options \""
+                        + sortedOptions.get(last) + "\" and \"" + given[i]
+                        + "\" differ only in case");
+                }
+                continue; // the first occurrence is the most preferred
+            }
+            sortedPreferences[sortedKeys.size()] = i;
+            sortedOptions.add(given[i]);
+            sortedKeys.add(folded[i]);
+        }
+        return new ChoiceIndex(sortedOptions, sortedKeys,
+            Arrays.copyOf(sortedPreferences, sortedKeys.size()));
+    }
+
+    private static String fold(final String option) {
+        for (int i = 0; i < option.length(); i++) {
+            char c = option.charAt(i);
+            if (ParseUtils.foldCase(c) != c) {
+                char[] folded = option.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = ParseUtils.foldCase(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return option; // shared with the option, which is folded already
+    }
+
+    private int[] buildPreferred() {
+        int size = options.length;
+        int[] tree = new int[2 * size];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = morePreferred(tree[2 * i], tree[2 * i + 1]);
+        }
+        return tree;
+    }
+
+    /**
+     * @return Number of the indexed options.
+     */
+    public int size() {
+        return options.length;
+    }
+
+    /**
+     * @param answer An answer.
+     * @return The option that is equal to the answer ignoring case, or else
+     * the only option that starts with the answer, or null if there is
+     * none.
+     */
+    public String match(final CharSequence answer) {
+        int node = locate(answer);
+        if (node < 0 || answer.length() == 0) {
+            return null;
+        }
+        int first = firsts[node];
+        if (keys[first].length() == answer.length()
+            || ends[node] - first == 1) {
+            return options[first];
+        }
+        return null;
+    }
+
+    /**
+     * @param answer An answer.
+     * @param limit Largest number of suggestions.
+     * @return The most preferred options that start with the answer, or if
+     * there is none, with the longest of its prefixes that any option starts
+     * with, most preferred first.
+     */
+    public List<String> suggest(final CharSequence answer, final int limit) {
+        int node = locate(answer);
+        if (node < 0) {
+            node = ~node;
+        }
+        return mostPreferred(firsts[node], ends[node], limit);
+    }
+
+    /**
+     * Walks the trie along an answer.
+     *
+     * @param answer The answer.
+     * @return The node whose keys are those that start with the answer, or
+     * if there is none, the complement of the node whose keys start with
+     * the longest prefix of the answer.
+     */
+    private int locate(final CharSequence answer) {
+        int length = answer.length();
+        int node = 0;
+        int matched = 0;
+        while (matched < length) {
+            int child = child(node, ParseUtils.foldCase(
+                answer.charAt(matched)));
+            if (child < 0) {
+                return ~node;
+            }
+            String key = keys[firsts[child]];
+            int edgeEnd = Math.min(depths[child], length);
+            for (int i = matched + 1; i < edgeEnd; i++) {
+                if (key.charAt(i) != ParseUtils.foldCase(answer.charAt(i))) {
+                    return ~child; // the keys of the child match further
+                }
+            }
+            node = child;
+            matched = edgeEnd;
+        }
+        return node;
+    }
+
+    /**
+     * @param node A node.
+     * @param label First character of the edge to the child.
+     * @return The child, or -1 if there is none.
+     */
+    private int child(final int node, final char label) {
+        int low = children[node];
+        int high = low + childCounts[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (labels[middle] < label) {
+                low = middle + 1;
+            } else if (labels[middle] > label) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the most preferred options of a range, by repeatedly splitting
+     * the range around its most preferred option.
+     *
+     * @param from First position of the range.
+     * @param to Position after the range.
+     * @param limit Largest number of options.
+     * @return The options, most preferred first.
+     */
+    private List<String> mostPreferred(final int from, final int to,
+        final int limit) {
+        if (limit <= 0 || from >= to) {
+            return Collections.emptyList();
+        }
+        List<String> found = new ArrayList<>(Math.min(limit, to - from));
+        List<int[]> ranges = new ArrayList<>();
+        ranges.add(new int[] {from, to, mostPreferred(from, to)});
+        while (found.size() < limit && !ranges.isEmpty()) {
+            int best = 0;
+            for (int i = 1; i < ranges.size(); i++) {
+                if (preferences[ranges.get(i)[2]]
+                    < preferences[ranges.get(best)[2]]) {
+                    best = i;
+                }
+            }
+            int[] range = ranges.remove(best);
+            int position = range[2];
+            found.add(options[position]);
+            if (range[0] < position) {
+                ranges.add(new int[] {range[0], position,
+                    mostPreferred(range[0], position)});
+            }
+            if (position + 1 < range[1]) {
+                ranges.add(new int[] {position + 1, range[1],
+                    mostPreferred(position + 1, range[1])});
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param from First position of a non-empty range.
+     * @param to Position after the range.
+     * @return Position of the most preferred option of the range.
+     */
+    private int mostPreferred(final int from, final int to) {
+        int best = from;
+        for (int low = from + options.length, high = to + options.length;
+             low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) {
+                best = morePreferred(best, preferred[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = morePreferred(best, preferred[--high]);
+            }
+        }
+        return best;
+    }
+
+    private int morePreferred(final int first, final int second) {
+        return preferences[first] <= preferences[second] ? first : second;
+    }
+
+    /**
+     * Growable node arrays, to which the trie is built breadth-first, so
+     * that the children of every node are added together.
+     */
+    private static final class TrieBuilder {
+        /**
+         * The sorted keys.
+         */
+        private final String[] keys;
+        /**
+         * First characters of the edges leading to the nodes.
+         */
+        private char[] labels;
+        /**
+         * Lengths of the common prefixes of the keys of the nodes.
+         */
+        private int[] depths;
+        /**
+         * First keys of the nodes.
+         */
+        private int[] firsts;
+        /**
+         * Positions after the last keys of the nodes.
+         */
+        private int[] ends;
+        /**
+         * First children of the nodes.
+         */
+        private int[] children;
+        /**
+         * Numbers of children of the nodes.
+         */
+        private int[] childCounts;
+        /**
+         * Number of nodes.
+         */
+        private int count;
+
+        private TrieBuilder(final String[] sortedKeys) {
+            keys = sortedKeys;
+            int capacity = Math.max(keys.length, 1) * NODES_PER_OPTION;
+            labels = new char[capacity];
+            depths = new int[capacity];
+            firsts = new int[capacity];
+            ends = new int[capacity];
+            children = new int[capacity];
+            childCounts = new int[capacity];
+            add('\0', 0, 0, keys.length); // the root matches no character
+            for (int node = 0; node < count; node++) {
+                addChildren(node);
+            }
+        }
+
+        private void addChildren(final int node) {
+            int depth = depths[node];
+            int first = firsts[node];
+            int end = ends[node];
+            if (first < end && keys[first].length() == depth) {
+                first++; // the key that ends at the node has no child
+            }
+            children[node] = count;
+            while (first < end) {
+                char label = keys[first].charAt(depth);
+                int last = first;
+                while (last + 1 < end
+                    && keys[last + 1].charAt(depth) == label) {
+                    last++;
+                }
+                add(label, commonPrefix(keys[first], keys[last]), first,
+                    last + 1);
+                first = last + 1;
+            }
+            childCounts[node] = count - children[node];
+        }
+
+        private void add(final char label, final int depth, final int first,
+            final int end) {
+            if (count == labels.length) {
+                int capacity = count * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                depths = Arrays.copyOf(depths, capacity);
+                firsts = Arrays.copyOf(firsts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                children = Arrays.copyOf(children, capacity);
+                childCounts = Arrays.copyOf(childCounts, capacity);
+            }
+            labels[count] = label;
+            depths[count] = depth;
+            firsts[count] = first;
+            ends[count] = end;
+            count++;
+        }
+
+        /**
+         * @param first The first of sorted keys.
+         * @param last The last of the keys.
+         * @return Length of the common prefix of all the keys.
+         */
+        private static int commonPrefix(final String first,
+            final String last) {
+            int length = Math.min(first.length(), last.length());
+            int i = 0;
+            while (i < length && first.charAt(i) == last.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * {@link Prompt} that accepts one line of input, like {@link OneLinePrompt},
+ * which must select one of the options of a {@link ChoiceIndex}: an option
+ * equal to the answer ignoring case, or the only option that starts with
+ * it. An answer that selects no option is rejected with the most preferred
+ * options it may have meant. Empty lines are parsed as null.
+ * </p>
+ * <p>
+ * The prompt holds no state of its own answers, so one prompt and its index
+ * serve any number of sessions. The index can be replaced, or rebuilt in the
+ * background when the options change, while sessions prompt: each answer is
+ * matched against the index that is current when it is read.
+ * </p>
+ */
+public final class ChoicePrompt extends Prompt<String> {
+    /**
+     * Default number of options suggested when an answer is rejected.
+     */
+    public static final int DEFAULT_SUGGESTIONS = 5;
+
+    /**
+     * Number of options suggested when an answer is rejected.
+     */
+    private final int suggestions;
+    /**
+     * The current index.
+     */
+    private volatile ChoiceIndex index;
+    /**
+     * Number of the latest replacement of the index, started or finished.
+     */
+    private long replacements;
+    /**
+     * Number of the replacement that installed the current index.
+     */
+    private long installed;
+
+    /**
+     * Constructs a new {@link ChoicePrompt} that suggests
+     * {@link #DEFAULT_SUGGESTIONS} options.
+     *
+     * @param choiceIndex The index of the options.
+     */
+    public ChoicePrompt(final ChoiceIndex choiceIndex) {
+        this(choiceIndex, DEFAULT_SUGGESTIONS);
+    }
+
+    /**
+     * Constructs a new {@link ChoicePrompt}.
+     *
+     * @param choiceIndex The index of the options.
+     * @param suggestedOptions Number of options suggested when an answer is
+     * rejected.
+     */
+    public ChoicePrompt(final ChoiceIndex choiceIndex,
+        final int suggestedOptions) {
+        super(String.class);
+        if (suggestedOptions < 0) {
+            throw new IllegalArgumentException(
+                "Number of suggestions must not be negative");
+        }
+        this.index = choiceIndex;
+        this.suggestions = suggestedOptions;
+    }
+
+    /**
+     * @return The current index of the options.
+     */
+    public ChoiceIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Replaces the index of the options, for the answers read after the
+     * call. Rebuilds started before the call are discarded when they
+     * finish.
+     *
+     * @param choiceIndex The new index.
+     */
+    public void setIndex(final ChoiceIndex choiceIndex) {
+        synchronized (this) {
+            install(++replacements, choiceIndex);
+        }
+    }
+
+    /**
+     * Builds an index of new options in the background, and replaces the
+     * index with it once it is built, unless it has been replaced since the
+     * call. Sessions keep prompting with the previous index meanwhile.
+     *
+     * @param options The new options, most preferred first, which must not
+     * change until the index is built.
+     * @param executor Executor to build the index on.
+     * @return Future of the built index, which fails like
+     * {@link ChoiceIndex#of(Collection)} does.
+     */
+    public CompletableFuture<ChoiceIndex> rebuild(
+        final Collection<String> options, final Executor executor) {
+        long replacement;
+        synchronized (this) {
+            replacement = ++replacements;
+        }
+        return CompletableFuture.supplyAsync(() -> ChoiceIndex.of(options),
+            executor).thenApply(built -> {
+                synchronized (this) {
+                    install(replacement, built);
+                }
+                return built;
+            });
+    }
+
+    private void install(final long replacement,
+        final ChoiceIndex choiceIndex) {
+        if (replacement > installed) {
+            installed = replacement;
+            index = choiceIndex;
+        }
+    }
+
+    private String parse(final CharSequence answer,
+        final Rejection rejection) {
+        ChoiceIndex current = index;
+        String option = current.match(answer);
+        if (option == null) {
+            rejection.reject(rejectionReason(current, answer));
+        }
+        return option;
+    }
+
+    private String rejectionReason(final ChoiceIndex current,
+        final CharSequence answer) {
+        List<String> suggested = current.suggest(answer, suggestions);
+        String text = answer.toString();
+        if (!suggested.isEmpty() && suggested.get(0).regionMatches(true, 0,
+            text, 0, text.length())) {
+            return "Answer matches several options: "
+                + String.join(", ", suggested);
+        }
+        return suggested.isEmpty() ? "Answer matches no option"
+            : "Answer matches no option, did you mean: "
+                + String.join(", ", suggested);
+    }
+
+    @Override
+    protected PromptStep<String> answerStep(final String message) {
+        return new PromptStep<>() {
+            @Override
+            protected void onStart(final StringBuilder out) {
+                out.append(message);
+            }
+
+            @Override
+            protected void onLine(final String line, final StringBuilder out) {
+                if (line.length() == 0) {
+                    finish(null);
+                    return;
+                }
+                Rejection rejection = new Rejection();
+                String option = parse(line, rejection);
+                rejection.throwIfRejected();
+                finish(option);
+            }
+        };
+    }
+
+    @Override
+    protected String readBatchAnswer(final BatchInput input) {
+        CharSequence answer = input.readLine();
+        if (answer.length() == 0) {
+            return null;
+        }
+        String option = parse(answer, input.rejection());
+        input.rejection().throwIfRejected();
+        return option;
+    }
+
+    @Override
+    protected String tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message,
+        final Rejection rejection) {
+        out.print(message);
+        CharSequence answer = input.readLine();
+        if (answer == null) {
+            throw new EndOfInputException("Input has ended");
+        }
+        if (answer.length() == 0) {
+            return null;
+        }
+        return parse(answer, rejection);
+    }
+
+    @Override
+    protected String tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        Rejection rejection = new Rejection();
+        String option = tryGetAnswer(input, out, message, rejection);
+        rejection.throwIfRejected();
+        return option;
+    }
+}
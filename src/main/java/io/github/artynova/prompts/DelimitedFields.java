@@ -0,0 +1,186 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.io.PromptInput;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits lines of a delimited file into fields, and serves the selected
+ * field as the only line of an input, so that the prompt of a property can
+ * read it as an answer. Fields are unquoted into a reusable array, which the
+ * served line views, so that no strings are created for them.
+ */
+final class DelimitedFields implements PromptInput {
+    /**
+     * Quote character of quoted fields.
+     */
+    private static final char QUOTE = '"';
+    /**
+     * Initial capacity for fields and their characters.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Character that separates fields.
+     */
+    private final char delimiter;
+    /**
+     * Whether fields can be enclosed in quotes.
+     */
+    private final boolean quoted;
+    /**
+     * Line that was split last.
+     */
+    private CharSequence line;
+    /**
+     * Offsets of the first characters of the fields, after opening quotes.
+     */
+    private int[] starts = new int[INITIAL_CAPACITY];
+    /**
+     * Offsets after the last characters of the fields, before closing
+     * quotes.
+     */
+    private int[] ends = new int[INITIAL_CAPACITY];
+    /**
+     * Whether the fields are quoted.
+     */
+    private boolean[] quotes = new boolean[INITIAL_CAPACITY];
+    /**
+     * Number of fields in the line.
+     */
+    private int count;
+    /**
+     * Characters of the selected field.
+     */
+    private char[] chars = new char[INITIAL_CAPACITY];
+    /**
+     * View of the selected field.
+     */
+    private CharBuffer field = CharBuffer.wrap(chars);
+    /**
+     * Index of the selected field, or -1.
+     */
+    private int selected = -1;
+    /**
+     * Whether the selected field has not been read yet.
+     */
+    private boolean pending;
+
+    DelimitedFields(final char delimiter, final boolean quoted) {
+        this.delimiter = delimiter;
+        this.quoted = quoted;
+    }
+
+    /**
+     * Splits a line into fields, which stay available until the next split.
+     *
+     * @param splitLine The line, which must not change until the next split.
+     * @return Number of fields.
+     * @throws IllegalArgumentException If a quoted field is not closed on
+     * the line or is followed by anything but a delimiter.
+     */
+    int split(final CharSequence splitLine) {
+        line = splitLine;
+        count = 0;
+        selected = -1;
+        pending = false;
+        int length = splitLine.length();
+        int i = 0;
+        while (true) {
+            if (quoted && i < length && splitLine.charAt(i) == QUOTE) {
+                int end = closingQuote(splitLine, i + 1);
+                add(i + 1, end, true);
+                i = end + 1;
+                if (i < length && splitLine.charAt(i) != delimiter) {
+                    throw new IllegalArgumentException(
+                        "Quoted field " + count + " is followed by text");
+                }
+            } else {
+                int end = i;
+                while (end < length && splitLine.charAt(end) != delimiter) {
+                    end++;
+                }
+                add(i, end, false);
+                i = end;
+            }
+            if (i >= length) {
+                return count;
+            }
+            i++; // skips the delimiter
+        }
+    }
+
+    private int closingQuote(final CharSequence splitLine, final int from) {
+        int length = splitLine.length();
+        int i = from;
+        while (i < length) {
+            if (splitLine.charAt(i) != QUOTE) {
+                i++;
+            } else if (i + 1 < length && splitLine.charAt(i + 1) == QUOTE) {
+                i += 2; // escaped quote
+            } else {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Quoted field " + (count + 1)
+            + " is not closed on its line");
+    }
+
+    private void add(final int start, final int end, final boolean quote) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            quotes = Arrays.copyOf(quotes, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        quotes[count] = quote;
+        count++;
+    }
+
+    /**
+     * Selects a field to be read as the next and only line of this input.
+     *
+     * @param index Index of the field.
+     * @return This input.
+     */
+    DelimitedFields select(final int index) {
+        int start = starts[index];
+        int end = ends[index];
+        if (chars.length < end - start) {
+            chars = new char[Math.max(end - start, chars.length * 2)];
+            field = CharBuffer.wrap(chars);
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            chars[length++] = c;
+            if (c == QUOTE && quotes[index]) {
+                i++; // only escaped quotes occur inside quoted fields
+            }
+        }
+        field.limit(length).position(0);
+        selected = index;
+        pending = true;
+        return this;
+    }
+
+    /**
+     * @return Index of the selected field, or -1 if none is selected.
+     */
+    int getSelected() {
+        return selected;
+    }
+
+    /**
+     * @return The selected field, if it has not been read yet, or null.
+     */
+    @Override
+    public CharSequence readLine() {
+        if (!pending) {
+            return null;
+        }
+        pending = false;
+        return field;
+    }
+}
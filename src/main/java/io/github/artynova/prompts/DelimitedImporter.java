@@ -0,0 +1,405 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.Promptable;
+import io.github.artynova.exceptions.BatchAnswerException;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.exceptions.PromptNotImplementedException;
+import io.github.artynova.io.PromptInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Bulk importer of {@link Promptable} beans from delimited files, such as
+ * CSV and TSV, which reads each property from its own column with the
+ * property's prompt, so that answers are parsed and validated exactly as in
+ * a batch of a {@link BatchReader}.
+ * </p>
+ * <p>
+ * The first line of a file names the columns after the properties that
+ * {@link PromptablePrompt} finds in the bean, and each following line holds
+ * one bean. Every property must have a column. An empty field answers null,
+ * and the skip marker of {@link BatchInput} skips an aggregate property.
+ * Lines end with "\n" or "\r\n" and are decoded as UTF-8. A quoted field
+ * can contain delimiters and doubled quotes, but not line breaks, so that
+ * any line break ends a record.
+ * </p>
+ * <p>
+ * The file is split into chunks that end at line breaks, which are read and
+ * parsed in parallel on a {@link ForkJoinPool}, each with its own input,
+ * and the beans are returned in the order of their lines. Prompts for the
+ * properties are looked up on the pool, so scopes open on the importing
+ * thread do not apply.
+ * </p>
+ *
+ * @param <P> Class of the imported beans.
+ */
+public final class DelimitedImporter<P extends Promptable> {
+    /**
+     * Smallest chunk, below which splitting costs more than it gains.
+     */
+    private static final int MIN_CHUNK = 65_536;
+    /**
+     * Largest chunk, which bounds the memory that each worker buffers.
+     */
+    private static final int MAX_CHUNK = 16 * 1_048_576;
+    /**
+     * Number of chunks per worker, so that workers that finish early can
+     * take over the remaining chunks.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+    /**
+     * Size of the reads that look for the end of a line.
+     */
+    private static final int SCAN_SIZE = 8192;
+    /**
+     * Byte order mark, which some tools write at the start of UTF-8 files.
+     */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    /**
+     * The prompt whose properties are imported.
+     */
+    private final PromptablePrompt<P> prompt;
+    /**
+     * Character that separates fields.
+     */
+    private final char delimiter;
+    /**
+     * Whether fields can be enclosed in quotes.
+     */
+    private final boolean quoted;
+
+    /**
+     * Constructs a new {@link DelimitedImporter}.
+     *
+     * @param prompt The prompt whose properties are imported.
+     * @param delimiter Character that separates fields.
+     * @param quoted Whether fields can be enclosed in quotes.
+     */
+    public DelimitedImporter(final PromptablePrompt<P> prompt,
+        final char delimiter, final boolean quoted) {
+        this.prompt = prompt;
+        this.delimiter = delimiter;
+        this.quoted = quoted;
+    }
+
+    /**
+     * @param beanClass Class of the imported beans.
+     * @param <P> Class of the imported beans.
+     * @return Importer of comma-separated fields, which can be quoted.
+     */
+    public static <P extends Promptable> DelimitedImporter<P> csv(
+        final Class<P> beanClass) {
+        return new DelimitedImporter<>(new PromptablePrompt<>(beanClass), ',',
+            true);
+    }
+
+    /**
+     * @param beanClass Class of the imported beans.
+     * @param <P> Class of the imported beans.
+     * @return Importer of tab-separated fields, which are never quoted.
+     */
+    public static <P extends Promptable> DelimitedImporter<P> tsv(
+        final Class<P> beanClass) {
+        return new DelimitedImporter<>(new PromptablePrompt<>(beanClass),
+            '\t', false);
+    }
+
+    /**
+     * Imports a file on the common pool.
+     *
+     * @param file The file.
+     * @return The beans, in the order of their lines.
+     * @throws IOException If reading the file fails.
+     * @throws BatchAnswerException If the header or a record is invalid.
+     */
+    public List<P> importFile(final Path file) throws IOException {
+        return importFile(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Imports a file. If a record is invalid, the exception reports the
+     * first invalid one, and chunks after it are abandoned.
+     *
+     * @param file The file.
+     * @param pool Pool that reads and parses the chunks.
+     * @return The beans, in the order of their lines.
+     * @throws IOException If reading the file fails.
+     * @throws BatchAnswerException If the header or a record is invalid.
+     */
+    public List<P> importFile(final Path file, final ForkJoinPool pool)
+        throws IOException {
+        prompt.resolve();
+        try (FileChannel channel =
+                 FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = lineEnd(channel, 0, size);
+            List<String> header = readHeader(channel, headerEnd);
+            int[] columns = mapColumns(header);
+            long chunkSize = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK,
+                size / ((long) pool.getParallelism() * CHUNKS_PER_WORKER)));
+            AtomicInteger firstFailed = new AtomicInteger(Integer.MAX_VALUE);
+            List<Chunk> chunks = new ArrayList<>();
+            for (long from = headerEnd; from < size;) {
+                long to = lineEnd(channel, from + chunkSize - 1, size);
+                chunks.add(new Chunk(chunks.size(), channel, from, to,
+                    columns, header.size(), firstFailed));
+                from = to;
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(chunks);
+                }
+            });
+            return collect(chunks, header);
+        }
+    }
+
+    private List<P> collect(final List<Chunk> chunks,
+        final List<String> header) throws IOException {
+        long lineNumber = 1; // the header
+        int total = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.failure != null) {
+                throw failure(chunk, header, lineNumber + chunk.lines);
+            }
+            lineNumber += chunk.lines;
+            total += chunk.beans.size();
+        }
+        List<P> beans = new ArrayList<>(total);
+        for (Chunk chunk : chunks) {
+            beans.addAll(chunk.beans);
+        }
+        return beans;
+    }
+
+    private BatchAnswerException failure(final Chunk chunk,
+        final List<String> header, final long lineNumber)
+        throws IOException {
+        RuntimeException failure = chunk.failure;
+        if (failure instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) failure).getCause();
+        }
+        if (failure instanceof IllegalPromptableException
+            || failure instanceof PromptNotImplementedException) {
+            throw failure; // not caused by the answers
+        }
+        String column = chunk.column < 0 ? ""
+            : "Column " + header.get(chunk.column) + ": ";
+        if (failure instanceof EndOfInputException) {
+            return new BatchAnswerException(lineNumber,
+                column + "Answer does not fit in a field", failure);
+        }
+        return new BatchAnswerException(lineNumber,
+            column + "Answer is invalid: " + failure.getMessage(), failure);
+    }
+
+    private List<String> readHeader(final FileChannel channel,
+        final long headerEnd) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(headerEnd));
+        readFully(channel, bytes, 0);
+        CharSequence line = PromptInput.of(
+            new ByteArrayInputStream(bytes.array())).readLine();
+        if (line == null) {
+            throw new BatchAnswerException(1, "Header is missing", null);
+        }
+        if (line.length() > 0 && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.subSequence(1, line.length());
+        }
+        DelimitedFields fields = new DelimitedFields(delimiter, quoted);
+        int count;
+        try {
+            count = fields.split(line);
+        } catch (IllegalArgumentException e) {
+            throw new BatchAnswerException(1, e.getMessage(), e);
+        }
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add(fields.select(i).readLine().toString());
+        }
+        return names;
+    }
+
+    /**
+     * Maps each property to its column in the header.
+     *
+     * @param header Names of the columns.
+     * @return Index of the column of each property.
+     */
+    private int[] mapColumns(final List<String> header) {
+        List<String> properties = prompt.getPropertyNames();
+        int[] columns = new int[properties.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = header.indexOf(properties.get(i));
+            if (columns[i] < 0) {
+                throw new BatchAnswerException(1,
+                    "Header has no column " + properties.get(i), null);
+            }
+        }
+        for (String name : header) {
+            if (!properties.contains(name)) {
+                throw new BatchAnswerException(1,
+                    "Header has unknown column " + name, null);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Finds the end of the line that contains a position.
+     *
+     * @param channel The file.
+     * @param position The position.
+     * @param size Size of the file.
+     * @return Position after the line feed that ends the line, or the size
+     * of the file if the line is the last one.
+     * @throws IOException If reading the file fails.
+     */
+    private static long lineEnd(final FileChannel channel,
+        final long position, final long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long offset = position;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private static void readFully(final FileChannel channel,
+        final ByteBuffer bytes, final long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, position + bytes.position()) < 0) {
+                throw new IOException("File has shrunk while being read");
+            }
+        }
+    }
+
+    /**
+     * Chunk of the file that ends at a line break, which reads and parses
+     * its lines, and keeps the outcome for {@link #collect(List, List)}.
+     */
+    private final class Chunk extends RecursiveAction {
+        /**
+         * Index of the chunk in the file.
+         */
+        private final int index;
+        /**
+         * The file.
+         */
+        private final transient FileChannel channel;
+        /**
+         * Position of the first byte.
+         */
+        private final long from;
+        /**
+         * Position after the last byte.
+         */
+        private final long to;
+        /**
+         * Index of the column of each property.
+         */
+        private final int[] columns;
+        /**
+         * Number of columns in the header.
+         */
+        private final int header;
+        /**
+         * Index of the first chunk that has failed so far.
+         */
+        private final AtomicInteger firstFailed;
+        /**
+         * The beans read so far.
+         */
+        private final transient List<P> beans = new ArrayList<>();
+        /**
+         * Number of lines read so far.
+         */
+        private long lines;
+        /**
+         * Exception that stopped reading, or null.
+         */
+        private RuntimeException failure;
+        /**
+         * Index of the column that was being read when reading stopped, or
+         * -1 if no column was.
+         */
+        private int column = -1;
+
+        private Chunk(final int index, final FileChannel channel,
+            final long from, final long to, final int[] columns,
+            final int header, final AtomicInteger firstFailed) {
+            this.index = index;
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+            this.columns = columns;
+            this.header = header;
+            this.firstFailed = firstFailed;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                ByteBuffer bytes =
+                    ByteBuffer.allocate(Math.toIntExact(to - from));
+                readFully(channel, bytes, from);
+                readLines(PromptInput.of(
+                    new ByteArrayInputStream(bytes.array())));
+            } catch (IOException e) {
+                fail(new UncheckedIOException(e));
+            }
+        }
+
+        private void readLines(final PromptInput input) {
+            DelimitedFields fields = new DelimitedFields(delimiter, quoted);
+            BatchInput answers =
+                new BatchInput(fields, BatchInput.DEFAULT_SKIP_MARKER);
+            try {
+                CharSequence line = input.readLine();
+                // chunks after a failed one are not needed
+                while (line != null && index < firstFailed.get()) {
+                    lines++;
+                    int count = fields.split(line);
+                    if (count != header) {
+                        throw new IllegalArgumentException("Line has " + count
+                            + " fields instead of " + header);
+                    }
+                    beans.add(prompt.readColumns(fields, answers, columns));
+                    line = input.readLine();
+                }
+            } catch (RuntimeException e) {
+                column = fields.getSelected();
+                fail(e);
+            }
+        }
+
+        private void fail(final RuntimeException e) {
+            failure = e;
+            firstFailed.accumulateAndGet(index, Math::min);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.annotations.runtime.PromptAlias;
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.utils.ParseUtils;
+
+import java.lang.reflect.Array;
+
+/**
+ * <p>
+ * {@link ValidatingParser} of the constants of an enum, which accepts their
+ * names and their {@link PromptAlias aliases} in any case, and their
+ * ordinals.
+ * </p>
+ * <p>
+ * Names and aliases are folded to one case and put into an open-addressing
+ * table once, at least twice as large as the number of keys, so that an
+ * answer is hashed and compared in place, usually against a single key,
+ * without creating any object. Ordinals are only tried for answers that
+ * are no name or alias.
+ * </p>
+ *
+ * @param <E> The enum.
+ */
+public final class EnumParser<E extends Enum<E>>
+    implements ValidatingParser<E> {
+    /**
+     * Multiplier of the polynomial hash of the folded characters.
+     */
+    private static final int HASH_MULTIPLIER = 31;
+    /**
+     * Multiplier that spreads hashes over the table, from Fibonacci hashing.
+     */
+    private static final int SPREAD = 0x9E3779B9;
+    /**
+     * Shift that mixes the high bits of spread hashes into the low ones.
+     */
+    private static final int MIX_SHIFT = 16;
+    /**
+     * Ratio of the table size to the highest power of two not above the
+     * number of keys, so that the table is at most half full.
+     */
+    private static final int TABLE_SCALE = 4;
+    /**
+     * Radix of ordinals.
+     */
+    private static final int RADIX = 10;
+    /**
+     * Largest number of decimal digits of an ordinal.
+     */
+    private static final int MAX_ORDINAL_DIGITS = 9;
+    /**
+     * Largest number of names listed when an answer is rejected.
+     */
+    private static final int MAX_LISTED = 16;
+
+    /**
+     * The constants, by ordinal.
+     */
+    private final E[] constants;
+    /**
+     * Folded keys of the table, or null for empty slots.
+     */
+    private final char[][] keys;
+    /**
+     * Hashes of the keys.
+     */
+    private final int[] hashes;
+    /**
+     * Constants that the keys select.
+     */
+    private final E[] values;
+    /**
+     * Mask of the indexes of the table, whose size is a power of two.
+     */
+    private final int mask;
+    /**
+     * Reason of the rejection of an answer that selects no constant.
+     */
+    private final String rejectionReason;
+
+    /**
+     * Constructs a new {@link EnumParser}, building the table of names and
+     * aliases.
+     *
+     * @param enumClass The enum.
+     * @throws IllegalPromptableException If an alias is empty or two
+     * constants share a name or an alias, ignoring case.
+     */
+    @SuppressWarnings("unchecked")
+    public EnumParser(final Class<E> enumClass) {
+        constants = enumClass.getEnumConstants();
+        String[][] aliases = new String[constants.length][];
+        int count = 0;
+        for (E constant : constants) {
+            aliases[constant.ordinal()] = aliases(enumClass, constant);
+            count += 1 + aliases[constant.ordinal()].length;
+        }
+        int size = Integer.highestOneBit(Math.max(count, 1)) * TABLE_SCALE;
+        keys = new char[size][];
+        hashes = new int[size];
+        values = (E[]) Array.newInstance(enumClass, size);
+        mask = size - 1;
+        for (E constant : constants) {
+            put(constant.name(), constant);
+            for (String alias : aliases[constant.ordinal()]) {
+                put(alias, constant);
+            }
+        }
+        rejectionReason = rejectionReason(enumClass, constants);
+    }
+
+    private static String[] aliases(final Class<?> enumClass,
+        final Enum<?> constant) {
+        PromptAlias alias;
+        try {
+            alias = enumClass.getDeclaredField(constant.name())
+                .getAnnotation(PromptAlias.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e); // every constant is a field
+        }
+        return alias == null ? new String[0] : alias.value();
+    }
+
+    private static String rejectionReason(final Class<?> enumClass,
+        final Enum<?>[] constants) {
+        StringBuilder reason = new StringBuilder("Answer is not a constant of ")
+            .append(enumClass.getSimpleName()).append(" or its ordinal: ");
+        for (int i = 0; i < constants.length && i < MAX_LISTED; i++) {
+            reason.append(i == 0 ? "" : ", ").append(constants[i].name());
+        }
+        return reason.append(constants.length > MAX_LISTED ? ", ..." : "")
+            .toString();
+    }
+
+    private void put(final String key, final E constant) {
+        if (key.isEmpty()) {
+            throw new IllegalPromptableException("Empty alias of "
+                + constant.getDeclaringClass().getName() + "." + constant);
+        }
+        int hash = hash(key);
+        int slot = find(key, hash);
+        if (keys[slot] != null) {
+            if (values[slot] != constant) {
+                throw new IllegalPromptableException("Answer \"" + key
+                    + "\" selects both " + values[slot] + " and " + constant
+                    + " of " + constant.getDeclaringClass().getName());
+            }
+            return; // an alias that repeats a key of the same constant
+        }
+        char[] folded = new char[key.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = ParseUtils.foldCase(key.charAt(i));
+        }
+        keys[slot] = folded;
+        hashes[slot] = hash;
+        values[slot] = constant;
+    }
+
+    /**
+     * @param answer Non-empty answer, a name, alias or ordinal of a constant.
+     * @param rejection Holder to report an answer that selects no constant
+     * to.
+     * @return The selected constant.
+     */
+    @Override
+    public E parse(final CharSequence answer, final Rejection rejection) {
+        E constant = lookup(answer);
+        if (constant == null) {
+            rejection.reject(rejectionReason);
+        }
+        return constant;
+    }
+
+    /**
+     * @param answer An answer.
+     * @return The constant that the answer selects by its name, alias or
+     * ordinal, or null if there is none.
+     */
+    public E lookup(final CharSequence answer) {
+        int slot = find(answer, hash(answer));
+        if (keys[slot] != null) {
+            return values[slot];
+        }
+        int ordinal = ordinal(answer);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * Probes the table for a key, from the slot of its hash up to the slot
+     * of the key or an empty one.
+     *
+     * @param key The key, in any case.
+     * @param hash Hash of the key.
+     * @return Index of the slot of the key, or of the empty slot where it
+     * belongs.
+     */
+    private int find(final CharSequence key, final int hash) {
+        int spread = hash * SPREAD;
+        int slot = (spread ^ spread >>> MIX_SHIFT) & mask;
+        while (keys[slot] != null
+            && (hashes[slot] != hash || !matches(keys[slot], key))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @param answer The answer.
+     * @return The ordinal that the answer is a decimal number of, or -1 if
+     * it is no valid ordinal.
+     */
+    private int ordinal(final CharSequence answer) {
+        int length = answer.length();
+        if (length == 0 || length > MAX_ORDINAL_DIGITS) {
+            return -1;
+        }
+        int ordinal = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = Character.digit(answer.charAt(i), RADIX);
+            if (digit < 0) {
+                return -1;
+            }
+            ordinal = ordinal * RADIX + digit;
+        }
+        return ordinal < constants.length ? ordinal : -1;
+    }
+
+    private static int hash(final CharSequence key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            hash = hash * HASH_MULTIPLIER
+                + ParseUtils.foldCase(key.charAt(i));
+        }
+        return hash;
+    }
+
+    private static boolean matches(final char[] folded,
+        final CharSequence key) {
+        if (folded.length != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < folded.length; i++) {
+            if (folded[i] != ParseUtils.foldCase(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
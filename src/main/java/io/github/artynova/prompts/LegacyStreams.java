@@ -0,0 +1,141 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * Adapts a {@link PromptInput} and a {@link PromptOutput} to the
+ * {@link Scanner} and {@link PrintStream} of
+ * {@link Prompt#tryGetAnswer(Scanner, PrintStream, String)}, for prompts
+ * that only implement that method.
+ */
+final class LegacyStreams {
+    private LegacyStreams() {
+    }
+
+    /**
+     * Creates a stream that writes to an output whenever it is flushed.
+     *
+     * @param out The output.
+     * @return The stream.
+     */
+    static PrintStream printStream(final PromptOutput out) {
+        return new PrintStream(new OutputAdapter(out), false,
+            StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a scanner that reads lines from an input one at a time, only
+     * when it needs them, so that the lines after the answer are left to
+     * the next prompt. The end of the input is thrown from the scanner as
+     * an {@link EndOfInputException}, rather than reported as the end of
+     * its source, so that prompts do not retry on it.
+     *
+     * @param input The input.
+     * @param out Stream to flush before every line read, so that the
+     * messages printed to it reach the output first.
+     * @return The scanner.
+     */
+    static Scanner scanner(final PromptInput input, final PrintStream out) {
+        return new Scanner(new InputAdapter(input, out));
+    }
+
+    /**
+     * Stream that collects encoded text and prints it to an output when it
+     * is flushed, by which time the text holds no partial characters.
+     */
+    private static final class OutputAdapter extends OutputStream {
+        /**
+         * The output.
+         */
+        private final PromptOutput out;
+        /**
+         * Text written since the last flush.
+         */
+        private final ByteArrayOutputStream pending =
+            new ByteArrayOutputStream();
+
+        private OutputAdapter(final PromptOutput out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) {
+            pending.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            pending.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            if (pending.size() > 0) {
+                out.print(pending.toString(StandardCharsets.UTF_8));
+                pending.reset();
+            }
+        }
+    }
+
+    /**
+     * Reader that serves one line of an input, with a line feed, per read.
+     */
+    private static final class InputAdapter extends Reader {
+        /**
+         * The input.
+         */
+        private final PromptInput input;
+        /**
+         * Stream flushed before every line read.
+         */
+        private final PrintStream out;
+        /**
+         * Characters of the current line that were not read yet.
+         */
+        private final StringBuilder line = new StringBuilder();
+        /**
+         * Position of the first unread character of the line.
+         */
+        private int position;
+
+        private InputAdapter(final PromptInput input, final PrintStream out) {
+            this.input = input;
+            this.out = out;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position == line.length()) {
+                out.flush();
+                CharSequence next = input.readLine();
+                if (next == null) {
+                    throw new EndOfInputException("Input has ended");
+                }
+                line.setLength(0);
+                line.append(next).append('\n');
+                position = 0;
+            }
+            int count = Math.min(len, line.length() - position);
+            line.getChars(position, position + count, cbuf, off);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // the input belongs to the caller
+        }
+    }
+}
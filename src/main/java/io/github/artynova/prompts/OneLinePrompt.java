@@ -1,21 +1,27 @@
 package io.github.artynova.prompts;
 
-import java.io.PrintStream;
-import java.util.Scanner;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
 
 /**
  * Generic {@link Prompt} implementation that accepts one line of input on the
  * same line as the prompt, and transforms the acquired string into
  * an instance of {@link V}.
- * It also automatically parses empty lines as null.
+ * It also automatically parses empty lines as null, and throws an
+ * {@link EndOfInputException} when there are no lines left.
  *
  * @param <V> Class of objects acquired through this prompt.
  */
 public final class OneLinePrompt<V> extends Prompt<V> {
     /**
-     * Functional for parsing the string answer.
+     * Functional for parsing the answer.
      */
-    private final StringAnswerParser<V> parser;
+    private final AnswerParser<V> parser;
+    /**
+     * The parser, if it rejects answers without throwing, or null.
+     */
+    private final ValidatingParser<V> validatingParser;
 
     /**
      * Constructs a new {@link OneLinePrompt}.
@@ -28,18 +34,106 @@ public final class OneLinePrompt<V> extends Prompt<V> {
      */
     public OneLinePrompt(final Class<V> valueClass,
         final StringAnswerParser<V> parser) {
+        this(valueClass, (AnswerParser<V>) parser);
+    }
+
+    private OneLinePrompt(final Class<V> valueClass,
+        final AnswerParser<V> parser) {
         super(valueClass);
         this.parser = parser;
+        this.validatingParser = parser instanceof ValidatingParser<V> validating
+            ? validating : null;
+    }
+
+    /**
+     * Constructs a new {@link OneLinePrompt} that parses answers in place,
+     * without converting them to strings.
+     *
+     * @param valueClass Class that the prompt is for.
+     * @param parser Function interface implementation that performs the
+     * parsing from a character sequence to {@link V}.
+     * @param <V> Class of objects acquired through the prompt.
+     * @return The prompt.
+     */
+    public static <V> OneLinePrompt<V> of(final Class<V> valueClass,
+        final AnswerParser<V> parser) {
+        return new OneLinePrompt<>(valueClass, parser);
+    }
+
+    /**
+     * Constructs a new {@link OneLinePrompt} that parses answers in place
+     * and rejects invalid ones without throwing.
+     *
+     * @param valueClass Class that the prompt is for.
+     * @param parser Function interface implementation that performs the
+     * parsing from a character sequence to {@link V}.
+     * @param <V> Class of objects acquired through the prompt.
+     * @return The prompt.
+     */
+    public static <V> OneLinePrompt<V> of(final Class<V> valueClass,
+        final ValidatingParser<V> parser) {
+        return new OneLinePrompt<>(valueClass, parser);
+    }
+
+    private V parse(final CharSequence answer, final Rejection rejection) {
+        return validatingParser == null ? parser.parse(answer)
+            : validatingParser.parse(answer, rejection);
     }
 
     @Override
-    protected V tryGetAnswer(final Scanner scanner, final PrintStream out,
-        final String message) {
+    protected PromptStep<V> answerStep(final String message) {
+        return new PromptStep<>() {
+            @Override
+            protected void onStart(final StringBuilder out) {
+                out.append(message);
+            }
+
+            @Override
+            protected void onLine(final String line, final StringBuilder out) {
+                if (line.length() == 0) {
+                    finish(null);
+                    return;
+                }
+                Rejection rejection = new Rejection();
+                V value = parse(line, rejection);
+                rejection.throwIfRejected(); // retried by the RetryStep
+                finish(value);
+            }
+        };
+    }
+
+    @Override
+    protected V readBatchAnswer(final BatchInput input) {
+        CharSequence answer = input.readLine();
+        if (answer.length() == 0) {
+            return null;
+        }
+        V value = parse(answer, input.rejection());
+        input.rejection().throwIfRejected();
+        return value;
+    }
+
+    @Override
+    protected V tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message,
+        final Rejection rejection) {
         out.print(message);
-        String answer = scanner.nextLine();
+        CharSequence answer = input.readLine();
+        if (answer == null) {
+            throw new EndOfInputException("Input has ended");
+        }
         if (answer.length() == 0) {
             return null;
         }
-        return parser.parse(answer);
+        return parse(answer, rejection);
+    }
+
+    @Override
+    protected V tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        Rejection rejection = new Rejection();
+        V value = tryGetAnswer(input, out, message, rejection);
+        rejection.throwIfRejected();
+        return value;
     }
 }
@@ -0,0 +1,184 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.RejectedAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.PromptListener;
+
+/**
+ * <p>
+ * {@link Prompt} implementation for an array of a primitive type, such as
+ * int[], which offers to skip the prompt at the start, like
+ * {@link ArrayPrompt}.
+ * </p>
+ * <p>
+ * Elements are parsed the same way as by the default prompts of their
+ * wrapper classes, and collected into a growable primitive buffer, without
+ * boxing. Prompts registered for the wrapper classes are not consulted.
+ * </p>
+ *
+ * @param <A> Class of the primitive array.
+ */
+public final class PrimitiveArrayPrompt<A> extends Prompt<A> {
+    /**
+     * Class object of the primitive elements.
+     */
+    private final Class<?> elemClass;
+
+    /**
+     * Constructs a new {@link PrimitiveArrayPrompt}.
+     *
+     * @param arrayClass Class object of the primitive array.
+     * @throws IllegalArgumentException If the class is not an array of
+     * a primitive type.
+     */
+    public PrimitiveArrayPrompt(final Class<A> arrayClass) {
+        super(arrayClass);
+        if (!arrayClass.isArray()
+            || !arrayClass.getComponentType().isPrimitive()) {
+            throw new IllegalArgumentException(
+                arrayClass + " is not an array of a primitive type");
+        }
+        this.elemClass = arrayClass.getComponentType();
+    }
+
+    @SuppressWarnings("unchecked") // the buffer is chosen by element class
+    private PrimitiveBuffer<A> newBuffer() {
+        return (PrimitiveBuffer<A>) PrimitiveBuffer.forElements(elemClass);
+    }
+
+    @Override
+    protected PromptStep<A> answerStep(final String message) {
+        return new PrimitiveArrayStep(message);
+    }
+
+    @Override
+    protected A readBatchAnswer(final BatchInput input) {
+        if (input.readSkipMarker()) {
+            return null;
+        }
+        PrimitiveBuffer<A> buffer = newBuffer();
+        while (!input.readEmptyLine()) {
+            buffer.add(input.readLine(), input.rejection());
+            input.rejection().throwIfRejected();
+        }
+        return buffer.toArray();
+    }
+
+    @Override
+    protected A tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        out.println(message);
+        if (Boolean.TRUE.equals(
+            PromptManager.YES_NO_PROMPT.promptDefinite(input, out,
+                "Try to skip aggregate? y/n: "))) {
+            return null;
+        }
+        out.println("To stop input, press Enter with an empty element field.");
+        PromptScope scope = PromptManager.currentScope();
+        int maxRetries = scope == null ? PromptScope.UNLIMITED
+            : scope.getMaxRetries();
+        PromptListener listener = PromptManager.getListener();
+        PrimitiveBuffer<A> buffer = newBuffer();
+        Rejection rejection = new Rejection();
+        // elements are reported and retried like the element prompts of
+        // an ArrayPrompt, each of which is a prompt of its own
+        PromptObservation element = null;
+        int retries = 0;
+        while (true) {
+            if (listener != null && element == null) {
+                element = new PromptObservation(listener, elemClass,
+                    ArrayPrompt.ELEMENT_PROPERTY, input);
+            }
+            out.print("Element ").print(buffer.size() + 1).print(": ");
+            CharSequence answer =
+                element == null ? input.readLine() : element.readLine();
+            if (answer == null) {
+                throw new EndOfInputException("Input has ended");
+            }
+            if (answer.length() != 0) {
+                buffer.add(answer, rejection);
+            }
+            if (element != null) {
+                element.answered();
+            }
+            if (!rejection.isRejected()) {
+                if (element != null) {
+                    element.completed();
+                    element = null;
+                }
+                if (answer.length() == 0) {
+                    return buffer.toArray();
+                }
+                retries = 0;
+                continue;
+            }
+            if (element != null) {
+                element.rejected(RejectedAnswerException.class);
+            }
+            checkRetries(++retries, maxRetries);
+            out.print("Please try again, answer is invalid: ")
+                .println(rejection.getReason());
+            rejection.clear();
+        }
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}.
+     */
+    private final class PrimitiveArrayStep extends PromptStep<A> {
+        /**
+         * The prompt string.
+         */
+        private final String message;
+        /**
+         * Elements acquired so far, or null before the skip answer.
+         */
+        private PrimitiveBuffer<A> buffer;
+        /**
+         * Holder for rejections of the elements, reused across them.
+         */
+        private final Rejection rejection = new Rejection();
+
+        private PrimitiveArrayStep(final String message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void onStart(final StringBuilder out) {
+            println(out, message);
+            await(PromptManager.YES_NO_PROMPT.stepDefinite(
+                "Try to skip aggregate? y/n: "), out, this::onSkipAnswer);
+        }
+
+        private void onSkipAnswer(final Boolean skip, final StringBuilder out) {
+            if (Boolean.TRUE.equals(skip)) {
+                finish(null);
+                return;
+            }
+            println(out,
+                "To stop input, press Enter with an empty element field.");
+            buffer = newBuffer();
+            out.append("Element 1: ");
+        }
+
+        @Override
+        protected void onLine(final String line, final StringBuilder out) {
+            if (line.isEmpty()) {
+                finish(buffer.toArray());
+                return;
+            }
+            buffer.add(line, rejection);
+            if (rejection.isRejected()) {
+                println(out, "Please try again, answer is invalid: "
+                    + rejection.getReason());
+                rejection.clear();
+            }
+            out.append("Element ").append(buffer.size() + 1).append(": ");
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.utils.ParseUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Growable buffer of primitive elements, which parses them from answers
+ * the same way as the default prompts of their wrapper classes, but
+ * without boxing.
+ *
+ * @param <A> Class of the primitive array.
+ */
+abstract class PrimitiveBuffer<A> {
+    /**
+     * Capacity of a new buffer.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Map of primitive classes' objects to the constructors of their buffers.
+     */
+    private static final Map<Class<?>, Supplier<PrimitiveBuffer<?>>>
+        BUFFERS = Map.of(int.class, IntBuffer::new, long.class,
+        LongBuffer::new, double.class, DoubleBuffer::new, float.class,
+        FloatBuffer::new, short.class, ShortBuffer::new, byte.class,
+        ByteBuffer::new, char.class, CharBuffer::new, boolean.class,
+        BooleanBuffer::new);
+
+    /**
+     * Number of elements in the buffer.
+     */
+    private int size;
+
+    /**
+     * Creates an empty buffer for elements of a primitive class.
+     *
+     * @param elemClass The primitive class.
+     * @return The buffer.
+     */
+    static PrimitiveBuffer<?> forElements(final Class<?> elemClass) {
+        return BUFFERS.get(elemClass).get();
+    }
+
+    /**
+     * Parses an answer and appends the element, unless the answer is
+     * rejected.
+     *
+     * @param answer Non-empty answer.
+     * @param rejection Holder to report an invalid answer to.
+     */
+    abstract void add(CharSequence answer, Rejection rejection);
+
+    /**
+     * @return Array of the elements, trimmed to their number.
+     */
+    abstract A toArray();
+
+    /**
+     * @return Number of elements in the buffer.
+     */
+    final int size() {
+        return size;
+    }
+
+    /**
+     * Reserves a slot for a new element, growing the storage by half when
+     * it is full.
+     *
+     * @return Index of the slot.
+     */
+    protected final int append() {
+        if (size == capacity()) {
+            resize(size + (size >> 1) + 1);
+        }
+        return size++;
+    }
+
+    /**
+     * @return Length of the storage.
+     */
+    protected abstract int capacity();
+
+    /**
+     * Replaces the storage with a copy of the given length.
+     *
+     * @param capacity The new length.
+     */
+    protected abstract void resize(int capacity);
+
+    private static final class IntBuffer extends PrimitiveBuffer<int[]> {
+        /**
+         * The elements.
+         */
+        private int[] data = new int[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            int value = ParseUtils.parseInt(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        int[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class LongBuffer extends PrimitiveBuffer<long[]> {
+        /**
+         * The elements.
+         */
+        private long[] data = new long[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            long value = ParseUtils.parseLong(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        long[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class DoubleBuffer
+        extends PrimitiveBuffer<double[]> {
+        /**
+         * The elements.
+         */
+        private double[] data = new double[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            double value = ParseUtils.parseDouble(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        double[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class FloatBuffer extends PrimitiveBuffer<float[]> {
+        /**
+         * The elements.
+         */
+        private float[] data = new float[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            float value = ParseUtils.parseFloat(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        float[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class ShortBuffer extends PrimitiveBuffer<short[]> {
+        /**
+         * The elements.
+         */
+        private short[] data = new short[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            short value = ParseUtils.parseShort(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        short[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class ByteBuffer extends PrimitiveBuffer<byte[]> {
+        /**
+         * The elements.
+         */
+        private byte[] data = new byte[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            byte value = ParseUtils.parseByte(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        byte[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class CharBuffer extends PrimitiveBuffer<char[]> {
+        /**
+         * The elements.
+         */
+        private char[] data = new char[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            char value = ParseUtils.parseCharacter(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        char[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+
+    private static final class BooleanBuffer
+        extends PrimitiveBuffer<boolean[]> {
+        /**
+         * The elements.
+         */
+        private boolean[] data = new boolean[INITIAL_CAPACITY];
+
+        @Override
+        void add(final CharSequence answer, final Rejection rejection) {
+            boolean value = ParseUtils.parseBoolean(answer, rejection);
+            if (rejection.isRejected()) {
+                return;
+            }
+            int index = append(); // may replace data
+            data[index] = value;
+        }
+
+        @Override
+        boolean[] toArray() {
+            return Arrays.copyOf(data, size());
+        }
+
+        @Override
+        protected int capacity() {
+            return data.length;
+        }
+
+        @Override
+        protected void resize(final int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+    }
+}
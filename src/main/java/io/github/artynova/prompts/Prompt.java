@@ -1,11 +1,21 @@
 package io.github.artynova.prompts;
 
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.exceptions.EndOfInputException;
 import io.github.artynova.exceptions.IllegalPromptableException;
-import io.github.artynova.exceptions.PromptAnswerException;
+import io.github.artynova.exceptions.PromptAbortedException;
 import io.github.artynova.exceptions.PromptNotImplementedException;
+import io.github.artynova.exceptions.RejectedAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.PromptListener;
 
 import java.io.PrintStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
  * Base class for all prompts.
@@ -14,6 +24,24 @@ import java.util.Scanner;
  * from an input stream.
  */
 public abstract class Prompt<V> {
+    /**
+     * Output that discards everything, for prompts that answer batches
+     * through {@link #tryGetAnswer(PromptInput, PromptOutput, String)}.
+     */
+    private static final PromptOutput DISCARDED_OUTPUT =
+        PromptOutput.nullOutput();
+    /**
+     * Reason to reject a missing answer where a definite one is required.
+     */
+    static final String INDEFINITE_ANSWER = "Answer should be definite";
+    /**
+     * Validator that accepts every answer, shared by all prompts.
+     */
+    private static final AnswerValidator<?> ACCEPT = answer -> null;
+    /**
+     * The Value class.
+     */
+    private final Class<V> valueClass;
     /**
      * The default message, based on the name of the Value class.
      */
@@ -26,9 +54,17 @@ public abstract class Prompt<V> {
      * information unavailable via {@link V} due to type erasure.
      */
     protected Prompt(final Class<V> valueClass) {
+        this.valueClass = valueClass;
         this.defaultMessage = "Input " + valueClass.getSimpleName() + ": ";
     }
 
+    /**
+     * @return The class that the prompt acquires instances of.
+     */
+    public Class<V> getValueClass() {
+        return valueClass;
+    }
+
     /**
      * @return The default message for the class, that is,
      * "Input <i>className</i>: ".
@@ -37,42 +73,234 @@ public abstract class Prompt<V> {
         return defaultMessage;
     }
 
+    /**
+     * Resolves ahead of time all prompts that this prompt delegates to,
+     * recursively, so that prompting does not need to look them up.
+     * Aggregate prompts call this automatically before their first use.
+     */
+    public final void resolve() {
+        resolveDependencies(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Resolves the prompts that this prompt delegates to, and then their
+     * dependencies. Does nothing by default, prompts that delegate to other
+     * prompts should override it.
+     *
+     * @param visited Prompts already visited by the current resolution,
+     * which should not be visited again so that recursive
+     * {@link io.github.artynova.Promptable Promptables} terminate.
+     */
+    protected void resolveDependencies(final Set<Prompt<?>> visited) {
+    }
+
+    /**
+     * Resolves the dependencies of a prompt that this prompt delegates to.
+     * Meant to be called from overrides of
+     * {@link #resolveDependencies(Set)}.
+     *
+     * @param dependency The prompt that this prompt delegates to.
+     * @param visited Prompts already visited by the current resolution.
+     */
+    protected static void resolveDependency(final Prompt<?> dependency,
+        final Set<Prompt<?>> visited) {
+        dependency.resolveDependencies(visited);
+    }
+
+    /**
+     * Orders the properties of a bean filled by setters the way
+     * {@link PromptablePrompt} asks them, so that a prompt written for the
+     * bean reads the same answers in the same order. Meant to be called once
+     * per bean class, since it introspects the bean.
+     *
+     * @param beanClass The bean class.
+     * @param names Names of all prompted properties of the bean.
+     * @return Index in the names of each property, in the order they are
+     * prompted.
+     * @throws IllegalPromptableException If the names are not those of the
+     * prompted properties.
+     */
+    protected static int[] propertyOrder(final Class<?> beanClass,
+        final String... names) {
+        return PromptablePrompt.orderOf(beanClass, names);
+    }
+
+    /**
+     * Prompts for the value of a property with a prompt that this prompt
+     * delegates to, so that the installed {@link PromptListener} can tell
+     * the properties apart. Meant to be called from overrides of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}.
+     *
+     * @param dependency The prompt that this prompt delegates to.
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * @param property Name of the property.
+     * @param <T> Class of the value of the dependency.
+     * @return The acquired instance.
+     */
+    protected static <T> T promptDependency(final Prompt<T> dependency,
+        final PromptInput input, final PromptOutput out, final String message,
+        final AnswerProcessor<T> answerProcessor, final String property) {
+        return dependency.prompt(input, out, message, answerProcessor,
+            property);
+    }
+
     /**
      * Safely acquires an instance of {@link V}.
      *
-     * @param scanner {@link Scanner} that wraps the input stream.
-     * It is advised to reuse one scanner across multiple prompts to
-     * avoid extra instantiations.
-     * @param out {@link PrintStream} where the method outputs prompts.
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * It is advised to reuse one input across multiple prompts, since
+     * inputs buffer their sources.
+     * @param out {@link PromptOutput} where the method outputs prompts.
      * @param message The prompt string, informing the user of what to input.
      * @param answerProcessor Functional interface instance that can perform
      * extra operations on the acquired value before returning it.
      * It may alter the value, validate it by using exceptions, etc.
+     * An {@link AnswerValidator} validates it without exceptions.
      * @return The acquired instance.
      */
-    public V prompt(final Scanner scanner, final PrintStream out,
+    public V prompt(final PromptInput input, final PromptOutput out,
         final String message, final AnswerProcessor<V> answerProcessor) {
+        return prompt(input, out, message, answerProcessor, null);
+    }
+
+    /**
+     * Safely acquires an instance of {@link V} for a property, reporting
+     * the property to the installed {@link PromptListener}.
+     *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * @param property Name of the property that the value is for, or null.
+     * @return The acquired instance.
+     */
+    V prompt(final PromptInput input, final PromptOutput out,
+        final String message, final AnswerProcessor<V> answerProcessor,
+        final String property) {
+        PromptScope scope = PromptManager.currentScope();
+        ScopeGuard guard = null;
+        int maxRetries = PromptScope.UNLIMITED;
+        if (scope != null) {
+            scope.checkActive();
+            guard = ScopeGuard.of(scope, input);
+            maxRetries = scope.getMaxRetries();
+        }
+        PromptInput guarded = guard == null ? input : guard;
+        PromptListener listener = PromptManager.getListener();
+        PromptObservation observation = listener == null ? null
+            : new PromptObservation(listener, valueClass, property, guarded);
+        PromptInput source = observation == null ? guarded : observation;
+        Rejection rejection = new Rejection();
+        int retries = 0;
         while (true) {
             try {
-                V answer = tryGetAnswer(scanner, out,
-                    message == null ? defaultMessage : message);
-                answer = answerProcessor.processAnswer(answer);
-                return answer; // exit point, when answer is valid
+                V answer = tryGetAnswer(source, out,
+                    message == null ? defaultMessage : message, rejection);
+                if (!rejection.isRejected()) {
+                    answer = process(answerProcessor, answer, rejection);
+                }
+                if (observation != null) {
+                    observation.answered();
+                }
+                if (!rejection.isRejected()) {
+                    if (observation != null) {
+                        observation.completed();
+                    }
+                    return answer; // exit point, when answer is valid
+                }
+                if (observation != null) {
+                    observation.rejected(RejectedAnswerException.class);
+                }
+                checkRetries(++retries, maxRetries);
+                out.print("Please try again, answer is invalid: ")
+                    .println(rejection.getReason());
+                rejection.clear();
             } catch (IllegalPromptableException
-                | PromptNotImplementedException e) {
+                | PromptNotImplementedException | EndOfInputException
+                | PromptAbortedException e) {
                 throw e; // re-throw because non-recoverable from user input
             } catch (Exception e) {
-                out.println(
-                    "Please try again, answer is invalid: " + e.getMessage());
+                if (observation != null) {
+                    observation.answered();
+                    observation.rejected(e.getClass());
+                }
+                checkRetries(++retries, maxRetries);
+                out.print("Please try again, answer is invalid: ")
+                    .println(e.getMessage());
             }
         }
     }
 
+    /**
+     * Aborts a prompt whose answers were rejected more often than allowed.
+     *
+     * @param retries Number of rejected answers so far.
+     * @param maxRetries Largest number of rejected answers allowed, or
+     * {@link PromptScope#UNLIMITED}.
+     * @throws PromptAbortedException If there are too many rejections.
+     */
+    static void checkRetries(final int retries, final int maxRetries) {
+        if (maxRetries != PromptScope.UNLIMITED && retries > maxRetries) {
+            throw new PromptAbortedException(
+                PromptAbortedException.Reason.RETRIES_EXHAUSTED);
+        }
+    }
+
+    /**
+     * Safely acquires an instance of {@link V}.
+     * Adapter of
+     * {@link #prompt(PromptInput, PromptOutput, String, AnswerProcessor)}
+     * for a {@link Scanner} and a {@link PrintStream}. The output is flushed
+     * before every line read and when the method returns.
+     *
+     * @param scanner {@link Scanner} that wraps the input stream.
+     * It is advised to reuse one scanner across multiple prompts to
+     * avoid extra instantiations.
+     * @param out {@link PrintStream} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * It may alter the value, validate it by using exceptions, etc.
+     * @return The acquired instance.
+     */
+    public V prompt(final Scanner scanner, final PrintStream out,
+        final String message, final AnswerProcessor<V> answerProcessor) {
+        PromptOutput output = PromptOutput.of(out);
+        try {
+            return prompt(PromptInput.of(scanner).withOutput(output), output,
+                message, answerProcessor);
+        } finally {
+            output.flush();
+        }
+    }
+
     /**
      * Safely acquires an instance of {@link V}.
-     * Works like {@link #prompt(Scanner, PrintStream, String, AnswerProcessor)}
+     * Works like
+     * {@link #prompt(PromptInput, PromptOutput, String, AnswerProcessor)}
      * but with a predefined "identity" answer processor (answer -> answer).
      *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @return The acquired instance.
+     */
+    public V prompt(final PromptInput input, final PromptOutput out,
+        final String message) {
+        return prompt(input, out, message, accept());
+    }
+
+    /**
+     * Safely acquires an instance of {@link V}.
+     * Adapter of {@link #prompt(PromptInput, PromptOutput, String)}
+     * for a {@link Scanner}.
+     *
      * @param scanner {@link Scanner} that wraps the input stream.
      * It is advised to reuse one scanner across multiple prompts to
      * avoid extra instantiations.
@@ -82,15 +310,35 @@ public abstract class Prompt<V> {
      */
     public V prompt(final Scanner scanner, final PrintStream out,
         final String message) {
-        return prompt(scanner, out, message, answer -> answer);
+        return prompt(scanner, out, message, accept());
     }
 
     /**
      * Safely acquires a non-null instance of {@link V}.
-     * Works like {@link #prompt(Scanner, PrintStream, String, AnswerProcessor)}
+     * Works like
+     * {@link #prompt(PromptInput, PromptOutput, String, AnswerProcessor)}
      * but appends the non-null check before the custom processor
      * is called. This method makes the prompt impossible to skip.
      *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * It may alter the value, validate it by using exceptions, etc.
+     * @return The acquired instance.
+     */
+    public V promptDefinite(final PromptInput input, final PromptOutput out,
+        final String message, final AnswerProcessor<V> answerProcessor) {
+        return prompt(input, out, message, definite(answerProcessor));
+    }
+
+    /**
+     * Safely acquires a non-null instance of {@link V}.
+     * Adapter of
+     * {@link #promptDefinite(PromptInput, PromptOutput, String,
+     * AnswerProcessor)} for a {@link Scanner}.
+     *
      * @param scanner {@link Scanner} that wraps the input stream.
      * It is advised to reuse one scanner across multiple prompts to
      * avoid extra instantiations.
@@ -103,21 +351,32 @@ public abstract class Prompt<V> {
      */
     public V promptDefinite(final Scanner scanner, final PrintStream out,
         final String message, final AnswerProcessor<V> answerProcessor) {
-        return prompt(scanner, out, message, answer -> {
-            if (answer == null) {
-                throw new PromptAnswerException("Answer should be definite");
-            }
-            return answerProcessor.processAnswer(answer);
-        });
+        return prompt(scanner, out, message, definite(answerProcessor));
     }
 
     /**
      * Safely acquires a non-null instance of {@link V}.
-     * Combination of {@link #prompt(Scanner, PrintStream, String)} and
-     * {@link #promptDefinite(Scanner, PrintStream, String, AnswerProcessor)}.
+     * Combination of {@link #prompt(PromptInput, PromptOutput, String)} and
+     * {@link #promptDefinite(PromptInput, PromptOutput, String,
+     * AnswerProcessor)}.
      * That is, it makes the prompt impossible to skip and uses an
      * "identity" function as the {@link AnswerProcessor}.
      *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @return The acquired instance.
+     */
+    public V promptDefinite(final PromptInput input, final PromptOutput out,
+        final String message) {
+        return promptDefinite(input, out, message, accept());
+    }
+
+    /**
+     * Safely acquires a non-null instance of {@link V}.
+     * Adapter of {@link #promptDefinite(PromptInput, PromptOutput, String)}
+     * for a {@link Scanner}.
+     *
      * @param scanner {@link Scanner} that wraps the input stream.
      * It is advised to reuse one scanner across multiple prompts to
      * avoid extra instantiations.
@@ -127,7 +386,181 @@ public abstract class Prompt<V> {
      */
     public V promptDefinite(final Scanner scanner, final PrintStream out,
         final String message) {
-        return promptDefinite(scanner, out, message, answer -> answer);
+        return promptDefinite(scanner, out, message, accept());
+    }
+
+    /**
+     * Creates a resumable step that acquires an instance of {@link V}
+     * the same way as
+     * {@link #prompt(PromptInput, PromptOutput, String, AnswerProcessor)},
+     * but accepts input one line at a time instead of blocking on an input.
+     *
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * @return The step, not started yet.
+     * @see PromptStateMachine
+     */
+    public PromptStep<V> step(final String message,
+        final AnswerProcessor<V> answerProcessor) {
+        return new RetryStep<>(this,
+            message == null ? defaultMessage : message, answerProcessor);
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #prompt(PromptInput, PromptOutput, String)}.
+     *
+     * @param message The prompt string, informing the user of what to input.
+     * @return The step, not started yet.
+     */
+    public PromptStep<V> step(final String message) {
+        return step(message, accept());
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #promptDefinite(PromptInput, PromptOutput, String,
+     * AnswerProcessor)}.
+     *
+     * @param message The prompt string, informing the user of what to input.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value before returning it.
+     * @return The step, not started yet.
+     */
+    public PromptStep<V> stepDefinite(final String message,
+        final AnswerProcessor<V> answerProcessor) {
+        return step(message, definite(answerProcessor));
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #promptDefinite(PromptInput, PromptOutput, String)}.
+     *
+     * @param message The prompt string, informing the user of what to input.
+     * @return The step, not started yet.
+     */
+    public PromptStep<V> stepDefinite(final String message) {
+        return stepDefinite(message, accept());
+    }
+
+    /**
+     * Resumable counterpart of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}: creates a step
+     * that makes one attempt to acquire an instance of {@link V}.
+     * By default, the step replays
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String) tryGetAnswer}
+     * over all lines received so far on every line, which works for any
+     * deterministic prompt, but only as a last resort: it is quadratic in
+     * the number of lines and repeats the events of earlier lines.
+     * Implementations should override it with a proper state machine.
+     *
+     * @param message The prompt string, informing the user of what to input.
+     * @return The step, not started yet.
+     */
+    protected PromptStep<V> answerStep(final String message) {
+        return new ReplayStep<>(this, message);
+    }
+
+    /**
+     * Headless counterpart of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}: reads
+     * an instance of {@link V} from pre-recorded answers, without messages
+     * or retries. By default, it calls
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String) tryGetAnswer}
+     * with an output that discards everything. Aggregate prompts should
+     * override it to check for the skip marker with
+     * {@link BatchInput#readSkipMarker()} instead of asking whether to skip.
+     *
+     * @param input The pre-recorded answers.
+     * @return The acquired instance.
+     * @see BatchReader
+     */
+    protected V readBatchAnswer(final BatchInput input) {
+        return tryGetAnswer(input, DISCARDED_OUTPUT, defaultMessage);
+    }
+
+    /**
+     * Reads an answer of a prompt that this prompt delegates to.
+     * Meant to be called from overrides of
+     * {@link #readBatchAnswer(BatchInput)}.
+     *
+     * @param dependency The prompt that this prompt delegates to.
+     * @param input The pre-recorded answers.
+     * @param <T> Class of the value of the dependency.
+     * @return The acquired instance.
+     */
+    protected static <T> T readDependency(final Prompt<T> dependency,
+        final BatchInput input) {
+        return dependency.readBatchAnswer(input);
+    }
+
+    /**
+     * Applies a processor to an answer, letting an {@link AnswerValidator}
+     * reject it without throwing.
+     *
+     * @param answerProcessor The processor.
+     * @param answer The answer.
+     * @param rejection Holder to report the rejection of the answer to.
+     * @param <V> Class of the answer.
+     * @return The processed answer.
+     */
+    static <V> V process(final AnswerProcessor<V> answerProcessor,
+        final V answer, final Rejection rejection) {
+        if (answerProcessor instanceof AnswerValidator<V> validator) {
+            String reason = validator.validate(answer);
+            if (reason != null) {
+                rejection.reject(reason);
+            }
+            return answer;
+        }
+        return answerProcessor.processAnswer(answer);
+    }
+
+    /**
+     * Provides a validator that accepts every answer, for dependencies that
+     * need no processing.
+     *
+     * @param <V> Class of the answer.
+     * @return The validator, shared by all callers.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <V> AnswerValidator<V> accept() {
+        return (AnswerValidator<V>) ACCEPT;
+    }
+
+    static <V> AnswerProcessor<V> definite(
+        final AnswerProcessor<V> answerProcessor) {
+        if (answerProcessor instanceof AnswerValidator<V> validator) {
+            return (AnswerValidator<V>) answer -> answer == null
+                ? INDEFINITE_ANSWER : validator.validate(answer);
+        }
+        return answer -> {
+            if (answer == null) {
+                throw new RejectedAnswerException(INDEFINITE_ANSWER);
+            }
+            return answerProcessor.processAnswer(answer);
+        };
+    }
+
+    /**
+     * Method that tries to acquire an instance of {@link V}, and may reject
+     * the answer without throwing.
+     * By default, it calls
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String) tryGetAnswer},
+     * which reports invalid answers with exceptions. Prompts that parse
+     * answers themselves should override it to report them to the
+     * rejection instead.
+     *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @param rejection Holder to report the rejection of the answer to.
+     * @return The acquired instance, or any value if it is rejected.
+     */
+    protected V tryGetAnswer(final PromptInput input, final PromptOutput out,
+        final String message, final Rejection rejection) {
+        return tryGetAnswer(input, out, message);
     }
 
     /**
@@ -136,13 +569,54 @@ public abstract class Prompt<V> {
      * the method should throw a runtime exception, which will then
      * be intercepted by the caller prompting method.
      *
+     * In case the input has ended, it should throw
+     * {@link EndOfInputException} instead.
+     *
+     * By default, it adapts the input and output to a {@link Scanner} and
+     * a {@link PrintStream} and calls
+     * {@link #tryGetAnswer(Scanner, PrintStream, String)}, so that prompts
+     * written against it keep working. The scanner reads one line of the
+     * input at a time, only when it needs one, and the text printed to the
+     * stream reaches the output before every line read.
+     *
+     * @param input {@link PromptInput} that provides lines of the answer.
+     * Nested prompts should be given the same input.
+     * @param out {@link PromptOutput} where the method outputs prompts.
+     * @param message The prompt string, informing the user of what to input.
+     * @return The acquired instance.
+     */
+    protected V tryGetAnswer(final PromptInput input, final PromptOutput out,
+        final String message) {
+        PrintStream stream = LegacyStreams.printStream(out);
+        try {
+            return tryGetAnswer(LegacyStreams.scanner(input, stream), stream,
+                message);
+        } finally {
+            stream.flush();
+        }
+    }
+
+    /**
+     * Method that tries to acquire an instance of {@link V} from a
+     * {@link Scanner}, the extension point of prompts written before
+     * {@link PromptInput}. It is only called by the default implementation
+     * of {@link #tryGetAnswer(PromptInput, PromptOutput, String)}, and
+     * prompts should override one of the two.
+     * In case the user's input does not produce a valid instance (or null),
+     * the method should throw a runtime exception, which will then
+     * be intercepted by the caller prompting method.
+     *
      * @param scanner {@link Scanner} that wraps the input stream.
-     * It is advised to reuse one scanner across multiple prompts to
-     * avoid extra instantiations.
+     * Nested prompts should be given the same scanner.
      * @param out {@link PrintStream} where the method outputs prompts.
      * @param message The prompt string, informing the user of what to input.
      * @return The acquired instance.
+     * @throws PromptNotImplementedException If the prompt overrides neither
+     * method.
      */
-    protected abstract V tryGetAnswer(Scanner scanner, PrintStream out,
-        String message);
+    protected V tryGetAnswer(final Scanner scanner, final PrintStream out,
+        final String message) {
+        throw new PromptNotImplementedException(getClass().getName()
+            + " does not implement tryGetAnswer");
+    }
 }
@@ -0,0 +1,117 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.metrics.PromptListener;
+
+/**
+ * Reports the lifecycle of one prompting call of a {@link Prompt} to
+ * a {@link PromptListener}. It wraps the input of the prompt to measure
+ * the time spent waiting for lines, so that it can be excluded from the
+ * time of attempts. Only created while a listener is installed.
+ */
+final class PromptObservation implements PromptInput {
+    /**
+     * The listener.
+     */
+    private final PromptListener listener;
+    /**
+     * Value class of the prompt.
+     */
+    private final Class<?> valueClass;
+    /**
+     * Name of the property that the prompt fills, or null.
+     */
+    private final String property;
+    /**
+     * The input that the lines come from, which is not observed.
+     */
+    private final PromptInput input;
+    /**
+     * Observation of the prompt that delegates to this one, if any.
+     */
+    private final PromptObservation parent;
+    /**
+     * Start of the prompt.
+     */
+    private final long start;
+    /**
+     * Time spent waiting for lines during the current attempt.
+     */
+    private long readNanos;
+    /**
+     * Start of the current attempt, which is when the previous one was
+     * answered, since the clock is read as rarely as possible.
+     */
+    private long attemptStart;
+    /**
+     * Number of rejected answers.
+     */
+    private int retries;
+
+    PromptObservation(final PromptListener listener,
+        final Class<?> valueClass, final String property,
+        final PromptInput input) {
+        this.listener = listener;
+        this.valueClass = valueClass;
+        this.property = property;
+        if (input instanceof PromptObservation observation) {
+            // time each line once, however deep the prompts are nested
+            this.parent = observation;
+            this.input = observation.input;
+        } else {
+            this.parent = null;
+            this.input = input;
+        }
+        listener.promptStarted(valueClass, property);
+        this.start = System.nanoTime();
+        this.attemptStart = start;
+    }
+
+    /**
+     * @return The input that the lines come from, which is not observed.
+     */
+    PromptInput getInput() {
+        return input;
+    }
+
+    @Override
+    public CharSequence readLine() {
+        long before = System.nanoTime();
+        CharSequence line = null;
+        try {
+            line = input.readLine();
+            return line;
+        } finally {
+            long elapsed = System.nanoTime() - before;
+            for (PromptObservation observation = this; observation != null;
+                observation = observation.parent) {
+                observation.readNanos += elapsed;
+            }
+            if (line != null) {
+                listener.lineRead(valueClass, property, line, elapsed);
+            }
+        }
+    }
+
+    void answered() {
+        long now = System.nanoTime();
+        listener.answerReceived(valueClass, property,
+            now - attemptStart - readNanos);
+        attemptStart = now;
+        readNanos = 0;
+    }
+
+    void rejected(final Class<? extends Throwable> cause) {
+        listener.answerRejected(valueClass, property, cause);
+        retries++;
+    }
+
+    /**
+     * Reports the completion of the prompt, right after the accepted answer
+     * was reported with {@link #answered()}.
+     */
+    void completed() {
+        listener.promptCompleted(valueClass, property, retries,
+            attemptStart - start);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * {@link Flow.Publisher} of the values that a prompt acquires one after
+ * another from the same input, for example the beans of a
+ * {@link PromptablePrompt}. The stream ends when the user skips a value,
+ * that is, when the prompt returns null, as it does with the skip question
+ * of aggregates.
+ * </p>
+ * <p>
+ * Values are prompted for only as the subscriber requests them, on the
+ * executor, so a slow subscriber throttles reading the input instead of
+ * values piling up in memory. Prompting stops when the subscription is
+ * cancelled, at the latest after the value being prompted for. Exceptions
+ * that end prompting, such as
+ * {@link io.github.artynova.exceptions.EndOfInputException} when the input
+ * ends before a value is skipped, are passed to
+ * {@link Flow.Subscriber#onError(Throwable)}.
+ * </p>
+ * <p>
+ * The input can only be read once, so the publisher accepts a single
+ * subscriber. Prompts for nested values are looked up on the executor, so
+ * scopes open on the subscribing thread do not apply.
+ * </p>
+ *
+ * @param <V> Class of the published values.
+ */
+public final class PromptPublisher<V> implements Flow.Publisher<V> {
+    /**
+     * The prompt.
+     */
+    private final Prompt<V> prompt;
+    /**
+     * Input that provides lines of the answers.
+     */
+    private final PromptInput input;
+    /**
+     * Output where the prompt outputs its messages.
+     */
+    private final PromptOutput out;
+    /**
+     * The prompt string, or null for the default message.
+     */
+    private final String message;
+    /**
+     * Executor that runs the prompts and signals the subscriber.
+     */
+    private final Executor executor;
+    /**
+     * Whether a subscriber has subscribed.
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructs a new {@link PromptPublisher}.
+     *
+     * @param prompt The prompt.
+     * @param input {@link PromptInput} that provides lines of the answers.
+     * @param out {@link PromptOutput} where the prompt outputs its messages.
+     * @param message The prompt string, or null for the default message.
+     * @param executor Executor that runs the prompts and signals the
+     * subscriber. Reading the input may block, so it should not be a pool
+     * meant for computations only.
+     */
+    public PromptPublisher(final Prompt<V> prompt, final PromptInput input,
+        final PromptOutput out, final String message,
+        final Executor executor) {
+        this.prompt = prompt;
+        this.input = input;
+        this.out = out;
+        this.message = message;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super V> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(
+                "Prompt publisher accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new PromptSubscription(subscriber));
+    }
+
+    /**
+     * Subscription that prompts for values on the executor while there is
+     * demand for them. At most one drain runs at a time, so the subscriber
+     * is signalled serially.
+     */
+    private final class PromptSubscription
+        implements Flow.Subscription, Runnable {
+        /**
+         * The subscriber.
+         */
+        private final Flow.Subscriber<? super V> subscriber;
+        /**
+         * Number of values requested and not published yet.
+         */
+        private final AtomicLong requested = new AtomicLong();
+        /**
+         * Number of times the drain was scheduled since it last checked,
+         * nonzero while it runs or is about to run.
+         */
+        private final AtomicInteger work = new AtomicInteger();
+        /**
+         * Whether the subscription is cancelled or the stream has ended.
+         */
+        private volatile boolean done;
+        /**
+         * Whether the subscriber requested a nonpositive number of values.
+         */
+        private volatile boolean invalidRequest;
+
+        private PromptSubscription(
+            final Flow.Subscriber<? super V> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = true;
+            } else {
+                requested.getAndAccumulate(n, (current, added) ->
+                    current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void schedule() {
+            if (work.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) { // e.g. executor shut down
+                    fail(e);
+                }
+            }
+        }
+
+        private void fail(final Throwable error) {
+            if (!done) {
+                done = true;
+                subscriber.onError(error);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (invalidRequest) {
+                    fail(new IllegalArgumentException(
+                        "Number of requested values must be positive"));
+                }
+                long demand = requested.get();
+                long published = 0;
+                while (published != demand && !done) {
+                    V value;
+                    try {
+                        value = prompt.prompt(input, out, message);
+                    } catch (RuntimeException e) {
+                        fail(e);
+                        return;
+                    }
+                    if (value == null) { // skipped value ends the stream
+                        if (!done) {
+                            done = true;
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    if (done) { // cancelled while prompting
+                        return;
+                    }
+                    subscriber.onNext(value);
+                    published++;
+                }
+                if (done) {
+                    return;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-published);
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
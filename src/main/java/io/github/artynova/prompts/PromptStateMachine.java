@@ -0,0 +1,107 @@
+package io.github.artynova.prompts;
+
+/**
+ * <p>
+ * Non-blocking driver for a prompt: instead of reading an input stream, the
+ * caller feeds it one line at a time and gets back the output to show, until
+ * the value is acquired. This lets a single thread run any number of prompt
+ * sessions, for example from an event loop.
+ * </p>
+ * <p>
+ * The driver follows exactly the same flow as
+ * {@link Prompt#prompt(io.github.artynova.io.PromptInput,
+ * io.github.artynova.io.PromptOutput, String, AnswerProcessor) prompt},
+ * including retries on invalid answers and nested prompts of
+ * {@link PromptablePrompt PromptablePrompts} and
+ * {@link ArrayPrompt ArrayPrompts}, and produces the same output.
+ * Prompts for nested values are looked up while feeding, so scopes open on
+ * the feeding thread apply. Instances are not thread-safe.
+ * </p>
+ *
+ * @param <V> Class of the acquired value.
+ */
+public final class PromptStateMachine<V> {
+    /**
+     * The root step of the prompt.
+     */
+    private final PromptStep<V> step;
+    /**
+     * Whether {@link #start()} has been called.
+     */
+    private boolean started;
+
+    /**
+     * Constructs a new {@link PromptStateMachine}.
+     *
+     * @param prompt The prompt to drive.
+     * @param message The prompt string, or null for the default message.
+     * @param answerProcessor Functional interface instance that can perform
+     * extra operations on the acquired value, as in
+     * {@link Prompt#prompt(io.github.artynova.io.PromptInput,
+     * io.github.artynova.io.PromptOutput, String, AnswerProcessor)
+     * prompt}.
+     */
+    public PromptStateMachine(final Prompt<V> prompt, final String message,
+        final AnswerProcessor<V> answerProcessor) {
+        this.step = prompt.step(message, answerProcessor);
+    }
+
+    /**
+     * Constructs a new {@link PromptStateMachine} with an "identity" answer
+     * processor.
+     *
+     * @param prompt The prompt to drive.
+     * @param message The prompt string, or null for the default message.
+     */
+    public PromptStateMachine(final Prompt<V> prompt, final String message) {
+        this(prompt, message, answer -> answer);
+    }
+
+    /**
+     * Starts the prompt.
+     *
+     * @return The output to show before the first line of input.
+     * @throws IllegalStateException If already started.
+     */
+    public String start() {
+        if (started) {
+            throw new IllegalStateException("Already started");
+        }
+        started = true;
+        StringBuilder out = new StringBuilder();
+        step.start(out);
+        return out.toString();
+    }
+
+    /**
+     * Feeds one line of input to the prompt.
+     *
+     * @param line The line, without the line separator.
+     * @return The output to show in response, which is the next message if
+     * the prompt is not done yet.
+     * @throws IllegalStateException If not started or already done.
+     */
+    public String feed(final String line) {
+        if (!started) {
+            throw new IllegalStateException("Not started");
+        }
+        StringBuilder out = new StringBuilder();
+        step.accept(line, out);
+        return out.toString();
+    }
+
+    /**
+     * @return Whether the value has been acquired.
+     */
+    public boolean isDone() {
+        return step.isFinished();
+    }
+
+    /**
+     * @return The acquired value.
+     * @throws IllegalStateException If the value has not been acquired yet.
+     */
+    public V getValue() {
+        return step.getValue();
+    }
+}
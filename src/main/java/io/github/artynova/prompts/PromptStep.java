@@ -0,0 +1,175 @@
+package io.github.artynova.prompts;
+
+/**
+ * <p>
+ * Resumable, non-blocking counterpart of prompting: a state machine that
+ * produces output and accepts input one line at a time, instead of blocking
+ * on an input stream.
+ * </p>
+ * <p>
+ * A step is started once with {@link #start(StringBuilder)} and then fed
+ * lines with {@link #accept(String, StringBuilder)} until it is finished.
+ * Steps can delegate to other steps with
+ * {@link #await(PromptStep, StringBuilder, ChildHandler)}, which forwards
+ * the input to the child step until it finishes.
+ * </p>
+ *
+ * @param <V> Class of the value acquired by the step.
+ * @see Prompt#step(String, AnswerProcessor)
+ * @see PromptStateMachine
+ */
+public abstract class PromptStep<V> {
+    /**
+     * Line separator appended by {@link #println(StringBuilder, String)}.
+     */
+    protected static final String LINE_SEPARATOR = System.lineSeparator();
+    /**
+     * The step currently receiving input on behalf of this step, or null.
+     */
+    private PromptStep<Object> child;
+    /**
+     * Continuation to run when {@link #child} finishes.
+     */
+    private ChildHandler<Object> childHandler;
+    /**
+     * Whether the step has finished.
+     */
+    private boolean finished;
+    /**
+     * The acquired value.
+     */
+    private V value;
+
+    /**
+     * Starts the step.
+     *
+     * @param out Builder to append the produced output to.
+     */
+    public final void start(final StringBuilder out) {
+        onStart(out);
+    }
+
+    /**
+     * Feeds one line of input to the step.
+     * In case the line does not produce a valid answer, the step may throw
+     * a runtime exception, just like {@link Prompt#tryGetAnswer}.
+     *
+     * @param line The line, without the line separator.
+     * @param out Builder to append the produced output to.
+     * @return Whether the step has finished.
+     */
+    public final boolean accept(final String line, final StringBuilder out) {
+        if (finished) {
+            throw new IllegalStateException("Step has already finished");
+        }
+        if (child == null) {
+            onLine(line, out);
+        } else if (child.accept(line, out)) {
+            completeChild(out);
+        }
+        return finished;
+    }
+
+    /**
+     * @return Whether the step has finished.
+     */
+    public final boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return The acquired value.
+     * @throws IllegalStateException If the step has not finished.
+     */
+    public final V getValue() {
+        if (!finished) {
+            throw new IllegalStateException("Step has not finished");
+        }
+        return value;
+    }
+
+    /**
+     * Called once when the step starts. Does nothing by default.
+     *
+     * @param out Builder to append the produced output to.
+     */
+    protected void onStart(final StringBuilder out) {
+    }
+
+    /**
+     * Called for each line of input while no child step is awaited.
+     * Throws by default, because steps that only delegate never read input
+     * directly.
+     *
+     * @param line The line, without the line separator.
+     * @param out Builder to append the produced output to.
+     */
+    protected void onLine(final String line, final StringBuilder out) {
+        throw new IllegalStateException("Step does not accept input");
+    }
+
+    /**
+     * Finishes the step.
+     *
+     * @param result The acquired value.
+     */
+    protected final void finish(final V result) {
+        value = result;
+        finished = true;
+    }
+
+    /**
+     * Starts a child step and forwards input to it until it finishes,
+     * then calls the handler with the child's value.
+     *
+     * @param step The child step, not started yet.
+     * @param out Builder to append the produced output to.
+     * @param handler Continuation called with the child's value.
+     * @param <C> Class of the value acquired by the child step.
+     */
+    @SuppressWarnings("unchecked")
+    protected final <C> void await(final PromptStep<C> step,
+        final StringBuilder out, final ChildHandler<C> handler) {
+        child = (PromptStep<Object>) step; // handler accepts step's values
+        childHandler = (ChildHandler<Object>) handler;
+        step.start(out);
+        if (step.isFinished()) {
+            completeChild(out);
+        }
+    }
+
+    /**
+     * Appends a line to the output, like {@link java.io.PrintStream#println}.
+     *
+     * @param out Builder to append to.
+     * @param line The line.
+     */
+    protected static void println(final StringBuilder out, final String line) {
+        out.append(line).append(LINE_SEPARATOR);
+    }
+
+    private void completeChild(final StringBuilder out) {
+        PromptStep<Object> completed = child;
+        ChildHandler<Object> handler = childHandler;
+        child = null;
+        childHandler = null;
+        handler.handle(completed.getValue(), out);
+    }
+
+    /**
+     * Continuation of a step after an awaited child step finishes.
+     *
+     * @param <C> Class of the value acquired by the child step.
+     */
+    @FunctionalInterface
+    protected interface ChildHandler<C> {
+        /**
+         * Handles the value of the child step. May finish the step or await
+         * another child step.
+         *
+         * @param value The child's value.
+         * @param out Builder to append the produced output to.
+         */
+        void handle(C value, StringBuilder out);
+    }
+}
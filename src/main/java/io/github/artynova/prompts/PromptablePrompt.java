@@ -1,25 +1,37 @@
 package io.github.artynova.prompts;
 
 import io.github.artynova.PromptManager;
+import io.github.artynova.PromptReference;
 import io.github.artynova.Promptable;
+import io.github.artynova.annotations.runtime.PromptConstructor;
 import io.github.artynova.annotations.runtime.PromptIgnore;
 import io.github.artynova.annotations.runtime.PromptMessage;
 import io.github.artynova.exceptions.IllegalPromptableException;
-import io.github.artynova.exceptions.PromptAnswerException;
+import io.github.artynova.exceptions.RejectedAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
 import io.github.artynova.utils.NameUtils;
 import org.apache.commons.beanutils.PropertyUtils;
 
 import java.beans.PropertyDescriptor;
-import java.io.PrintStream;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.LinkedList;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Generic {@link Prompt} implementation for an arbitrary {@link Promptable}.
  * This implementation offers to skip the prompt at the start.
+ * The bean's properties, along with their messages, setters and prompts,
+ * form an immutable plan that is resolved once, before the first use.
+ * Records and classes with a {@link PromptConstructor} are not filled
+ * through setters: the answers are collected into an array of arguments
+ * and the constructor is called once, through a bound method handle.
  *
  * @param <P> JavaBean-conforming object that implements
  * {@link Promptable}.
@@ -30,10 +42,23 @@ public final class PromptablePrompt<P extends Promptable>
      * Class object for {@link P}.
      */
     private final Class<P> beanClass;
+    /**
+     * Accessor to the bean's constructor and setters.
+     */
+    private final BeanAccessor<P> accessor;
+    /**
+     * Constructor that takes the values of all properties, or null if the
+     * bean is created with the default constructor and filled by setters.
+     */
+    private final Function<Object[], P> constructor;
     /**
      * List of initialized information containers about bean's properties.
      */
     private final List<Property<?>> properties;
+    /**
+     * Whether the prompts of the properties have been resolved.
+     */
+    private volatile boolean resolved;
 
     /**
      * Constructs a new {@link PromptablePrompt}.
@@ -45,22 +70,219 @@ public final class PromptablePrompt<P extends Promptable>
     public PromptablePrompt(final Class<P> beanClass) {
         super(beanClass);
         this.beanClass = beanClass;
-        this.properties = new LinkedList<>();
-        initProperties();
+        this.accessor = BeanAccessor.forClass(beanClass);
+        Constructor<P> propertyConstructor = findPropertyConstructor();
+        if (propertyConstructor == null) {
+            this.constructor = null;
+            this.properties = initProperties();
+        } else {
+            this.constructor = accessor.constructorFor(propertyConstructor);
+            this.properties = initParameters(propertyConstructor);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // constructors of P construct P
+    private Constructor<P> findPropertyConstructor() {
+        if (beanClass.isRecord()) {
+            RecordComponent[] components = beanClass.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+            }
+            try {
+                return beanClass.getDeclaredConstructor(types);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalPromptableException(
+                    "Record has no canonical constructor", e);
+            }
+        }
+        for (Constructor<?> candidate : beanClass.getDeclaredConstructors()) {
+            if (candidate.isAnnotationPresent(PromptConstructor.class)) {
+                return (Constructor<P>) candidate;
+            }
+        }
+        return null;
+    }
+
+    private List<Property<?>> initParameters(
+        final Constructor<P> propertyConstructor) {
+        Parameter[] parameters = propertyConstructor.getParameters();
+        String[] names = getParameterNames(propertyConstructor);
+        List<Property<?>> initialized = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            PromptMessage messageAnnotation =
+                parameters[i].getAnnotation(PromptMessage.class);
+            if (messageAnnotation == null && beanClass.isRecord()) {
+                messageAnnotation = beanClass.getRecordComponents()[i]
+                    .getAccessor().getAnnotation(PromptMessage.class);
+            }
+            initialized.add(newParameter(names[i],
+                messageAnnotation == null ? null : messageAnnotation.value(),
+                parameters[i].getType(), i));
+        }
+        return List.copyOf(initialized);
     }
 
-    private void initProperties() {
-        PropertyDescriptor[] descriptors =
-            PropertyUtils.getPropertyDescriptors(beanClass);
-        for (PropertyDescriptor descriptor : descriptors) {
+    private String[] getParameterNames(
+        final Constructor<P> propertyConstructor) {
+        Parameter[] parameters = propertyConstructor.getParameters();
+        String[] names = new String[parameters.length];
+        if (beanClass.isRecord()) {
+            RecordComponent[] components = beanClass.getRecordComponents();
+            for (int i = 0; i < names.length; i++) {
+                names[i] = components[i].getName();
+            }
+            return names;
+        }
+        String[] listed = propertyConstructor.getAnnotation(
+            PromptConstructor.class).value();
+        if (listed.length != 0 && listed.length != names.length) {
+            throw new IllegalPromptableException("Prompt constructor of "
+                + beanClass.getName() + " lists " + listed.length
+                + " names for " + names.length + " parameters");
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (listed.length == 0 && !parameters[i].isNamePresent()) {
+                throw new IllegalPromptableException("Parameter names of the "
+                    + "prompt constructor of " + beanClass.getName()
+                    + " are not available, list them in the annotation");
+            }
+            names[i] =
+                listed.length == 0 ? parameters[i].getName() : listed[i];
+        }
+        return names;
+    }
+
+    private <V> Property<V> newParameter(final String name,
+        final String message, final Class<V> valueClass, final int index) {
+        return new Property<>(name, message, valueClass,
+            (arguments, value) -> ((Object[]) arguments)[index] = value, null);
+    }
+
+    private List<Property<?>> initProperties() {
+        List<Property<?>> initialized = new ArrayList<>();
+        for (PropertyDescriptor descriptor : promptedDescriptors(beanClass)) {
+            initialized.add(newProperty(descriptor,
+                getPropertyMessage(descriptor.getWriteMethod()),
+                descriptor.getPropertyType()));
+        }
+        return List.copyOf(initialized);
+    }
+
+    /**
+     * @param beanClass The bean class.
+     * @return Descriptors of the properties filled by setters, in the order
+     * they are prompted.
+     */
+    private static List<PropertyDescriptor> promptedDescriptors(
+        final Class<?> beanClass) {
+        List<PropertyDescriptor> prompted = new ArrayList<>();
+        for (PropertyDescriptor descriptor
+            : PropertyUtils.getPropertyDescriptors(beanClass)) {
             Method writeMethod = descriptor.getWriteMethod();
-            if (writeMethod == null
-                || writeMethod.isAnnotationPresent(PromptIgnore.class)) {
-                continue;
+            if (writeMethod != null
+                && !writeMethod.isAnnotationPresent(PromptIgnore.class)) {
+                prompted.add(descriptor);
+            }
+        }
+        return prompted;
+    }
+
+    /**
+     * Orders the properties of a bean filled by setters the way this
+     * prompt asks them.
+     *
+     * @param beanClass The bean class.
+     * @param names Names of all prompted properties of the bean.
+     * @return Index in the names of each property, in the order they are
+     * prompted.
+     * @throws IllegalPromptableException If the names are not those of the
+     * prompted properties.
+     */
+    static int[] orderOf(final Class<?> beanClass, final String... names) {
+        List<String> listed = List.of(names);
+        List<PropertyDescriptor> descriptors = promptedDescriptors(beanClass);
+        int[] order = new int[descriptors.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = listed.indexOf(descriptors.get(i).getName());
+            if (order[i] < 0) {
+                throw new IllegalPromptableException("Property "
+                    + descriptors.get(i).getName() + " of "
+                    + beanClass.getName() + " is not listed");
             }
-            properties.add(
-                new Property<>(descriptor, getPropertyMessage(writeMethod),
-                    descriptor.getPropertyType()));
+        }
+        if (order.length != names.length) {
+            throw new IllegalPromptableException("Properties of "
+                + beanClass.getName() + " are not all prompted");
+        }
+        return order;
+    }
+
+    private <V> Property<V> newProperty(final PropertyDescriptor descriptor,
+        final String message, final Class<V> valueClass) {
+        Method validateMethod = getValidateMethod(descriptor);
+        return new Property<>(descriptor.getName(), message, valueClass,
+            writeTarget(accessor.writerFor(descriptor.getWriteMethod(),
+                valueClass)), validateMethod == null ? null
+            : validateTarget(accessor.validatorFor(validateMethod,
+                valueClass)));
+    }
+
+    /**
+     * Widens a writer of the bean class to the targets of the properties,
+     * which are always beans when the properties are written by setters.
+     *
+     * @param writer The writer.
+     * @param <V> Class of the property.
+     * @return The same writer.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> PropertyWriter<Object, V> writeTarget(
+        final PropertyWriter<?, V> writer) {
+        return (PropertyWriter<Object, V>) writer;
+    }
+
+    /**
+     * Widens a validator of the bean class to the targets of the
+     * properties, as {@link #writeTarget(PropertyWriter)} does.
+     *
+     * @param validator The validator.
+     * @param <V> Class of the property.
+     * @return The same validator.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> PropertyValidator<Object, V> validateTarget(
+        final PropertyValidator<?, V> validator) {
+        return (PropertyValidator<Object, V>) validator;
+    }
+
+    /**
+     * @return A new target for the answers: a bean to fill with setters, or
+     * an array of arguments of the constructor.
+     */
+    private Object newTarget() {
+        return constructor == null ? accessor.newInstance()
+            : new Object[properties.size()];
+    }
+
+    /**
+     * @param target Target filled with the answers.
+     * @return The bean.
+     */
+    private P build(final Object target) {
+        return constructor == null ? beanClass.cast(target)
+            : constructor.apply((Object[]) target);
+    }
+
+    private Method getValidateMethod(final PropertyDescriptor descriptor) {
+        try {
+            Method method = beanClass.getMethod("validate"
+                    + NameUtils.capitalizeFirstLetter(descriptor.getName()),
+                descriptor.getPropertyType());
+            return method.getReturnType() == String.class
+                && !Modifier.isStatic(method.getModifiers()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null; // the setter validates the values itself
         }
     }
 
@@ -72,34 +294,81 @@ public final class PromptablePrompt<P extends Promptable>
     }
 
     @Override
-    protected P tryGetAnswer(final Scanner scanner,
-        final PrintStream out, final String message) {
-        try {
-            P bean = beanClass.getConstructor().newInstance();
-            out.println(message);
-            boolean skip =
-                PromptManager.YES_NO_PROMPT.promptDefinite(scanner, out,
-                    "Try to skip aggregate? y/n: ");
-            if (skip) {
-                return null;
-            }
-            for (Property<?> property : properties) {
-                property.promptInto(bean, scanner, out);
-            }
-            return bean;
-        } catch (IllegalAccessException e) {
-            throw new IllegalPromptableException(
-                "Cannot access default constructor", e);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalPromptableException(
-                "No default constructor provided", e);
-        } catch (InvocationTargetException e) {
-            throw new IllegalPromptableException(
-                "Default constructor threw an exception", e);
-        } catch (InstantiationException e) {
-            throw new IllegalPromptableException(
-                "Abstract class provided as bean", e);
+    protected void resolveDependencies(final Set<Prompt<?>> visited) {
+        if (!visited.add(this)) {
+            return; // recursive bean
+        }
+        for (Property<?> property : properties) {
+            resolveDependency(property.prompt.get(), visited);
+        }
+        resolved = true;
+    }
+
+    @Override
+    protected PromptStep<P> answerStep(final String message) {
+        return new BeanStep(message);
+    }
+
+    @Override
+    protected P readBatchAnswer(final BatchInput input) {
+        if (input.readSkipMarker()) {
+            return null;
+        }
+        Object target = newTarget();
+        for (Property<?> property : properties) {
+            property.readInto(target, input);
+        }
+        return build(target);
+    }
+
+    /**
+     * @return Names of the properties, in the order they are prompted.
+     */
+    List<String> getPropertyNames() {
+        List<String> names = new ArrayList<>();
+        for (Property<?> property : properties) {
+            names.add(property.name);
+        }
+        return names;
+    }
+
+    /**
+     * Reads a bean from the fields of a line of a delimited file, each
+     * property from its own column, as in a batch.
+     *
+     * @param fields The fields of the line.
+     * @param input Batch input over the fields.
+     * @param columns Index of the column of each property.
+     * @return The bean.
+     */
+    P readColumns(final DelimitedFields fields, final BatchInput input,
+        final int[] columns) {
+        Object target = newTarget();
+        for (int i = 0; i < columns.length; i++) {
+            fields.select(columns[i]);
+            properties.get(i).readInto(target, input);
         }
+        return build(target);
+    }
+
+    @Override
+    protected P tryGetAnswer(final PromptInput input,
+        final PromptOutput out, final String message) {
+        if (!resolved) {
+            resolve();
+        }
+        Object target = newTarget();
+        out.println(message);
+        boolean skip =
+            PromptManager.YES_NO_PROMPT.promptDefinite(input, out,
+                "Try to skip aggregate? y/n: ");
+        if (skip) {
+            return null;
+        }
+        for (Property<?> property : properties) {
+            property.promptInto(target, input, out);
+        }
+        return build(target);
     }
 
     /**
@@ -110,46 +379,127 @@ public final class PromptablePrompt<P extends Promptable>
      */
     private final class Property<V> {
         /**
-         * Descriptor from BeanUtils.
+         * Name of the property.
          */
-        private final PropertyDescriptor descriptor;
+        private final String name;
         /**
          * Prompt message.
          */
         private final String message;
         /**
-         * Class object describing {@link V}.
+         * Reference to the prompt for {@link V}.
+         */
+        private final PromptReference<V> prompt;
+        /**
+         * Writer bound to the property's setter or constructor argument.
+         */
+        private final PropertyWriter<Object, V> writer;
+        /**
+         * Validator bound to the property's validation method, or null.
          */
-        private final Class<V> valueClass;
+        private final PropertyValidator<Object, V> validator;
 
-        private Property(final PropertyDescriptor descriptor,
-            final String message, final Class<V> valueClass) {
-            this.descriptor = descriptor;
-            this.valueClass = valueClass;
+        private Property(final String name,
+            final String message, final Class<V> valueClass,
+            final PropertyWriter<Object, V> writer,
+            final PropertyValidator<Object, V> validator) {
+            this.name = name;
+            this.prompt = new PromptReference<>(valueClass);
+            this.writer = writer;
+            this.validator = validator;
             this.message = message == null ? getDefaultMessage() : message;
         }
 
         private String getDefaultMessage() {
-            return "Input " + NameUtils.humanReadableName(descriptor.getName())
-                + ": ";
-        }
-
-        private void promptInto(final P bean,
-            final Scanner scanner, final PrintStream out) {
-            Prompt<V> prompt = PromptManager.getPromptFor(valueClass);
-            prompt.prompt(scanner, out, message, answer -> {
-                try {
-                    descriptor.getWriteMethod().invoke(bean, answer);
-                } catch (IllegalAccessException e) {
-                    throw new IllegalPromptableException(
-                        "Cannot access property setter",
-                        e); // should not happen under proper operation
-                } catch (InvocationTargetException e) {
-                    throw new PromptAnswerException(e.getCause().getMessage(),
-                        e.getCause()); // actual exception is in the cause
-                }
-                return answer;
-            });
+            return "Input " + NameUtils.humanReadableName(name) + ": ";
+        }
+
+        /**
+         * Validates a value and writes it into the target if it is valid.
+         *
+         * @param target The bean, or the arguments of the constructor.
+         * @param value The value.
+         * @return Null if the value is written, or the reason it is rejected.
+         */
+        private String write(final Object target, final V value) {
+            String reason =
+                validator == null ? null : validator.validate(target, value);
+            if (reason == null) {
+                writer.write(target, value); // setter exceptions reject it
+            }
+            return reason;
+        }
+
+        private AnswerValidator<V> writerInto(final Object target) {
+            return answer -> write(target, answer);
+        }
+
+        private PromptStep<V> stepInto(final Object target) {
+            return prompt.get().step(message, writerInto(target));
+        }
+
+        private void readInto(final Object target, final BatchInput input) {
+            String reason = write(target, readDependency(prompt.get(), input));
+            if (reason != null) {
+                throw new RejectedAnswerException(reason);
+            }
+        }
+
+        private void promptInto(final Object target,
+            final PromptInput input, final PromptOutput out) {
+            prompt.get().prompt(input, out, message, writerInto(target),
+                name);
+        }
+    }
+
+    /**
+     * Resumable equivalent of
+     * {@link #tryGetAnswer(PromptInput, PromptOutput, String)}.
+     */
+    private final class BeanStep extends PromptStep<P> {
+        /**
+         * The prompt string.
+         */
+        private final String message;
+        /**
+         * The bean being filled, or the arguments of its constructor.
+         */
+        private Object target;
+        /**
+         * Index of the next property to prompt.
+         */
+        private int index;
+
+        private BeanStep(final String message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void onStart(final StringBuilder out) {
+            if (!resolved) {
+                resolve();
+            }
+            target = newTarget();
+            println(out, message);
+            await(PromptManager.YES_NO_PROMPT.stepDefinite(
+                "Try to skip aggregate? y/n: "), out, this::onSkipAnswer);
+        }
+
+        private void onSkipAnswer(final Boolean skip, final StringBuilder out) {
+            if (Boolean.TRUE.equals(skip)) {
+                finish(null);
+            } else {
+                awaitProperty(out);
+            }
+        }
+
+        private void awaitProperty(final StringBuilder out) {
+            if (index == properties.size()) {
+                finish(build(target));
+            } else {
+                await(properties.get(index++).stepInto(target), out,
+                    (value, output) -> awaitProperty(output));
+            }
         }
     }
 }
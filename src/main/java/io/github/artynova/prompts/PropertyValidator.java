@@ -0,0 +1,22 @@
+package io.github.artynova.prompts;
+
+/**
+ * Interface with a method that validates a value for a property of a bean,
+ * bound to a validation method of the bean.
+ *
+ * @param <P> Class of the bean.
+ * @param <V> Class of the property's value, boxed for primitive properties.
+ * @see BeanAccessor
+ */
+@FunctionalInterface
+public interface PropertyValidator<P, V> {
+    /**
+     * Validator method.
+     * Exceptions thrown by the underlying method propagate unchanged.
+     *
+     * @param bean Bean to validate the value for.
+     * @param value Value to validate.
+     * @return Null if the value is valid, or the reason it is rejected.
+     */
+    String validate(P bean, V value);
+}
@@ -0,0 +1,20 @@
+package io.github.artynova.prompts;
+
+/**
+ * Interface with a method that writes a value into a property of a bean.
+ *
+ * @param <P> Class of the bean.
+ * @param <V> Class of the property's value, boxed for primitive properties.
+ * @see BeanAccessor
+ */
+@FunctionalInterface
+public interface PropertyWriter<P, V> {
+    /**
+     * Writer method.
+     * Exceptions thrown by the underlying setter propagate unchanged.
+     *
+     * @param bean Bean to write into.
+     * @param value Value to write.
+     */
+    void write(P bean, V value);
+}
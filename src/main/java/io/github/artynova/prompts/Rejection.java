@@ -0,0 +1,66 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.RejectedAnswerException;
+
+import java.util.Objects;
+
+/**
+ * Reusable holder of the reason an answer was rejected, through which
+ * {@link ValidatingParser ValidatingParsers} reject answers without
+ * throwing. Prompts keep one for all attempts of a prompting call, and
+ * clear it before each attempt.
+ */
+public final class Rejection {
+    /**
+     * The reason of the rejection, or null if there is none.
+     */
+    private String reason;
+
+    /**
+     * Rejects the answer. The caller should return right away, with any
+     * value.
+     *
+     * @param rejectionReason The reason, printed to the user when they are
+     * asked to try again.
+     * @throws NullPointerException If the reason is null, which would not
+     * reject the answer.
+     */
+    public void reject(final String rejectionReason) {
+        this.reason = Objects.requireNonNull(rejectionReason,
+            "Rejection reason must not be null");
+    }
+
+    /**
+     * @return Whether the answer was rejected.
+     */
+    public boolean isRejected() {
+        return reason != null;
+    }
+
+    /**
+     * @return The reason of the rejection, or null if there is none.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Forgets the rejection, before the next attempt.
+     */
+    void clear() {
+        reason = null;
+    }
+
+    /**
+     * Throws the rejection, for the callers that cannot return it.
+     *
+     * @throws RejectedAnswerException If the answer was rejected.
+     */
+    void throwIfRejected() {
+        if (reason != null) {
+            String rejectionReason = reason;
+            reason = null;
+            throw new RejectedAnswerException(rejectionReason);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+/**
+ * Last-resort answer step for third-party prompts that only implement the
+ * blocking {@link Prompt#tryGetAnswer}. Every line re-runs the method over
+ * all lines received so far, and emits only the output that was not emitted
+ * before. This requires the prompt to behave deterministically for the same
+ * input, takes time quadratic in the number of lines, and repeats every
+ * side effect of the earlier lines, such as listener, transcript and scope
+ * events. The prompts of the library, including generated ones, override
+ * {@link Prompt#answerStep} instead.
+ *
+ * @param <V> Class of the value acquired by the step.
+ */
+final class ReplayStep<V> extends PromptStep<V> {
+    /**
+     * The prompt whose answer is replayed.
+     */
+    private final Prompt<V> prompt;
+    /**
+     * The prompt string.
+     */
+    private final String message;
+    /**
+     * All lines received so far, each terminated by a line feed.
+     */
+    private final StringBuilder input = new StringBuilder();
+    /**
+     * Length of the output already emitted by previous replays.
+     */
+    private int emitted;
+
+    ReplayStep(final Prompt<V> prompt, final String message) {
+        this.prompt = prompt;
+        this.message = message;
+    }
+
+    @Override
+    protected void onStart(final StringBuilder out) {
+        replay(out);
+    }
+
+    @Override
+    protected void onLine(final String line, final StringBuilder out) {
+        input.append(line).append('\n');
+        replay(out);
+    }
+
+    private void replay(final StringBuilder out) {
+        StringBuilder buffer = new StringBuilder();
+        PromptOutput output = PromptOutput.of(buffer);
+        try {
+            finish(prompt.tryGetAnswer(new ReplayInput(input), output,
+                message));
+        } catch (EndOfInputException e) {
+            // waits for more input
+        } finally {
+            output.flush();
+            out.append(buffer, Math.min(emitted, buffer.length()),
+                buffer.length());
+            emitted = Math.max(emitted, buffer.length());
+        }
+    }
+
+    /**
+     * Source of the replayed lines that signals the end of the received
+     * input with an {@link EndOfInputException} rather than an end of input,
+     * so that prompts do not mistake it for a real end of input.
+     */
+    private static final class ReplayInput implements PromptInput {
+        /**
+         * Input over the received lines.
+         */
+        private final PromptInput lines;
+
+        private ReplayInput(final CharSequence lines) {
+            this.lines = PromptInput.of(lines);
+        }
+
+        @Override
+        public CharSequence readLine() {
+            CharSequence line = lines.readLine();
+            if (line == null) {
+                throw new EndOfInputException("Waiting for more input");
+            }
+            return line;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.exceptions.PromptAbortedException;
+import io.github.artynova.exceptions.PromptNotImplementedException;
+
+/**
+ * Resumable equivalent of the retry loop of
+ * {@link Prompt#prompt(io.github.artynova.io.PromptInput,
+ * io.github.artynova.io.PromptOutput, String, AnswerProcessor)}: restarts
+ * the answer step of the prompt until its answer passes the processor.
+ *
+ * @param <V> Class of the value acquired by the step.
+ */
+final class RetryStep<V> extends PromptStep<V> {
+    /**
+     * The prompt whose answer steps are retried.
+     */
+    private final Prompt<V> prompt;
+    /**
+     * The prompt string.
+     */
+    private final String message;
+    /**
+     * Processor applied to each answer.
+     */
+    private final AnswerProcessor<V> answerProcessor;
+    /**
+     * Holder for rejections of the answers, reused across attempts.
+     */
+    private final Rejection rejection = new Rejection();
+    /**
+     * The current attempt.
+     */
+    private PromptStep<V> attempt;
+
+    RetryStep(final Prompt<V> prompt, final String message,
+        final AnswerProcessor<V> answerProcessor) {
+        this.prompt = prompt;
+        this.message = message;
+        this.answerProcessor = answerProcessor;
+    }
+
+    @Override
+    protected void onStart(final StringBuilder out) {
+        attempt(null, out);
+    }
+
+    @Override
+    protected void onLine(final String line, final StringBuilder out) {
+        attempt(line, out);
+    }
+
+    /**
+     * Feeds a line to the current attempt, or starts a new attempt, and
+     * starts new attempts for as long as the answers are invalid. Answers
+     * given without input are processed and retried like any other.
+     *
+     * @param line The line, or null to start a new attempt.
+     * @param out Builder to append the produced output to.
+     */
+    private void attempt(final String line, final StringBuilder out) {
+        String pending = line;
+        while (true) {
+            try {
+                if (pending == null) {
+                    attempt = prompt.answerStep(message);
+                    attempt.start(out);
+                    if (!attempt.isFinished()) {
+                        return;
+                    }
+                } else if (!attempt.accept(pending, out)) {
+                    return;
+                }
+                V value = Prompt.process(answerProcessor, attempt.getValue(),
+                    rejection);
+                if (!rejection.isRejected()) {
+                    finish(value);
+                    return;
+                }
+                println(out, "Please try again, answer is invalid: "
+                    + rejection.getReason());
+                rejection.clear();
+            } catch (IllegalPromptableException | PromptNotImplementedException
+                | EndOfInputException | PromptAbortedException e) {
+                throw e; // re-throw because non-recoverable from user input
+            } catch (Exception e) {
+                println(out,
+                    "Please try again, answer is invalid: " + e.getMessage());
+                rejection.clear();
+            }
+            pending = null;
+        }
+    }
+}
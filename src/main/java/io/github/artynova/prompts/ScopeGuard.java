@@ -0,0 +1,74 @@
+package io.github.artynova.prompts;
+
+import io.github.artynova.PromptScope;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.PromptAbortedException;
+import io.github.artynova.io.PromptInput;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+/**
+ * Input of the prompts within a {@link PromptScope}, which aborts them when
+ * the scope is cancelled or times out, and times each line out if the scope
+ * has an answer timeout. The outermost prompt within a scope creates it, and
+ * the prompts nested in it share it, so each line is checked once however
+ * deep the prompts are nested.
+ */
+final class ScopeGuard implements PromptInput {
+    /**
+     * The scope.
+     */
+    private final PromptScope scope;
+    /**
+     * The input that the lines come from.
+     */
+    private final PromptInput input;
+    /**
+     * Longest wait for a line, or null.
+     */
+    private final Duration answerTimeout;
+
+    private ScopeGuard(final PromptScope scope, final PromptInput input) {
+        this.scope = scope;
+        this.input = input;
+        this.answerTimeout = scope.getAnswerTimeout();
+    }
+
+    /**
+     * Guards the input of a prompt, unless the prompt is nested in one that
+     * already guards it.
+     *
+     * @param scope The current scope.
+     * @param input The input of the prompt.
+     * @return The guarded input, or null if it is already guarded.
+     */
+    static ScopeGuard of(final PromptScope scope, final PromptInput input) {
+        PromptInput unobserved = input instanceof PromptObservation observation
+            ? observation.getInput() : input;
+        if (unobserved instanceof ScopeGuard guard && guard.scope == scope) {
+            return null;
+        }
+        return new ScopeGuard(scope, input);
+    }
+
+    @Override
+    public CharSequence readLine() {
+        scope.checkActive();
+        Future<?> timeout = answerTimeout == null ? null
+            : scope.cancelAfter(answerTimeout);
+        CharSequence line;
+        try {
+            line = input.readLine();
+        } catch (EndOfInputException e) { // possibly released by a hook
+            PromptAbortedException.Reason reason = scope.getCancellation();
+            throw reason == null ? e : new PromptAbortedException(reason, e);
+        } finally {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+        scope.checkActive();
+        return line;
+    }
+}
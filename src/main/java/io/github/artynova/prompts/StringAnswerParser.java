@@ -9,7 +9,7 @@ import io.github.artynova.exceptions.PromptAnswerException;
  * @see OneLinePrompt
  */
 @FunctionalInterface
-public interface StringAnswerParser<V> {
+public interface StringAnswerParser<V> extends AnswerParser<V> {
     /**
      * Parser method.
      *
@@ -18,4 +18,16 @@ public interface StringAnswerParser<V> {
      * @throws PromptAnswerException When an answer is not acceptable.
      */
     V parse(String answer) throws PromptAnswerException;
+
+    /**
+     * Materializes the answer as a string and parses it.
+     *
+     * @param answer Answer to be parsed.
+     * @return Parsed answer.
+     * @throws PromptAnswerException When an answer is not acceptable.
+     */
+    @Override
+    default V parse(final CharSequence answer) throws PromptAnswerException {
+        return parse(answer.toString());
+    }
 }
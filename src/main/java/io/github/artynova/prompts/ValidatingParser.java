@@ -0,0 +1,37 @@
+package io.github.artynova.prompts;
+
+/**
+ * {@link AnswerParser} that rejects answers through a {@link Rejection}
+ * instead of throwing, so that prompts can ask to try again without filling
+ * in a stack trace.
+ *
+ * @param <V> The output value.
+ * @see io.github.artynova.utils.ParseUtils
+ */
+@FunctionalInterface
+public interface ValidatingParser<V> extends AnswerParser<V> {
+    /**
+     * Parser method.
+     *
+     * @param answer Non-empty answer to be parsed, must not be retained.
+     * @param rejection Holder to report the rejection of the answer to.
+     * @return Parsed answer, or any value if the answer is rejected.
+     */
+    V parse(CharSequence answer, Rejection rejection);
+
+    /**
+     * Parses the answer, for callers that do not know rejections.
+     *
+     * @param answer Non-empty answer to be parsed, must not be retained.
+     * @return Parsed answer.
+     * @throws io.github.artynova.exceptions.RejectedAnswerException If the
+     * answer is rejected.
+     */
+    @Override
+    default V parse(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        V value = parse(answer, rejection);
+        rejection.throwIfRejected();
+        return value;
+    }
+}
@@ -0,0 +1,381 @@
+package io.github.artynova.sessions;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.PromptAbortedException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Embeddable host that accepts line-oriented TCP connections and runs the
+ * prompt flow of each one on its own thread, with its own
+ * {@link PromptInput} and {@link PromptOutput}.
+ * </p>
+ * <p>
+ * By default, sessions run on virtual threads when the runtime supports them
+ * (Java 21 and later), and on platform daemon threads otherwise.
+ * The prompting path of the library does not synchronize on monitors, since
+ * the prompt registry uses lock-free reads and {@link
+ * java.util.concurrent.locks.ReentrantLock ReentrantLocks}, so virtual
+ * threads blocked on input do not pin their carriers. The only monitors on
+ * that path belong to bean introspection, which runs once per class when its
+ * prompt is built.
+ * </p>
+ * <p>
+ * The number of concurrent sessions is limited: once the limit is reached,
+ * new connections wait in the server socket's backlog until a session ends.
+ * Each session runs within its own {@link PromptScope}, which the handler
+ * can get from {@link PromptManager#currentScope()} and which is limited by
+ * the session timeout, answer timeout and retry limit of the host.
+ * Cancelling the scope closes the connection of the session.
+ * Sessions that fail with an exception other than an
+ * {@link EndOfInputException} or a {@link PromptAbortedException} report it
+ * to the error handler of the host, which is the uncaught exception handler
+ * of their thread by default. So do thread factories that fail to create
+ * a session thread.
+ * </p>
+ */
+public final class PromptSessionHost implements AutoCloseable {
+    /**
+     * Default limit of concurrent sessions.
+     */
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+    /**
+     * Size of the per-session input and output buffers.
+     */
+    private static final int BUFFER_SIZE = 1024;
+    /**
+     * The server socket that accepts connections.
+     */
+    private final ServerSocket serverSocket;
+    /**
+     * Permits for concurrent sessions.
+     */
+    private final Semaphore sessionPermits;
+    /**
+     * Maximum number of concurrent sessions.
+     */
+    private final int maxSessions;
+    /**
+     * The handler that runs each session.
+     */
+    private final SessionHandler handler;
+    /**
+     * Factory of session threads.
+     */
+    private final ThreadFactory threadFactory;
+    /**
+     * Sockets of the active sessions.
+     */
+    private final Set<Socket> activeSockets = ConcurrentHashMap.newKeySet();
+    /**
+     * Number of sessions that have ended.
+     */
+    private final AtomicLong completedSessions = new AtomicLong();
+    /**
+     * Time allowed for each session, or null.
+     */
+    private Duration sessionTimeout;
+    /**
+     * Longest wait for each line, or null.
+     */
+    private Duration answerTimeout;
+    /**
+     * Number of rejected answers allowed per prompt.
+     */
+    private int maxRetries = PromptScope.UNLIMITED;
+    /**
+     * Handler of the exceptions that end sessions, or null.
+     */
+    private Thread.UncaughtExceptionHandler errorHandler;
+    /**
+     * The thread that accepts connections, or null if not started.
+     */
+    private Thread acceptor;
+    /**
+     * Whether the host has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@link PromptSessionHost} listening on a local port,
+     * with the default session limit and thread factory.
+     *
+     * @param port Port to listen on, or 0 to pick a free port.
+     * @param handler The handler that runs each session.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public PromptSessionHost(final int port, final SessionHandler handler)
+        throws IOException {
+        this(new ServerSocket(port, 0, InetAddress.getLoopbackAddress()),
+            DEFAULT_MAX_SESSIONS, handler, defaultThreadFactory());
+    }
+
+    /**
+     * Constructs a new {@link PromptSessionHost}.
+     *
+     * @param serverSocket Bound server socket to accept connections from.
+     * The host takes ownership of the socket.
+     * @param maxSessions Maximum number of concurrent sessions.
+     * @param handler The handler that runs each session.
+     * @param threadFactory Factory of session threads.
+     */
+    public PromptSessionHost(final ServerSocket serverSocket,
+        final int maxSessions, final SessionHandler handler,
+        final ThreadFactory threadFactory) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException(
+                "Session limit must be positive");
+        }
+        this.serverSocket = serverSocket;
+        this.maxSessions = maxSessions;
+        this.sessionPermits = new Semaphore(maxSessions);
+        this.handler = handler;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * @return A factory of virtual threads if the runtime supports them,
+     * otherwise a factory of platform daemon threads.
+     */
+    public static ThreadFactory defaultThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory(), linked reflectively to keep the
+            // library compatible with Java 17
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                .getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException
+            | IllegalAccessException | InvocationTargetException e) {
+            AtomicLong counter = new AtomicLong();
+            return runnable -> {
+                Thread thread = new Thread(runnable,
+                    "prompt-session-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Limits the time that each session may take, after which its
+     * connection is closed. Must be called before {@link #start()}.
+     *
+     * @param timeout The time, or null for no limit.
+     */
+    public void setSessionTimeout(final Duration timeout) {
+        this.sessionTimeout = timeout;
+    }
+
+    /**
+     * Limits the time that each session may stay idle waiting for a line,
+     * after which its connection is closed. Must be called before
+     * {@link #start()}.
+     *
+     * @param timeout The time, or null for no limit.
+     * @see PromptScope#setAnswerTimeout(Duration)
+     */
+    public void setAnswerTimeout(final Duration timeout) {
+        this.answerTimeout = timeout;
+    }
+
+    /**
+     * Limits the number of answers that each prompt of a session may reject
+     * before the session is ended. Must be called before {@link #start()}.
+     *
+     * @param retries The number, or {@link PromptScope#UNLIMITED}.
+     */
+    public void setMaxRetries(final int retries) {
+        this.maxRetries = retries;
+    }
+
+    /**
+     * Sets the handler of the exceptions that end sessions, and of those
+     * that the thread factory throws instead of creating a session thread.
+     * The handler is called on the thread that caught the exception. Must be
+     * called before {@link #start()}.
+     *
+     * @param handler The handler, or null for the uncaught exception handler
+     * of the thread that caught the exception.
+     */
+    public void setErrorHandler(final Thread.UncaughtExceptionHandler handler) {
+        this.errorHandler = handler;
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     *
+     * @throws IllegalStateException If already started or closed.
+     */
+    public synchronized void start() {
+        if (acceptor != null || closed) {
+            throw new IllegalStateException("Host cannot be started");
+        }
+        acceptor = new Thread(this::acceptLoop,
+            "prompt-session-acceptor-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * @return The port that the host listens on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return Number of currently active sessions.
+     */
+    public int getActiveSessions() {
+        return maxSessions - sessionPermits.availablePermits();
+    }
+
+    /**
+     * @return Number of sessions that have ended.
+     */
+    public long getCompletedSessions() {
+        return completedSessions.get();
+    }
+
+    /**
+     * Stops accepting connections and closes the connections of all active
+     * sessions, which makes their prompts end with an
+     * {@link io.github.artynova.exceptions.EndOfInputException
+     * EndOfInputException}.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        for (Socket socket : activeSockets) {
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Waits until all sessions end, after {@link #close()}.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit Unit of the timeout.
+     * @return Whether all sessions ended within the timeout.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        if (!sessionPermits.tryAcquire(maxSessions, timeout, unit)) {
+            return false;
+        }
+        sessionPermits.release(maxSessions);
+        return true;
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                sessionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                sessionPermits.release(); // closed, or failed connection
+                continue;
+            }
+            activeSockets.add(socket);
+            if (closed) { // close() may have missed the socket
+                discard(socket);
+                continue;
+            }
+            try {
+                Thread thread =
+                    threadFactory.newThread(() -> runSession(socket));
+                if (thread == null) { // rejected by the factory
+                    discard(socket);
+                } else {
+                    thread.start();
+                }
+            } catch (RuntimeException e) {
+                try {
+                    reportError(e);
+                } finally {
+                    discard(socket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops a connection that no session was started for.
+     *
+     * @param socket The connection.
+     */
+    private void discard(final Socket socket) {
+        activeSockets.remove(socket);
+        closeQuietly(socket);
+        sessionPermits.release();
+    }
+
+    private void runSession(final Socket socket) {
+        try (socket; PromptScope scope = PromptManager.openScope()) {
+            scope.onCancel(() -> closeQuietly(socket));
+            scope.setMaxRetries(maxRetries);
+            scope.setAnswerTimeout(answerTimeout);
+            if (sessionTimeout != null) {
+                scope.setDeadline(sessionTimeout);
+            }
+            PromptOutput out =
+                PromptOutput.of(socket.getOutputStream(), BUFFER_SIZE);
+            PromptInput input = PromptInput.of(socket.getInputStream(),
+                BUFFER_SIZE).withOutput(out);
+            handler.handle(input, out);
+            out.flush();
+        } catch (EndOfInputException | SocketException e) {
+            // connection closed by the peer or by close()
+        } catch (PromptAbortedException e) {
+            // session cancelled, timed out or answered invalidly too often
+        } catch (Exception e) {
+            reportError(e);
+        } finally {
+            activeSockets.remove(socket);
+            completedSessions.incrementAndGet();
+            sessionPermits.release();
+        }
+    }
+
+    private void reportError(final Exception e) {
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = errorHandler == null
+            ? thread.getUncaughtExceptionHandler() : errorHandler;
+        handler.uncaughtException(thread, e);
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // the session ends either way
+        }
+    }
+}
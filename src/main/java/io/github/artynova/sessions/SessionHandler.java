@@ -0,0 +1,26 @@
+package io.github.artynova.sessions;
+
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+
+/**
+ * Interface with a method that runs the prompt flow of one session.
+ *
+ * @see PromptSessionHost
+ */
+@FunctionalInterface
+public interface SessionHandler {
+    /**
+     * Runs the session, typically by calling
+     * {@link io.github.artynova.prompts.Prompt#prompt(PromptInput,
+     * PromptOutput, String) prompt} on prompts acquired from
+     * {@link io.github.artynova.PromptManager PromptManager}.
+     *
+     * @param input {@link PromptInput} over the session's input.
+     * @param out {@link PromptOutput} to the session's output, which is
+     * flushed before blocking for input and after the session.
+     * @throws Exception If the session fails. The host closes the session
+     * either way.
+     */
+    void handle(PromptInput input, PromptOutput out) throws Exception;
+}
@@ -0,0 +1,6 @@
+/**
+ * Package with facilities for hosting prompt sessions for remote users.
+ *
+ * @see io.github.artynova.sessions.PromptSessionHost
+ */
+package io.github.artynova.sessions;
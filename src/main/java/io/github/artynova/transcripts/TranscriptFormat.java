@@ -0,0 +1,137 @@
+package io.github.artynova.transcripts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Binary format of transcripts.
+ * </p>
+ * <p>
+ * A transcript consists of segments, one per recorder, each starting with
+ * {@link #MAGIC}, so that recorders can append to the same file. A segment
+ * is a sequence of blocks, each written at once: a byte of flags, which
+ * cannot be mistaken for the first byte of {@link #MAGIC}, the length of the
+ * payload, the length of the uncompressed payload if it is compressed, and
+ * the payload, which is a sequence of records. A record is
+ * its length, followed by its type and its fields. Lengths and other
+ * integers are unsigned variable-length integers of 7 bits per byte, least
+ * significant first, and strings are their length in bytes followed by
+ * their UTF-8 bytes.
+ * </p>
+ * <ul>
+ *     <li>
+ *         A {@link #KEY} record defines a prompt: its id, the name of its
+ *         value class, and its property name, or an empty string if none,
+ *         preceded by a byte that tells whether the property is present.
+ *     </li>
+ *     <li>
+ *         A {@link #LINE} record holds a line: the id of its session, the id
+ *         of the prompt that read it, the time since the previous line of
+ *         the segment, zigzag-encoded, the time spent waiting for it, and
+ *         the line. Times are in nanoseconds.
+ *     </li>
+ * </ul>
+ * <p>
+ * Readers skip records of unknown types, and a segment that ends in the
+ * middle of a block ends at the last complete block.
+ * </p>
+ */
+final class TranscriptFormat {
+    /**
+     * Bytes that start a segment: "PRT" and the version of the format.
+     */
+    static final byte[] MAGIC = {'P', 'R', 'T', 1};
+    /**
+     * Flag of compressed blocks.
+     */
+    static final int COMPRESSED = 1;
+    /**
+     * Type of records that define prompts.
+     */
+    static final int KEY = 1;
+    /**
+     * Type of records that hold lines.
+     */
+    static final int LINE = 2;
+    /**
+     * Bits of a byte of a variable-length integer that hold its value.
+     */
+    private static final int VALUE_BITS = 0x7F;
+    /**
+     * Bit of a byte of a variable-length integer that marks more bytes.
+     */
+    private static final int MORE = 0x80;
+    /**
+     * Number of value bits per byte.
+     */
+    private static final int SHIFT = 7;
+    /**
+     * Number of bits in a long.
+     */
+    private static final int LONG_BITS = 64;
+
+    private TranscriptFormat() {
+    }
+
+    static void writeVarLong(final ByteArrayOutputStream out,
+        final long value) {
+        long remaining = value;
+        while ((remaining & ~VALUE_BITS) != 0) {
+            out.write((int) (remaining & VALUE_BITS) | MORE);
+            remaining >>>= SHIFT;
+        }
+        out.write((int) remaining);
+    }
+
+    static void writeString(final ByteArrayOutputStream out,
+        final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    static long zigzag(final long value) {
+        return value << 1 ^ value >> (LONG_BITS - 1);
+    }
+
+    static long unzigzag(final long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Reads a variable-length integer.
+     *
+     * @param in The input.
+     * @return The integer.
+     * @throws IOException If reading fails, or with
+     * {@link java.io.EOFException} if the input ends before the integer.
+     */
+    static long readVarLong(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < LONG_BITS; shift += SHIFT) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & VALUE_BITS) << shift;
+            if ((b & MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    static int readLength(final DataInput in) throws IOException {
+        long length = readVarLong(in);
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Length " + length + " is too large");
+        }
+        return (int) length;
+    }
+
+    static String readString(final DataInput in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.artynova.transcripts;
+
+/**
+ * Recorded answer line, with the prompt that read it and its timing.
+ */
+public final class TranscriptLine {
+    /**
+     * Id of the session, unique within the transcript.
+     */
+    private final long session;
+    /**
+     * Name of the value class of the prompt.
+     */
+    private final String valueClassName;
+    /**
+     * Name of the property that the prompt filled, or null.
+     */
+    private final String property;
+    /**
+     * The line.
+     */
+    private final String line;
+    /**
+     * Time of the line since the start of its recording, in nanoseconds.
+     */
+    private final long timeNanos;
+    /**
+     * Time spent waiting for the line, in nanoseconds.
+     */
+    private final long waitNanos;
+
+    /**
+     * Constructs a new {@link TranscriptLine}.
+     *
+     * @param session Id of the session, unique within the transcript.
+     * @param valueClassName Name of the value class of the prompt.
+     * @param property Name of the property that the prompt filled, or null.
+     * @param line The line.
+     * @param timeNanos Time of the line since the start of its recording,
+     * in nanoseconds.
+     * @param waitNanos Time spent waiting for the line, in nanoseconds.
+     */
+    public TranscriptLine(final long session, final String valueClassName,
+        final String property, final String line, final long timeNanos,
+        final long waitNanos) {
+        this.session = session;
+        this.valueClassName = valueClassName;
+        this.property = property;
+        this.line = line;
+        this.timeNanos = timeNanos;
+        this.waitNanos = waitNanos;
+    }
+
+    /**
+     * @return Id of the session, unique within the transcript. Lines read
+     * by the same thread during a recording belong to the same session.
+     */
+    public long getSession() {
+        return session;
+    }
+
+    /**
+     * @return Name of the value class of the prompt.
+     */
+    public String getValueClassName() {
+        return valueClassName;
+    }
+
+    /**
+     * @return Name of the property that the prompt filled, or null.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return The line.
+     */
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * @return Time of the line since the start of its recording, in
+     * nanoseconds.
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    /**
+     * @return Time spent waiting for the line, in nanoseconds.
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+}
@@ -0,0 +1,273 @@
+package io.github.artynova.transcripts;
+
+import io.github.artynova.io.PromptInput;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * <p>
+ * Reader of transcripts written by {@link TranscriptRecorder}, which
+ * iterates over the recorded lines of all segments in the order they were
+ * written.
+ * </p>
+ * <p>
+ * Recorded sessions are replayed by feeding their lines to the same prompts
+ * through {@link #replay(List)}, which does not wait at all, so a session
+ * replays as fast as the prompts parse it, or through
+ * {@link #replay(List, double)}, which waits for the recorded time scaled
+ * down by a speedup.
+ * </p>
+ */
+public final class TranscriptReader
+    implements Iterator<TranscriptLine>, Closeable {
+    /**
+     * Number of bits to shift segment indexes by in session ids.
+     */
+    private static final int SEGMENT_SHIFT = 32;
+    /**
+     * The input.
+     */
+    private final DataInputStream in;
+    /**
+     * Decompressor of payloads.
+     */
+    private final Inflater inflater = new Inflater();
+    /**
+     * Value class names of the prompts defined in the current segment.
+     */
+    private final List<String> classNames = new ArrayList<>();
+    /**
+     * Property names of the prompts defined in the current segment.
+     */
+    private final List<String> properties = new ArrayList<>();
+    /**
+     * Payload of the current block.
+     */
+    private DataInputStream block = new DataInputStream(
+        new ByteArrayInputStream(new byte[0]));
+    /**
+     * Index of the current segment, or -1 before the first one.
+     */
+    private long segment = -1;
+    /**
+     * Time of the previous line of the segment.
+     */
+    private long timeNanos;
+    /**
+     * Line read ahead, or null.
+     */
+    private TranscriptLine next;
+    /**
+     * Whether the input has ended.
+     */
+    private boolean ended;
+
+    /**
+     * Constructs a new {@link TranscriptReader}.
+     *
+     * @param in The input, which the reader closes.
+     */
+    public TranscriptReader(final InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    /**
+     * @return Whether there are lines left.
+     * @throws UncheckedIOException If reading fails or the transcript is
+     * malformed.
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null && !ended) {
+                if (block.available() > 0) {
+                    readRecord();
+                } else {
+                    readBlock();
+                }
+            }
+            return next != null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The next line.
+     * @throws NoSuchElementException If there are no lines left.
+     */
+    @Override
+    public TranscriptLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No lines left");
+        }
+        TranscriptLine line = next;
+        next = null;
+        return line;
+    }
+
+    /**
+     * Reads the remaining lines grouped by session.
+     *
+     * @return Lines of each session, in the order of their first lines.
+     */
+    public Map<Long, List<TranscriptLine>> readSessions() {
+        Map<Long, List<TranscriptLine>> sessions = new LinkedHashMap<>();
+        while (hasNext()) {
+            TranscriptLine line = next();
+            sessions.computeIfAbsent(line.getSession(),
+                key -> new ArrayList<>()).add(line);
+        }
+        return sessions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+
+    /**
+     * Creates an input that replays lines without waiting.
+     *
+     * @param lines The lines, usually of one session.
+     * @return The input.
+     */
+    public static PromptInput replay(final List<TranscriptLine> lines) {
+        return replay(lines, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates an input that replays lines, waiting before each line for the
+     * time that was spent waiting for it, divided by a speedup.
+     *
+     * @param lines The lines, usually of one session.
+     * @param speedup How many times faster than recorded to replay.
+     * @return The input.
+     */
+    public static PromptInput replay(final List<TranscriptLine> lines,
+        final double speedup) {
+        if (!(speedup > 0)) {
+            throw new IllegalArgumentException("Speedup must be positive");
+        }
+        Iterator<TranscriptLine> iterator = lines.iterator();
+        return () -> {
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            TranscriptLine line = iterator.next();
+            long wait = (long) (line.getWaitNanos() / speedup);
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            return line.getLine();
+        };
+    }
+
+    private void readBlock() throws IOException {
+        int flags = in.read();
+        if (flags < 0) {
+            ended = true;
+            return;
+        }
+        try {
+            if (flags == TranscriptFormat.MAGIC[0]) {
+                startSegment();
+                return;
+            }
+            if (segment < 0 || (flags & ~TranscriptFormat.COMPRESSED) != 0) {
+                throw new IOException("Transcript is malformed");
+            }
+            byte[] payload = new byte[TranscriptFormat.readLength(in)];
+            int rawLength = (flags & TranscriptFormat.COMPRESSED) == 0 ? -1
+                : TranscriptFormat.readLength(in);
+            in.readFully(payload);
+            if (rawLength >= 0) {
+                payload = inflate(payload, rawLength);
+            }
+            block = new DataInputStream(new ByteArrayInputStream(payload));
+        } catch (EOFException e) {
+            ended = true; // the last block was cut short
+        }
+    }
+
+    private void startSegment() throws IOException {
+        for (int i = 1; i < TranscriptFormat.MAGIC.length; i++) {
+            if (in.readUnsignedByte() != TranscriptFormat.MAGIC[i]) {
+                throw new IOException("Transcript has an unknown version");
+            }
+        }
+        segment++;
+        classNames.clear();
+        properties.clear();
+        timeNanos = 0;
+    }
+
+    private byte[] inflate(final byte[] payload, final int rawLength)
+        throws IOException {
+        byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(payload);
+        try {
+            if (inflater.inflate(raw) != rawLength || !inflater.finished()) {
+                throw new IOException("Compressed block is malformed");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed block is malformed", e);
+        }
+        return raw;
+    }
+
+    private void readRecord() throws IOException {
+        byte[] record = new byte[TranscriptFormat.readLength(block)];
+        block.readFully(record);
+        DataInputStream fields =
+            new DataInputStream(new ByteArrayInputStream(record));
+        switch (fields.readUnsignedByte()) {
+            case TranscriptFormat.KEY -> {
+                int key = TranscriptFormat.readLength(fields);
+                if (key != classNames.size()) {
+                    throw new IOException("Prompt " + key
+                        + " is defined out of order");
+                }
+                classNames.add(TranscriptFormat.readString(fields));
+                boolean hasProperty = fields.readBoolean();
+                String property = TranscriptFormat.readString(fields);
+                properties.add(hasProperty ? property : null);
+            }
+            case TranscriptFormat.LINE -> {
+                long session = segment << SEGMENT_SHIFT
+                    | TranscriptFormat.readVarLong(fields);
+                int key = TranscriptFormat.readLength(fields);
+                if (key >= classNames.size()) {
+                    throw new IOException("Prompt " + key + " is undefined");
+                }
+                timeNanos += TranscriptFormat.unzigzag(
+                    TranscriptFormat.readVarLong(fields));
+                long waitNanos = TranscriptFormat.readVarLong(fields);
+                next = new TranscriptLine(session, classNames.get(key),
+                    properties.get(key), TranscriptFormat.readString(fields),
+                    timeNanos, waitNanos);
+            }
+            default -> {
+                // records of unknown types are skipped
+            }
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package io.github.artynova.transcripts;
+
+import io.github.artynova.metrics.PromptListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * {@link PromptListener} that records every answer line read by prompts,
+ * with the prompt that read it and its timing, into an append-only binary
+ * transcript in the {@link TranscriptFormat format} that
+ * {@link TranscriptReader} reads. Install it with
+ * {@link io.github.artynova.PromptManager#addListener(PromptListener)},
+ * which keeps other listeners such as
+ * {@link io.github.artynova.metrics.PromptMetrics} installed, and remove and
+ * close it when the recording is over.
+ * </p>
+ * <p>
+ * Prompting threads only copy each line into a bounded queue, and a
+ * background thread encodes the lines and writes them in blocks, so that
+ * writing never stalls a session. If the queue is full because the output
+ * falls behind, lines are dropped and counted rather than waited for. Each
+ * thread that reads lines is recorded as a separate session.
+ * </p>
+ */
+public final class TranscriptRecorder implements PromptListener, Closeable {
+    /**
+     * Default number of lines that can wait to be written.
+     */
+    public static final int DEFAULT_CAPACITY = 65_536;
+    /**
+     * Largest number of lines in a block.
+     */
+    private static final int BLOCK_LINES = 4096;
+    /**
+     * Initial size of the buffer of compressed payloads.
+     */
+    private static final int DEFLATED_SIZE = 65_536;
+    /**
+     * Time to wait for the writer to take lines when closing, in
+     * milliseconds, before checking whether it is still alive.
+     */
+    private static final long CLOSE_POLL_MILLIS = 10;
+    /**
+     * Marker of the end of the recording in the queue.
+     */
+    private static final Entry END = new Entry(0, null, null, null, 0, 0);
+    /**
+     * Lines waiting to be written.
+     */
+    private final BlockingQueue<Entry> queue;
+    /**
+     * The output.
+     */
+    private final OutputStream out;
+    /**
+     * Whether blocks are compressed.
+     */
+    private final boolean compressed;
+    /**
+     * Time when the recording started, by {@link System#nanoTime()}.
+     */
+    private final long startNanos = System.nanoTime();
+    /**
+     * Number of lines dropped because the queue was full.
+     */
+    private final LongAdder dropped = new LongAdder();
+    /**
+     * Source of session ids.
+     */
+    private final AtomicInteger sessions = new AtomicInteger();
+    /**
+     * Session id of each thread.
+     */
+    private final ThreadLocal<Integer> session =
+        ThreadLocal.withInitial(sessions::getAndIncrement);
+    /**
+     * The background writer.
+     */
+    private final Thread writer;
+    /**
+     * Whether the recording is over.
+     */
+    private volatile boolean closed;
+    /**
+     * Exception that stopped the writer, or null.
+     */
+    private volatile IOException failure;
+
+    /**
+     * Constructs a new {@link TranscriptRecorder} with the default capacity
+     * and starts its writer.
+     *
+     * @param out The output, which the recorder closes.
+     * @param compressed Whether to compress the blocks.
+     */
+    public TranscriptRecorder(final OutputStream out,
+        final boolean compressed) {
+        this(out, compressed, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new {@link TranscriptRecorder} and starts its writer.
+     *
+     * @param out The output, which the recorder closes.
+     * @param compressed Whether to compress the blocks.
+     * @param capacity Number of lines that can wait to be written before
+     * further lines are dropped.
+     */
+    public TranscriptRecorder(final OutputStream out,
+        final boolean compressed, final int capacity) {
+        this.out = out;
+        this.compressed = compressed;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::write, "prompter-transcript-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Creates a recorder that appends a new segment to a file, creating the
+     * file if it does not exist.
+     *
+     * @param file The file.
+     * @param compressed Whether to compress the blocks.
+     * @return The recorder.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static TranscriptRecorder append(final Path file,
+        final boolean compressed) throws IOException {
+        return new TranscriptRecorder(Files.newOutputStream(file,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+            compressed);
+    }
+
+    @Override
+    public void lineRead(final Class<?> valueClass, final String property,
+        final CharSequence line, final long waitNanos) {
+        if (closed) {
+            return;
+        }
+        if (!queue.offer(new Entry(session.get(), valueClass, property,
+            line.toString(), System.nanoTime() - startNanos, waitNanos))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return Number of lines dropped because the output fell behind.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops recording, waits for the recorded lines to be written, and
+     * closes the output. Lines read afterwards are ignored.
+     *
+     * @throws IOException If writing has failed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            while (writer.isAlive() && !queue.offer(END, CLOSE_POLL_MILLIS,
+                TimeUnit.MILLISECONDS)) {
+                continue; // the writer is catching up
+            }
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                "Interrupted while closing the transcript");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void write() {
+        BlockWriter blocks = new BlockWriter();
+        List<Entry> batch = new ArrayList<>();
+        try (out) {
+            out.write(TranscriptFormat.MAGIC);
+            out.flush();
+            boolean ended = false;
+            while (!ended) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BLOCK_LINES - 1);
+                ended = blocks.write(batch);
+                batch.clear();
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            failure = new InterruptedIOException(
+                "Transcript writer was interrupted");
+        } finally {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    /**
+     * Line waiting to be written.
+     *
+     * @param session Id of the session.
+     * @param valueClass Value class of the prompt.
+     * @param property Name of the property, or null.
+     * @param line The line.
+     * @param timeNanos Time since the start of the recording.
+     * @param waitNanos Time spent waiting for the line.
+     */
+    private record Entry(int session, Class<?> valueClass, String property,
+                         String line, long timeNanos, long waitNanos) {
+    }
+
+    /**
+     * Encoder of blocks, which runs on the writer thread.
+     */
+    private final class BlockWriter {
+        /**
+         * Ids of the prompts defined so far, by value class and property.
+         */
+        private final Map<Class<?>, Map<String, Integer>> keys =
+            new HashMap<>();
+        /**
+         * Payload of the current block.
+         */
+        private final ByteArrayOutputStream payload =
+            new ByteArrayOutputStream();
+        /**
+         * Current record.
+         */
+        private final ByteArrayOutputStream record =
+            new ByteArrayOutputStream();
+        /**
+         * The whole current block.
+         */
+        private final ByteArrayOutputStream block =
+            new ByteArrayOutputStream();
+        /**
+         * Compressor of payloads, or null.
+         */
+        private final Deflater deflater =
+            compressed ? new Deflater(Deflater.BEST_SPEED) : null;
+        /**
+         * Buffer of compressed payloads.
+         */
+        private byte[] deflated = new byte[DEFLATED_SIZE];
+        /**
+         * Id of the next prompt to define.
+         */
+        private int nextKey;
+        /**
+         * Time of the previous line.
+         */
+        private long previousNanos;
+
+        /**
+         * Writes a block of lines, up to the end marker.
+         *
+         * @param entries The lines.
+         * @return Whether the end marker was reached.
+         * @throws IOException If writing fails.
+         */
+        private boolean write(final List<Entry> entries) throws IOException {
+            payload.reset();
+            boolean ended = false;
+            for (Entry entry : entries) {
+                if (entry == END) {
+                    ended = true;
+                    break;
+                }
+                encode(entry);
+            }
+            if (payload.size() == 0) {
+                return ended;
+            }
+            block.reset();
+            if (deflater == null) {
+                block.write(0);
+                TranscriptFormat.writeVarLong(block, payload.size());
+                payload.writeTo(block);
+            } else {
+                int length = deflate();
+                block.write(TranscriptFormat.COMPRESSED);
+                TranscriptFormat.writeVarLong(block, length);
+                TranscriptFormat.writeVarLong(block, payload.size());
+                block.write(deflated, 0, length);
+            }
+            block.writeTo(out);
+            out.flush();
+            return ended;
+        }
+
+        private int deflate() {
+            byte[] raw = payload.toByteArray();
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == deflated.length) {
+                    deflated = Arrays.copyOf(deflated, length * 2);
+                }
+                length += deflater.deflate(deflated, length,
+                    deflated.length - length);
+            }
+            return length;
+        }
+
+        private void encode(final Entry entry) throws IOException {
+            Map<String, Integer> properties = keys.computeIfAbsent(
+                entry.valueClass(), key -> new HashMap<>());
+            Integer key = properties.get(entry.property());
+            if (key == null) {
+                key = nextKey++;
+                properties.put(entry.property(), key);
+                record.reset();
+                record.write(TranscriptFormat.KEY);
+                TranscriptFormat.writeVarLong(record, key);
+                TranscriptFormat.writeString(record,
+                    entry.valueClass().getName());
+                record.write(entry.property() == null ? 0 : 1);
+                TranscriptFormat.writeString(record,
+                    entry.property() == null ? "" : entry.property());
+                flushRecord();
+            }
+            record.reset();
+            record.write(TranscriptFormat.LINE);
+            TranscriptFormat.writeVarLong(record, entry.session());
+            TranscriptFormat.writeVarLong(record, key);
+            TranscriptFormat.writeVarLong(record,
+                TranscriptFormat.zigzag(entry.timeNanos() - previousNanos));
+            TranscriptFormat.writeVarLong(record, entry.waitNanos());
+            TranscriptFormat.writeString(record, entry.line());
+            flushRecord();
+            previousNanos = entry.timeNanos();
+        }
+
+        private void flushRecord() throws IOException {
+            TranscriptFormat.writeVarLong(payload, record.size());
+            record.writeTo(payload);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Package with the recorder of session transcripts, which captures every
+ * answer line with the prompt it answered and its timing in a compact
+ * binary log, and with the reader that replays such logs.
+ *
+ * @see io.github.artynova.transcripts.TranscriptRecorder
+ * @see io.github.artynova.transcripts.TranscriptReader
+ */
+package io.github.artynova.transcripts;
@@ -0,0 +1,527 @@
+package io.github.artynova.utils;
+
+import io.github.artynova.exceptions.PromptAnswerException;
+import io.github.artynova.prompts.Rejection;
+
+/**
+ * Contains the parsing rules of the default prompts. The parsers read
+ * character sequences in place and accept the same answers as the
+ * corresponding {@link String} parsing methods of the wrapper classes,
+ * but allocate nothing unless the answer is rejected. Each of them has
+ * a variant that reports invalid answers to a {@link Rejection} instead
+ * of throwing, which the default prompts use.
+ */
+public final class ParseUtils {
+    /**
+     * Radix of the parsed numbers.
+     */
+    private static final int RADIX = 10;
+    /**
+     * First character past ASCII.
+     */
+    private static final char ASCII_LIMIT = 0x80;
+    /**
+     * Radix of hexadecimal floating-point numbers.
+     */
+    private static final int HEX_RADIX = 16;
+    /**
+     * Characters of the floating-point syntax other than hexadecimal
+     * digits and whitespace.
+     */
+    private static final String FLOATING_POINT_LETTERS = "+-.xXpPNInity";
+    /**
+     * Most significant digits that a double mantissa holds exactly.
+     */
+    private static final int DOUBLE_DIGITS = 15;
+    /**
+     * Most significant digits that a float mantissa holds exactly.
+     */
+    private static final int FLOAT_DIGITS = 7;
+    /**
+     * Powers of ten that are exact doubles.
+     */
+    private static final double[] DOUBLE_POWERS = {1e0, 1e1, 1e2, 1e3, 1e4,
+        1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    /**
+     * Powers of ten that are exact floats.
+     */
+    private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f,
+        1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    /**
+     * Bits that hold the number of fraction digits in a scanned decimal.
+     */
+    private static final int SCALE_BITS = 5;
+    /**
+     * Result of scanning an answer that is not a simple decimal.
+     */
+    private static final long NOT_SIMPLE = -1;
+
+    private ParseUtils() {
+    }
+
+    /**
+     * @param answer Non-empty answer, "true" or "false" in any case,
+     * or "1" or "0".
+     * @return The boolean.
+     * @throws PromptAnswerException If the answer is not a boolean.
+     */
+    public static boolean parseBoolean(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        boolean value = parseBoolean(answer, rejection);
+        if (rejection.isRejected()) {
+            throw new PromptAnswerException(rejection.getReason());
+        }
+        return value;
+    }
+
+    /**
+     * @param answer Non-empty answer, "true" or "false" in any case,
+     * or "1" or "0".
+     * @param rejection Holder to report an answer that is not a boolean to.
+     * @return The boolean.
+     */
+    public static boolean parseBoolean(final CharSequence answer,
+        final Rejection rejection) {
+        if (answer.length() == 1) {
+            char digit = answer.charAt(0);
+            if (digit == '0' || digit == '1') {
+                return digit == '1';
+            }
+        } else if (equalsIgnoreCase(answer, "true")) {
+            return true;
+        } else if (equalsIgnoreCase(answer, "false")) {
+            return false;
+        }
+        rejection.reject("Illegal boolean: " + answer);
+        return false;
+    }
+
+    /**
+     * @param answer Non-empty answer, "y" or "n" in any case.
+     * @return Whether the answer is "y".
+     * @throws PromptAnswerException If the answer is neither.
+     */
+    public static boolean parseYesNo(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        boolean value = parseYesNo(answer, rejection);
+        if (rejection.isRejected()) {
+            throw new PromptAnswerException(rejection.getReason());
+        }
+        return value;
+    }
+
+    /**
+     * @param answer Non-empty answer, "y" or "n" in any case.
+     * @param rejection Holder to report an answer that is neither to.
+     * @return Whether the answer is "y".
+     */
+    public static boolean parseYesNo(final CharSequence answer,
+        final Rejection rejection) {
+        if (answer.length() == 1) {
+            char letter = Character.toLowerCase(answer.charAt(0));
+            if (letter == 'y' || letter == 'n') {
+                return letter == 'y';
+            }
+        }
+        rejection.reject("Answer to a y/n prompt is not \"y\" or \"n\"");
+        return false;
+    }
+
+    /**
+     * @param answer Non-empty answer of a single character.
+     * @return The character.
+     * @throws IllegalArgumentException If there are multiple characters.
+     */
+    public static char parseCharacter(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        char value = parseCharacter(answer, rejection);
+        if (rejection.isRejected()) {
+            throw new IllegalArgumentException(rejection.getReason());
+        }
+        return value;
+    }
+
+    /**
+     * @param answer Non-empty answer of a single character.
+     * @param rejection Holder to report multiple characters to.
+     * @return The character.
+     */
+    public static char parseCharacter(final CharSequence answer,
+        final Rejection rejection) {
+        if (answer.length() > 1) {
+            rejection.reject(
+                "Multiple characters provided where one is expected");
+        }
+        return answer.charAt(0);
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @return The byte.
+     * @throws NumberFormatException If the answer is not a byte.
+     * @see Byte#parseByte(String)
+     */
+    public static byte parseByte(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        byte value = parseByte(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @param rejection Holder to report an answer that is not a byte to.
+     * @return The byte.
+     * @see Byte#parseByte(String)
+     */
+    public static byte parseByte(final CharSequence answer,
+        final Rejection rejection) {
+        int value = parseInt(answer, rejection);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            rejection.reject(outOfRange(answer));
+        }
+        return (byte) value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @return The short.
+     * @throws NumberFormatException If the answer is not a short.
+     * @see Short#parseShort(String)
+     */
+    public static short parseShort(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        short value = parseShort(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @param rejection Holder to report an answer that is not a short to.
+     * @return The short.
+     * @see Short#parseShort(String)
+     */
+    public static short parseShort(final CharSequence answer,
+        final Rejection rejection) {
+        int value = parseInt(answer, rejection);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            rejection.reject(outOfRange(answer));
+        }
+        return (short) value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @return The int.
+     * @throws NumberFormatException If the answer is not an int.
+     * @see Integer#parseInt(String)
+     */
+    public static int parseInt(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        int value = parseInt(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @param rejection Holder to report an answer that is not an int to.
+     * @return The int.
+     * @see Integer#parseInt(String)
+     */
+    public static int parseInt(final CharSequence answer,
+        final Rejection rejection) {
+        return (int) parseInteger(answer, Integer.MIN_VALUE, rejection);
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @return The long.
+     * @throws NumberFormatException If the answer is not a long.
+     * @see Long#parseLong(String)
+     */
+    public static long parseLong(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        long value = parseLong(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * @param answer Decimal integer with an optional sign.
+     * @param rejection Holder to report an answer that is not a long to.
+     * @return The long.
+     * @see Long#parseLong(String)
+     */
+    public static long parseLong(final CharSequence answer,
+        final Rejection rejection) {
+        return parseInteger(answer, Long.MIN_VALUE, rejection);
+    }
+
+    /**
+     * @param answer Floating-point number.
+     * @return The double.
+     * @throws NumberFormatException If the answer is not a double.
+     * @see #parseDouble(CharSequence, Rejection)
+     */
+    public static double parseDouble(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        double value = parseDouble(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * Parses plain decimals of up to 15 significant digits in place, which
+     * is exact because both the mantissa and the power of ten are exact
+     * doubles, and the rest by {@link Double#parseDouble(String)}. Answers
+     * with characters that no floating-point number has are rejected
+     * without trying.
+     *
+     * @param answer Floating-point number.
+     * @param rejection Holder to report an answer that is not a double to.
+     * @return The double.
+     */
+    public static double parseDouble(final CharSequence answer,
+        final Rejection rejection) {
+        long scanned = scanDecimal(answer, DOUBLE_DIGITS,
+            DOUBLE_POWERS.length - 1);
+        if (scanned == NOT_SIMPLE) {
+            if (isFloatingPointSyntax(answer, rejection)) {
+                try {
+                    return Double.parseDouble(answer.toString());
+                } catch (NumberFormatException e) {
+                    rejection.reject(e.getMessage());
+                }
+            }
+            return 0;
+        }
+        double value = (scanned >>> (SCALE_BITS + 1))
+            / DOUBLE_POWERS[(int) (scanned >>> 1) & (1 << SCALE_BITS) - 1];
+        return (scanned & 1) == 0 ? value : -value;
+    }
+
+    /**
+     * @param answer Floating-point number.
+     * @return The float.
+     * @throws NumberFormatException If the answer is not a float.
+     * @see #parseFloat(CharSequence, Rejection)
+     */
+    public static float parseFloat(final CharSequence answer) {
+        Rejection rejection = new Rejection();
+        float value = parseFloat(answer, rejection);
+        throwIfRejected(rejection);
+        return value;
+    }
+
+    /**
+     * Parses plain decimals of up to 7 significant digits in place, and the
+     * rest by {@link Float#parseFloat(String)}.
+     *
+     * @param answer Floating-point number.
+     * @param rejection Holder to report an answer that is not a float to.
+     * @return The float.
+     * @see #parseDouble(CharSequence, Rejection)
+     */
+    public static float parseFloat(final CharSequence answer,
+        final Rejection rejection) {
+        long scanned = scanDecimal(answer, FLOAT_DIGITS,
+            FLOAT_POWERS.length - 1);
+        if (scanned == NOT_SIMPLE) {
+            if (isFloatingPointSyntax(answer, rejection)) {
+                try {
+                    return Float.parseFloat(answer.toString());
+                } catch (NumberFormatException e) {
+                    rejection.reject(e.getMessage());
+                }
+            }
+            return 0;
+        }
+        float value = (scanned >>> (SCALE_BITS + 1))
+            / FLOAT_POWERS[(int) (scanned >>> 1) & (1 << SCALE_BITS) - 1];
+        return (scanned & 1) == 0 ? value : -value;
+    }
+
+    /**
+     * Folds a character to one case, so that the characters that
+     * {@link String#equalsIgnoreCase(String)} considers equal fold to the
+     * same one. ASCII characters are folded without the Unicode tables.
+     *
+     * @param c The character.
+     * @return The folded character.
+     */
+    public static char foldCase(final char c) {
+        if (c < 'A') {
+            return c;
+        }
+        if (c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c < ASCII_LIMIT) {
+            return c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Parses a decimal integer the way {@link Long#parseLong(String)} does,
+     * accumulating it negatively so that the minimum value fits.
+     *
+     * @param answer The answer.
+     * @param min Minimum value of the integer type, whose negation minus one
+     * is the maximum.
+     * @param rejection Holder to report an invalid answer to.
+     * @return The integer.
+     */
+    private static long parseInteger(final CharSequence answer,
+        final long min, final Rejection rejection) {
+        int length = answer.length();
+        int index = 0;
+        boolean negative = false;
+        long limit = min + 1; // negated maximum
+        if (length > 0) {
+            char first = answer.charAt(0);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                limit = negative ? min : limit;
+                index++;
+            }
+        }
+        if (index == length) {
+            rejection.reject(forInputString(answer));
+            return 0;
+        }
+        long multiplicationMin = limit / RADIX;
+        long result = 0;
+        while (index < length) {
+            int digit = Character.digit(answer.charAt(index++), RADIX);
+            if (digit < 0 || result < multiplicationMin) {
+                rejection.reject(forInputString(answer));
+                return 0;
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                rejection.reject(forInputString(answer));
+                return 0;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Scans a plain decimal, an optional sign followed by digits with an
+     * optional point.
+     *
+     * @param answer The answer.
+     * @param maxDigits Most significant digits allowed.
+     * @param maxScale Most digits allowed after the point.
+     * @return The mantissa, the number of digits after the point and
+     * whether the number is negative, packed from the high bits to the low
+     * bit, or {@link #NOT_SIMPLE}.
+     */
+    private static long scanDecimal(final CharSequence answer,
+        final int maxDigits, final int maxScale) {
+        int length = answer.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (answer.charAt(0) == '-'
+            || answer.charAt(0) == '+')) {
+            negative = answer.charAt(0) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1; // no point yet
+        boolean anyDigits = false;
+        for (; index < length; index++) {
+            char c = answer.charAt(index);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return NOT_SIMPLE;
+            }
+            anyDigits = true;
+            if (mantissa != 0 || c != '0') {
+                digits++;
+            }
+            mantissa = mantissa * RADIX + (c - '0');
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (!anyDigits || digits > maxDigits || scale > maxScale) {
+            return NOT_SIMPLE;
+        }
+        return (mantissa << (SCALE_BITS + 1))
+            | (long) Math.max(scale, 0) << 1 | (negative ? 1 : 0);
+    }
+
+    /**
+     * Compares an answer to a keyword the way
+     * {@link String#equalsIgnoreCase(String)} does.
+     *
+     * @param answer The answer.
+     * @param keyword The keyword.
+     * @return Whether they are equal ignoring case.
+     */
+    private static boolean equalsIgnoreCase(final CharSequence answer,
+        final String keyword) {
+        if (answer.length() != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char a = answer.charAt(i);
+            char b = keyword.charAt(i);
+            if (a != b && Character.toUpperCase(a) != Character.toUpperCase(b)
+                && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that the answer only has characters of the floating-point
+     * syntax, so that most invalid answers are rejected without catching
+     * an exception.
+     *
+     * @param answer The answer.
+     * @param rejection Holder to report an invalid answer to.
+     * @return Whether the answer may be a floating-point number.
+     */
+    private static boolean isFloatingPointSyntax(final CharSequence answer,
+        final Rejection rejection) {
+        if (answer.length() == 0) {
+            rejection.reject("empty String");
+            return false;
+        }
+        for (int i = 0; i < answer.length(); i++) {
+            char c = answer.charAt(i);
+            if (c > ' ' && Character.digit(c, HEX_RADIX) < 0
+                && FLOATING_POINT_LETTERS.indexOf(c) < 0) {
+                rejection.reject(forInputString(answer));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void throwIfRejected(final Rejection rejection) {
+        if (rejection.isRejected()) {
+            throw new NumberFormatException(rejection.getReason());
+        }
+    }
+
+    private static String forInputString(final CharSequence answer) {
+        return "For input string: \"" + answer + "\"";
+    }
+
+    private static String outOfRange(final CharSequence answer) {
+        return "Value out of range. Value:\"" + answer + "\" Radix:" + RADIX;
+    }
+}
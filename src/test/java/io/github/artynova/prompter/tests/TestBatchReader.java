@@ -0,0 +1,91 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.exceptions.BatchAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.prompts.BatchReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestBatchReader {
+    @Test
+    void testRecords() {
+        BatchReader<TestPromptable[]> reader = new BatchReader<>(
+            PromptManager.getPromptFor(TestPromptable[].class),
+            PromptInput.of("""
+                first
+
+                \\N
+
+                ~
+                second
+
+                """));
+        List<TestPromptable[]> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        assertEquals(4, records.size());
+        assertArrayEquals(new TestPromptable[] {new TestPromptable("first")},
+            records.get(0));
+        assertNull(records.get(1));
+        assertArrayEquals(new TestPromptable[0], records.get(2));
+        assertArrayEquals(new TestPromptable[] {new TestPromptable("~"),
+            new TestPromptable("second")}, records.get(3));
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+
+        BatchReader<TestPromptable[]> custom = new BatchReader<>(
+            PromptManager.getPromptFor(TestPromptable[].class),
+            PromptInput.of("\\N\n\n~\n"), "~");
+        TestPromptable[] expected = {new TestPromptable("\\N")};
+        assertArrayEquals(expected, custom.next());
+        assertNull(custom.next());
+
+        BatchReader<int[]> vectors = new BatchReader<>(
+            PromptManager.getPromptFor(int[].class),
+            PromptInput.of("1\n2\n\n\\N\n\n"));
+        assertArrayEquals(new int[] {1, 2}, vectors.next());
+        assertNull(vectors.next());
+        assertArrayEquals(new int[0], vectors.next());
+    }
+
+    @Test
+    void testErrors() {
+        BatchReader<Integer> numbers = new BatchReader<>(
+            PromptManager.getPromptFor(int.class), PromptInput.of("1\n\n3"));
+        assertEquals(1, numbers.next());
+        BatchAnswerException definite =
+            assertThrows(BatchAnswerException.class, numbers::next);
+        assertEquals(2, definite.getLineNumber());
+
+        BatchReader<TestValidatedPromptable> beans = new BatchReader<>(
+            PromptManager.getPromptFor(TestValidatedPromptable.class),
+            PromptInput.of("1\n-1\n"));
+        assertEquals(1, beans.next().getCount());
+        BatchAnswerException rejected =
+            assertThrows(BatchAnswerException.class, beans::next);
+        assertEquals(2, rejected.getLineNumber());
+
+        BatchReader<TestValidatedPromptable> validated = new BatchReader<>(
+            PromptManager.getPromptFor(TestValidatedPromptable.class),
+            PromptInput.of("1001\n"));
+        assertEquals("Line 1: Answer is invalid: Count cannot exceed 1000",
+            assertThrows(BatchAnswerException.class, validated::next)
+                .getMessage());
+
+        BatchReader<Integer[]> truncated = new BatchReader<>(
+            PromptManager.getPromptFor(Integer[].class),
+            PromptInput.of("1\n2"));
+        BatchAnswerException ended =
+            assertThrows(BatchAnswerException.class, truncated::next);
+        assertEquals(2, ended.getLineNumber());
+    }
+}
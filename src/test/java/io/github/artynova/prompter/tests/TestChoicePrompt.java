@@ -0,0 +1,137 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.prompts.ChoiceIndex;
+import io.github.artynova.prompts.ChoicePrompt;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestChoicePrompt {
+    /**
+     * Options of the examples, most preferred first.
+     */
+    private static final List<String> HOSTS =
+        List.of("web-02", "web-01", "WEB-10", "db-01", "db", "cache");
+    /**
+     * Number of random options.
+     */
+    private static final int RANDOM_OPTIONS = 2_000;
+    /**
+     * Number of random answers.
+     */
+    private static final int RANDOM_ANSWERS = 5_000;
+    /**
+     * Number of suggestions compared for random answers.
+     */
+    private static final int SUGGESTIONS = 4;
+
+    @Test
+    void testMatching() {
+        ChoiceIndex index = ChoiceIndex.of(HOSTS);
+        assertEquals(HOSTS.size(), index.size());
+        assertEquals("db", index.match("DB")); // exact before prefix
+        assertEquals("cache", index.match("ca"));
+        assertEquals("WEB-10", index.match("web-1"));
+        assertNull(index.match("web"));
+        assertNull(index.match("webs"));
+        assertEquals(List.of("web-02", "web-01"), index.suggest("web", 2));
+        assertEquals(List.of("web-02", "web-01", "WEB-10"),
+            index.suggest("web-3", SUGGESTIONS)); // longest matching prefix
+        assertEquals(List.of("web-02", "web-01"), index.suggest("x", 2));
+        assertEquals(1, ChoiceIndex.of(List.of("a", "a")).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> ChoiceIndex.of(List.of("a", "A")));
+        ChoiceIndex empty = ChoiceIndex.of(List.of());
+        assertNull(empty.match("a"));
+        assertEquals(List.of(), empty.suggest("a", 1));
+    }
+
+    @Test
+    void testRandomOptions() {
+        Random random = new Random(1);
+        List<String> options = new ArrayList<>();
+        for (int i = 0; i < RANDOM_OPTIONS; i++) {
+            String option = randomString(random);
+            if (!options.contains(option)) {
+                options.add(option);
+            }
+        }
+        ChoiceIndex index = ChoiceIndex.of(options);
+        for (int i = 0; i < RANDOM_ANSWERS; i++) {
+            String answer = randomString(random);
+            List<String> started = new ArrayList<>();
+            for (String option : options) {
+                if (option.startsWith(answer)) {
+                    started.add(option);
+                }
+            }
+            String expected = options.contains(answer) ? answer
+                : started.size() == 1 ? started.get(0) : null;
+            assertEquals(expected, index.match(answer), answer);
+            if (!started.isEmpty()) {
+                assertEquals(started.subList(0,
+                        Math.min(SUGGESTIONS, started.size())),
+                    index.suggest(answer, SUGGESTIONS), answer);
+            }
+        }
+    }
+
+    private static String randomString(final Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = 1 + random.nextInt(SUGGESTIONS * 2);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(SUGGESTIONS)));
+        }
+        return text.toString();
+    }
+
+    @Test
+    void testPrompt() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChoicePrompt prompt = new ChoicePrompt(ChoiceIndex.of(HOSTS), 2);
+        assertEquals("web-01", prompt.prompt(new Scanner("""
+            web
+            wbe
+            Web-01
+            """), new PrintStream(output, true, StandardCharsets.UTF_8),
+            null));
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains(
+            "Answer matches several options: web-02, web-01"), printed);
+        assertTrue(printed.contains(
+            "Answer matches no option, did you mean: web-02, web-01"),
+            printed);
+    }
+
+    @Test
+    void testRebuild() {
+        ChoiceIndex hosts = ChoiceIndex.of(HOSTS);
+        ChoicePrompt prompt = new ChoicePrompt(hosts);
+        List<Runnable> pending = new ArrayList<>();
+        CompletableFuture<ChoiceIndex> rebuilt =
+            prompt.rebuild(List.of("queue"), pending::add);
+        assertSame(hosts, prompt.getIndex()); // not built yet
+        pending.remove(0).run();
+        assertSame(rebuilt.join(), prompt.getIndex());
+        assertEquals("queue", prompt.getIndex().match("q"));
+        CompletableFuture<ChoiceIndex> superseded =
+            prompt.rebuild(List.of("mail"), pending::add);
+        prompt.setIndex(hosts);
+        pending.remove(0).run();
+        assertEquals("mail", superseded.join().match("m"));
+        assertSame(hosts, prompt.getIndex());
+    }
+}
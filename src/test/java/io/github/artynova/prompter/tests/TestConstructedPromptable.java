@@ -0,0 +1,66 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.Promptable;
+import io.github.artynova.annotations.runtime.PromptConstructor;
+import io.github.artynova.annotations.runtime.PromptMessage;
+
+import java.util.Arrays;
+
+/**
+ * An immutable {@link Promptable} created through an annotated
+ * constructor, used in tests.
+ */
+public final class TestConstructedPromptable implements Promptable {
+    /**
+     * First test field.
+     */
+    private final TestPromptable first;
+    /**
+     * Second test field.
+     */
+    private final long[] second;
+
+    /**
+     * Creates a populated {@link TestConstructedPromptable}.
+     *
+     * @param first First test field.
+     * @param second Second test field.
+     */
+    @PromptConstructor({"first", "second"})
+    public TestConstructedPromptable(final TestPromptable first,
+        @PromptMessage("Second: ") final long[] second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * @return First test field.
+     */
+    public TestPromptable getFirst() {
+        return first;
+    }
+
+    /**
+     * @return Second test field.
+     */
+    public long[] getSecond() {
+        return second.clone();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TestConstructedPromptable that = (TestConstructedPromptable) o;
+        return first.equals(that.first) && Arrays.equals(second, that.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * first.hashCode() + Arrays.hashCode(second);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.exceptions.BatchAnswerException;
+import io.github.artynova.prompts.DelimitedImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestDelimitedImporter {
+    /**
+     * Number of records, enough for several chunks.
+     */
+    private static final int RECORDS = 50_000;
+
+    @Test
+    void testOrderAcrossChunks(@TempDir final Path directory)
+        throws IOException {
+        StringBuilder text = new StringBuilder("count,name\r\n");
+        for (int i = 0; i < RECORDS; i++) {
+            text.append(i).append(",\"Name, \"\"").append(i).append("\"\"\"\n");
+        }
+        Path file = Files.writeString(directory.resolve("records.csv"), text);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<TestRecordPromptable> records =
+                DelimitedImporter.csv(TestRecordPromptable.class)
+                    .importFile(file, pool);
+            assertEquals(RECORDS, records.size());
+            for (int i = 0; i < RECORDS; i++) {
+                assertEquals(new TestRecordPromptable(
+                    "Name, \"" + i + "\"", i), records.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidRecords(@TempDir final Path directory)
+        throws IOException {
+        StringBuilder text = new StringBuilder("count\n");
+        for (int i = 0; i < RECORDS; i++) {
+            text.append(i == RECORDS - 2 ? TestValidatedPromptable.MAX_COUNT + 1
+                : i % TestValidatedPromptable.MAX_COUNT).append('\n');
+        }
+        Path file = Files.writeString(directory.resolve("counts.tsv"), text);
+        BatchAnswerException e = assertThrows(BatchAnswerException.class,
+            () -> DelimitedImporter.tsv(TestValidatedPromptable.class)
+                .importFile(file));
+        assertEquals(RECORDS, e.getLineNumber());
+        assertTrue(e.getMessage().contains("Column count"), e.getMessage());
+
+        Path unknown = Files.writeString(directory.resolve("unknown.csv"),
+            "name,count,extra\nAda,1,x\n");
+        assertEquals(1, assertThrows(BatchAnswerException.class,
+            () -> DelimitedImporter.csv(TestRecordPromptable.class)
+                .importFile(unknown)).getLineNumber());
+        Path missing = Files.writeString(directory.resolve("missing.csv"),
+            "name,count\nAda,1\n,2\n");
+        assertEquals(3, assertThrows(BatchAnswerException.class,
+            () -> DelimitedImporter.csv(TestRecordPromptable.class)
+                .importFile(missing)).getLineNumber());
+    }
+}
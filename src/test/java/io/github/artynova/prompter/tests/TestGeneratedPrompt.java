@@ -0,0 +1,194 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.Promptable;
+import io.github.artynova.annotations.runtime.PromptedBy;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.prompts.PromptStateMachine;
+import io.github.artynova.prompts.PromptablePrompt;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Scanner;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestGeneratedPrompt {
+    /**
+     * Prefix of the lines that reject answers.
+     */
+    private static final String REJECTED = "Please try again";
+
+    @Test
+    void testRegistration() {
+        assertEquals(GeneratedOrderPrompt.class,
+            GeneratedOrder.class.getAnnotation(PromptedBy.class).value());
+        assertInstanceOf(GeneratedOrderPrompt.class,
+            PromptManager.getPromptFor(GeneratedOrder.class));
+    }
+
+    @Test
+    void testSameAsReflective() {
+        // the reflective prompt asks in the order of introspection, which
+        // is neither the declaration order nor alphabetical here
+        for (List<String> lines : List.of(
+            List.of("n", "fragile", "book", "3"),
+            List.of("n", "", "", "book", "three", "3"),
+            List.of("y"))) {
+            assertSameAnswers(GeneratedOrder.class, new GeneratedOrderPrompt(),
+                lines, order -> Arrays.asList(order.getCount(),
+                    order.getItem(), order.getNote()));
+        }
+        for (List<String> lines : List.of(
+            List.of("n", "Friday", "12", "Dune"),
+            List.of("n", "", "x", "12", "", "Dune"))) {
+            assertSameAnswers(GeneratedTicket.class,
+                new GeneratedTicketPrompt(), lines,
+                ticket -> Arrays.asList(ticket.getTitle(),
+                    ticket.getPrice(), ticket.getDate()));
+        }
+        StringBuilder transcript = new StringBuilder();
+        GeneratedTicket ticket = prompt(new GeneratedTicketPrompt(),
+            List.of("n", "Friday", "12", "Dune"), transcript);
+        assertEquals("Dune", ticket.getTitle());
+        assertEquals(12, ticket.getPrice());
+        assertEquals("Friday", ticket.getDate());
+        assertTrue(transcript.indexOf("Date: ")
+            < transcript.indexOf("Title: "));
+        assertEquals(List.of(REJECTED + ", answer is invalid: "
+                + "Item cannot be missing", REJECTED
+                + ", answer is invalid: For input string: \"three\""),
+            rejections(new GeneratedOrderPrompt(),
+                List.of("n", "", "", "book", "three", "3")));
+    }
+
+    @Test
+    void testGeneratedRecord() {
+        assertTrue(GeneratedParcel.class.isRecord());
+        assertEquals(GeneratedParcelPrompt.class,
+            GeneratedParcel.class.getAnnotation(PromptedBy.class).value());
+        assertInstanceOf(GeneratedParcelPrompt.class,
+            PromptManager.getPromptFor(GeneratedParcel.class));
+        assertEquals("Label cannot be missing", assertThrows(
+            IllegalArgumentException.class,
+            () -> new GeneratedParcel(null, 1)).getMessage());
+        // the canonical constructor rejects the missing label after the
+        // weight, and both prompts then ask for the whole record again
+        List<String> lines = List.of("n", "", "x", "12", "n", "books", "12");
+        assertSameAnswers(GeneratedParcel.class, new GeneratedParcelPrompt(),
+            lines, parcel -> List.of(parcel));
+        assertEquals(List.of(REJECTED + ", answer is invalid: "
+                + "For input string: \"x\"", REJECTED
+                + ", answer is invalid: Label cannot be missing"),
+            rejections(new GeneratedParcelPrompt(), lines));
+        assertEquals(new GeneratedParcel("books", 12),
+            prompt(new GeneratedParcelPrompt(), lines, new StringBuilder()));
+        assertNull(prompt(new GeneratedParcelPrompt(), List.of("y"),
+            new StringBuilder()));
+    }
+
+    @Test
+    void testStateMachine() {
+        String input = """
+            n
+
+
+            book
+            three
+            3
+            """;
+        ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        GeneratedOrder expected = new GeneratedOrderPrompt().prompt(
+            new Scanner(input),
+            new PrintStream(expectedOutput, true, StandardCharsets.UTF_8),
+            "Order:");
+        PromptStateMachine<GeneratedOrder> machine =
+            new PromptStateMachine<>(new GeneratedOrderPrompt(), "Order:");
+        StringBuilder output = new StringBuilder(machine.start());
+        input.lines().forEach(line -> output.append(machine.feed(line)));
+        assertTrue(machine.isDone());
+        assertEquals(expectedOutput.toString(StandardCharsets.UTF_8),
+            output.toString());
+        assertEquals(expected.getCount(), machine.getValue().getCount());
+        assertEquals(expected.getItem(), machine.getValue().getItem());
+        assertNull(machine.getValue().getNote());
+        PromptStateMachine<GeneratedParcel> parcel =
+            new PromptStateMachine<>(new GeneratedParcelPrompt(), "Parcel:");
+        parcel.start();
+        List.of("n", "", "12", "n", "books", "12").forEach(parcel::feed);
+        assertEquals(new GeneratedParcel("books", 12), parcel.getValue());
+    }
+
+    /**
+     * Feeds the same answers to the reflective and the generated prompt of
+     * a class, and checks that they ask the same questions and give the
+     * same answer.
+     *
+     * @param beanClass The class.
+     * @param generated The generated prompt.
+     * @param lines The answers, in the order they are given.
+     * @param properties Gets the properties to compare from an answer.
+     * @param <V> Class of the answer.
+     */
+    private static <V extends Promptable> void assertSameAnswers(
+        final Class<V> beanClass, final Prompt<V> generated,
+        final List<String> lines, final Function<V, List<?>> properties) {
+        StringBuilder expectedTranscript = new StringBuilder();
+        V expected = prompt(new PromptablePrompt<>(beanClass), lines,
+            expectedTranscript);
+        StringBuilder transcript = new StringBuilder();
+        V answer = prompt(generated, lines, transcript);
+        assertEquals(expectedTranscript.toString(), transcript.toString());
+        if (expected == null) {
+            assertNull(answer);
+        } else {
+            assertEquals(properties.apply(expected), properties.apply(answer));
+        }
+    }
+
+    private static List<String> rejections(final Prompt<?> prompt,
+        final List<String> lines) {
+        StringBuilder transcript = new StringBuilder();
+        prompt(prompt, lines, transcript);
+        List<String> rejections = new ArrayList<>();
+        for (String line : transcript.toString().split("\\R")) {
+            int start = line.indexOf(REJECTED);
+            if (start >= 0) {
+                rejections.add(line.substring(start));
+            }
+        }
+        return rejections;
+    }
+
+    /**
+     * Prompts with a script of answers.
+     *
+     * @param prompt The prompt.
+     * @param lines The answers, in the order they are given, after which the
+     * input ends.
+     * @param transcript Builder to write the questions and answers to.
+     * @param <V> Class of the answer.
+     * @return The answer.
+     */
+    private static <V> V prompt(final Prompt<V> prompt,
+        final List<String> lines, final StringBuilder transcript) {
+        Deque<String> answers = new ArrayDeque<>(lines);
+        PromptOutput output = PromptOutput.of(transcript);
+        PromptInput input = answers::poll;
+        return prompt.prompt(input.withOutput(output), output, "Order:");
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.exceptions.PromptAnswerException;
+import io.github.artynova.prompts.Rejection;
+import io.github.artynova.utils.ParseUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestParseUtils {
+    /**
+     * Answers that exercise signs, bounds, leading zeros and invalid forms.
+     */
+    private static final List<String> NUMBERS = List.of("0", "-0", "+7",
+        "127", "-128", "128", "32767", "-32768", "32768", "2147483647",
+        "-2147483648", "2147483648", "9223372036854775807",
+        "-9223372036854775808", "9223372036854775808", "007", "1.5", ".5",
+        "5.", "-.25", "0.1", "123456789012345", "1234567890123456",
+        "0.000000000000000000001", "3.4028235e38", "1e-50", "0x1p3", " 1",
+        "NaN", "-Infinity", "2.5f", "", "-", "+", ".", "1..2", "abc",
+        "12a");
+
+    /**
+     * Asserts that a parser of character sequences agrees with a parser of
+     * strings, either on the value or on the exception message.
+     *
+     * @param expected The string parser.
+     * @param actual The character sequence parser.
+     * @param answer The answer.
+     */
+    private static void assertSameParse(final Function<String, ?> expected,
+        final Function<CharSequence, ?> actual, final String answer) {
+        Object value;
+        try {
+            value = expected.apply(answer);
+        } catch (NumberFormatException e) {
+            NumberFormatException thrown = assertThrows(
+                NumberFormatException.class,
+                () -> actual.apply(CharBuffer.wrap(answer)), answer);
+            assertEquals(e.getMessage(), thrown.getMessage());
+            return;
+        }
+        assertEquals(value, actual.apply(CharBuffer.wrap(answer)), answer);
+    }
+
+    @Test
+    void testNumbers() {
+        for (String answer : NUMBERS) {
+            assertSameParse(Byte::parseByte, ParseUtils::parseByte, answer);
+            assertSameParse(Short::parseShort, ParseUtils::parseShort,
+                answer);
+            assertSameParse(Integer::parseInt, ParseUtils::parseInt, answer);
+            assertSameParse(Long::parseLong, ParseUtils::parseLong, answer);
+            assertSameParse(Float::parseFloat, ParseUtils::parseFloat,
+                answer);
+            assertSameParse(Double::parseDouble, ParseUtils::parseDouble,
+                answer);
+        }
+    }
+
+    @Test
+    void testDecimals() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            String answer = random.nextInt(1_000_000_000) + "."
+                + random.nextInt(1_000_000);
+            if (random.nextBoolean()) {
+                answer = "-" + answer;
+            }
+            assertSameParse(Float::parseFloat, ParseUtils::parseFloat,
+                answer.substring(0, 1 + random.nextInt(answer.length())));
+            assertSameParse(Double::parseDouble, ParseUtils::parseDouble,
+                answer);
+        }
+        assertEquals(Double.doubleToLongBits(-0.0),
+            Double.doubleToLongBits(ParseUtils.parseDouble("-0.0")));
+    }
+
+    @Test
+    void testRejections() {
+        Rejection rejection = new Rejection();
+        assertEquals(42, ParseUtils.parseInt("42", rejection));
+        assertFalse(rejection.isRejected());
+        ParseUtils.parseInt("4x2", rejection);
+        assertEquals("For input string: \"4x2\"", rejection.getReason());
+        Rejection outOfRange = new Rejection();
+        ParseUtils.parseByte("200", outOfRange);
+        assertEquals("Value out of range. Value:\"200\" Radix:10",
+            outOfRange.getReason());
+        Rejection notNumber = new Rejection();
+        ParseUtils.parseDouble("n/a", notNumber);
+        assertTrue(notNumber.isRejected());
+        assertThrows(NullPointerException.class,
+            () -> notNumber.reject(null)); // would not reject
+    }
+
+    @Test
+    void testWords() {
+        assertTrue(ParseUtils.parseBoolean(CharBuffer.wrap("TrUe")));
+        assertFalse(ParseUtils.parseBoolean(CharBuffer.wrap("FALSE")));
+        assertTrue(ParseUtils.parseBoolean("1"));
+        assertThrows(PromptAnswerException.class,
+            () -> ParseUtils.parseBoolean("2"));
+        assertThrows(PromptAnswerException.class,
+            () -> ParseUtils.parseBoolean("yes"));
+        assertTrue(ParseUtils.parseYesNo(CharBuffer.wrap("Y")));
+        assertFalse(ParseUtils.parseYesNo("n"));
+        assertThrows(PromptAnswerException.class,
+            () -> ParseUtils.parseYesNo("yes"));
+        assertEquals('\u00e9', ParseUtils.parseCharacter("\u00e9"));
+        assertThrows(IllegalArgumentException.class,
+            () -> ParseUtils.parseCharacter("ab"));
+    }
+}
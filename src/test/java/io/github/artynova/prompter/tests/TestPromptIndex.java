@@ -0,0 +1,27 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptIndex;
+import io.github.artynova.Promptable;
+import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.Prompt;
+
+/**
+ * A {@link PromptIndex} registered as a service in the test resources, in
+ * place of one generated by the processor.
+ */
+public final class TestPromptIndex implements PromptIndex {
+    @Override
+    public Prompt<?> newPrompt(final Class<?> valueClass) {
+        return valueClass == Indexed.class
+            ? new OneLinePrompt<>(Indexed.class, Indexed::new) : null;
+    }
+
+    /**
+     * A {@link Promptable} without properties, which only the index can
+     * prompt for.
+     *
+     * @param value The answer.
+     */
+    public record Indexed(String value) implements Promptable {
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestPromptInput {
+    /**
+     * Text with all line terminators, multibyte characters and a line longer
+     * than the buffers.
+     */
+    private static final String TEXT = "plain\r\n\n"
+        + "\u043f\u0440\u0438, \u4e16\u754c \ud83d\ude42\r"
+        + "\rlast".repeat(2) + "x".repeat(20_000) + "\nend";
+    /**
+     * Lines of {@link #TEXT}.
+     */
+    private static final List<String> LINES = TEXT.lines().toList();
+
+    private static List<String> readAll(final PromptInput input) {
+        List<String> lines = new ArrayList<>();
+        CharSequence line;
+        while ((line = input.readLine()) != null) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Creates a stream that returns at most one byte per read, so that
+     * lines and multibyte characters are split across reads.
+     *
+     * @param text The text.
+     * @param charset Charset of the stream.
+     * @return The stream.
+     */
+    private static InputStream trickle(final String text,
+        final Charset charset) {
+        return new FilterInputStream(
+            new ByteArrayInputStream(text.getBytes(charset))) {
+            @Override
+            public int read(final byte[] b, final int off, final int len)
+                throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    void testSources() {
+        assertEquals(LINES, readAll(PromptInput.of(TEXT)));
+        assertEquals(LINES, readAll(PromptInput.of(new StringReader(TEXT))));
+        assertEquals(LINES,
+            readAll(PromptInput.of(trickle(TEXT, StandardCharsets.UTF_8))));
+        assertEquals(LINES, readAll(PromptInput.of(
+            Channels.newChannel(trickle(TEXT, StandardCharsets.UTF_8)))));
+        assertEquals(LINES, readAll(PromptInput.of(
+            trickle(TEXT, StandardCharsets.UTF_16), StandardCharsets.UTF_16)));
+        String latin = "caf\u00e9\r\nna\u00efve";
+        assertEquals(latin.lines().toList(), readAll(PromptInput.of(
+            trickle(latin, StandardCharsets.ISO_8859_1),
+            StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void testMappedFile(@TempDir final Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("answers.txt"), TEXT);
+        assertEquals(LINES, readAll(PromptInput.of(file)));
+        // windows smaller than most lines force remapping at every line
+        assertThrows(EndOfInputException.class,
+            () -> readAll(PromptInput.of(file, 64)));
+        String shortLines = String.join("\r\n", LINES.subList(0, 4)) + "\r";
+        assertEquals(LINES.subList(0, 4), readAll(PromptInput.of(
+            Files.writeString(directory.resolve("short.txt"), shortLines),
+            24)));
+        Path empty = Files.writeString(directory.resolve("empty.txt"), "");
+        assertEquals(List.of(), readAll(PromptInput.of(empty)));
+        PromptInput input = PromptInput.of(Files.writeString(
+            directory.resolve("prompts.txt"), "1\r\nn\r\n3\n4\n\n"), 4);
+        assertEquals(1, PromptManager.getPromptFor(int.class)
+            .prompt(input, PromptOutput.nullOutput(), null));
+        assertArrayEquals(new Integer[] {3, 4},
+            PromptManager.getPromptFor(Integer[].class)
+                .prompt(input, PromptOutput.nullOutput(), null));
+    }
+
+    @Test
+    void testMalformedBytes() {
+        byte[] bytes = {'a', (byte) 0xC0, (byte) 0xAF, 'b', (byte) 0xE2,
+            (byte) 0x82, '\n', (byte) 0xED, (byte) 0xA0, (byte) 0x80};
+        assertEquals(List.of("a\uFFFD\uFFFDb\uFFFD\uFFFD",
+            "\uFFFD\uFFFD\uFFFD"),
+            readAll(PromptInput.of(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void testPrompts() {
+        PromptOutput out = PromptOutput.nullOutput();
+        PromptInput input = PromptInput.of(new ByteArrayInputStream(
+            "1\r\nn\r\n3\n4\n\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, PromptManager.getPromptFor(int.class)
+            .prompt(input, out, null));
+        assertArrayEquals(new Integer[] {3, 4},
+            PromptManager.getPromptFor(Integer[].class)
+                .prompt(input, out, null));
+        assertThrows(EndOfInputException.class,
+            () -> PromptManager.getPromptFor(int.class)
+                .prompt(input, out, null));
+    }
+}
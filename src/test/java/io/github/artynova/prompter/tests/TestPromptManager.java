@@ -0,0 +1,243 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.PromptReference;
+import io.github.artynova.PromptScope;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.PromptAbortedException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.OneLinePrompt;
+import io.github.artynova.prompts.Prompt;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestPromptManager {
+    /**
+     * Marker that releases a blocked input.
+     */
+    private static final String RELEASED = "\0";
+
+    @Test
+    void testConcurrentInstantiation() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Callable<Prompt<Short[][]>>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    return PromptManager.getPromptFor(Short[][].class);
+                });
+            }
+            List<Future<Prompt<Short[][]>>> futures = new ArrayList<>();
+            for (Callable<Prompt<Short[][]>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            Prompt<Short[][]> first = futures.get(0).get();
+            for (Future<Prompt<Short[][]>> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testScopedOverride() {
+        Prompt<String> global = PromptManager.getPromptFor(String.class);
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.registerPrompt(String.class,
+                new OneLinePrompt<>(String.class, String::toUpperCase));
+            assertEquals(new TestPromptable("ANSWER"),
+                prompt(TestPromptable.class, """
+                    n
+                    answer
+                    """)); // override applies to nested properties
+            try (PromptScope nested = PromptManager.openScope()) {
+                assertSame(nested, PromptManager.currentScope());
+                assertEquals("NESTED", prompt(String.class, "nested\n"));
+            }
+            assertSame(scope, PromptManager.currentScope());
+        }
+        assertNull(PromptManager.currentScope());
+        assertSame(global, PromptManager.getPromptFor(String.class));
+        assertEquals(new TestPromptable("answer"),
+            prompt(TestPromptable.class, """
+                n
+                answer
+                """));
+    }
+
+    @Test
+    void testReferenceInScope() {
+        PromptReference<String> reference =
+            new PromptReference<>(String.class);
+        Prompt<String> global = reference.get();
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.setMaxRetries(1);
+            assertSame(global, reference.get()); // limits keep the prompt
+            Prompt<String> override =
+                new OneLinePrompt<>(String.class, String::trim);
+            try (PromptScope nested = PromptManager.openScope()) {
+                assertSame(nested, PromptManager.currentScope());
+                scope.registerPrompt(String.class, override);
+                assertSame(override, reference.get()); // enclosing override
+            }
+        }
+        assertSame(global, reference.get());
+    }
+
+    @Test
+    void testScopeClosedOutOfOrder() {
+        PromptScope outer = PromptManager.openScope();
+        PromptScope inner = PromptManager.openScope();
+        assertThrows(IllegalStateException.class, outer::close);
+        inner.close();
+        outer.close();
+        assertNull(PromptManager.currentScope());
+    }
+
+    @Test
+    void testIndexedPrompt() {
+        assertEquals(new TestPromptIndex.Indexed("answer"),
+            prompt(TestPromptIndex.Indexed.class, "answer\n"));
+        assertEquals(new TestPromptable("answer"),
+            prompt(TestPromptable.class, """
+                n
+                answer
+                """)); // classes outside the index are inspected
+    }
+
+    @Test
+    void testRetryLimit() {
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.setMaxRetries(1);
+            assertEquals(new TestPromptable("answer"),
+                prompt(TestPromptable.class, """
+                    x
+                    n
+                    answer
+                    """));
+            PromptAbortedException e =
+                assertThrows(PromptAbortedException.class,
+                    () -> prompt(Integer[].class, """
+                        n
+                        x
+                        y
+                        """)); // nested prompts propagate the abort
+            assertEquals(PromptAbortedException.Reason.RETRIES_EXHAUSTED,
+                e.getReason());
+            e = assertThrows(PromptAbortedException.class,
+                () -> prompt(int[].class, """
+                    n
+                    1
+                    x
+                    y
+                    """)); // so do the elements of primitive arrays
+            assertEquals(PromptAbortedException.Reason.RETRIES_EXHAUSTED,
+                e.getReason());
+            try (PromptScope nested = PromptManager.openScope()) {
+                assertEquals(1, nested.getMaxRetries()); // inherited
+            }
+        }
+    }
+
+    @Test
+    void testCancellation() throws Exception {
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        PromptInput input = () -> {
+            try {
+                String line = lines.take();
+                if (line.equals(RELEASED)) {
+                    throw new EndOfInputException("Input is released");
+                }
+                return line;
+            } catch (InterruptedException e) {
+                throw new EndOfInputException("Interrupted", e);
+            }
+        };
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.onCancel(() -> lines.add(RELEASED));
+            lines.add("n");
+            Thread canceller = new Thread(() -> {
+                while (!lines.isEmpty()) {
+                    Thread.onSpinWait();
+                }
+                scope.cancel(); // while the bean waits for its property
+            });
+            canceller.start();
+            PromptAbortedException e = assertThrows(
+                PromptAbortedException.class,
+                () -> PromptManager.getPromptFor(TestPromptable.class)
+                    .prompt(input, PromptOutput.nullOutput(), null));
+            canceller.join();
+            assertEquals(PromptAbortedException.Reason.CANCELLED,
+                e.getReason());
+            assertTrue(scope.isCancelled());
+            try (PromptScope nested = PromptManager.openScope()) {
+                assertTrue(nested.isCancelled());
+                assertThrows(PromptAbortedException.class,
+                    () -> prompt(String.class, "answer\n"));
+            }
+        }
+    }
+
+    @Test
+    void testTimeouts() {
+        PromptInput idle = () -> {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+                return null;
+            } catch (InterruptedException e) {
+                throw new EndOfInputException("Interrupted", e);
+            }
+        };
+        Thread prompting = Thread.currentThread();
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.setAnswerTimeout(Duration.ofMillis(50));
+            scope.onCancel(prompting::interrupt);
+            PromptAbortedException e = assertThrows(
+                PromptAbortedException.class,
+                () -> PromptManager.getPromptFor(String.class)
+                    .prompt(idle, PromptOutput.nullOutput(), null));
+            assertEquals(PromptAbortedException.Reason.TIMED_OUT,
+                e.getReason());
+        }
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.setDeadline(Duration.ZERO);
+            assertThrows(PromptAbortedException.class,
+                () -> prompt(String.class, "answer\n"));
+        }
+        assertEquals("answer", prompt(String.class, "answer\n"));
+    }
+
+    private static <V> V prompt(final Class<V> valueClass,
+        final String input) {
+        PrintStream silentOutput =
+            new PrintStream(OutputStream.nullOutputStream());
+        return PromptManager.getPromptFor(valueClass)
+            .prompt(new Scanner(input), silentOutput, null);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.exceptions.RejectedAnswerException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.LatencyHistogram;
+import io.github.artynova.metrics.PromptMetrics;
+import io.github.artynova.metrics.PromptStats;
+import io.github.artynova.prompts.ArrayPrompt;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestPromptMetrics {
+    /**
+     * Prompts for a value with the installed metrics.
+     *
+     * @param metrics The metrics to install for the duration of the prompt.
+     * @param valueClass Class of the value.
+     * @param input String that contains the mocked user input.
+     */
+    private static void prompt(final PromptMetrics metrics,
+        final Class<?> valueClass, final String input) {
+        PromptManager.setListener(metrics);
+        try {
+            PromptManager.getPromptFor(valueClass).prompt(
+                PromptInput.of(input), PromptOutput.nullOutput(), null);
+        } finally {
+            PromptManager.setListener(null);
+        }
+    }
+
+    @Test
+    void testPropertyEvents() {
+        PromptMetrics metrics = new PromptMetrics();
+        prompt(metrics, TestValidatedPromptable.class, """
+            n
+            -1
+            a
+            1001
+            7
+            """);
+        PromptStats count = metrics.get(Integer.class, "count");
+        assertEquals(1, count.getStarted());
+        assertEquals(1, count.getCompleted());
+        assertEquals(3, count.getRetries());
+        assertEquals(3, count.getRejections());
+        assertEquals(2, count.getRejections(RejectedAnswerException.class));
+        assertEquals(4, count.getParseLatency().getCount());
+        PromptStats bean = metrics.get(TestValidatedPromptable.class, null);
+        assertEquals(1, bean.getCompleted());
+        assertEquals(0, bean.getRetries());
+        assertTrue(bean.getLatency().getMax()
+            >= count.getLatency().getMax());
+    }
+
+    @Test
+    void testElementEvents() {
+        PromptMetrics metrics = new PromptMetrics();
+        prompt(metrics, Integer[].class, """
+            n
+            1
+            x
+            2
+
+            """);
+        PromptStats elements = metrics.get(Integer.class,
+            ArrayPrompt.ELEMENT_PROPERTY);
+        assertEquals(3, elements.getCompleted());
+        assertEquals(1, elements.getRejections());
+        assertEquals(1, metrics.get(Integer[].class, null).getCompleted());
+        prompt(metrics, int[].class, """
+            n
+            1
+            x
+            2
+
+            """);
+        PromptStats primitives = metrics.get(int.class,
+            ArrayPrompt.ELEMENT_PROPERTY);
+        assertEquals(3, primitives.getCompleted());
+        assertEquals(1, primitives.getRejections());
+        assertEquals(1, primitives.getRetries());
+        assertEquals(1, metrics.get(int[].class, null).getCompleted());
+    }
+
+    @Test
+    void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 500_000 && median < 500_000 * 1.04, "" + median);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(1000, histogram.getValueAtPercentile(0), 1000 * 0.04);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class TestPromptOutput {
+    @Test
+    void testEncoding() {
+        String text = "x".repeat(8190)
+            + "\ud83d\ude42 caf\u00e9 \u4e16";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PromptOutput out = PromptOutput.of(bytes);
+        out.print("a");
+        assertEquals(0, bytes.size()); // nothing leaves before the flush
+        out.print(text).print(Long.MIN_VALUE).print(0).print(-7)
+            .print(Long.MAX_VALUE).println().print((CharSequence) null);
+        out.flush();
+        String expected = "a" + text + Long.MIN_VALUE + 0 + -7 + Long.MAX_VALUE
+            + System.lineSeparator() + "null";
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+
+        StringBuilder chars = new StringBuilder();
+        PromptOutput.of(chars).print(text).print(1).flush();
+        assertEquals(text + 1, chars.toString());
+    }
+
+    @Test
+    void testFlushBeforeBlocking() {
+        StringBuilder output = new StringBuilder();
+        PromptOutput out = PromptOutput.of(output);
+        List<String> seenBeforeReads = new ArrayList<>();
+        byte[] answers = "n\nfirst\n".getBytes(StandardCharsets.UTF_8);
+        InputStream in = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                return position < answers.length ? answers[position++] : -1;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                seenBeforeReads.add(output.toString());
+                if (position == answers.length) {
+                    return -1;
+                }
+                b[off] = answers[position++]; // one byte per blocking read
+                return 1;
+            }
+        };
+        TestPromptable bean = PromptManager.getPromptFor(TestPromptable.class)
+            .prompt(PromptInput.of(in).withOutput(out), out, "Bean:");
+        assertEquals(new TestPromptable("first"), bean);
+        String ask = "Bean:" + System.lineSeparator()
+            + "Try to skip aggregate? y/n: ";
+        assertEquals(ask, seenBeforeReads.get(0));
+        assertEquals(ask + "Input field: ", seenBeforeReads.get(2));
+        out.flush();
+        assertEquals(ask + "Input field: ", output.toString());
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.PromptPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestPromptPublisher {
+    /**
+     * Answers for two beans followed by a skipped one.
+     */
+    private static final String ANSWERS = """
+        n
+        first
+        n
+        second
+        y
+        """;
+
+    /**
+     * Subscriber that records the signals and requests values only when
+     * the test asks it to.
+     */
+    private static final class RecordingSubscriber
+        implements Flow.Subscriber<TestPromptable> {
+        /**
+         * Received values.
+         */
+        private final List<TestPromptable> values = new ArrayList<>();
+        /**
+         * The subscription.
+         */
+        private Flow.Subscription subscription;
+        /**
+         * Received error, if any.
+         */
+        private Throwable error;
+        /**
+         * Whether the stream completed.
+         */
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(final TestPromptable item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Subscribes a recording subscriber to a publisher that runs prompts on
+     * the calling thread.
+     *
+     * @param input The input.
+     * @return The subscriber.
+     */
+    private static RecordingSubscriber subscribe(final PromptInput input) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PromptPublisher<>(PromptManager.getPromptFor(TestPromptable.class),
+            input, PromptOutput.nullOutput(), null, Runnable::run)
+            .subscribe(subscriber);
+        return subscriber;
+    }
+
+    @Test
+    void testBackpressure() {
+        PromptInput input = PromptInput.of(ANSWERS + "rest\n");
+        RecordingSubscriber subscriber = subscribe(input);
+        subscriber.subscription.request(1);
+        assertEquals(List.of(new TestPromptable("first")), subscriber.values);
+        subscriber.subscription.request(2);
+        assertEquals(List.of(new TestPromptable("first"),
+            new TestPromptable("second")), subscriber.values);
+        assertTrue(subscriber.completed);
+        assertEquals("rest", input.readLine().toString()); // nothing read ahead
+    }
+
+    @Test
+    void testCancellation() {
+        PromptInput input = PromptInput.of(ANSWERS);
+        RecordingSubscriber subscriber = subscribe(input);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.values.size());
+        assertEquals("n", input.readLine().toString());
+    }
+
+    @Test
+    void testErrors() {
+        RecordingSubscriber ended = subscribe(PromptInput.of("n\nfirst\n"));
+        ended.subscription.request(Long.MAX_VALUE);
+        assertEquals(1, ended.values.size());
+        assertInstanceOf(EndOfInputException.class, ended.error);
+        RecordingSubscriber invalid = subscribe(PromptInput.of(ANSWERS));
+        invalid.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+        assertTrue(invalid.values.isEmpty());
+        PromptPublisher<TestPromptable> publisher = new PromptPublisher<>(
+            PromptManager.getPromptFor(TestPromptable.class),
+            PromptInput.of(ANSWERS), PromptOutput.nullOutput(), null,
+            Runnable::run);
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertNull(first.error);
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.sessions.PromptSessionHost;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestPromptSessionHost {
+    @Test
+    void testSessions() throws Exception {
+        Queue<TestPromptable> results = new ConcurrentLinkedQueue<>();
+        // not a resource, since it is awaited after being closed
+        PromptSessionHost host = new PromptSessionHost(0,
+            (input, out) -> results.add(PromptManager.getPromptFor(
+                TestPromptable.class).prompt(input, out, "Bean:")));
+        try {
+            host.start();
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                host.getPort())) {
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                // the prompt is flushed before the session blocks for input
+                assertEquals("Bean:", readLine(in));
+                out.write("n\nanswer\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                assertTrue(new String(in.readAllBytes(),
+                    StandardCharsets.UTF_8).endsWith("Input field: "));
+            }
+            // a session that disconnects mid-prompt ends cleanly
+            new Socket(InetAddress.getLoopbackAddress(), host.getPort())
+                .close();
+            assertTimeoutPreemptively(Duration.ofMinutes(1), () -> {
+                while (host.getCompletedSessions() < 2) {
+                    Thread.sleep(10);
+                }
+            });
+        } finally {
+            host.close();
+        }
+        assertTrue(host.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(new TestPromptable("answer"), results.poll());
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    void testIdleSession() throws Exception {
+        try (PromptSessionHost host = new PromptSessionHost(0,
+            (input, out) -> PromptManager.getPromptFor(TestPromptable.class)
+                .prompt(input, out, "Bean:"))) {
+            host.setAnswerTimeout(Duration.ofMillis(100));
+            host.start();
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                host.getPort())) {
+                InputStream in = socket.getInputStream();
+                assertEquals("Bean:", readLine(in));
+                // the host closes the connection once the answer times out
+                assertTimeoutPreemptively(Duration.ofMinutes(1),
+                    () -> in.readAllBytes());
+            }
+            assertTimeoutPreemptively(Duration.ofMinutes(1), () -> {
+                while (host.getCompletedSessions() < 1) {
+                    Thread.sleep(10);
+                }
+            });
+        }
+    }
+
+    @Test
+    void testRejectedThread() throws Exception {
+        ThreadFactory sessionThreads = PromptSessionHost.defaultThreadFactory();
+        AtomicInteger requests = new AtomicInteger();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        try (PromptSessionHost host = new PromptSessionHost(
+            new ServerSocket(0, 0, InetAddress.getLoopbackAddress()), 1,
+            (input, out) -> PromptManager.getPromptFor(TestPromptable.class)
+                .prompt(input, out, "Bean:"), runnable -> {
+                    switch (requests.incrementAndGet()) {
+                        case 1:
+                            return null;
+                        case 2:
+                            throw new IllegalStateException("Rejected");
+                        default:
+                            return sessionThreads.newThread(runnable);
+                    }
+                })) {
+            host.setErrorHandler((thread, e) -> errors.add(e));
+            host.start();
+            for (int i = 0; i < 2; i++) {
+                // dropped without a session, and without using up the limit
+                try (Socket socket = new Socket(
+                    InetAddress.getLoopbackAddress(), host.getPort())) {
+                    assertTimeoutPreemptively(Duration.ofMinutes(1),
+                        () -> assertEquals(-1,
+                            socket.getInputStream().read()));
+                }
+            }
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                host.getPort())) {
+                assertEquals("Bean:", assertTimeoutPreemptively(
+                    Duration.ofMinutes(1),
+                    () -> readLine(socket.getInputStream())));
+            }
+        }
+        // reported before the rejected connection was dropped
+        Throwable error = errors.poll();
+        assertInstanceOf(IllegalStateException.class, error);
+        assertEquals("Rejected", error.getMessage());
+        assertNull(errors.poll());
+    }
+
+    private static String readLine(final InputStream in) throws Exception {
+        StringBuilder line = new StringBuilder();
+        for (int c = in.read(); c != '\n'; c = in.read()) {
+            line.append((char) c);
+        }
+        return line.toString().strip();
+    }
+}
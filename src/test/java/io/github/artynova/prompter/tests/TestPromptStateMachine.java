@@ -0,0 +1,183 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.Prompt;
+import io.github.artynova.prompts.PromptStateMachine;
+import io.github.artynova.prompts.PromptStep;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestPromptStateMachine {
+    /**
+     * Checks that feeding the input line by line to a state machine yields
+     * the same value and output as the blocking prompt.
+     *
+     * @param prompt The prompt.
+     * @param input String that contains the mocked user input.
+     * @param <V> Type of the result.
+     */
+    private static <V> void testParity(final Prompt<V> prompt,
+        final String input) {
+        ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        V expected = prompt.prompt(new Scanner(input),
+            new PrintStream(expectedOutput, true, StandardCharsets.UTF_8),
+            "Message: ");
+
+        PromptStateMachine<V> machine =
+            new PromptStateMachine<>(prompt, "Message: ");
+        StringBuilder output = new StringBuilder(machine.start());
+        for (String line : input.lines().toList()) {
+            assertFalse(machine.isDone());
+            output.append(machine.feed(line));
+        }
+        assertTrue(machine.isDone());
+        assertTrue(Objects.deepEquals(expected, machine.getValue()));
+        assertEquals(expectedOutput.toString(StandardCharsets.UTF_8),
+            output.toString());
+    }
+
+    @Test
+    void testOneLiners() {
+        testParity(PromptManager.getPromptFor(Integer.class), """
+            a
+            42
+            """);
+        testParity(PromptManager.getPromptFor(char.class), """
+
+            ab
+            c
+            """);
+    }
+
+    @Test
+    void testRecord() {
+        testParity(PromptManager.getPromptFor(TestRecordPromptable.class), """
+            n
+            a
+            -1
+            n
+            b
+            7
+            """);
+    }
+
+    @Test
+    void testArray() {
+        testParity(PromptManager.getPromptFor(Integer[].class), """
+            y
+            """);
+        testParity(PromptManager.getPromptFor(Integer[].class), """
+            maybe
+            n
+            1
+            banana
+            15
+
+            """);
+        testParity(PromptManager.getPromptFor(long[].class), """
+            n
+            1
+            banana
+            15
+
+            """);
+    }
+
+    @Test
+    void testPromptables() {
+        testParity(PromptManager.getPromptFor(TestPromptable.class), """
+            n
+            forty two
+            """);
+        testParity(PromptManager.getPromptFor(TestValidatedPromptable.class),
+            """
+            n
+            -1
+            1001
+            7
+            """);
+        testParity(PromptManager.getPromptFor(TestRecursivePromptable.class),
+            """
+            n
+            n
+            y
+            """);
+    }
+
+    @Test
+    void testCustomPrompt() {
+        Prompt<String> pair = new Prompt<>(String.class) {
+            @Override
+            protected String tryGetAnswer(final PromptInput input,
+                final PromptOutput out, final String message) {
+                out.print(message);
+                String first = input.readLine().toString();
+                boolean twice = PromptManager.YES_NO_PROMPT.promptDefinite(
+                    input, out, "Twice? y/n: ");
+                if (first.isEmpty()) {
+                    throw new IllegalArgumentException("Empty answer");
+                }
+                return twice ? first + first : first;
+            }
+        };
+        testParity(pair, """
+
+            n
+            ab
+            maybe
+            y
+            """);
+    }
+
+    @Test
+    void testLifecycle() {
+        PromptStateMachine<Integer> machine = new PromptStateMachine<>(
+            PromptManager.getPromptFor(Integer.class), null);
+        assertThrows(IllegalStateException.class, () -> machine.feed("1"));
+        assertEquals("Input Integer: ", machine.start());
+        assertThrows(IllegalStateException.class, machine::getValue);
+        assertEquals("", machine.feed("1"));
+        assertEquals(1, machine.getValue());
+        assertThrows(IllegalStateException.class, () -> machine.feed("2"));
+    }
+
+    @Test
+    void testRejectedWithoutInput() {
+        Prompt<Integer> constant = new Prompt<>(Integer.class) {
+            @Override
+            protected PromptStep<Integer> answerStep(final String message) {
+                return new PromptStep<>() {
+                    @Override
+                    protected void onStart(final StringBuilder out) {
+                        finish(1); // answered without input
+                    }
+                };
+            }
+        };
+        int[] attempts = new int[1];
+        PromptStep<Integer> step = constant.step("Message: ", answer -> {
+            if (attempts[0]++ == 0) {
+                throw new IllegalArgumentException("First attempt");
+            }
+            return answer;
+        });
+        StringBuilder output = new StringBuilder();
+        step.start(output);
+        assertTrue(step.isFinished());
+        assertEquals(1, step.getValue());
+        assertEquals("Please try again, answer is invalid: First attempt"
+            + System.lineSeparator(), output.toString());
+    }
+}
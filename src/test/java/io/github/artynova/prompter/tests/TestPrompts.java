@@ -1,16 +1,30 @@
 package io.github.artynova.prompter.tests;
 
 import io.github.artynova.PromptManager;
+import io.github.artynova.PromptScope;
+import io.github.artynova.annotations.runtime.PromptAlias;
+import io.github.artynova.exceptions.EndOfInputException;
+import io.github.artynova.exceptions.IllegalPromptableException;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.prompts.ArrayPrompt;
+import io.github.artynova.prompts.EnumParser;
 import io.github.artynova.prompts.Prompt;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class TestPrompts {
     /**
@@ -189,6 +203,132 @@ final class TestPrompts {
                 """));
     }
 
+    @Test
+    void testEnum() {
+        testPrompt(Flavour.class, """
+            banana
+            3
+            \r
+            """, null);
+        testPrompt(Flavour.class, """
+            banana
+            vanilla
+            """, Flavour.VANILLA);
+        testPrompt(Flavour.class, """
+            Choc
+            """, Flavour.CHOCOLATE);
+        testPrompt(Flavour.class, """
+            -1
+            2
+            """, Flavour.ECLAIR);
+        testPrompt(Flavour.class, "\u00c9CLAIR\n", Flavour.ECLAIR);
+        testPrompt(Flavour.class, "\u00e9clair\n", Flavour.ECLAIR);
+        assertThrows(IllegalPromptableException.class,
+            () -> new EnumParser<>(Ambiguous.class));
+    }
+
+    /**
+     * Enum with aliases.
+     */
+    enum Flavour {
+        /**
+         * Selected by name and ordinal only.
+         */
+        VANILLA,
+        /**
+         * Selected by two aliases too.
+         */
+        @PromptAlias({"choc", "cocoa"})
+        CHOCOLATE,
+        /**
+         * Selected by an alias with a character beyond ASCII too.
+         */
+        @PromptAlias("\u00e9clair")
+        ECLAIR
+    }
+
+    /**
+     * Enum with an alias that is the name of another constant.
+     */
+    enum Ambiguous {
+        /**
+         * The first constant.
+         */
+        FIRST,
+        /**
+         * The second constant.
+         */
+        @PromptAlias("first")
+        SECOND
+    }
+
+    @Test
+    void testArrayStreaming() {
+        ArrayPrompt<Integer> prompt = new ArrayPrompt<>(Integer.class);
+        List<Integer> consumed = new ArrayList<>();
+        PromptInput input = PromptInput.of("""
+            n
+            1
+            a
+            2
+            3
+            4
+            """);
+        assertEquals(3, prompt.promptEach(input, PromptOutput.nullOutput(),
+            null, 3, consumed::add)); // stops without the empty element
+        assertEquals(List.of(1, 2, 3), consumed);
+        assertEquals("4", input.readLine().toString());
+        assertEquals(-1, prompt.promptEach(PromptInput.of("y\n"),
+            PromptOutput.nullOutput(), null, consumed::add));
+        assertEquals(2, prompt.promptEach(PromptInput.of("n\n5\n6\n\n"),
+            PromptOutput.nullOutput(), null, consumed::add));
+        assertEquals(List.of(1, 2, 3, 5, 6), consumed);
+    }
+
+    @Test
+    void testPrimitiveArrays() {
+        testPrompt(int[].class, """
+            y
+            """, null);
+        assertArrayEquals(new int[0], getPromptResult(int[].class, """
+            n
+
+            """));
+        int[] numbers = new int[100];
+        StringBuilder input = new StringBuilder("n\n");
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = i * 7 - 300;
+            input.append(numbers[i]).append("\n");
+        }
+        assertArrayEquals(numbers, getPromptResult(int[].class,
+            input.append("\n").toString()));
+        assertArrayEquals(new double[] {1.5, -2},
+            getPromptResult(double[].class, """
+                n
+                1.5
+                not a number
+                -2
+
+                """));
+        assertArrayEquals(new boolean[] {true, false, true},
+            getPromptResult(boolean[].class, """
+                n
+                1
+                FALSE
+                maybe
+                true
+
+                """));
+        assertArrayEquals(new char[] {'a', 'b'},
+            getPromptResult(char[].class, """
+                n
+                a
+                bc
+                b
+
+                """));
+    }
+
     @Test
     void testPromptable() {
         testPrompt(TestPromptable.class, """
@@ -199,4 +339,97 @@ final class TestPrompts {
             forty two
             """, new TestPromptable("forty two"));
     }
+
+    @Test
+    void testPromptableSetterValidation() {
+        testPrompt(TestValidatedPromptable.class, """
+            n
+            -1
+            a
+            7
+            """, new TestValidatedPromptable(7)); // setter rejects -1
+        testPrompt(TestValidatedPromptable.class, """
+            n
+            1001
+            1000
+            """, new TestValidatedPromptable(1000)); // validator rejects 1001
+    }
+
+    @Test
+    void testRecordPromptable() {
+        testPrompt(TestRecordPromptable.class, """
+            n
+            a
+            -1
+            n
+
+            2
+            n
+            b
+            x
+            3
+            """, new TestRecordPromptable("b", 3)); // constructor rejects
+        testPrompt(TestConstructedPromptable.class, """
+            n
+            n
+            c
+            n
+            4
+            5
+
+            """, new TestConstructedPromptable(new TestPromptable("c"),
+            new long[] {4, 5}));
+    }
+
+    @Test
+    void testRecursivePromptable() {
+        testPrompt(TestRecursivePromptable.class, """
+            n
+            n
+            y
+            """, new TestRecursivePromptable(
+            new TestRecursivePromptable(null)));
+    }
+
+    @Test
+    void testLegacyPrompt() {
+        Prompt<String> legacy = new LegacyPrompt();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals("ANSWER", legacy.prompt(new Scanner("""
+            \r
+            answer
+            """), new PrintStream(output, true, StandardCharsets.UTF_8),
+            "Legacy: "));
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(
+            "Legacy: Please try again, answer is invalid: Empty answer"));
+        try (PromptScope scope = PromptManager.openScope()) {
+            scope.registerPrompt(String.class, legacy);
+            testPrompt(TestPromptable.class, """
+                n
+                answer
+                """, new TestPromptable("ANSWER")); // shares the input
+        }
+        assertThrows(EndOfInputException.class, () -> legacy.prompt(
+            PromptInput.of(""), PromptOutput.nullOutput(), null));
+    }
+
+    /**
+     * Prompt that only implements the {@link Scanner} extension point.
+     */
+    private static final class LegacyPrompt extends Prompt<String> {
+        private LegacyPrompt() {
+            super(String.class);
+        }
+
+        @Override
+        protected String tryGetAnswer(final Scanner scanner,
+            final PrintStream out, final String message) {
+            out.print(message);
+            String line = scanner.nextLine();
+            if (line.isEmpty()) {
+                throw new IllegalArgumentException("Empty answer");
+            }
+            return line.toUpperCase();
+        }
+    }
 }
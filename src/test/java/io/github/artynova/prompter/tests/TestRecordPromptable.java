@@ -0,0 +1,27 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.Promptable;
+import io.github.artynova.annotations.runtime.PromptMessage;
+
+/**
+ * A {@link Promptable} record whose canonical constructor validates its
+ * components, used in tests.
+ *
+ * @param name Required component.
+ * @param count Non-negative component.
+ */
+public record TestRecordPromptable(@PromptMessage("Name: ") String name,
+    int count) implements Promptable {
+    /**
+     * Validates the components.
+     *
+     * @param name Required component.
+     * @param count Non-negative component.
+     */
+    public TestRecordPromptable {
+        if (name == null || count < 0) {
+            throw new IllegalArgumentException("Name is required and count "
+                + "cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.Promptable;
+
+import java.util.Objects;
+
+/**
+ * A {@link Promptable} that contains a property of its own type, used in
+ * tests.
+ */
+public final class TestRecursivePromptable implements Promptable {
+    /**
+     * Recursive field for testing.
+     */
+    private TestRecursivePromptable next;
+
+    /**
+     * Creates an empty {@link TestRecursivePromptable}.
+     */
+    public TestRecursivePromptable() {
+    }
+
+    /**
+     * Creates a populated {@link TestRecursivePromptable}.
+     *
+     * @param next The recursive test field.
+     */
+    public TestRecursivePromptable(final TestRecursivePromptable next) {
+        this.next = next;
+    }
+
+    /**
+     * @return The recursive test field.
+     */
+    public TestRecursivePromptable getNext() {
+        return next;
+    }
+
+    /**
+     * @param next The recursive test field.
+     */
+    public void setNext(final TestRecursivePromptable next) {
+        this.next = next;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TestRecursivePromptable that = (TestRecursivePromptable) o;
+        return Objects.equals(getNext(), that.getNext());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getNext());
+    }
+}
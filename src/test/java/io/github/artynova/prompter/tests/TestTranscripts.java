@@ -0,0 +1,135 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.PromptManager;
+import io.github.artynova.io.PromptInput;
+import io.github.artynova.io.PromptOutput;
+import io.github.artynova.metrics.PromptMetrics;
+import io.github.artynova.transcripts.TranscriptLine;
+import io.github.artynova.transcripts.TranscriptReader;
+import io.github.artynova.transcripts.TranscriptRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestTranscripts {
+    /**
+     * Answers for a {@link TestPromptable}, with one rejected answer.
+     */
+    private static final String ANSWERS = """
+        x
+        n
+        answer
+        """;
+
+    /**
+     * Prompts for a {@link TestPromptable} on the current thread.
+     *
+     * @param input String that contains the mocked user input.
+     * @return The value.
+     */
+    private static TestPromptable prompt(final String input) {
+        return prompt(PromptInput.of(input));
+    }
+
+    /**
+     * Prompts for a {@link TestPromptable} on the current thread.
+     *
+     * @param input The input.
+     * @return The value.
+     */
+    private static TestPromptable prompt(final PromptInput input) {
+        return PromptManager.getPromptFor(TestPromptable.class)
+            .prompt(input, PromptOutput.nullOutput(), null);
+    }
+
+    /**
+     * Records one session on the current thread and one on another thread
+     * as a new segment of a transcript.
+     *
+     * @param file The transcript.
+     * @param compressed Whether to compress the segment.
+     * @throws Exception If recording fails.
+     */
+    private static void record(final Path file, final boolean compressed)
+        throws Exception {
+        TranscriptRecorder recorder =
+            TranscriptRecorder.append(file, compressed);
+        PromptMetrics metrics = new PromptMetrics();
+        PromptManager.addListener(metrics);
+        PromptManager.addListener(recorder); // both receive the events
+        try {
+            prompt(ANSWERS);
+            Thread other = new Thread(() -> prompt("y\n"));
+            other.start();
+            other.join();
+        } finally {
+            PromptManager.removeListener(recorder);
+            PromptManager.removeListener(metrics);
+            recorder.close();
+        }
+        assertNull(PromptManager.getListener());
+        assertEquals(0, recorder.getDropped());
+        assertEquals(2, metrics.get(TestPromptable.class, null).getCompleted());
+    }
+
+    @Test
+    void testRecordAndReplay(@TempDir final Path dir) throws Exception {
+        Path file = dir.resolve("sessions.prt");
+        record(file, false);
+        record(file, true);
+        Map<Long, List<TranscriptLine>> sessions;
+        try (TranscriptReader reader =
+                 new TranscriptReader(Files.newInputStream(file))) {
+            sessions = reader.readSessions();
+        }
+        assertEquals(4, sessions.size());
+        List<List<TranscriptLine>> lines = new ArrayList<>(sessions.values());
+        for (int segment = 0; segment < 2; segment++) {
+            List<TranscriptLine> first = lines.get(segment * 2);
+            assertEquals(List.of("x", "n", "answer"), first.stream()
+                .map(TranscriptLine::getLine).toList());
+            assertEquals(Boolean.class.getName(),
+                first.get(0).getValueClassName());
+            assertNull(first.get(0).getProperty());
+            assertEquals("field", first.get(2).getProperty());
+            assertEquals(String.class.getName(),
+                first.get(2).getValueClassName());
+            assertTrue(first.get(2).getTimeNanos()
+                >= first.get(0).getTimeNanos());
+            assertEquals(List.of("y"), lines.get(segment * 2 + 1).stream()
+                .map(TranscriptLine::getLine).toList());
+            assertEquals(new TestPromptable("answer"),
+                prompt(TranscriptReader.replay(first)));
+        }
+        assertFalse(lines.get(0).get(0).getSession()
+            == lines.get(2).get(0).getSession());
+    }
+
+    @Test
+    void testTruncatedTranscript(@TempDir final Path dir) throws Exception {
+        Path file = dir.resolve("sessions.prt");
+        record(file, true);
+        byte[] bytes = Files.readAllBytes(file);
+        int lines = 0;
+        try (TranscriptReader reader = new TranscriptReader(
+            new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)))) {
+            while (reader.hasNext()) {
+                reader.next();
+                lines++;
+            }
+        }
+        assertTrue(lines < 4);
+    }
+}
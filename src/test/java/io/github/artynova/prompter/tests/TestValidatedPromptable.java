@@ -0,0 +1,78 @@
+package io.github.artynova.prompter.tests;
+
+import io.github.artynova.Promptable;
+
+import java.util.Objects;
+
+/**
+ * A {@link Promptable} with a primitive property validated by its setter and
+ * by a validation method, used in tests.
+ */
+public final class TestValidatedPromptable implements Promptable {
+    /**
+     * Largest value of the test field.
+     */
+    public static final int MAX_COUNT = 1000;
+
+    /**
+     * Non-negative field for testing.
+     */
+    private int count;
+
+    /**
+     * Creates an empty {@link TestValidatedPromptable}.
+     */
+    public TestValidatedPromptable() {
+    }
+
+    /**
+     * Creates a populated {@link TestValidatedPromptable}.
+     *
+     * @param count The test field.
+     */
+    public TestValidatedPromptable(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * @return The test field.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param count Value of the test field.
+     * @return The reason the value is rejected, or null.
+     */
+    public String validateCount(final int count) {
+        return count > MAX_COUNT ? "Count cannot exceed " + MAX_COUNT : null;
+    }
+
+    /**
+     * @param count The test field, must not be negative.
+     */
+    public void setCount(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        this.count = count;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TestValidatedPromptable that = (TestValidatedPromptable) o;
+        return getCount() == that.getCount();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getCount());
+    }
+}
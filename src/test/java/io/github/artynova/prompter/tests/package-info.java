@@ -1,4 +1,28 @@
 /**
- * Tests package for Prompter, validating that it works as intended.
+ * Tests package for Prompter, validating that it works as intended. The
+ * {@link io.github.artynova.Promptable Promptables} generated here are
+ * compared against the reflective prompt in {@link TestGeneratedPrompt}.
  */
+@MakePromptable(name = "GeneratedOrder", properties = {
+    @PromptProperty(fieldClass = int.class, name = "count",
+        message = "Count: "),
+    @PromptProperty(fieldClass = String.class, name = "item",
+        message = "Item: ", required = true),
+    @PromptProperty(fieldClass = String.class, name = "note",
+        message = "Note: ")})
+@MakePromptable(name = "GeneratedTicket", properties = {
+    @PromptProperty(fieldClass = String.class, name = "title",
+        message = "Title: ", required = true),
+    @PromptProperty(fieldClass = int.class, name = "price",
+        message = "Price: "),
+    @PromptProperty(fieldClass = String.class, name = "date",
+        message = "Date: ")})
+@MakePromptable(name = "GeneratedParcel", record = true, properties = {
+    @PromptProperty(fieldClass = String.class, name = "label",
+        message = "Label: ", required = true),
+    @PromptProperty(fieldClass = int.class, name = "weight",
+        message = "Weight: ")})
 package io.github.artynova.prompter.tests;
+
+import io.github.artynova.annotations.source.MakePromptable;
+import io.github.artynova.annotations.source.PromptProperty;